@@ -1,18 +1,17 @@
 package me.baddcamden.attributeutils.compute;
 
-import me.baddcamden.attributeutils.api.VanillaAttributeSupplier;
+import me.baddcamden.attributeutils.metrics.ComputeEvent;
 import me.baddcamden.attributeutils.model.AttributeDefinition;
 import me.baddcamden.attributeutils.model.AttributeInstance;
+import me.baddcamden.attributeutils.model.AttributeInstance.ModifierBuckets;
 import me.baddcamden.attributeutils.model.AttributeValueStages;
 import me.baddcamden.attributeutils.model.ModifierEntry;
-import org.bukkit.entity.Player;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -34,6 +33,10 @@ import java.util.function.Function;
  * is assembled by stage, and each additive either uses the full stage multiplier or the subset
  * referenced in {@link ModifierEntry#multiplierKeys()} when
  * {@link ModifierEntry#useMultiplierKeys()} is true.
+ * <p>
+ * The engine has no server dependency: the owner of a dynamic attribute is an opaque context handed to a
+ * {@link BaselineSupplier}, so the same code runs inside the plugin and in offline simulations. Instances hold no
+ * state and may be shared across threads as long as each call works on instances no other thread is mutating.
  */
 public class AttributeComputationEngine {
 
@@ -50,20 +53,49 @@ public class AttributeComputationEngine {
      *     <li>{@code currentPermanent}: current base after permanent modifiers only.</li>
      *     <li>{@code currentFinal}: current base after all current modifiers.</li>
      * </ul>
+     * Each call is wrapped in a {@link ComputeEvent}, which costs nothing measurable unless a Flight Recorder
+     * recording enables it.
+     *
+     * @param vanillaSupplier baseline source for dynamic attributes, or {@code null} to use the definition default
+     * @param context         owner passed to {@code vanillaSupplier}, or {@code null} to use the definition default
+     * @param <C>             owner context type understood by the supplier
      */
-    public AttributeValueStages compute(AttributeDefinition definition,
-                                        AttributeInstance globalInstance,
-                                        AttributeInstance playerInstance,
-                                        VanillaAttributeSupplier vanillaSupplier,
-                                        Player player) {
+    public <C> AttributeValueStages compute(AttributeDefinition definition,
+                                            AttributeInstance globalInstance,
+                                            AttributeInstance playerInstance,
+                                            BaselineSupplier<? super C> vanillaSupplier,
+                                            C context) {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        AttributeValueStages stages = computeStages(definition, globalInstance, playerInstance, vanillaSupplier, context);
+        if (event.shouldCommit()) {
+            event.attributeId = definition.id();
+            event.modifierCount = (globalInstance == null ? 0 : globalInstance.getModifierCount())
+                    + (playerInstance == null ? 0 : playerInstance.getModifierCount());
+            event.commit();
+        }
+        return stages;
+    }
 
+    /**
+     * Runs the staged computation described on {@link #compute}.
+     */
+    private <C> AttributeValueStages computeStages(AttributeDefinition definition,
+                                                   AttributeInstance globalInstance,
+                                                   AttributeInstance playerInstance,
+                                                   BaselineSupplier<? super C> vanillaSupplier,
+                                                   C context) {
+
+        // One snapshot per instance, so a modifier moved between buckets mid-compute is never counted twice.
+        ModifierBuckets globalBuckets = buckets(globalInstance);
+        ModifierBuckets playerBuckets = buckets(playerInstance);
         double defaultBaseline = resolveDefaultBase(definition, globalInstance, playerInstance);
         String capKey = resolveCapKey(globalInstance, playerInstance);
         double rawDefault = definition.capConfig().clamp(defaultBaseline, capKey);
-        Collection<ModifierEntry> defaultPermanentAdditives = collectModifiers(globalInstance, playerInstance, AttributeInstance::getDefaultPermanentAdditives);
-        Collection<ModifierEntry> defaultTemporaryAdditives = collectModifiers(globalInstance, playerInstance, AttributeInstance::getDefaultTemporaryAdditives);
-        Collection<ModifierEntry> defaultPermanentMultipliers = collectModifiers(globalInstance, playerInstance, AttributeInstance::getDefaultPermanentMultipliers);
-        Collection<ModifierEntry> defaultTemporaryMultipliers = collectModifiers(globalInstance, playerInstance, AttributeInstance::getDefaultTemporaryMultipliers);
+        Collection<ModifierEntry> defaultPermanentAdditives = collectModifiers(globalBuckets, playerBuckets, ModifierBuckets::defaultPermanentAdditives);
+        Collection<ModifierEntry> defaultTemporaryAdditives = collectModifiers(globalBuckets, playerBuckets, ModifierBuckets::defaultTemporaryAdditives);
+        Collection<ModifierEntry> defaultPermanentMultipliers = collectModifiers(globalBuckets, playerBuckets, ModifierBuckets::defaultPermanentMultipliers);
+        Collection<ModifierEntry> defaultTemporaryMultipliers = collectModifiers(globalBuckets, playerBuckets, ModifierBuckets::defaultTemporaryMultipliers);
         double defaultPermanent = apply(rawDefault,
                 defaultPermanentAdditives,
                 Collections.emptyList(),
@@ -81,15 +113,15 @@ public class AttributeComputationEngine {
 
         synchronizeCurrentBaseline(definition, globalInstance, playerInstance, defaultFinal);
 
-        double rawCurrent = buildCurrentBaseline(definition, vanillaSupplier, player, globalInstance, playerInstance, rawDefault, defaultFinal);
+        double rawCurrent = buildCurrentBaseline(definition, vanillaSupplier, context, globalInstance, playerInstance, rawDefault, defaultFinal);
         Collection<ModifierEntry> currentPermanentAdditives = filterCurrentModifiers(definition,
-                collectModifiers(globalInstance, playerInstance, AttributeInstance::getCurrentPermanentAdditives));
+                collectModifiers(globalBuckets, playerBuckets, ModifierBuckets::currentPermanentAdditives));
         Collection<ModifierEntry> currentTemporaryAdditives = filterCurrentModifiers(definition,
-                collectModifiers(globalInstance, playerInstance, AttributeInstance::getCurrentTemporaryAdditives));
+                collectModifiers(globalBuckets, playerBuckets, ModifierBuckets::currentTemporaryAdditives));
         Collection<ModifierEntry> currentPermanentMultipliers = filterCurrentModifiers(definition,
-                collectModifiers(globalInstance, playerInstance, AttributeInstance::getCurrentPermanentMultipliers));
+                collectModifiers(globalBuckets, playerBuckets, ModifierBuckets::currentPermanentMultipliers));
         Collection<ModifierEntry> currentTemporaryMultipliers = filterCurrentModifiers(definition,
-                collectModifiers(globalInstance, playerInstance, AttributeInstance::getCurrentTemporaryMultipliers));
+                collectModifiers(globalBuckets, playerBuckets, ModifierBuckets::currentTemporaryMultipliers));
         double currentPermanent = apply(rawCurrent,
                 currentPermanentAdditives,
                 Collections.emptyList(),
@@ -108,6 +140,54 @@ public class AttributeComputationEngine {
         return new AttributeValueStages(rawDefault, defaultPermanent, defaultFinal, rawCurrent, currentPermanent, currentFinal);
     }
 
+    /**
+     * Builds a {@link BulkAttributeEvaluator} for the current layer of {@code definition} with the multipliers and
+     * keyed additives held by {@code globalInstance}. The evaluator is exact for owners whose own instances add only
+     * unrestricted additives (no multipliers and no additives scoped with multiplier keys); owners with anything
+     * else must go through {@link #compute}.
+     *
+     * @param definition     attribute being evaluated
+     * @param globalInstance global instance shared by every evaluated owner; may be null
+     */
+    public BulkAttributeEvaluator bulkEvaluator(AttributeDefinition definition, AttributeInstance globalInstance) {
+        ModifierBuckets globalBuckets = buckets(globalInstance);
+        Collection<ModifierEntry> permanentAdditives = filterCurrentModifiers(definition,
+                collectModifiers(globalBuckets, null, ModifierBuckets::currentPermanentAdditives));
+        Collection<ModifierEntry> temporaryAdditives = filterCurrentModifiers(definition,
+                collectModifiers(globalBuckets, null, ModifierBuckets::currentTemporaryAdditives));
+        List<ModifierEntry> applicablePermanentMultipliers = applicableMultipliers(definition, filterCurrentModifiers(definition,
+                collectModifiers(globalBuckets, null, ModifierBuckets::currentPermanentMultipliers)));
+        List<ModifierEntry> applicableTemporaryMultipliers = applicableMultipliers(definition, filterCurrentModifiers(definition,
+                collectModifiers(globalBuckets, null, ModifierBuckets::currentTemporaryMultipliers)));
+
+        // Same operation order as apply() so bulk results match compute() bit for bit.
+        KeyedMultiplierTable keyedMultipliers = new KeyedMultiplierTable(applicablePermanentMultipliers, applicableTemporaryMultipliers);
+        double keyedContribution = 0.0d;
+        keyedContribution += sumAdditives(permanentAdditives, keyedMultipliers, true);
+        keyedContribution += sumAdditives(temporaryAdditives, keyedMultipliers, true);
+        double combinedMultiplier = multiplierProduct(applicablePermanentMultipliers)
+                * multiplierProduct(applicableTemporaryMultipliers);
+        return new BulkAttributeEvaluator(definition.capConfig().globalMin(), combinedMultiplier, keyedContribution);
+    }
+
+    /**
+     * Returns the sum of unrestricted current-layer additives for one owner, merged with the global instance exactly
+     * as {@link #compute} merges them. Use it to fill the additive columns of a {@link BulkAttributeEvaluator}.
+     *
+     * @param definition     attribute being evaluated
+     * @param globalInstance global instance; may be null
+     * @param ownerInstance  owner instance; may be null
+     * @param temporary      whether to sum the temporary bucket instead of the permanent one
+     */
+    public double unrestrictedCurrentAdditives(AttributeDefinition definition,
+                                               AttributeInstance globalInstance,
+                                               AttributeInstance ownerInstance,
+                                               boolean temporary) {
+        Collection<ModifierEntry> additives = filterCurrentModifiers(definition, collectModifiers(buckets(globalInstance), buckets(ownerInstance),
+                temporary ? ModifierBuckets::currentTemporaryAdditives : ModifierBuckets::currentPermanentAdditives));
+        return sumAdditives(additives, null, false);
+    }
+
     /**
      * Determines the starting default baseline value, prioritizing player overrides over global
      * state and falling back to the definition default when neither exists.
@@ -141,17 +221,17 @@ public class AttributeComputationEngine {
      * static attributes reuse persisted current baselines, all clamped using the applicable cap
      * override.
      */
-    private double buildCurrentBaseline(AttributeDefinition definition,
-                                        VanillaAttributeSupplier vanillaSupplier,
-                                        Player player,
-                                        AttributeInstance globalInstance,
-                                        AttributeInstance playerInstance,
-                                        double rawDefault,
-                                        double defaultFinal) {
+    private <C> double buildCurrentBaseline(AttributeDefinition definition,
+                                            BaselineSupplier<? super C> vanillaSupplier,
+                                            C context,
+                                            AttributeInstance globalInstance,
+                                            AttributeInstance playerInstance,
+                                            double rawDefault,
+                                            double defaultFinal) {
         if (definition.dynamic()) {
-            double vanilla = vanillaSupplier == null || player == null
+            double vanilla = vanillaSupplier == null || context == null
                     ? definition.defaultCurrentValue()
-                    : vanillaSupplier.getVanillaValue(player);
+                    : vanillaSupplier.getVanillaValue(context);
             // Dynamic attributes should recompute from the fresh vanilla value on every pass so additive modifiers
             // are only applied once. Persisted current base deltas are ignored here to avoid carrying forward
             // previously applied modifiers when refreshes occur.
@@ -176,50 +256,58 @@ public class AttributeComputationEngine {
                          Collection<ModifierEntry> temporaryMultipliers,
                          AttributeDefinition definition,
                          String capKey) {
-        List<ModifierEntry> applicablePermanentMultipliers = permanentMultipliers.stream()
-                .filter(modifier -> definition.multiplierApplicability().canApply(modifier.key()))
-                .toList();
-        List<ModifierEntry> applicableTemporaryMultipliers = temporaryMultipliers.stream()
-                .filter(modifier -> definition.multiplierApplicability().canApply(modifier.key()))
-                .toList();
+        List<ModifierEntry> applicablePermanentMultipliers = applicableMultipliers(definition, permanentMultipliers);
+        List<ModifierEntry> applicableTemporaryMultipliers = applicableMultipliers(definition, temporaryMultipliers);
+
+        KeyedMultiplierTable keyedMultipliers = new KeyedMultiplierTable(applicablePermanentMultipliers, applicableTemporaryMultipliers);
 
         double unrestrictedSubtotal = start;
         double keyedContribution = 0.0d;
 
-        unrestrictedSubtotal += sumAdditives(permanentAdditives, applicablePermanentMultipliers, applicableTemporaryMultipliers, false);
-        unrestrictedSubtotal += sumAdditives(temporaryAdditives, applicablePermanentMultipliers, applicableTemporaryMultipliers, false);
-        keyedContribution += sumAdditives(permanentAdditives, applicablePermanentMultipliers, applicableTemporaryMultipliers, true);
-        keyedContribution += sumAdditives(temporaryAdditives, applicablePermanentMultipliers, applicableTemporaryMultipliers, true);
+        unrestrictedSubtotal += sumAdditives(permanentAdditives, null, false);
+        unrestrictedSubtotal += sumAdditives(temporaryAdditives, null, false);
+        keyedContribution += sumAdditives(permanentAdditives, keyedMultipliers, true);
+        keyedContribution += sumAdditives(temporaryAdditives, keyedMultipliers, true);
 
-        double combinedMultiplier = multiplierProduct(applicablePermanentMultipliers, null)
-                * multiplierProduct(applicableTemporaryMultipliers, null);
+        double combinedMultiplier = multiplierProduct(applicablePermanentMultipliers)
+                * multiplierProduct(applicableTemporaryMultipliers);
         double value = (unrestrictedSubtotal * combinedMultiplier) + keyedContribution;
 
         return definition.capConfig().clamp(value, capKey);
     }
 
     /**
-     * Builds a multiplier product from the provided collection, optionally limiting entries to a
-     * whitelisted set of keys. Returns {@code 1.0} when no entries are applicable.
+     * Keeps the multipliers the definition's {@link me.baddcamden.attributeutils.model.MultiplierApplicability}
+     * allows, in their original order.
+     */
+    private List<ModifierEntry> applicableMultipliers(AttributeDefinition definition, Collection<ModifierEntry> multipliers) {
+        return multipliers.stream()
+                .filter(modifier -> definition.multiplierApplicability().canApply(modifier.key()))
+                .toList();
+    }
+
+    /**
+     * Builds a multiplier product from the provided collection. Products restricted to multiplier keys
+     * come from {@link KeyedMultiplierTable}. Returns {@code 1.0} when no entries are applicable.
      */
-    private double multiplierProduct(Collection<ModifierEntry> multipliers, Set<String> allowedKeys) {
+    private double multiplierProduct(Collection<ModifierEntry> multipliers) {
         if (multipliers == null || multipliers.isEmpty()) {
             return 1.0d;
         }
 
         return multipliers.stream()
-                .filter(modifier -> allowedKeys == null || allowedKeys.contains(modifier.key().toLowerCase()))
                 .mapToDouble(ModifierEntry::amount)
                 .reduce(1.0d, (left, right) -> left * right);
     }
 
     /**
      * Aggregates additive modifier amounts, optionally restricting to modifiers that use multiplier
-     * keys so keyed contributions can be separated from unrestricted ones.
+     * keys so keyed contributions can be separated from unrestricted ones. Keyed additives are scaled
+     * by their scoped product from {@code keyedMultipliers}, which may be {@code null} when
+     * {@code scopedOnly} is false.
      */
     private double sumAdditives(Collection<ModifierEntry> additives,
-                                Collection<ModifierEntry> applicablePermanentMultipliers,
-                                Collection<ModifierEntry> applicableTemporaryMultipliers,
+                                KeyedMultiplierTable keyedMultipliers,
                                 boolean scopedOnly) {
         if (additives == null || additives.isEmpty()) {
             return 0.0d;
@@ -228,45 +316,39 @@ public class AttributeComputationEngine {
         return additives.stream()
                 .filter(modifier -> modifier.useMultiplierKeys() == scopedOnly)
                 .mapToDouble(modifier -> scopedOnly
-                        ? modifier.amount() * scopedMultiplierProduct(applicablePermanentMultipliers,
-                        applicableTemporaryMultipliers,
-                        modifier.multiplierKeys())
+                        ? modifier.amount() * keyedMultipliers.product(modifier.multiplierKeys())
                         : modifier.amount())
                 .sum();
     }
 
     /**
-     * Computes the combined multiplier for keyed additives by multiplying the permanent and
-     * temporary products restricted to the provided set of keys.
-     */
-    private double scopedMultiplierProduct(Collection<ModifierEntry> applicablePermanentMultipliers,
-                                           Collection<ModifierEntry> applicableTemporaryMultipliers,
-                                           Set<String> allowedKeys) {
-        return multiplierProduct(applicablePermanentMultipliers, allowedKeys)
-                * multiplierProduct(applicableTemporaryMultipliers, allowedKeys);
-    }
-
-    /**
-     * Merges modifier maps from the global and player instances while preserving player overrides
+     * Merges modifier maps from the global and player bucket snapshots while preserving player overrides
      * for matching keys and retaining insertion order for deterministic processing.
      */
-    private Collection<ModifierEntry> collectModifiers(AttributeInstance globalInstance,
-                                                      AttributeInstance playerInstance,
-                                                      Function<AttributeInstance, Map<String, ModifierEntry>> extractor) {
-        if (globalInstance == null && playerInstance == null) {
+    private Collection<ModifierEntry> collectModifiers(ModifierBuckets globalBuckets,
+                                                      ModifierBuckets playerBuckets,
+                                                      Function<ModifierBuckets, Map<String, ModifierEntry>> extractor) {
+        if (globalBuckets == null && playerBuckets == null) {
             return Collections.emptyList();
         }
 
         Map<String, ModifierEntry> combined = new LinkedHashMap<>();
-        if (globalInstance != null) {
-            extractor.apply(globalInstance).forEach(combined::putIfAbsent);
+        if (globalBuckets != null) {
+            extractor.apply(globalBuckets).forEach(combined::putIfAbsent);
         }
-        if (playerInstance != null) {
-            extractor.apply(playerInstance).forEach(combined::put);
+        if (playerBuckets != null) {
+            extractor.apply(playerBuckets).forEach(combined::put);
         }
         return combined.values();
     }
 
+    /**
+     * Returns the instance's current bucket snapshot, or {@code null} for a missing instance.
+     */
+    private static ModifierBuckets buckets(AttributeInstance instance) {
+        return instance == null ? null : instance.getBuckets();
+    }
+
     /**
      * Restricts modifiers to those that should affect the current computation stage. When the
      * definition disallows current-stage modifiers, this returns the input collection unmodified.
@@ -0,0 +1,23 @@
+package me.baddcamden.attributeutils.compute;
+
+/**
+ * Supplies a live baseline for a dynamic attribute from an owner-specific context. The context type is whatever the
+ * host uses to represent an attribute owner: the plugin binds it to a Bukkit {@code Player}, while offline
+ * simulations can pass a plain value object describing a synthetic character.
+ * <p>
+ * Only <em>dynamic</em> attributes consult a supplier; static attributes rely solely on their configured baselines.
+ * The returned value should be uncapped because clamping is handled by {@link AttributeComputationEngine}.
+ *
+ * @param <C> owner context the baseline is read from
+ */
+@FunctionalInterface
+public interface BaselineSupplier<C> {
+    /**
+     * Returns the raw baseline for the provided context prior to any modifiers. The context is guaranteed to be
+     * non-null when invoked.
+     *
+     * @param context owner whose current state should be converted into a baseline value.
+     * @return raw value to use as the current baseline for computation.
+     */
+    double getVanillaValue(C context);
+}
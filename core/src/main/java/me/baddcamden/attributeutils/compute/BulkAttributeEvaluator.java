@@ -0,0 +1,162 @@
+package me.baddcamden.attributeutils.compute;
+
+/**
+ * Evaluates the current layer of one attribute for many owners at once from struct-of-arrays input. Built by
+ * {@link AttributeComputationEngine#bulkEvaluator}, which folds the global multipliers and keyed additives into two
+ * constants, so each owner costs a clamp, two adds, a multiply-add, and a clamp:
+ * <pre>
+ *     raw          = clamp(baseline[i], capMax[i])
+ *     currentFinal = clamp(((raw + permanentAdditives[i]) + temporaryAdditives[i]) * multiplier + keyed, capMax[i])
+ * </pre>
+ * The operations and their order are those of {@link AttributeComputationEngine#compute}, with no fused
+ * multiply-add, so each output equals {@code compute(...).currentFinal()} bit for bit when the columns hold:
+ * <ul>
+ *     <li>{@code baselines}: the unclamped current baseline (the vanilla value for dynamic attributes, the owner's
+ *     current base value for static ones).</li>
+ *     <li>{@code permanentAdditives} / {@code temporaryAdditives}: the values of
+ *     {@link AttributeComputationEngine#unrestrictedCurrentAdditives} for the owner.</li>
+ *     <li>{@code capMaxima}: {@code definition.capConfig().resolveMax(owner.getCapOverrideKey())}.</li>
+ * </ul>
+ * When the core jar was built with the {@code vector} profile and the JVM runs with
+ * {@code --add-modules jdk.incubator.vector}, the loop uses the Vector API; otherwise a plain indexed loop is used,
+ * which C2 auto-vectorizes. Both produce identical results. Set the system property
+ * {@code attributeutils.bulk.vector=false} to force the scalar loop.
+ */
+public final class BulkAttributeEvaluator {
+
+    /** Kernel chosen once per JVM. */
+    private static final Kernel KERNEL = loadKernel();
+
+    private final double globalMin;
+    private final double multiplier;
+    private final double keyedContribution;
+
+    BulkAttributeEvaluator(double globalMin, double multiplier, double keyedContribution) {
+        this.globalMin = globalMin;
+        this.multiplier = multiplier;
+        this.keyedContribution = keyedContribution;
+    }
+
+    /**
+     * Evaluates every owner and returns a new array of current final values.
+     *
+     * @throws IllegalArgumentException when the input arrays differ in length
+     */
+    public double[] evaluateCurrentFinal(double[] baselines,
+                                         double[] permanentAdditives,
+                                         double[] temporaryAdditives,
+                                         double[] capMaxima) {
+        double[] out = new double[baselines.length];
+        evaluateCurrentFinal(baselines, permanentAdditives, temporaryAdditives, capMaxima, out);
+        return out;
+    }
+
+    /**
+     * Evaluates every owner into {@code out}, which may be reused between calls.
+     *
+     * @throws IllegalArgumentException when the arrays differ in length
+     */
+    public void evaluateCurrentFinal(double[] baselines,
+                                     double[] permanentAdditives,
+                                     double[] temporaryAdditives,
+                                     double[] capMaxima,
+                                     double[] out) {
+        int length = baselines.length;
+        if (permanentAdditives.length != length || temporaryAdditives.length != length
+                || capMaxima.length != length || out.length != length) {
+            throw new IllegalArgumentException("Bulk evaluation columns must all have " + length + " entries");
+        }
+        KERNEL.evaluate(baselines, permanentAdditives, temporaryAdditives, capMaxima,
+                globalMin, multiplier, keyedContribution, out, length);
+    }
+
+    /**
+     * Product of the applicable global current multipliers.
+     */
+    public double multiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Sum of the global current additives scoped with multiplier keys, each scaled by its own multiplier subset.
+     */
+    public double keyedContribution() {
+        return keyedContribution;
+    }
+
+    /**
+     * Returns whether evaluation runs on the Vector API in this JVM.
+     */
+    public static boolean isVectorized() {
+        return !(KERNEL instanceof ScalarKernel);
+    }
+
+    private static Kernel loadKernel() {
+        if (!Boolean.parseBoolean(System.getProperty("attributeutils.bulk.vector", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarKernel();
+        }
+        try {
+            return (Kernel) Class.forName("me.baddcamden.attributeutils.compute.VectorBulkKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return new ScalarKernel();
+        }
+    }
+
+    /**
+     * One evaluation loop over the columns.
+     */
+    interface Kernel {
+        void evaluate(double[] baselines,
+                      double[] permanentAdditives,
+                      double[] temporaryAdditives,
+                      double[] capMaxima,
+                      double globalMin,
+                      double multiplier,
+                      double keyedContribution,
+                      double[] out,
+                      int length);
+    }
+
+    /**
+     * Straight-line loop with no branches or calls besides {@code Math.min}/{@code Math.max}, both intrinsics, so the
+     * JIT can vectorize it.
+     */
+    static final class ScalarKernel implements Kernel {
+        @Override
+        public void evaluate(double[] baselines,
+                             double[] permanentAdditives,
+                             double[] temporaryAdditives,
+                             double[] capMaxima,
+                             double globalMin,
+                             double multiplier,
+                             double keyedContribution,
+                             double[] out,
+                             int length) {
+            evaluateRange(baselines, permanentAdditives, temporaryAdditives, capMaxima,
+                    globalMin, multiplier, keyedContribution, out, 0, length);
+        }
+
+        static void evaluateRange(double[] baselines,
+                                  double[] permanentAdditives,
+                                  double[] temporaryAdditives,
+                                  double[] capMaxima,
+                                  double globalMin,
+                                  double multiplier,
+                                  double keyedContribution,
+                                  double[] out,
+                                  int from,
+                                  int to) {
+            for (int i = from; i < to; i++) {
+                double capMax = capMaxima[i];
+                double raw = Math.max(globalMin, Math.min(baselines[i], capMax));
+                double subtotal = raw + permanentAdditives[i];
+                subtotal += temporaryAdditives[i];
+                double value = (subtotal * multiplier) + keyedContribution;
+                out[i] = Math.max(globalMin, Math.min(value, capMax));
+            }
+        }
+    }
+}
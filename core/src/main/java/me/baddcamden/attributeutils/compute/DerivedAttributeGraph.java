@@ -0,0 +1,189 @@
+package me.baddcamden.attributeutils.compute;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of derived attributes. Each derived attribute has an edge to every attribute its formula reads;
+ * the graph is kept acyclic by rejecting any formula that would close a cycle.
+ * <p>
+ * {@link #dependents(String)} answers "which attributes must be recomputed when this one changes" with the transitive
+ * dependents in topological order, so a dependent always comes after every changed attribute it reads. Answers are
+ * cached until the graph changes. {@link #order(Collection)} sorts an arbitrary batch of ids the same way, so a batch
+ * can be refreshed in one pass that reads each input's fresh value. Ids are expected to be normalized by the caller. All methods are thread-safe.
+ */
+public final class DerivedAttributeGraph {
+
+    /** Compiled formula of every derived attribute. */
+    private final Map<String, DerivedFormula> formulas = new HashMap<>();
+    /** Reverse edges: input id to the derived attributes reading it. */
+    private final Map<String, Set<String>> readers = new HashMap<>();
+    /** Memoized {@link #dependents(String)} results; cleared on every change. */
+    private final Map<String, List<String>> dependentsCache = new HashMap<>();
+
+    /**
+     * Adds or replaces the formula of a derived attribute.
+     *
+     * @throws IllegalArgumentException when the formula reads {@code id} itself, directly or through other derived
+     *                                  attributes; the message spells out the cycle
+     */
+    public synchronized void define(String id, DerivedFormula formula) {
+        List<String> cycle = findPath(formula.inputs(), id);
+        if (cycle != null) {
+            throw new IllegalArgumentException("Derived attribute cycle: " + id + " -> " + String.join(" -> ", cycle));
+        }
+        removeEdges(id);
+        formulas.put(id, formula);
+        for (String input : formula.inputs()) {
+            readers.computeIfAbsent(input, ignored -> new LinkedHashSet<>()).add(id);
+        }
+        dependentsCache.clear();
+    }
+
+    /**
+     * Forgets the formula of {@code id}; other formulas reading it keep their edges.
+     */
+    public synchronized void remove(String id) {
+        if (removeEdges(id)) {
+            dependentsCache.clear();
+        }
+    }
+
+    /**
+     * Returns the formula of a derived attribute, or {@code null} when {@code id} is not derived.
+     */
+    public synchronized DerivedFormula formula(String id) {
+        return formulas.get(id);
+    }
+
+    /**
+     * Returns every derived attribute that reads {@code id} directly or transitively, in topological order. Empty
+     * when nothing depends on {@code id}.
+     */
+    public synchronized List<String> dependents(String id) {
+        List<String> cached = dependentsCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> postOrder = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        visit(id, visited, postOrder);
+        postOrder.remove(postOrder.size() - 1);
+        Collections.reverse(postOrder);
+        List<String> result = List.copyOf(postOrder);
+        dependentsCache.put(id, result);
+        return result;
+    }
+
+    /**
+     * Returns {@code ids} without duplicates, ordered so that every derived attribute comes after each id of the batch
+     * it reads, directly or through derived attributes outside the batch. Ids that are unrelated keep their relative
+     * order.
+     */
+    public synchronized List<String> order(Collection<String> ids) {
+        Set<String> batch = new LinkedHashSet<>(ids);
+        List<String> ordered = new ArrayList<>(batch.size());
+        Set<String> visited = new HashSet<>();
+        for (String id : batch) {
+            visitInputs(id, batch, visited, ordered);
+        }
+        return ordered;
+    }
+
+    /**
+     * Depth-first walk over formula inputs; a batch member is appended after every batch member it reads.
+     */
+    private void visitInputs(String id, Set<String> batch, Set<String> visited, List<String> ordered) {
+        if (!visited.add(id)) {
+            return;
+        }
+        DerivedFormula formula = formulas.get(id);
+        if (formula != null) {
+            for (String input : formula.inputs()) {
+                visitInputs(input, batch, visited, ordered);
+            }
+        }
+        if (batch.contains(id)) {
+            ordered.add(id);
+        }
+    }
+
+    /**
+     * Depth-first walk over reverse edges; a node is appended after everything that reads it, so the reversed list
+     * is a topological order.
+     */
+    private void visit(String id, Set<String> visited, List<String> postOrder) {
+        if (!visited.add(id)) {
+            return;
+        }
+        for (String reader : readers.getOrDefault(id, Set.of())) {
+            visit(reader, visited, postOrder);
+        }
+        postOrder.add(id);
+    }
+
+    /**
+     * Looks for a chain of formula inputs leading from one of {@code starts} to {@code target}.
+     *
+     * @return the chain ending at {@code target}, or {@code null} when there is none
+     */
+    private List<String> findPath(List<String> starts, String target) {
+        Map<String, String> parents = new HashMap<>();
+        Deque<String> queue = new ArrayDeque<>();
+        for (String start : starts) {
+            if (parents.putIfAbsent(start, start) == null) {
+                queue.add(start);
+            }
+        }
+        while (!queue.isEmpty()) {
+            String current = queue.poll();
+            if (current.equals(target)) {
+                List<String> path = new ArrayList<>();
+                for (String node = current; ; node = parents.get(node)) {
+                    path.add(node);
+                    if (parents.get(node).equals(node)) {
+                        break;
+                    }
+                }
+                Collections.reverse(path);
+                return path;
+            }
+            DerivedFormula formula = formulas.get(current);
+            if (formula == null) {
+                continue;
+            }
+            for (String input : formula.inputs()) {
+                if (parents.putIfAbsent(input, current) == null) {
+                    queue.add(input);
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean removeEdges(String id) {
+        DerivedFormula previous = formulas.remove(id);
+        if (previous == null) {
+            return false;
+        }
+        for (String input : previous.inputs()) {
+            Set<String> inputReaders = readers.get(input);
+            if (inputReaders != null) {
+                inputReaders.remove(id);
+                if (inputReaders.isEmpty()) {
+                    readers.remove(input);
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,350 @@
+package me.baddcamden.attributeutils.compute;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Compiled formula of a derived attribute: an arithmetic expression over other attributes' current final values,
+ * for example {@code level * 5 + wisdom * 2} or {@code clamp(luck * 0.01 + agility * 0.002, 0, 1)}.
+ * <p>
+ * Supported syntax: numbers, attribute ids ({@code [A-Za-z_][A-Za-z0-9_.]*}, matched case-insensitively),
+ * {@code + - * / %}, right-associative {@code ^}, unary minus, parentheses, and the functions {@code min}, {@code max},
+ * {@code abs}, {@code sqrt}, {@code floor}, {@code ceil}, {@code pow}, and {@code clamp(value, min, max)}.
+ * <p>
+ * The expression is parsed once into a tree of small evaluators with constant sub-expressions folded, and each
+ * distinct attribute id is bound to a slot, so evaluation reads a {@code double[]} in {@link #inputs()} order and
+ * allocates nothing.
+ */
+public final class DerivedFormula {
+
+    private final String expression;
+    private final List<String> inputs;
+    private final Node root;
+
+    private DerivedFormula(String expression, List<String> inputs, Node root) {
+        this.expression = expression;
+        this.inputs = List.copyOf(inputs);
+        this.root = root;
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @throws IllegalArgumentException when the expression is blank or malformed; the message names the position
+     */
+    public static DerivedFormula compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Formula is empty");
+        }
+        Parser parser = new Parser(expression);
+        Node root = parser.parse();
+        return new DerivedFormula(expression, new ArrayList<>(parser.slots.keySet()), root);
+    }
+
+    /**
+     * Normalized ids of the attributes the formula reads, in slot order.
+     */
+    public List<String> inputs() {
+        return inputs;
+    }
+
+    /**
+     * Evaluates the formula.
+     *
+     * @param values current final value of each input, in {@link #inputs()} order
+     */
+    public double evaluate(double[] values) {
+        return root.evaluate(values);
+    }
+
+    /**
+     * Source expression the formula was compiled from.
+     */
+    public String expression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * One node of the compiled expression tree.
+     */
+    @FunctionalInterface
+    private interface Node {
+        double evaluate(double[] values);
+    }
+
+    /**
+     * Node holding a folded constant, so parents can fold further.
+     */
+    private record Constant(double value) implements Node {
+        @Override
+        public double evaluate(double[] values) {
+            return value;
+        }
+    }
+
+    /**
+     * Recursive descent parser. Precedence from low to high: additive, multiplicative, unary minus, power.
+     */
+    private static final class Parser {
+
+        private final String source;
+        private final Map<String, Integer> slots = new LinkedHashMap<>();
+        private int position;
+
+        private Parser(String source) {
+            this.source = source;
+        }
+
+        private Node parse() {
+            Node node = parseAdditive();
+            skipWhitespace();
+            if (position < source.length()) {
+                throw error("Unexpected '" + source.charAt(position) + "'");
+            }
+            return node;
+        }
+
+        private Node parseAdditive() {
+            Node node = parseMultiplicative();
+            while (true) {
+                if (accept('+')) {
+                    node = binary(node, parseMultiplicative(), '+');
+                } else if (accept('-')) {
+                    node = binary(node, parseMultiplicative(), '-');
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseMultiplicative() {
+            Node node = parseUnary();
+            while (true) {
+                if (accept('*')) {
+                    node = binary(node, parseUnary(), '*');
+                } else if (accept('/')) {
+                    node = binary(node, parseUnary(), '/');
+                } else if (accept('%')) {
+                    node = binary(node, parseUnary(), '%');
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseUnary() {
+            if (accept('-')) {
+                Node operand = parseUnary();
+                if (operand instanceof Constant constant) {
+                    return new Constant(-constant.value());
+                }
+                return values -> -operand.evaluate(values);
+            }
+            if (accept('+')) {
+                return parseUnary();
+            }
+            return parsePower();
+        }
+
+        private Node parsePower() {
+            Node base = parsePrimary();
+            if (accept('^')) {
+                return binary(base, parseUnary(), '^');
+            }
+            return base;
+        }
+
+        private Node parsePrimary() {
+            skipWhitespace();
+            if (position >= source.length()) {
+                throw error("Unexpected end of formula");
+            }
+            char c = source.charAt(position);
+            if (accept('(')) {
+                Node inner = parseAdditive();
+                expect(')');
+                return inner;
+            }
+            if (Character.isDigit(c) || c == '.') {
+                return parseNumber();
+            }
+            if (Character.isLetter(c) || c == '_') {
+                int start = position;
+                String name = parseIdentifier();
+                if (accept('(')) {
+                    return parseFunction(name, start);
+                }
+                int slot = slots.computeIfAbsent(name, ignored -> slots.size());
+                return values -> values[slot];
+            }
+            throw error("Unexpected '" + c + "'");
+        }
+
+        private Node parseNumber() {
+            int start = position;
+            while (position < source.length()
+                    && (Character.isDigit(source.charAt(position)) || source.charAt(position) == '.')) {
+                position++;
+            }
+            if (position < source.length() && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+                position++;
+                if (position < source.length() && (source.charAt(position) == '+' || source.charAt(position) == '-')) {
+                    position++;
+                }
+                while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                    position++;
+                }
+            }
+            String text = source.substring(start, position);
+            try {
+                return new Constant(Double.parseDouble(text));
+            } catch (NumberFormatException ex) {
+                position = start;
+                throw error("Invalid number '" + text + "'");
+            }
+        }
+
+        private String parseIdentifier() {
+            int start = position;
+            while (position < source.length()
+                    && (Character.isLetterOrDigit(source.charAt(position))
+                    || source.charAt(position) == '_' || source.charAt(position) == '.')) {
+                position++;
+            }
+            return source.substring(start, position).toLowerCase(Locale.ROOT);
+        }
+
+        private Node parseFunction(String name, int start) {
+            List<Node> arguments = new ArrayList<>();
+            if (!accept(')')) {
+                do {
+                    arguments.add(parseAdditive());
+                } while (accept(','));
+                expect(')');
+            }
+            Node[] args = arguments.toArray(Node[]::new);
+            Node node = switch (name) {
+                case "min" -> {
+                    requireAtLeast(name, args, 2, start);
+                    yield fold(args, values -> {
+                        double result = args[0].evaluate(values);
+                        for (int i = 1; i < args.length; i++) {
+                            result = Math.min(result, args[i].evaluate(values));
+                        }
+                        return result;
+                    });
+                }
+                case "max" -> {
+                    requireAtLeast(name, args, 2, start);
+                    yield fold(args, values -> {
+                        double result = args[0].evaluate(values);
+                        for (int i = 1; i < args.length; i++) {
+                            result = Math.max(result, args[i].evaluate(values));
+                        }
+                        return result;
+                    });
+                }
+                case "abs" -> unary(name, args, start, Math::abs);
+                case "sqrt" -> unary(name, args, start, Math::sqrt);
+                case "floor" -> unary(name, args, start, Math::floor);
+                case "ceil" -> unary(name, args, start, Math::ceil);
+                case "pow" -> {
+                    requireExactly(name, args, 2, start);
+                    yield binary(args[0], args[1], '^');
+                }
+                case "clamp" -> {
+                    requireExactly(name, args, 3, start);
+                    Node value = args[0];
+                    Node low = args[1];
+                    Node high = args[2];
+                    yield fold(args, values -> Math.max(low.evaluate(values),
+                            Math.min(high.evaluate(values), value.evaluate(values))));
+                }
+                default -> {
+                    position = start;
+                    throw error("Unknown function '" + name + "'");
+                }
+            };
+            return node;
+        }
+
+        private Node unary(String name, Node[] args, int start, DoubleUnaryOperator function) {
+            requireExactly(name, args, 1, start);
+            Node operand = args[0];
+            return fold(args, values -> function.applyAsDouble(operand.evaluate(values)));
+        }
+
+        private static Node binary(Node left, Node right, char operator) {
+            Node node = switch (operator) {
+                case '+' -> values -> left.evaluate(values) + right.evaluate(values);
+                case '-' -> values -> left.evaluate(values) - right.evaluate(values);
+                case '*' -> values -> left.evaluate(values) * right.evaluate(values);
+                case '/' -> values -> left.evaluate(values) / right.evaluate(values);
+                case '%' -> values -> left.evaluate(values) % right.evaluate(values);
+                case '^' -> values -> Math.pow(left.evaluate(values), right.evaluate(values));
+                default -> throw new IllegalStateException("Unknown operator " + operator);
+            };
+            return fold(new Node[]{left, right}, node);
+        }
+
+        /**
+         * Replaces {@code node} with its value when every operand is a constant.
+         */
+        private static Node fold(Node[] operands, Node node) {
+            for (Node operand : operands) {
+                if (!(operand instanceof Constant)) {
+                    return node;
+                }
+            }
+            return new Constant(node.evaluate(new double[0]));
+        }
+
+        private void requireExactly(String name, Node[] args, int count, int start) {
+            if (args.length != count) {
+                position = start;
+                throw error(name + "() takes " + count + " argument" + (count == 1 ? "" : "s"));
+            }
+        }
+
+        private void requireAtLeast(String name, Node[] args, int count, int start) {
+            if (args.length < count) {
+                position = start;
+                throw error(name + "() takes at least " + count + " arguments");
+            }
+        }
+
+        private boolean accept(char expected) {
+            skipWhitespace();
+            if (position < source.length() && source.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!accept(expected)) {
+                throw error("Expected '" + expected + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + (position + 1) + " in formula '" + source + "'");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package me.baddcamden.attributeutils.compute;
+
+import me.baddcamden.attributeutils.model.ModifierEntry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Multiplier products for additives scoped with {@link ModifierEntry#multiplierKeys()} within one stage. The
+ * permanent and temporary multipliers are indexed by lowercase key on first use, and the scoped product of every
+ * distinct key set is memoized, so each keyed additive costs one lookup per key instead of a pass over every
+ * multiplier.
+ * <p>
+ * Matched multipliers are still multiplied in their original order, so products are identical to filtering the
+ * multiplier lists key by key. Built per stage evaluation and confined to the calling thread.
+ */
+final class KeyedMultiplierTable {
+
+    private final List<ModifierEntry> permanentMultipliers;
+    private final List<ModifierEntry> temporaryMultipliers;
+    /** Lowercase key to positions in {@link #permanentMultipliers}; built lazily. */
+    private Map<String, int[]> permanentPositions;
+    /** Lowercase key to positions in {@link #temporaryMultipliers}; built lazily. */
+    private Map<String, int[]> temporaryPositions;
+    /** Scoped product per distinct key set; built lazily. */
+    private Map<Set<String>, Double> products;
+
+    KeyedMultiplierTable(List<ModifierEntry> permanentMultipliers, List<ModifierEntry> temporaryMultipliers) {
+        this.permanentMultipliers = permanentMultipliers;
+        this.temporaryMultipliers = temporaryMultipliers;
+    }
+
+    /**
+     * Returns the permanent product times the temporary product of the multipliers whose key is in
+     * {@code allowedKeys}; {@code 1.0} when none match.
+     */
+    double product(Set<String> allowedKeys) {
+        if (allowedKeys.isEmpty() || (permanentMultipliers.isEmpty() && temporaryMultipliers.isEmpty())) {
+            return 1.0d;
+        }
+        if (products == null) {
+            permanentPositions = index(permanentMultipliers);
+            temporaryPositions = index(temporaryMultipliers);
+            products = new HashMap<>();
+        }
+        Double cached = products.get(allowedKeys);
+        if (cached != null) {
+            return cached;
+        }
+        double product = product(permanentMultipliers, permanentPositions, allowedKeys)
+                * product(temporaryMultipliers, temporaryPositions, allowedKeys);
+        products.put(allowedKeys, product);
+        return product;
+    }
+
+    private static double product(List<ModifierEntry> multipliers, Map<String, int[]> positions, Set<String> allowedKeys) {
+        if (multipliers.isEmpty()) {
+            return 1.0d;
+        }
+        int[] matched = new int[multipliers.size()];
+        int count = 0;
+        for (String key : allowedKeys) {
+            int[] keyPositions = positions.get(key);
+            if (keyPositions != null) {
+                for (int position : keyPositions) {
+                    matched[count++] = position;
+                }
+            }
+        }
+        Arrays.sort(matched, 0, count);
+        double product = 1.0d;
+        for (int i = 0; i < count; i++) {
+            product *= multipliers.get(matched[i]).amount();
+        }
+        return product;
+    }
+
+    private static Map<String, int[]> index(List<ModifierEntry> multipliers) {
+        Map<String, int[]> positions = new HashMap<>();
+        for (int i = 0; i < multipliers.size(); i++) {
+            int position = i;
+            positions.merge(multipliers.get(i).key().toLowerCase(), new int[]{position}, (existing, added) -> {
+                int[] merged = Arrays.copyOf(existing, existing.length + 1);
+                merged[existing.length] = position;
+                return merged;
+            });
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,29 @@
+package me.baddcamden.attributeutils.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one {@code AttributeComputationEngine.compute} call. It fires for every attribute
+ * evaluation, so it is disabled unless a recording opts in, and stack traces are off to keep enabled recordings cheap.
+ */
+@Name("attributeutils.Compute")
+@Label("Attribute Compute")
+@Category({"AttributeUtils", "Compute"})
+@Description("Computation of one attribute's staged values")
+@Enabled(false)
+@StackTrace(false)
+public final class ComputeEvent extends Event {
+
+    @Label("Attribute")
+    public String attributeId;
+
+    @Label("Modifiers")
+    @Description("Modifiers held by the global and owner instances")
+    public int modifierCount;
+}
@@ -12,6 +12,11 @@ import me.baddcamden.attributeutils.model.ModifierOperation;
  * and current layers when an {@link AttributeInstance} is created. {@code defaultCurrentValue}
  * acts as the vanilla starting point for the "current" baseline before any player-specific
  * deltas are applied. Caps and multiplier applicability are shared by both layers.</p>
+ *
+ * <p>A non-blank {@code formula} makes the attribute <em>derived</em>: its current baseline is the formula evaluated
+ * over other attributes' current final values (see
+ * {@link me.baddcamden.attributeutils.compute.DerivedFormula}). Derived attributes are always dynamic, since their
+ * baseline is recomputed on every pass.</p>
  */
 public record AttributeDefinition(
         String id,
@@ -21,7 +26,8 @@ public record AttributeDefinition(
         double defaultCurrentValue,
         CapConfig capConfig,
         MultiplierApplicability multiplierApplicability,
-        ModifierOperation defaultOperation
+        ModifierOperation defaultOperation,
+        String formula
 ) {
 
     public AttributeDefinition {
@@ -30,6 +36,30 @@ public record AttributeDefinition(
         Objects.requireNonNull(capConfig, "capConfig");
         Objects.requireNonNull(multiplierApplicability, "multiplierApplicability");
         defaultOperation = defaultOperation == null ? ModifierOperation.ADD : defaultOperation;
+        formula = formula == null || formula.isBlank() ? null : formula.strip();
+        dynamic = dynamic || formula != null;
+    }
+
+    /**
+     * Creates a definition that is not derived.
+     */
+    public AttributeDefinition(String id,
+                               String displayName,
+                               boolean dynamic,
+                               double defaultBaseValue,
+                               double defaultCurrentValue,
+                               CapConfig capConfig,
+                               MultiplierApplicability multiplierApplicability,
+                               ModifierOperation defaultOperation) {
+        this(id, displayName, dynamic, defaultBaseValue, defaultCurrentValue, capConfig, multiplierApplicability,
+                defaultOperation, null);
+    }
+
+    /**
+     * Returns whether the baseline comes from {@link #formula()}.
+     */
+    public boolean derived() {
+        return formula != null;
     }
 
     /**
@@ -0,0 +1,551 @@
+package me.baddcamden.attributeutils.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the mutable state for a single attribute, including the baseline values and the
+ * individual modifier buckets used during computation.
+ *
+ * <p>Baselines come in two flavours:
+ * <ul>
+ *     <li><strong>Default</strong>: the configured base and its computed final value, used as
+ *     the reference point for all players.</li>
+ *     <li><strong>Current</strong>: the live base value for a specific player/global instance.
+ *     For static attributes the current baseline tracks the default baseline via
+ *     {@link #synchronizeCurrentBaseWithDefault(double, CapConfig)} so persisted deltas remain
+ *     meaningful after recomputation.</li>
+ * </ul></p>
+ *
+ * <p>Modifiers are split into additive and multiplicative buckets for both the default and
+ * current layers, and further divided into permanent and temporary buckets. This mirrors the
+ * computation stages in {@code AttributeComputationEngine}: permanent buckets run before
+ * temporary ones, and default buckets run before current buckets. Multipliers are always
+ * re-applied to additive stacks so the owning engine can reproduce vanilla-style stacking.</p>
+ *
+ * <p>Instances are shared between threads on region-threaded servers. Mutators are synchronized and publish a new
+ * immutable {@link ModifierBuckets} snapshot, copying only the buckets they change, so readers never lock and
+ * {@link #getBuckets()} always sees every bucket as of the same mutation. Baselines are volatile.</p>
+ */
+public final class AttributeInstance {
+
+    /**
+     * Definition that governs caps, defaults, and applicability rules for this instance. Replaced in place by
+     * {@link #rebind(AttributeDefinition)} when the configuration is reloaded.
+     */
+    private volatile AttributeDefinition definition;
+    /**
+     * Persisted base value shared by all players before any modifiers are applied.
+     */
+    private volatile double defaultBaseValue;
+    /**
+     * Player- or context-specific base value that can diverge from the default baseline.
+     */
+    private volatile double currentBaseValue;
+    /**
+     * Cached result of the last default computation. Used to adjust the current baseline by
+     * the same delta when static attributes change so the persisted "current" deltas keep
+     * matching player-visible values.
+     */
+    private volatile double defaultFinalBaseline;
+    /**
+     * Every registered modifier keyed by normalized key, plus the per-stage buckets holding references to the same
+     * entries. Replaced as a whole under this instance's lock; never mutated after publication.
+     */
+    private volatile ModifierBuckets buckets = ModifierBuckets.EMPTY;
+    /**
+     * Optional key used to override the definition's default cap selection.
+     */
+    private volatile String capOverrideKey;
+    /**
+     * Optional observer told when a key enters or leaves {@link #getModifiers()}; never carried over by {@link #copy()}.
+     */
+    private volatile KeyListener keyListener;
+
+    /**
+     * Builds an instance seeded with the definition's configured defaults and no cap override.
+     * The current layer starts at {@link AttributeDefinition#defaultCurrentValue()} so static
+     * attributes can diverge from the default baseline without losing the original default base.
+     */
+    public AttributeInstance(AttributeDefinition definition) {
+        this(definition, definition.defaultBaseValue(), definition.defaultCurrentValue(), null);
+    }
+
+    /**
+     * Builds an instance with explicit baseline values and an optional cap override key. The
+     * default final baseline cache is primed with the definition's configured current baseline so
+     * {@link #synchronizeCurrentBaseWithDefault(double, CapConfig)} can compute deltas correctly.
+     */
+    public AttributeInstance(AttributeDefinition definition, double defaultBaseValue, double currentBaseValue, String capOverrideKey) {
+        this.definition = Objects.requireNonNull(definition, "definition");
+        this.defaultBaseValue = defaultBaseValue;
+        this.currentBaseValue = currentBaseValue;
+        this.defaultFinalBaseline = definition.defaultCurrentValue(); //VAGUE/IMPROVEMENT NEEDED defaultFinalBaseline ignores the provided baselines and assumes the definition's defaults
+        this.capOverrideKey = capOverrideKey;
+    }
+
+    /**
+     * Returns the attribute definition driving bucket applicability, caps, and baseline defaults.
+     */
+    public AttributeDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Swaps in a reloaded definition for the same attribute while keeping modifiers and the cap override key.
+     * Baselines still equal to the old definition's defaults move to the new defaults; baselines that were customized
+     * are kept as they are.
+     *
+     * @param replacement definition to use from now on; must have the same id
+     * @throws IllegalArgumentException when the ids differ
+     */
+    public synchronized void rebind(AttributeDefinition replacement) {
+        Objects.requireNonNull(replacement, "replacement");
+        if (!definition.id().equalsIgnoreCase(replacement.id())) {
+            throw new IllegalArgumentException("Cannot rebind " + definition.id() + " to " + replacement.id());
+        }
+        if (Double.compare(defaultBaseValue, definition.defaultBaseValue()) == 0) {
+            defaultBaseValue = replacement.defaultBaseValue();
+        }
+        if (Double.compare(currentBaseValue, definition.defaultCurrentValue()) == 0) {
+            currentBaseValue = replacement.defaultCurrentValue();
+        }
+        if (Double.compare(defaultFinalBaseline, definition.defaultCurrentValue()) == 0) {
+            defaultFinalBaseline = replacement.defaultCurrentValue();
+        }
+        definition = replacement;
+    }
+
+    /**
+     * Returns the current default-layer base value before modifiers or caps are applied.
+     */
+    public double getDefaultBaseValue() {
+        return defaultBaseValue;
+    }
+
+    /**
+     * Sets the default-layer base value without touching the current layer. This is used when only
+     * the shared baseline should change and per-player deltas must remain intact.
+     */
+    public void setDefaultBaseValue(double defaultBaseValue) {
+        this.defaultBaseValue = defaultBaseValue;
+    }
+
+    /**
+     * Alias for {@link #getDefaultBaseValue()} retained for backwards compatibility with callers
+     * that expect the older method name.
+     */
+    public double getBaseValue() {
+        return defaultBaseValue;
+    }
+
+    /**
+     * Updates both default and current baselines to the same value, effectively resetting any
+     * player-specific deltas. Useful when re-seeding from configuration defaults.
+     */
+    public void setBaseValue(double baseValue) {
+        this.defaultBaseValue = baseValue;
+        this.currentBaseValue = baseValue;
+    }
+
+    /**
+     * Returns the current-layer base value before computation. This value may diverge from the
+     * default base when attributes are dynamic or have player-specific offsets.
+     */
+    public double getCurrentBaseValue() {
+        return currentBaseValue;
+    }
+
+    /**
+     * Sets the current-layer base value without affecting the default baseline, preserving any
+     * shared reference value.
+     */
+    public void setCurrentBaseValue(double currentBaseValue) {
+        this.currentBaseValue = currentBaseValue;
+    }
+
+    /**
+     * Returns the last computed default final value, used to calculate deltas when syncing the
+     * current baseline after recomputation.
+     */
+    public double getDefaultFinalBaseline() {
+        return defaultFinalBaseline;
+    }
+
+    /**
+     * Updates the cached default final value that represents the last fully-computed default
+     * baseline. This should be called after re-running the computation engine.
+     */
+    public void setDefaultFinalBaseline(double defaultFinalBaseline) {
+        this.defaultFinalBaseline = defaultFinalBaseline;
+    }
+
+    /**
+     * Returns an independent copy of this instance: baselines, cap override key, and every modifier bucket. Modifier
+     * entries and bucket snapshots are immutable and shared. Used to hand a consistent snapshot to computations
+     * running off the owning thread; changes to the copy never reach this instance.
+     */
+    public synchronized AttributeInstance copy() {
+        AttributeInstance copy = new AttributeInstance(definition, defaultBaseValue, currentBaseValue, capOverrideKey);
+        copy.defaultFinalBaseline = defaultFinalBaseline;
+        copy.buckets = buckets;
+        return copy;
+    }
+
+    /**
+     * Returns every modifier bucket as of the latest mutation. Computations read all buckets from one snapshot so a
+     * concurrent mutation is seen either entirely or not at all.
+     */
+    public ModifierBuckets getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Returns how many modifiers are registered without copying them.
+     */
+    public int getModifierCount() {
+        return buckets.modifiers().size();
+    }
+
+    /**
+     * Returns the modifier stored under {@code key}, matched case-insensitively, or {@code null}. Reads the current
+     * snapshot directly, so point lookups never go through a {@link #getModifiers()} view.
+     */
+    public ModifierEntry getModifier(String key) {
+        return key == null ? null : buckets.modifiers().get(normalizeKey(key));
+    }
+
+    /**
+     * Returns whether a modifier is stored under {@code key}, matched case-insensitively.
+     */
+    public boolean hasModifier(String key) {
+        return getModifier(key) != null;
+    }
+
+    /**
+     * Returns an immutable snapshot of all registered modifiers keyed by normalized key.
+     */
+    public Map<String, ModifierEntry> getModifiers() {
+        return buckets.modifiers();
+    }
+
+    /**
+     * Snapshot of permanent additive modifiers targeting the default layer. Entries share the
+     * instances stored in {@link #getModifiers()}.
+     */
+    public Map<String, ModifierEntry> getDefaultPermanentAdditives() {
+        return buckets.defaultPermanentAdditives();
+    }
+
+    /**
+     * Snapshot of temporary additive modifiers targeting the default layer.
+     */
+    public Map<String, ModifierEntry> getDefaultTemporaryAdditives() {
+        return buckets.defaultTemporaryAdditives();
+    }
+
+    /**
+     * Snapshot of permanent multiplier modifiers targeting the default layer.
+     */
+    public Map<String, ModifierEntry> getDefaultPermanentMultipliers() {
+        return buckets.defaultPermanentMultipliers();
+    }
+
+    /**
+     * Snapshot of temporary multiplier modifiers targeting the default layer.
+     */
+    public Map<String, ModifierEntry> getDefaultTemporaryMultipliers() {
+        return buckets.defaultTemporaryMultipliers();
+    }
+
+    /**
+     * Snapshot of permanent additive modifiers targeting the current layer.
+     */
+    public Map<String, ModifierEntry> getCurrentPermanentAdditives() {
+        return buckets.currentPermanentAdditives();
+    }
+
+    /**
+     * Snapshot of temporary additive modifiers targeting the current layer.
+     */
+    public Map<String, ModifierEntry> getCurrentTemporaryAdditives() {
+        return buckets.currentTemporaryAdditives();
+    }
+
+    /**
+     * Snapshot of permanent multiplier modifiers targeting the current layer.
+     */
+    public Map<String, ModifierEntry> getCurrentPermanentMultipliers() {
+        return buckets.currentPermanentMultipliers();
+    }
+
+    /**
+     * Snapshot of temporary multiplier modifiers targeting the current layer.
+     */
+    public Map<String, ModifierEntry> getCurrentTemporaryMultipliers() {
+        return buckets.currentTemporaryMultipliers();
+    }
+
+    /**
+     * Registers a modifier and distributes it into the appropriate buckets for both the default
+     * and current stages. Buckets only retain a single entry per key; calling this method again
+     * with the same key replaces the previous modifier everywhere. Keys are normalized to lowercase
+     * so lookups remain consistent across commands and persistence.
+     */
+    public synchronized void addModifier(ModifierEntry modifier) {
+        Objects.requireNonNull(modifier, "modifier");
+        String key = normalizeKey(modifier.key());
+        BucketEditor editor = new BucketEditor(buckets);
+        editor.removeFromBuckets(key);
+        boolean added = editor.write(BucketEditor.MODIFIERS).put(key, modifier) == null;
+        editor.addToBucket(key, modifier, true);
+        editor.addToBucket(key, modifier, false);
+        buckets = editor.build();
+        if (added && keyListener != null) {
+            keyListener.keyAdded(key);
+        }
+    }
+
+    /**
+     * Removes a modifier from the flat map and from every bucket. Safe to call with unknown or
+     * null keys.
+     */
+    public synchronized void removeModifier(String key) {
+        if (key == null) {
+            return;
+        }
+        String normalized = normalizeKey(key);
+        if (!buckets.modifiers().containsKey(normalized)) {
+            return;
+        }
+        BucketEditor editor = new BucketEditor(buckets);
+        editor.write(BucketEditor.MODIFIERS).remove(normalized);
+        editor.removeFromBuckets(normalized);
+        buckets = editor.build();
+        if (keyListener != null) {
+            keyListener.keyRemoved(normalized);
+        }
+    }
+
+    /**
+     * Drops all temporary modifiers across both layers and buckets while preserving permanent
+     * modifiers. The main modifier map is cleaned alongside the bucket maps to keep references in
+     * sync for future updates.
+     */
+    public synchronized void purgeTemporaryModifiers() {
+        List<String> purged = new ArrayList<>();
+        buckets.modifiers().forEach((key, modifier) -> {
+            if (modifier.isTemporary()) {
+                purged.add(key);
+            }
+        });
+        if (purged.isEmpty()) {
+            return;
+        }
+        BucketEditor editor = new BucketEditor(buckets);
+        for (String key : purged) {
+            editor.write(BucketEditor.MODIFIERS).remove(key);
+            editor.removeFromBuckets(key);
+        }
+        buckets = editor.build();
+        if (keyListener != null) {
+            purged.forEach(keyListener::keyRemoved);
+        }
+    }
+
+    /**
+     * Returns the override key used when resolving cap maxima for this instance.
+     */
+    public String getCapOverrideKey() {
+        return capOverrideKey;
+    }
+
+    /**
+     * Assigns the cap override key that will be honored during value clamping. A {@code null} or
+     * blank key means the global maximum will be used.
+     */
+    public void setCapOverrideKey(String capOverrideKey) {
+        this.capOverrideKey = capOverrideKey;
+    }
+
+    /**
+     * Installs the observer told about modifier keys entering and leaving this instance, replacing any previous one.
+     * Replacing a modifier under an existing key is not reported. Pass {@code null} to detach.
+     */
+    public void setKeyListener(KeyListener keyListener) {
+        this.keyListener = keyListener;
+    }
+
+    /**
+     * Aligns the current baseline with a newly computed default value using the definition's cap
+     * configuration. This overload preserves the previous behaviour of clamping with the
+     * definition's cap configuration and any override key stored on the instance.
+     */
+    public void synchronizeCurrentBaseWithDefault(double defaultFinal) {
+        synchronizeCurrentBaseWithDefault(defaultFinal, definition.capConfig());
+    }
+
+    /**
+     * Adjusts the current baseline by the same delta applied to the default baseline during
+     * computation, then clamps using the provided cap config and override key. This keeps current
+     * values that were previously persisted in line with recalculated defaults and ensures cap
+     * overrides remain effective during the sync.
+     */
+    public synchronized void synchronizeCurrentBaseWithDefault(double defaultFinal, CapConfig capConfig) {
+        double delta = defaultFinal - defaultFinalBaseline;
+        if (Math.abs(delta) < 1.0E-9) {
+            return;
+        }
+        this.currentBaseValue = capConfig.clamp(currentBaseValue + delta, capOverrideKey);
+        this.defaultFinalBaseline = defaultFinal;
+    }
+
+    /**
+     * Normalizes modifier keys to lowercase to allow case-insensitive storage and lookups.
+     */
+    private String normalizeKey(String key) {
+        return key.toLowerCase();
+    }
+
+    /**
+     * Immutable modifier state of an instance at one point in time: the flat modifier map and the eight stage
+     * buckets, all keeping insertion order. Maps are unmodifiable and never change once published.
+     */
+    public record ModifierBuckets(Map<String, ModifierEntry> modifiers,
+                                  Map<String, ModifierEntry> defaultPermanentAdditives,
+                                  Map<String, ModifierEntry> defaultTemporaryAdditives,
+                                  Map<String, ModifierEntry> defaultPermanentMultipliers,
+                                  Map<String, ModifierEntry> defaultTemporaryMultipliers,
+                                  Map<String, ModifierEntry> currentPermanentAdditives,
+                                  Map<String, ModifierEntry> currentTemporaryAdditives,
+                                  Map<String, ModifierEntry> currentPermanentMultipliers,
+                                  Map<String, ModifierEntry> currentTemporaryMultipliers) {
+
+        /** Snapshot of an instance without modifiers. */
+        static final ModifierBuckets EMPTY = new ModifierBuckets(Map.of(), Map.of(), Map.of(), Map.of(), Map.of(),
+                Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * Builds the next {@link ModifierBuckets} from the current one, copying a map only the first time it is written
+     * so a mutation costs the size of the buckets it touches rather than of the whole instance.
+     */
+    private static final class BucketEditor {
+        private static final int MODIFIERS = 0;
+        private static final int DEFAULT_PERMANENT_ADDITIVES = 1;
+        private static final int DEFAULT_TEMPORARY_ADDITIVES = 2;
+        private static final int DEFAULT_PERMANENT_MULTIPLIERS = 3;
+        private static final int DEFAULT_TEMPORARY_MULTIPLIERS = 4;
+        private static final int CURRENT_PERMANENT_ADDITIVES = 5;
+        private static final int CURRENT_TEMPORARY_ADDITIVES = 6;
+        private static final int CURRENT_PERMANENT_MULTIPLIERS = 7;
+        private static final int CURRENT_TEMPORARY_MULTIPLIERS = 8;
+
+        private final List<Map<String, ModifierEntry>> maps;
+        private final boolean[] copied = new boolean[9];
+
+        private BucketEditor(ModifierBuckets base) {
+            maps = new ArrayList<>(List.of(
+                    base.modifiers(),
+                    base.defaultPermanentAdditives(),
+                    base.defaultTemporaryAdditives(),
+                    base.defaultPermanentMultipliers(),
+                    base.defaultTemporaryMultipliers(),
+                    base.currentPermanentAdditives(),
+                    base.currentTemporaryAdditives(),
+                    base.currentPermanentMultipliers(),
+                    base.currentTemporaryMultipliers()));
+        }
+
+        /**
+         * Returns a private, mutable copy of the map at {@code index}.
+         */
+        private Map<String, ModifierEntry> write(int index) {
+            if (!copied[index]) {
+                maps.set(index, new LinkedHashMap<>(maps.get(index)));
+                copied[index] = true;
+            }
+            return maps.get(index);
+        }
+
+        /**
+         * Places a modifier into the correct permanent/temporary bucket for the selected layer.
+         */
+        private void addToBucket(String key, ModifierEntry modifier, boolean defaultLayer) {
+            if (defaultLayer && !modifier.appliesToDefault()) {
+                return;
+            }
+            if (!defaultLayer && !modifier.appliesToCurrent()) {
+                return;
+            }
+            write(resolveBucket(modifier, defaultLayer)).put(key, modifier);
+        }
+
+        /**
+         * Resolves the bucket that matches the modifier's operation, duration, and target layer.
+         */
+        private static int resolveBucket(ModifierEntry modifier, boolean defaultLayer) {
+            boolean temporary = modifier.isTemporary();
+            if (modifier.operation() == ModifierOperation.ADD) {
+                if (defaultLayer) {
+                    return temporary ? DEFAULT_TEMPORARY_ADDITIVES : DEFAULT_PERMANENT_ADDITIVES;
+                }
+                return temporary ? CURRENT_TEMPORARY_ADDITIVES : CURRENT_PERMANENT_ADDITIVES;
+            }
+
+            if (defaultLayer) {
+                return temporary ? DEFAULT_TEMPORARY_MULTIPLIERS : DEFAULT_PERMANENT_MULTIPLIERS;
+            }
+            return temporary ? CURRENT_TEMPORARY_MULTIPLIERS : CURRENT_PERMANENT_MULTIPLIERS;
+        }
+
+        /**
+         * Removes a modifier from every bucket, regardless of which layer it previously targeted.
+         */
+        private void removeFromBuckets(String key) {
+            for (int index = DEFAULT_PERMANENT_ADDITIVES; index <= CURRENT_TEMPORARY_MULTIPLIERS; index++) {
+                if (maps.get(index).containsKey(key)) {
+                    write(index).remove(key);
+                }
+            }
+        }
+
+        private ModifierBuckets build() {
+            for (int index = 0; index < copied.length; index++) {
+                if (copied[index]) {
+                    maps.set(index, Collections.unmodifiableMap(maps.get(index)));
+                }
+            }
+            return new ModifierBuckets(maps.get(MODIFIERS),
+                    maps.get(DEFAULT_PERMANENT_ADDITIVES),
+                    maps.get(DEFAULT_TEMPORARY_ADDITIVES),
+                    maps.get(DEFAULT_PERMANENT_MULTIPLIERS),
+                    maps.get(DEFAULT_TEMPORARY_MULTIPLIERS),
+                    maps.get(CURRENT_PERMANENT_ADDITIVES),
+                    maps.get(CURRENT_TEMPORARY_ADDITIVES),
+                    maps.get(CURRENT_PERMANENT_MULTIPLIERS),
+                    maps.get(CURRENT_TEMPORARY_MULTIPLIERS));
+        }
+    }
+
+    /**
+     * Observer of the modifier keys held by an instance, used to keep indexes spanning many instances in sync with
+     * every mutation path. Called on the thread mutating the instance, while it holds the instance's lock.
+     */
+    public interface KeyListener {
+
+        /**
+         * Called after a modifier was stored under a key the instance did not hold.
+         */
+        void keyAdded(String key);
+
+        /**
+         * Called after the modifier under {@code key} was removed.
+         */
+        void keyRemoved(String key);
+    }
+}
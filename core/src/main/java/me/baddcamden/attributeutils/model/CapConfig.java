@@ -1,9 +1,8 @@
 package me.baddcamden.attributeutils.model;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Cap configuration for an attribute.
@@ -11,7 +10,8 @@ import java.util.Map;
  * Caps are applied after each computation stage to enforce a min/max range. The
  * {@code overrideMaxValues} map allows specific contexts (e.g., player IDs) to supply alternative
  * maxima while the global minimum always applies. Keys are normalized to lower case to keep
- * lookups consistent regardless of caller casing.
+ * lookups consistent regardless of caller casing. The override map is concurrent and stays mutable: per-player caps
+ * are added to it at run time and when saved caps or journaled changes are restored.
  */
 public record CapConfig(double globalMin, double globalMax, Map<String, Double> overrideMaxValues) {
 
@@ -20,11 +20,11 @@ public record CapConfig(double globalMin, double globalMax, Map<String, Double>
             throw new IllegalArgumentException("Global max must be greater than or equal to global min");
         }
 
-        Map<String, Double> normalizedOverrides = new LinkedHashMap<>();
+        Map<String, Double> normalizedOverrides = new ConcurrentHashMap<>();
         if (overrideMaxValues != null) {
             for (Map.Entry<String, Double> entry : overrideMaxValues.entrySet()) {
                 String key = entry.getKey();
-                if (key == null || key.isBlank()) {
+                if (key == null || key.isBlank() || entry.getValue() == null) {
                     //VAGUE/IMPROVEMENT NEEDED Clarify whether blank override keys should be ignored or treated as a request for the global max.
                     continue;
                 }
@@ -32,7 +32,7 @@ public record CapConfig(double globalMin, double globalMax, Map<String, Double>
             }
         }
 
-        overrideMaxValues = Collections.unmodifiableMap(normalizedOverrides);
+        overrideMaxValues = normalizedOverrides;
     }
 
     /**
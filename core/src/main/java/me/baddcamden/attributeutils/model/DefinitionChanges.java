@@ -0,0 +1,64 @@
+package me.baddcamden.attributeutils.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Difference between two sets of attribute definitions, used to reload configuration in place. Definitions are
+ * records, so a definition counts as changed when any of its fields differ: caps and overrides, multiplier
+ * applicability, defaults, operation, or display name.
+ *
+ * @param added   definitions present only in the new set
+ * @param changed new versions of definitions present in both sets but no longer equal
+ * @param removed ids present only in the old set
+ */
+public record DefinitionChanges(List<AttributeDefinition> added, List<AttributeDefinition> changed, List<String> removed) {
+
+    public DefinitionChanges {
+        added = List.copyOf(added);
+        changed = List.copyOf(changed);
+        removed = List.copyOf(removed);
+    }
+
+    /**
+     * Compares two sets of definitions keyed by normalized id.
+     *
+     * @param previous definitions loaded last time
+     * @param next     definitions loaded now
+     */
+    public static DefinitionChanges between(Map<String, AttributeDefinition> previous, Map<String, AttributeDefinition> next) {
+        List<AttributeDefinition> added = new ArrayList<>();
+        List<AttributeDefinition> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        next.forEach((id, definition) -> {
+            AttributeDefinition old = previous.get(id);
+            if (old == null) {
+                added.add(definition);
+            } else if (!Objects.equals(old, definition)) {
+                changed.add(definition);
+            }
+        });
+        previous.keySet().forEach(id -> {
+            if (!next.containsKey(id)) {
+                removed.add(id);
+            }
+        });
+        return new DefinitionChanges(added, changed, removed);
+    }
+
+    /**
+     * Returns whether both sets hold the same definitions.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Total number of added, changed, and removed definitions.
+     */
+    public int size() {
+        return added.size() + changed.size() + removed.size();
+    }
+}
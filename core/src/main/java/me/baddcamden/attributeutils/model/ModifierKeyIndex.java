@@ -0,0 +1,182 @@
+package me.baddcamden.attributeutils.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Namespace index over modifier keys across every owner and attribute. Keys are split on {@code .} into a trie, so
+ * {@code lifesteal} addresses {@code lifesteal} itself and everything below it ({@code lifesteal.pvp},
+ * {@code lifesteal.potion.regen}) but not {@code lifestealer.pvp}.
+ * <p>
+ * Each trie node holds the owners and attribute ids carrying its exact key; the global layer is recorded under a
+ * {@code null} owner. Lookups only walk the subtree below the prefix, so their cost follows the number of keys in
+ * that namespace rather than the number of owners or instances. Empty nodes are pruned on removal. Keys and ids are
+ * expected to be normalized by the caller. All methods are thread-safe.
+ */
+public final class ModifierKeyIndex {
+
+    private final Node root = new Node(null, null);
+
+    /**
+     * Records that {@code ownerId}'s instance of {@code attributeId} holds {@code key}.
+     *
+     * @param ownerId owning entity, or {@code null} for the global instance
+     */
+    public synchronized void add(UUID ownerId, String attributeId, String key) {
+        Node node = root;
+        for (String segment : key.split("\\.", -1)) {
+            Node parent = node;
+            node = node.children.computeIfAbsent(segment, ignored -> new Node(parent, segment));
+        }
+        node.owners.computeIfAbsent(ownerId, ignored -> new LinkedHashSet<>()).add(attributeId);
+    }
+
+    /**
+     * Forgets that {@code ownerId}'s instance of {@code attributeId} holds {@code key}. Unknown entries are ignored.
+     *
+     * @param ownerId owning entity, or {@code null} for the global instance
+     */
+    public synchronized void remove(UUID ownerId, String attributeId, String key) {
+        Node node = find(key.split("\\.", -1));
+        if (node == null) {
+            return;
+        }
+        Set<String> attributes = node.owners.get(ownerId);
+        if (attributes == null || !attributes.remove(attributeId)) {
+            return;
+        }
+        if (attributes.isEmpty()) {
+            node.owners.remove(ownerId);
+        }
+        prune(node);
+    }
+
+    /**
+     * Returns every entry whose key equals {@code prefix} or lies below it, across the global layer and all owners.
+     *
+     * @throws IllegalArgumentException when the prefix is blank
+     */
+    public synchronized List<Entry> match(String prefix) {
+        List<Entry> matches = new ArrayList<>();
+        Node node = find(segments(prefix));
+        if (node != null) {
+            collect(node, matches, false, null);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the entries of one owner whose key equals {@code prefix} or lies below it.
+     *
+     * @param ownerId owning entity, or {@code null} for the global layer only
+     * @throws IllegalArgumentException when the prefix is blank
+     */
+    public synchronized List<Entry> match(UUID ownerId, String prefix) {
+        List<Entry> matches = new ArrayList<>();
+        Node node = find(segments(prefix));
+        if (node != null) {
+            collect(node, matches, true, ownerId);
+        }
+        return matches;
+    }
+
+    private Node find(String[] segments) {
+        Node node = root;
+        for (String segment : segments) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private void collect(Node node, List<Entry> matches, boolean filterOwner, UUID ownerId) {
+        if (!node.owners.isEmpty()) {
+            String key = node.key();
+            if (filterOwner) {
+                Set<String> attributes = node.owners.get(ownerId);
+                if (attributes != null) {
+                    for (String attributeId : attributes) {
+                        matches.add(new Entry(ownerId, attributeId, key));
+                    }
+                }
+            } else {
+                node.owners.forEach((owner, attributes) -> {
+                    for (String attributeId : attributes) {
+                        matches.add(new Entry(owner, attributeId, key));
+                    }
+                });
+            }
+        }
+        for (Node child : node.children.values()) {
+            collect(child, matches, filterOwner, ownerId);
+        }
+    }
+
+    /**
+     * Detaches {@code node} and any ancestors left without entries or children.
+     */
+    private void prune(Node node) {
+        while (node != root && node.owners.isEmpty() && node.children.isEmpty()) {
+            node.parent.children.remove(node.segment);
+            node = node.parent;
+        }
+    }
+
+    /**
+     * Splits a key or prefix into segments. A trailing {@code .*} or {@code .} is accepted, so {@code lifesteal},
+     * {@code lifesteal.} and {@code lifesteal.*} address the same namespace.
+     */
+    private static String[] segments(String prefix) {
+        Objects.requireNonNull(prefix, "prefix");
+        String trimmed = prefix.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.endsWith("*")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        if (trimmed.endsWith(".")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Modifier key prefix must not be blank");
+        }
+        return trimmed.split("\\.", -1);
+    }
+
+    /**
+     * One indexed modifier: the owner ({@code null} for global), the normalized attribute id, and the full key.
+     */
+    public record Entry(UUID ownerId, String attributeId, String key) {
+    }
+
+    /**
+     * Trie node for one key segment. The full key is rebuilt from the parent chain when a match is reported.
+     */
+    private static final class Node {
+        private final Node parent;
+        private final String segment;
+        private final Map<String, Node> children = new HashMap<>();
+        /** Attribute ids carrying this exact key, per owner; {@code null} is the global layer. */
+        private final Map<UUID, Set<String>> owners = new HashMap<>();
+
+        private Node(Node parent, String segment) {
+            this.parent = parent;
+            this.segment = segment;
+        }
+
+        private String key() {
+            StringBuilder builder = new StringBuilder(segment);
+            for (Node node = parent; node != null && node.segment != null; node = node.parent) {
+                builder.insert(0, '.').insert(0, node.segment);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package me.baddcamden.attributeutils.compute;
+
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeInstance;
+import me.baddcamden.attributeutils.model.CapConfig;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.model.ModifierOperation;
+import me.baddcamden.attributeutils.model.MultiplierApplicability;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that {@link BulkAttributeEvaluator} reproduces {@link AttributeComputationEngine#compute} bit for bit on
+ * randomized global modifiers, baselines and caps, for the scalar kernel and, when the build includes the kernel
+ * ({@code -P vector}) and the JVM has {@code jdk.incubator.vector}, for the Vector API kernel.
+ */
+class BulkAttributeEvaluatorTest {
+
+    /** Number of randomized fixtures per test. */
+    private static final int ROUNDS = 200;
+    /** Owners per fixture; not a multiple of any vector width so the tail loop is exercised too. */
+    private static final int OWNERS = 67;
+    private static final BaselineSupplier<Double> VANILLA = value -> value;
+
+    private final AttributeComputationEngine engine = new AttributeComputationEngine();
+
+    @Test
+    void evaluateCurrentFinalMatchesCompute() {
+        for (int round = 0; round < ROUNDS; round++) {
+            Fixture fixture = new Fixture(engine, new SplittableRandom(round));
+            double[] out = fixture.evaluator.evaluateCurrentFinal(fixture.baselines, fixture.permanentAdditives,
+                    fixture.temporaryAdditives, fixture.capMaxima);
+            assertMatchesCompute(fixture, out, round);
+        }
+    }
+
+    @Test
+    void scalarKernelMatchesCompute() {
+        assertKernelMatchesCompute(new BulkAttributeEvaluator.ScalarKernel());
+    }
+
+    @Test
+    void vectorKernelMatchesCompute() throws ReflectiveOperationException {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+                "jdk.incubator.vector is not in the boot layer");
+        Class<?> kernelClass;
+        try {
+            kernelClass = Class.forName("me.baddcamden.attributeutils.compute.VectorBulkKernel");
+        } catch (ClassNotFoundException ex) {
+            assumeTrue(false, "VectorBulkKernel is only built with -P vector");
+            return;
+        }
+        assertKernelMatchesCompute((BulkAttributeEvaluator.Kernel) kernelClass.getDeclaredConstructor().newInstance());
+    }
+
+    private void assertKernelMatchesCompute(BulkAttributeEvaluator.Kernel kernel) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Fixture fixture = new Fixture(engine, new SplittableRandom(round));
+            double[] out = new double[OWNERS];
+            kernel.evaluate(fixture.baselines, fixture.permanentAdditives, fixture.temporaryAdditives, fixture.capMaxima,
+                    fixture.definition.capConfig().globalMin(), fixture.evaluator.multiplier(),
+                    fixture.evaluator.keyedContribution(), out, OWNERS);
+            assertMatchesCompute(fixture, out, round);
+        }
+    }
+
+    private void assertMatchesCompute(Fixture fixture, double[] out, int round) {
+        for (int i = 0; i < OWNERS; i++) {
+            double expected = engine.compute(fixture.definition, fixture.globalInstance, fixture.owners[i], VANILLA,
+                    fixture.baselines[i]).currentFinal();
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(out[i]),
+                    "round " + round + ", owner " + i + ": expected " + expected + " but was " + out[i]);
+        }
+    }
+
+    /**
+     * One randomized dynamic attribute: a global instance mixing unrestricted additives, keyed additives and
+     * multipliers across both layers, and owners holding only unrestricted additives, as the bulk evaluator requires.
+     */
+    private static final class Fixture {
+        private final AttributeDefinition definition;
+        private final AttributeInstance globalInstance;
+        private final AttributeInstance[] owners = new AttributeInstance[OWNERS];
+        private final BulkAttributeEvaluator evaluator;
+        private final double[] baselines = new double[OWNERS];
+        private final double[] permanentAdditives = new double[OWNERS];
+        private final double[] temporaryAdditives = new double[OWNERS];
+        private final double[] capMaxima = new double[OWNERS];
+
+        private Fixture(AttributeComputationEngine engine, SplittableRandom random) {
+            List<String> multiplierKeys = new ArrayList<>();
+            List<ModifierEntry> globalModifiers = new ArrayList<>();
+            int modifierCount = random.nextInt(16);
+            for (int i = 0; i < modifierCount; i++) {
+                String key = (random.nextBoolean() ? "Global.Mod_" : "global.mod_") + i;
+                boolean temporary = random.nextBoolean();
+                boolean appliesToDefault = random.nextInt(4) == 0;
+                boolean appliesToCurrent = !appliesToDefault || random.nextBoolean();
+                if (random.nextInt(3) == 0) {
+                    multiplierKeys.add(key.toLowerCase());
+                    globalModifiers.add(new ModifierEntry(key, ModifierOperation.MULTIPLY, random.nextDouble(0.5d, 1.5d),
+                            temporary, appliesToDefault, appliesToCurrent, false, Set.of()));
+                    continue;
+                }
+                boolean keyed = random.nextBoolean();
+                Set<String> keys = new LinkedHashSet<>();
+                if (keyed) {
+                    if (random.nextInt(4) == 0) {
+                        keys.add("global.missing");
+                    }
+                    for (int k = random.nextInt(4); k > 0 && !multiplierKeys.isEmpty(); k--) {
+                        keys.add(multiplierKeys.get(random.nextInt(multiplierKeys.size())));
+                    }
+                }
+                globalModifiers.add(new ModifierEntry(key, ModifierOperation.ADD, random.nextDouble(-10.0d, 10.0d),
+                        temporary, appliesToDefault, appliesToCurrent, keyed, keys));
+            }
+
+            MultiplierApplicability applicability = multiplierKeys.isEmpty() || random.nextBoolean()
+                    ? MultiplierApplicability.allowAllMultipliers()
+                    : MultiplierApplicability.optOut(Set.of(multiplierKeys.get(random.nextInt(multiplierKeys.size()))));
+            definition = new AttributeDefinition("bulk_test", "Bulk Test", true, 20.0d, 20.0d,
+                    new CapConfig(random.nextDouble(-5.0d, 5.0d), 60.0d, Map.of("tight", 25.0d)),
+                    applicability, ModifierOperation.ADD);
+            globalInstance = new AttributeInstance(definition, 20.0d, 20.0d, null);
+            globalModifiers.forEach(globalInstance::addModifier);
+            evaluator = engine.bulkEvaluator(definition, globalInstance);
+
+            for (int i = 0; i < OWNERS; i++) {
+                String capKey = switch (random.nextInt(3)) {
+                    case 0 -> null;
+                    case 1 -> "tight";
+                    default -> "unknown";
+                };
+                AttributeInstance owner = new AttributeInstance(definition, 20.0d, 20.0d, capKey);
+                for (int j = random.nextInt(4); j > 0; j--) {
+                    owner.addModifier(new ModifierEntry("owner.bonus_" + j, ModifierOperation.ADD,
+                            random.nextDouble(-10.0d, 10.0d), random.nextBoolean(), false, true, false, Set.of()));
+                }
+                owners[i] = owner;
+                baselines[i] = random.nextDouble(-20.0d, 80.0d);
+                permanentAdditives[i] = engine.unrestrictedCurrentAdditives(definition, globalInstance, owner, false);
+                temporaryAdditives[i] = engine.unrestrictedCurrentAdditives(definition, globalInstance, owner, true);
+                capMaxima[i] = definition.capConfig().resolveMax(owner.getCapOverrideKey());
+            }
+        }
+    }
+}
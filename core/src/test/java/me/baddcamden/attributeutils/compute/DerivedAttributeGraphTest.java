@@ -0,0 +1,86 @@
+package me.baddcamden.attributeutils.compute;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that {@link DerivedAttributeGraph} rejects cycles without changing the graph, and that
+ * {@link DerivedAttributeGraph#dependents(String)} and {@link DerivedAttributeGraph#order(java.util.Collection)}
+ * place every derived attribute after the attributes it reads.
+ */
+class DerivedAttributeGraphTest {
+
+    @Test
+    void selfReferenceIsRejected() {
+        DerivedAttributeGraph graph = new DerivedAttributeGraph();
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> graph.define("mana", DerivedFormula.compile("mana + 1")));
+        assertEquals("Derived attribute cycle: mana -> mana", failure.getMessage());
+        assertEquals(null, graph.formula("mana"));
+    }
+
+    @Test
+    void indirectCycleIsRejectedAndGraphIsUnchanged() {
+        DerivedAttributeGraph graph = new DerivedAttributeGraph();
+        graph.define("a", DerivedFormula.compile("b * 2"));
+        graph.define("b", DerivedFormula.compile("c + 1"));
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                () -> graph.define("c", DerivedFormula.compile("a - 1")));
+        assertEquals("Derived attribute cycle: c -> a -> b -> c", failure.getMessage());
+        assertEquals(null, graph.formula("c"));
+        assertEquals(List.of("b", "a"), graph.dependents("c"));
+    }
+
+    @Test
+    void replacingFormulaCannotCloseCycle() {
+        DerivedAttributeGraph graph = new DerivedAttributeGraph();
+        graph.define("a", DerivedFormula.compile("level"));
+        graph.define("b", DerivedFormula.compile("a"));
+        assertThrows(IllegalArgumentException.class, () -> graph.define("a", DerivedFormula.compile("b")));
+        assertEquals("level", graph.formula("a").expression());
+        assertEquals(List.of("a", "b"), graph.dependents("level"));
+    }
+
+    @Test
+    void dependentsAreTopologicallyOrdered() {
+        DerivedAttributeGraph graph = new DerivedAttributeGraph();
+        graph.define("c", DerivedFormula.compile("b + a"));
+        graph.define("b", DerivedFormula.compile("a + level"));
+        graph.define("a", DerivedFormula.compile("level * 2"));
+        graph.define("other", DerivedFormula.compile("wisdom"));
+
+        assertEquals(List.of("a", "b", "c"), graph.dependents("level"));
+        assertEquals(List.of("b", "c"), graph.dependents("a"));
+        assertEquals(List.of(), graph.dependents("c"));
+        assertEquals(List.of("other"), graph.dependents("wisdom"));
+    }
+
+    @Test
+    void dependentsFollowRemovals() {
+        DerivedAttributeGraph graph = new DerivedAttributeGraph();
+        graph.define("a", DerivedFormula.compile("level * 2"));
+        graph.define("b", DerivedFormula.compile("a + 1"));
+        assertEquals(List.of("a", "b"), graph.dependents("level"));
+
+        graph.remove("a");
+        assertEquals(List.of(), graph.dependents("level"));
+        assertEquals(List.of("b"), graph.dependents("a"));
+    }
+
+    @Test
+    void orderPlacesInputsFirstAcrossDerivedIdsOutsideTheBatch() {
+        DerivedAttributeGraph graph = new DerivedAttributeGraph();
+        graph.define("max_mana", DerivedFormula.compile("level * 5 + wisdom"));
+        graph.define("mana_regen", DerivedFormula.compile("max_mana * 0.01"));
+        graph.define("spell_power", DerivedFormula.compile("mana_regen + intellect"));
+
+        assertEquals(List.of("level", "spell_power"), graph.order(List.of("spell_power", "level")));
+        assertEquals(List.of("wisdom", "max_mana", "mana_regen", "armor"),
+                graph.order(List.of("mana_regen", "max_mana", "wisdom", "armor", "max_mana")));
+        assertEquals(List.of("armor", "toughness"), graph.order(List.of("armor", "toughness")));
+    }
+}
@@ -0,0 +1,85 @@
+package me.baddcamden.attributeutils.compute;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link DerivedFormula} parses the documented syntax with the documented precedence, binds each distinct
+ * attribute id to one slot, and rejects malformed expressions with a positioned message.
+ */
+class DerivedFormulaTest {
+
+    private static final double[] NO_INPUTS = new double[0];
+
+    @Test
+    void multiplicativeBindsTighterThanAdditive() {
+        assertEquals(7.0d, evaluate("1 + 2 * 3"));
+        assertEquals(9.0d, evaluate("(1 + 2) * 3"));
+        assertEquals(6.0d, evaluate("7 % 4 * 2"));
+        assertEquals(-1.0d, evaluate("1 - 4 / 2"));
+    }
+
+    @Test
+    void additiveAndMultiplicativeAreLeftAssociative() {
+        assertEquals(3.0d, evaluate("10 - 4 - 3"));
+        assertEquals(2.0d, evaluate("16 / 4 / 2"));
+    }
+
+    @Test
+    void powerIsRightAssociativeAndBindsTighterThanUnaryMinus() {
+        assertEquals(512.0d, evaluate("2 ^ 3 ^ 2"));
+        assertEquals(-4.0d, evaluate("-2 ^ 2"));
+        assertEquals(0.25d, evaluate("2 ^ -2"));
+        assertEquals(8.0d, evaluate("pow(2, 3)"));
+    }
+
+    @Test
+    void functionsEvaluate() {
+        assertEquals(1.0d, evaluate("min(4, 1, 3)"));
+        assertEquals(4.0d, evaluate("max(4, 1, 3)"));
+        assertEquals(3.0d, evaluate("abs(-3)"));
+        assertEquals(3.0d, evaluate("sqrt(9)"));
+        assertEquals(1.0d, evaluate("floor(1.7)"));
+        assertEquals(2.0d, evaluate("ceil(1.2)"));
+        assertEquals(1.0d, evaluate("clamp(5, 0, 1)"));
+        assertEquals(0.0d, evaluate("clamp(-5, 0, 1)"));
+        assertEquals(1500.0d, evaluate("1.5e3"));
+    }
+
+    @Test
+    void inputsAreNormalizedAndBoundOncePerId() {
+        DerivedFormula formula = DerivedFormula.compile("Level * 5 + wisdom * 2 + LEVEL + skills.focus");
+        assertEquals(List.of("level", "wisdom", "skills.focus"), formula.inputs());
+        assertEquals(3.0d * 5 + 4.0d * 2 + 3.0d + 0.5d, formula.evaluate(new double[]{3.0d, 4.0d, 0.5d}));
+    }
+
+    @Test
+    void inputsFeedFunctionsAndOperators() {
+        DerivedFormula formula = DerivedFormula.compile("clamp(luck * 0.01 + agility * 0.002, 0, 1)");
+        assertEquals(List.of("luck", "agility"), formula.inputs());
+        assertEquals(0.3d, formula.evaluate(new double[]{20.0d, 50.0d}), 1.0e-12d);
+        assertEquals(1.0d, formula.evaluate(new double[]{200.0d, 50.0d}));
+    }
+
+    @Test
+    void malformedExpressionsAreRejected() {
+        for (String expression : List.of("", "  ", "1 +", "(1 + 2", "1 2", "foo(1)", "min(1)", "abs(1, 2)",
+                "clamp(1, 2)", "1 + * 2", "#")) {
+            IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                    () -> DerivedFormula.compile(expression));
+            assertTrue(expression.isBlank() || failure.getMessage().contains("position"),
+                    "message should name the position: " + failure.getMessage());
+        }
+    }
+
+    private static double evaluate(String expression) {
+        DerivedFormula formula = DerivedFormula.compile(expression);
+        assertEquals(List.of(), formula.inputs());
+        return formula.evaluate(NO_INPUTS);
+    }
+}
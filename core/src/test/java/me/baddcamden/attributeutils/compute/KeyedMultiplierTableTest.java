@@ -0,0 +1,80 @@
+package me.baddcamden.attributeutils.compute;
+
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.model.ModifierOperation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link KeyedMultiplierTable#product} matches filtering the multiplier lists key by key, the way the
+ * engine scoped keyed additives before the table existed, bit for bit and on repeated (memoized) lookups.
+ */
+class KeyedMultiplierTableTest {
+
+    /** Number of randomized multiplier lists. */
+    private static final int ROUNDS = 500;
+    /** Key sets looked up per round. */
+    private static final int LOOKUPS = 20;
+    /** Mixed-case key pool; duplicates across and within lists are intended. */
+    private static final String[] KEYS = {"alpha", "Beta", "gamma", "DELTA", "skills.fury", "Skills.Focus"};
+
+    @Test
+    void productMatchesKeyFilteredProduct() {
+        for (int round = 0; round < ROUNDS; round++) {
+            SplittableRandom random = new SplittableRandom(round);
+            List<ModifierEntry> permanent = multipliers(random, false);
+            List<ModifierEntry> temporary = multipliers(random, true);
+            KeyedMultiplierTable table = new KeyedMultiplierTable(permanent, temporary);
+            for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+                Set<String> allowedKeys = allowedKeys(random);
+                double expected = filteredProduct(permanent, allowedKeys) * filteredProduct(temporary, allowedKeys);
+                for (int repeat = 0; repeat < 2; repeat++) {
+                    double actual = table.product(allowedKeys);
+                    assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual),
+                            "round " + round + ", keys " + allowedKeys + ": expected " + expected + " but was " + actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * The product the engine computed per keyed additive before {@link KeyedMultiplierTable}.
+     */
+    private static double filteredProduct(List<ModifierEntry> multipliers, Set<String> allowedKeys) {
+        return multipliers.stream()
+                .filter(modifier -> allowedKeys.contains(modifier.key().toLowerCase()))
+                .mapToDouble(ModifierEntry::amount)
+                .reduce(1.0d, (left, right) -> left * right);
+    }
+
+    private static List<ModifierEntry> multipliers(SplittableRandom random, boolean temporary) {
+        List<ModifierEntry> multipliers = new ArrayList<>();
+        for (int i = random.nextInt(12); i > 0; i--) {
+            multipliers.add(new ModifierEntry(KEYS[random.nextInt(KEYS.length)], ModifierOperation.MULTIPLY,
+                    random.nextDouble(0.1d, 3.0d), temporary, false, true, false, Set.of()));
+        }
+        return multipliers;
+    }
+
+    /**
+     * Draws a lowercase key set, as {@link ModifierEntry#multiplierKeys()} stores them, sometimes empty and sometimes
+     * naming a key no multiplier has.
+     */
+    private static Set<String> allowedKeys(SplittableRandom random) {
+        Set<String> keys = new HashSet<>();
+        for (int k = random.nextInt(5); k > 0; k--) {
+            keys.add(KEYS[random.nextInt(KEYS.length)].toLowerCase());
+        }
+        if (random.nextInt(4) == 0) {
+            keys.add("missing");
+        }
+        return Set.copyOf(keys);
+    }
+}
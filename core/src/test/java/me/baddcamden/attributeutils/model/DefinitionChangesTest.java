@@ -0,0 +1,70 @@
+package me.baddcamden.attributeutils.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link DefinitionChanges#between(Map, Map)} sorts definitions into added, changed, and removed by id and
+ * field equality.
+ */
+class DefinitionChangesTest {
+
+    @Test
+    void identicalSetsAreEmpty() {
+        Map<String, AttributeDefinition> definitions = Map.of("armor", definition("armor", 2.0d, null));
+        DefinitionChanges changes = DefinitionChanges.between(definitions, Map.of("armor", definition("armor", 2.0d, null)));
+        assertTrue(changes.isEmpty());
+        assertEquals(0, changes.size());
+    }
+
+    @Test
+    void addedChangedAndRemovedAreSeparated() {
+        Map<String, AttributeDefinition> previous = new LinkedHashMap<>();
+        previous.put("armor", definition("armor", 2.0d, null));
+        previous.put("luck", definition("luck", 0.0d, null));
+        previous.put("max_mana", definition("max_mana", 0.0d, "level * 5"));
+        Map<String, AttributeDefinition> next = new LinkedHashMap<>();
+        next.put("armor", definition("armor", 2.0d, null));
+        next.put("max_mana", definition("max_mana", 0.0d, "level * 6"));
+        next.put("wisdom", definition("wisdom", 1.0d, null));
+
+        DefinitionChanges changes = DefinitionChanges.between(previous, next);
+        assertFalse(changes.isEmpty());
+        assertEquals(List.of(next.get("wisdom")), changes.added());
+        assertEquals(List.of(next.get("max_mana")), changes.changed());
+        assertEquals(List.of("luck"), changes.removed());
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    void anyFieldChangeCountsAsChanged() {
+        AttributeDefinition base = definition("armor", 2.0d, null);
+        List<AttributeDefinition> variants = List.of(
+                definition("armor", 3.0d, null),
+                new AttributeDefinition("armor", "Armour", false, 2.0d, 2.0d, base.capConfig(),
+                        base.multiplierApplicability(), ModifierOperation.ADD),
+                new AttributeDefinition("armor", "Armor", false, 2.0d, 2.0d, new CapConfig(0.0d, 50.0d, Map.of()),
+                        base.multiplierApplicability(), ModifierOperation.ADD),
+                new AttributeDefinition("armor", "Armor", false, 2.0d, 2.0d, base.capConfig(),
+                        base.multiplierApplicability(), ModifierOperation.MULTIPLY),
+                definition("armor", 2.0d, "toughness"));
+        for (AttributeDefinition variant : variants) {
+            DefinitionChanges changes = DefinitionChanges.between(Map.of("armor", base), Map.of("armor", variant));
+            assertEquals(List.of(variant), changes.changed());
+            assertTrue(changes.added().isEmpty() && changes.removed().isEmpty());
+        }
+    }
+
+    private static AttributeDefinition definition(String id, double defaultValue, String formula) {
+        return new AttributeDefinition(id, "Armor", false, defaultValue, defaultValue,
+                new CapConfig(0.0d, 30.0d, Map.of()), MultiplierApplicability.allowAllMultipliers(),
+                ModifierOperation.ADD, formula);
+    }
+}
@@ -0,0 +1,41 @@
+package me.baddcamden.attributeutils.compute;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernel for {@link BulkAttributeEvaluator}. Only loaded reflectively when the
+ * {@code jdk.incubator.vector} module is present, so the rest of the engine never links against the incubator API.
+ * Lane-wise {@code min}/{@code max} follow {@link Math#min(double, double)} and {@link Math#max(double, double)},
+ * and the multiply and add are separate operations, so results match the scalar kernel exactly.
+ */
+final class VectorBulkKernel implements BulkAttributeEvaluator.Kernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void evaluate(double[] baselines,
+                         double[] permanentAdditives,
+                         double[] temporaryAdditives,
+                         double[] capMaxima,
+                         double globalMin,
+                         double multiplier,
+                         double keyedContribution,
+                         double[] out,
+                         int length) {
+        DoubleVector min = DoubleVector.broadcast(SPECIES, globalMin);
+        DoubleVector scale = DoubleVector.broadcast(SPECIES, multiplier);
+        DoubleVector keyed = DoubleVector.broadcast(SPECIES, keyedContribution);
+        int upperBound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector capMax = DoubleVector.fromArray(SPECIES, capMaxima, i);
+            DoubleVector raw = DoubleVector.fromArray(SPECIES, baselines, i).min(capMax).max(min);
+            DoubleVector subtotal = raw.add(DoubleVector.fromArray(SPECIES, permanentAdditives, i))
+                    .add(DoubleVector.fromArray(SPECIES, temporaryAdditives, i));
+            subtotal.mul(scale).add(keyed).min(capMax).max(min).intoArray(out, i);
+        }
+        BulkAttributeEvaluator.ScalarKernel.evaluateRange(baselines, permanentAdditives, temporaryAdditives, capMaxima,
+                globalMin, multiplier, keyedContribution, out, i, length);
+    }
+}
@@ -0,0 +1,77 @@
+package me.baddcamden.attributeutils.benchmark;
+
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeInstance;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AttributeInstance#addModifier}/{@link AttributeInstance#removeModifier} churn against instances that
+ * already hold a varying number of modifiers, mirroring equipment swaps that replace the same keys repeatedly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeInstanceBenchmark {
+
+    @Param({"0", "10", "100", "500"})
+    public int existingModifiers;
+
+    private AttributeInstance instance;
+    private List<ModifierEntry> churn;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        AttributeDefinition definition = BenchmarkFixtures.definition("bench_attribute", false);
+        instance = BenchmarkFixtures.instance(definition,
+                BenchmarkFixtures.modifiers("resident", existingModifiers, true), null);
+        churn = BenchmarkFixtures.modifiers("churn", 64, true);
+    }
+
+    /**
+     * Adds a modifier and removes it again, leaving the instance unchanged between invocations.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        ModifierEntry entry = churn.get(cursor);
+        cursor = (cursor + 1) & 63;
+        instance.addModifier(entry);
+        instance.removeModifier(entry.key());
+    }
+
+    /**
+     * Replaces an existing key, which removes the old entry from every bucket before re-adding it.
+     */
+    @Benchmark
+    public void replaceExisting() {
+        ModifierEntry entry = churn.get(cursor);
+        cursor = (cursor + 1) & 63;
+        instance.addModifier(entry);
+    }
+
+    /**
+     * Reads the flat modifier view, which callers such as persistence and commands use frequently.
+     */
+    @Benchmark
+    public Map<String, ModifierEntry> readModifiers() {
+        return instance.getModifiers();
+    }
+}
@@ -0,0 +1,91 @@
+package me.baddcamden.attributeutils.benchmark;
+
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeInstance;
+import me.baddcamden.attributeutils.model.CapConfig;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.model.ModifierOperation;
+import me.baddcamden.attributeutils.model.MultiplierApplicability;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic model fixtures shared by the benchmark suites. Every generator is seeded so runs are comparable across
+ * builds.
+ */
+final class BenchmarkFixtures {
+
+    /** Seed used for every generated fixture. */
+    static final long SEED = 0x5EEDL;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds a definition with wide caps so modifier math, not clamping, dominates the measurement.
+     */
+    static AttributeDefinition definition(String id, boolean dynamic) {
+        return new AttributeDefinition(
+                id,
+                id,
+                dynamic,
+                20.0d,
+                20.0d,
+                new CapConfig(0.0d, Double.MAX_VALUE, Map.of()),
+                MultiplierApplicability.allowAllMultipliers(),
+                ModifierOperation.ADD
+        );
+    }
+
+    /**
+     * Generates a mix of modifiers: roughly three additives per multiplier, alternating permanent and temporary, split
+     * across the default and current layers. When {@code keyedAdditives} is true, every other additive scopes itself
+     * to up to three multiplier keys drawn from the generated multipliers.
+     *
+     * @param prefix         namespace used for modifier keys (e.g. {@code bench})
+     * @param count          number of modifiers to generate
+     * @param keyedAdditives whether additives should use multiplier keys
+     */
+    static List<ModifierEntry> modifiers(String prefix, int count, boolean keyedAdditives) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<String> multiplierKeys = new ArrayList<>();
+        List<ModifierEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String key = prefix + ".mod_" + i;
+            boolean temporary = (i & 1) == 1;
+            boolean defaultLayer = i % 5 == 0;
+            if (i % 4 == 3) {
+                multiplierKeys.add(key);
+                entries.add(new ModifierEntry(key, ModifierOperation.MULTIPLY, 1.0d + random.nextDouble(0.0001d, 0.01d),
+                        temporary, defaultLayer, true, false, Set.of()));
+                continue;
+            }
+
+            boolean keyed = keyedAdditives && (i & 1) == 0 && !multiplierKeys.isEmpty();
+            Set<String> keys = new LinkedHashSet<>();
+            if (keyed) {
+                for (int k = 0; k < 3; k++) {
+                    keys.add(multiplierKeys.get(random.nextInt(multiplierKeys.size())));
+                }
+            }
+            entries.add(new ModifierEntry(key, ModifierOperation.ADD, random.nextDouble(-1.0d, 2.0d),
+                    temporary, defaultLayer, true, keyed, keys));
+        }
+        return entries;
+    }
+
+    /**
+     * Creates an instance for the definition holding the provided modifiers.
+     */
+    static AttributeInstance instance(AttributeDefinition definition, List<ModifierEntry> modifiers, String capKey) {
+        AttributeInstance instance = new AttributeInstance(definition, definition.defaultBaseValue(),
+                definition.defaultCurrentValue(), capKey);
+        modifiers.forEach(instance::addModifier);
+        return instance;
+    }
+}
@@ -0,0 +1,88 @@
+package me.baddcamden.attributeutils.benchmark;
+
+import me.baddcamden.attributeutils.compute.AttributeComputationEngine;
+import me.baddcamden.attributeutils.compute.BulkAttributeEvaluator;
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating one attribute for many owners with {@link AttributeComputationEngine#compute} against
+ * {@link BulkAttributeEvaluator}. Owners share a global instance with 10 modifiers and differ only in baseline and cap.
+ * Build core with {@code -P vector}, then run once as is and once with {@code --add-modules jdk.incubator.vector} in
+ * the JMH JVM arguments to compare the scalar and Vector API kernels.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkEvaluatorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int owners;
+
+    private AttributeComputationEngine engine;
+    private AttributeDefinition definition;
+    private AttributeInstance globalInstance;
+    private AttributeInstance[] ownerInstances;
+    private BulkAttributeEvaluator evaluator;
+    private double[] baselines;
+    private double[] permanentAdditives;
+    private double[] temporaryAdditives;
+    private double[] capMaxima;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        engine = new AttributeComputationEngine();
+        definition = BenchmarkFixtures.definition("bench_attribute", false);
+        globalInstance = BenchmarkFixtures.instance(definition, BenchmarkFixtures.modifiers("bench", 10, false), null);
+        evaluator = engine.bulkEvaluator(definition, globalInstance);
+
+        Random random = new Random(BenchmarkFixtures.SEED);
+        ownerInstances = new AttributeInstance[owners];
+        baselines = new double[owners];
+        permanentAdditives = new double[owners];
+        temporaryAdditives = new double[owners];
+        capMaxima = new double[owners];
+        out = new double[owners];
+        for (int i = 0; i < owners; i++) {
+            double baseline = 10.0d + random.nextDouble() * 40.0d;
+            AttributeInstance owner = new AttributeInstance(definition, baseline, baseline, null);
+            ownerInstances[i] = owner;
+            baselines[i] = owner.getCurrentBaseValue();
+            permanentAdditives[i] = engine.unrestrictedCurrentAdditives(definition, globalInstance, owner, false);
+            temporaryAdditives[i] = engine.unrestrictedCurrentAdditives(definition, globalInstance, owner, true);
+            capMaxima[i] = definition.capConfig().resolveMax(owner.getCapOverrideKey());
+        }
+    }
+
+    @Benchmark
+    public void computePerOwner(Blackhole blackhole) {
+        for (AttributeInstance owner : ownerInstances) {
+            blackhole.consume(engine.compute(definition, globalInstance, owner, null, null).currentFinal());
+        }
+    }
+
+    @Benchmark
+    public double[] bulkEvaluate() {
+        evaluator.evaluateCurrentFinal(baselines, permanentAdditives, temporaryAdditives, capMaxima, out);
+        return out;
+    }
+}
@@ -0,0 +1,69 @@
+package me.baddcamden.attributeutils.benchmark;
+
+import me.baddcamden.attributeutils.model.CapConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CapConfig#clamp(double, String)} with no key, a matching override key, and a missing key across
+ * override map sizes. Keys are passed upper-cased, as player ids often are, so normalization cost is included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CapConfigBenchmark {
+
+    @Param({"0", "16", "1024"})
+    public int overrideCount;
+
+    private CapConfig capConfig;
+    private String hitKey;
+    private String missKey;
+    private double value;
+
+    @Setup
+    public void setUp() {
+        Map<String, Double> overrides = new LinkedHashMap<>();
+        for (int i = 0; i < overrideCount; i++) {
+            overrides.put(UUID.nameUUIDFromBytes(("player-" + i).getBytes()).toString(), 40.0d + i);
+        }
+        capConfig = new CapConfig(0.0d, 100.0d, overrides);
+        hitKey = overrideCount == 0
+                ? "missing"
+                : UUID.nameUUIDFromBytes(("player-" + (overrideCount / 2)).getBytes()).toString().toUpperCase();
+        missKey = UUID.nameUUIDFromBytes("absent".getBytes()).toString().toUpperCase();
+        value = 75.0d;
+    }
+
+    @Benchmark
+    public double clampGlobal() {
+        return capConfig.clamp(value);
+    }
+
+    @Benchmark
+    public double clampOverrideHit() {
+        return capConfig.clamp(value, hitKey);
+    }
+
+    @Benchmark
+    public double clampOverrideMiss() {
+        return capConfig.clamp(value, missKey);
+    }
+}
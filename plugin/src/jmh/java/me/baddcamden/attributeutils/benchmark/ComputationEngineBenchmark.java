@@ -0,0 +1,71 @@
+package me.baddcamden.attributeutils.benchmark;
+
+import me.baddcamden.attributeutils.compute.AttributeComputationEngine;
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeInstance;
+import me.baddcamden.attributeutils.model.AttributeValueStages;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AttributeComputationEngine#compute} across modifier counts, keyed versus unkeyed additives, and
+ * dynamic versus static definitions. Modifiers are split between a global and a player instance so the merge path is
+ * exercised as it is on a live server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComputationEngineBenchmark {
+
+    @Param({"0", "1", "10", "50", "100", "500"})
+    public int modifierCount;
+
+    @Param({"false", "true"})
+    public boolean keyedAdditives;
+
+    @Param({"false", "true"})
+    public boolean dynamic;
+
+    private AttributeComputationEngine engine;
+    private AttributeDefinition definition;
+    private AttributeInstance globalInstance;
+    private AttributeInstance playerInstance;
+
+    @Setup
+    public void setUp() {
+        engine = new AttributeComputationEngine();
+        definition = BenchmarkFixtures.definition("bench_attribute", dynamic);
+        List<ModifierEntry> modifiers = BenchmarkFixtures.modifiers("bench", modifierCount, keyedAdditives);
+        int split = modifiers.size() / 2;
+        globalInstance = BenchmarkFixtures.instance(definition, modifiers.subList(0, split), null);
+        playerInstance = BenchmarkFixtures.instance(definition, modifiers.subList(split, modifiers.size()),
+                UUID.nameUUIDFromBytes(new byte[]{1}).toString());
+    }
+
+    @Benchmark
+    public AttributeValueStages computeGlobalAndPlayer() {
+        return engine.compute(definition, globalInstance, playerInstance, null, null);
+    }
+
+    @Benchmark
+    public AttributeValueStages computeGlobalOnly() {
+        return engine.compute(definition, globalInstance, null, null, null);
+    }
+}
@@ -0,0 +1,66 @@
+package me.baddcamden.attributeutils.benchmark;
+
+import me.baddcamden.attributeutils.model.MultiplierApplicability;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MultiplierApplicability#canApply(String)} for allow-all, opt-in, and opt-out configurations with
+ * keys that hit and miss the configured sets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiplierApplicabilityBenchmark {
+
+    @Param({"allow-all", "opt-in", "opt-out"})
+    public String mode;
+
+    @Param({"4", "64"})
+    public int configuredKeys;
+
+    private MultiplierApplicability applicability;
+    private String hitKey;
+    private String missKey;
+
+    @Setup
+    public void setUp() {
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < configuredKeys; i++) {
+            keys.add("bench.multiplier_" + i);
+        }
+        applicability = switch (mode) {
+            case "opt-in" -> MultiplierApplicability.optIn(keys);
+            case "opt-out" -> MultiplierApplicability.optOut(keys);
+            default -> MultiplierApplicability.allowAllMultipliers();
+        };
+        hitKey = "Bench.Multiplier_" + (configuredKeys / 2);
+        missKey = "Other.Multiplier";
+    }
+
+    @Benchmark
+    public boolean canApplyHit() {
+        return applicability.canApply(hitKey);
+    }
+
+    @Benchmark
+    public boolean canApplyMiss() {
+        return applicability.canApply(missKey);
+    }
+}
@@ -0,0 +1,135 @@
+package me.baddcamden.attributeutils.simulation;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.mockito.Answers;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Backing state for a mocked {@link AttributeInstance}. Modifiers are keyed by id and duplicate adds fail the way the
+ * server implementation does, so double-application bugs surface in the simulation instead of being hidden. Every
+ * mutation is counted; on a real server each one becomes an attribute update packet.
+ */
+final class FakeAttributeInstance {
+
+    private final Attribute attribute;
+    private final double defaultValue;
+    private final Map<UUID, AttributeModifier> modifiers = new LinkedHashMap<>();
+    private final MutationCounter mutations;
+    private double baseValue;
+
+    private FakeAttributeInstance(Attribute attribute, double defaultValue, MutationCounter mutations) {
+        this.attribute = attribute;
+        this.defaultValue = defaultValue;
+        this.baseValue = defaultValue;
+        this.mutations = mutations;
+    }
+
+    /**
+     * Creates a mocked attribute instance backed by fresh state.
+     */
+    static AttributeInstance create(Attribute attribute, double defaultValue, MutationCounter mutations) {
+        FakeAttributeInstance state = new FakeAttributeInstance(attribute, defaultValue, mutations);
+        return HeadlessServer.stub(AttributeInstance.class, state::answer);
+    }
+
+    private Object answer(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "getAttribute":
+                return attribute;
+            case "getBaseValue":
+                return baseValue;
+            case "setBaseValue":
+                baseValue = (double) args[0];
+                mutations.increment();
+                return null;
+            case "getDefaultValue":
+                return defaultValue;
+            case "getValue":
+                return value();
+            case "getModifiers":
+                return new ArrayList<>(modifiers.values());
+            case "getModifier":
+                return args[0] instanceof NamespacedKey key ? findByKey(key) : null;
+            case "addModifier":
+            case "addTransientModifier":
+                AttributeModifier added = (AttributeModifier) args[0];
+                if (modifiers.putIfAbsent(added.getUniqueId(), added) != null) {
+                    throw new IllegalArgumentException("Modifier is already applied on this attribute!");
+                }
+                mutations.increment();
+                return null;
+            case "removeModifier":
+                if (remove(args[0])) {
+                    mutations.increment();
+                }
+                return null;
+            default:
+                return Answers.RETURNS_DEFAULTS.answer(invocation);
+        }
+    }
+
+    private boolean remove(Object target) {
+        if (target instanceof AttributeModifier modifier) {
+            return modifiers.remove(modifier.getUniqueId()) != null;
+        }
+        if (target instanceof UUID id) {
+            return modifiers.remove(id) != null;
+        }
+        if (target instanceof NamespacedKey key) {
+            AttributeModifier modifier = findByKey(key);
+            return modifier != null && modifiers.remove(modifier.getUniqueId()) != null;
+        }
+        return false;
+    }
+
+    private AttributeModifier findByKey(NamespacedKey key) {
+        for (AttributeModifier modifier : modifiers.values()) {
+            if (key.equals(modifier.getKey())) {
+                return modifier;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Applies modifiers in vanilla order: additions, then base-scaled additions, then compounding multipliers.
+     */
+    private double value() {
+        double additive = 0.0d;
+        double scalar = 0.0d;
+        double multiplier = 1.0d;
+        for (AttributeModifier modifier : modifiers.values()) {
+            switch (modifier.getOperation()) {
+                case ADD_NUMBER -> additive += modifier.getAmount();
+                case ADD_SCALAR -> scalar += modifier.getAmount();
+                case MULTIPLY_SCALAR_1 -> multiplier *= 1.0d + modifier.getAmount();
+            }
+        }
+        double base = baseValue + additive;
+        return (base + base * scalar) * multiplier;
+    }
+
+    /**
+     * Shared count of mutations across every fake instance.
+     */
+    static final class MutationCounter {
+        private long count;
+
+        void increment() {
+            count++;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
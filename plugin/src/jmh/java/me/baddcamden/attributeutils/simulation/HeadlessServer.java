@@ -0,0 +1,254 @@
+package me.baddcamden.attributeutils.simulation;
+
+import me.baddcamden.attributeutils.handler.AttributeRefreshDispatcher;
+import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
+import me.baddcamden.attributeutils.listener.AttributeListener;
+import me.baddcamden.attributeutils.simulation.SubsystemProfiler.Subsystem;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.Server;
+import org.bukkit.UnsafeValues;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Minimal single-threaded stand-in for a Bukkit server: a {@link Server} with one world, a registry that hands out
+ * keyed mocks (so registry-backed constants such as {@code Attribute.MAX_HEALTH} resolve without a running server), a
+ * {@link Plugin}, and a {@link BukkitScheduler} whose tasks run when {@link #runScheduledTasks()} is called.
+ *
+ * <p>Scheduled tasks are charged to a {@link Subsystem} based on the class that created them, so the dispatcher flush
+ * and the entity tick show up separately even though both are private methods.</p>
+ */
+final class HeadlessServer {
+
+    private static final String PLUGIN_NAME = "AttributeUtils";
+
+    private final SubsystemProfiler profiler;
+    private final Logger logger;
+    private final Server server;
+    private final Plugin plugin;
+    private final World world;
+    private final BukkitTask oneShotTask = stub(BukkitTask.class, Answers.RETURNS_DEFAULTS);
+    private final Map<UUID, Player> players = new LinkedHashMap<>();
+    private final Queue<Runnable> pendingTasks = new ArrayDeque<>();
+    private final List<RepeatingTask> repeatingTasks = new ArrayList<>();
+    private final Map<Class<?>, Registry<?>> registries = new ConcurrentHashMap<>();
+
+    HeadlessServer(SubsystemProfiler profiler, Logger logger) {
+        this.profiler = profiler;
+        this.logger = logger;
+        this.world = stub(World.class, this::answerWorld);
+        BukkitScheduler scheduler = stub(BukkitScheduler.class, this::answerScheduler);
+        UnsafeValues unsafe = stub(UnsafeValues.class, HeadlessServer::answerUnsafe);
+        this.server = stub(Server.class, invocation -> answerServer(invocation, scheduler, unsafe));
+        this.plugin = stub(Plugin.class, this::answerPlugin);
+        Bukkit.setServer(server);
+    }
+
+    /**
+     * Creates a Mockito mock that records no invocations, so long simulations do not accumulate invocation history.
+     */
+    static <T> T stub(Class<T> type, Answer<Object> answer) {
+        return Mockito.mock(type, Mockito.withSettings().stubOnly().defaultAnswer(answer));
+    }
+
+    Plugin plugin() {
+        return plugin;
+    }
+
+    Logger logger() {
+        return logger;
+    }
+
+    void addPlayer(Player player) {
+        players.put(player.getUniqueId(), player);
+    }
+
+    Collection<Player> players() {
+        return Collections.unmodifiableCollection(players.values());
+    }
+
+    int pendingTaskCount() {
+        return pendingTasks.size();
+    }
+
+    /**
+     * Runs tasks queued before this call followed by every repeating task, mirroring the scheduler heartbeat at the
+     * start of a server tick. Tasks queued while running are deferred to the next call.
+     */
+    void runScheduledTasks() {
+        int queued = pendingTasks.size();
+        for (int i = 0; i < queued; i++) {
+            Runnable task = pendingTasks.poll();
+            profiler.measure(classify(task), task);
+        }
+        for (RepeatingTask task : List.copyOf(repeatingTasks)) {
+            if (!task.cancelled) {
+                profiler.measure(task.subsystem, task.runnable);
+            }
+        }
+    }
+
+    private Subsystem classify(Runnable task) {
+        String owner = task.getClass().getName();
+        if (owner.startsWith(AttributeRefreshDispatcher.class.getName())) {
+            return Subsystem.DISPATCHER_FLUSH;
+        }
+        if (owner.startsWith(AttributeListener.class.getName())) {
+            return Subsystem.LISTENER;
+        }
+        if (owner.startsWith(EntityAttributeHandler.class.getName())) {
+            return Subsystem.ENTITY_TICK;
+        }
+        return Subsystem.OTHER_TASKS;
+    }
+
+    private Object answerServer(InvocationOnMock invocation, BukkitScheduler scheduler, UnsafeValues unsafe) throws Throwable {
+        Object[] args = invocation.getArguments();
+        return switch (invocation.getMethod().getName()) {
+            case "getScheduler" -> scheduler;
+            case "getUnsafe" -> unsafe;
+            case "getLogger" -> logger;
+            case "getName" -> "HeadlessServer";
+            case "getVersion", "getBukkitVersion" -> "simulation";
+            case "getOnlinePlayers" -> players();
+            case "getWorlds" -> List.of(world);
+            case "getEntity" -> players.get((UUID) args[0]);
+            case "getPlayer" -> args[0] instanceof UUID id ? players.get(id) : null;
+            case "isPrimaryThread" -> true;
+            case "getRegistry" -> registries.computeIfAbsent((Class<?>) args[0], this::keyedRegistry);
+            default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+        };
+    }
+
+    /**
+     * Registry lookups for legacy enum-style names ({@code Attribute.valueOf}) route through the unsafe values.
+     */
+    private static Object answerUnsafe(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        if ("get".equals(invocation.getMethod().getName()) && args.length == 2
+                && args[0] instanceof Registry<?> registry && args[1] instanceof NamespacedKey key) {
+            return registry.get(key);
+        }
+        return Answers.RETURNS_DEFAULTS.answer(invocation);
+    }
+
+    private Object answerWorld(InvocationOnMock invocation) throws Throwable {
+        return switch (invocation.getMethod().getName()) {
+            case "getLivingEntities" -> List.<LivingEntity>copyOf(players.values());
+            case "getPlayers" -> List.copyOf(players.values());
+            case "getName" -> "world";
+            default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+        };
+    }
+
+    private Object answerPlugin(InvocationOnMock invocation) throws Throwable {
+        return switch (invocation.getMethod().getName()) {
+            case "getName" -> PLUGIN_NAME;
+            case "getServer" -> server;
+            case "getLogger" -> logger;
+            case "isEnabled" -> true;
+            default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+        };
+    }
+
+    private Object answerScheduler(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        String name = invocation.getMethod().getName();
+        if (args.length < 2 || !(args[1] instanceof Runnable runnable)) {
+            return Answers.RETURNS_DEFAULTS.answer(invocation);
+        }
+        switch (name) {
+            case "runTask", "runTaskLater":
+                // Delays are not modelled; every one-shot task runs on the next heartbeat.
+                pendingTasks.add(runnable);
+                return oneShotTask;
+            case "runTaskTimer":
+                RepeatingTask repeating = new RepeatingTask(runnable, classify(runnable));
+                repeatingTasks.add(repeating);
+                return stub(BukkitTask.class, task -> {
+                    if (task.getMethod().getName().equals("cancel")) {
+                        repeating.cancelled = true;
+                        repeatingTasks.remove(repeating);
+                        return null;
+                    }
+                    if (task.getMethod().getName().equals("isCancelled")) {
+                        return repeating.cancelled;
+                    }
+                    return Answers.RETURNS_DEFAULTS.answer(task);
+                });
+            case "runTaskAsynchronously":
+                // Asynchronous work (persistence) is outside the measured refresh path; run it inline, unmeasured.
+                runnable.run();
+                return oneShotTask;
+            default:
+                logger.log(Level.FINE, "Ignoring unsupported scheduler call " + name);
+                return Answers.RETURNS_DEFAULTS.answer(invocation);
+        }
+    }
+
+    /**
+     * Builds a registry whose lookups return one cached mock per key, so identity-based comparisons of registry
+     * constants behave as they do on a real server.
+     */
+    private Registry<?> keyedRegistry(Class<?> type) {
+        Map<NamespacedKey, Object> entries = new ConcurrentHashMap<>();
+        return stub(Registry.class, invocation -> {
+            Object[] args = invocation.getArguments();
+            return switch (invocation.getMethod().getName()) {
+                case "get", "getOrThrow", "match" -> {
+                    NamespacedKey key = args[0] instanceof NamespacedKey namespacedKey
+                            ? namespacedKey
+                            : NamespacedKey.fromString(String.valueOf(args[0]).toLowerCase(java.util.Locale.ROOT));
+                    yield key == null ? null : entries.computeIfAbsent(key, ignored -> keyedConstant(type, key));
+                }
+                case "iterator" -> List.copyOf(entries.values()).iterator();
+                case "stream" -> List.copyOf(entries.values()).stream();
+                default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+            };
+        });
+    }
+
+    private static Object keyedConstant(Class<?> type, NamespacedKey key) {
+        String name = key.getKey().toUpperCase(java.util.Locale.ROOT);
+        return stub(type, invocation -> switch (invocation.getMethod().getName()) {
+            case "getKey", "getKeyOrThrow" -> key;
+            case "name", "toString" -> name;
+            case "getTranslationKey" -> "attribute.name." + key.getKey();
+            default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+
+    private static final class RepeatingTask {
+        private final Runnable runnable;
+        private final Subsystem subsystem;
+        private boolean cancelled;
+
+        private RepeatingTask(Runnable runnable, Subsystem subsystem) {
+            this.runnable = runnable;
+            this.subsystem = subsystem;
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package me.baddcamden.attributeutils.simulation;
+
+import me.baddcamden.attributeutils.VanillaAttributeResolver;
+import me.baddcamden.attributeutils.api.AttributeChangeNotifier;
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.compute.AttributeComputationEngine;
+import me.baddcamden.attributeutils.handler.AttributeRefreshDispatcher;
+import me.baddcamden.attributeutils.listener.AttributeListener;
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeDefinitionFactory;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.model.ModifierOperation;
+import me.baddcamden.attributeutils.scheduler.BukkitTaskScheduler;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+import me.baddcamden.attributeutils.simulation.ProfiledComponents.ProfiledEntityHandler;
+import me.baddcamden.attributeutils.simulation.ProfiledComponents.ProfiledFacade;
+import me.baddcamden.attributeutils.simulation.ProfiledComponents.ProfiledItemHandler;
+import me.baddcamden.attributeutils.simulation.SubsystemProfiler.Distribution;
+import me.baddcamden.attributeutils.simulation.SubsystemProfiler.Subsystem;
+import me.baddcamden.attributeutils.simulation.SubsystemProfiler.Summary;
+import org.bukkit.Location;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.mockito.Answers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Drives synthetic players through the full refresh path without a server: listener events, item scans, facade
+ * mutations, dispatcher flushes, and vanilla attribute application. Bukkit types are Mockito mocks backed by small
+ * in-memory fakes; the plugin classes are the production implementations, wrapped only to attribute CPU time and
+ * allocation per subsystem.
+ *
+ * <p>Each simulated tick runs the scheduler heartbeat (queued tasks, then the entity tick) and then fires the events
+ * generated for that tick. Events are drawn from a weighted mix and change the player's inventory before the listener
+ * sees them. Options:</p>
+ * <pre>
+ *   --players N        synthetic players (default 100)
+ *   --ticks N          measured ticks (default 1200)
+ *   --warmup N         unmeasured ticks run first (default 400)
+ *   --event-rate R     events per player per tick (default 0.05)
+ *   --mix SPEC         weights, e.g. held=40,click=25,swap=10,drop=5,pickup=10,modifier=10
+ *   --items N          distinct items in the pool (default 64)
+ *   --fill R           fraction of inventory slots holding an item (default 0.5)
+ *   --seed N           random seed (default 0x5EED)
+ * </pre>
+ *
+ * <p>Figures include the cost of Mockito dispatch for the mocked Bukkit calls, so compare runs against each other
+ * rather than against a live server.</p>
+ */
+public final class HeadlessTickSimulation {
+
+    /**
+     * Kinds of activity a synthetic player can generate.
+     */
+    enum EventKind {
+        HELD, CLICK, SWAP, DROP, PICKUP, MODIFIER
+    }
+
+    private static final String DEFAULT_MIX = "held=40,click=25,swap=10,drop=5,pickup=10,modifier=10";
+    private static final int MODIFIER_KEY_SPREAD = 4;
+
+    private final Options options;
+    private final SplittableRandom random;
+    private final SubsystemProfiler profiler;
+    private final HeadlessServer server;
+    private final FakeAttributeInstance.MutationCounter mutations = new FakeAttributeInstance.MutationCounter();
+    private final AttributeFacade attributeFacade;
+    private final ProfiledEntityHandler entityAttributeHandler;
+    private final AttributeListener listener;
+    private final List<String> itemAttributeIds = new ArrayList<>();
+    private final List<SimulatedPlayer> players = new ArrayList<>();
+    private final EventKind[] eventTable;
+    private int maxPendingTasks;
+
+    private HeadlessTickSimulation(Options options) throws IOException {
+        this.options = options;
+        this.random = new SplittableRandom(options.seed());
+        this.profiler = new SubsystemProfiler(options.ticks());
+        Logger logger = Logger.getLogger("AttributeUtils-Simulation");
+        logger.setLevel(Level.WARNING);
+        this.server = new HeadlessServer(profiler, logger);
+
+        YamlConfiguration config = loadBundledConfig();
+        this.attributeFacade = new ProfiledFacade(server.plugin(), new AttributeComputationEngine(), profiler);
+        Map<String, AttributeDefinition> definitions = AttributeDefinitionFactory.vanillaAttributes(config);
+        definitions.values().forEach(attributeFacade::registerDefinition);
+
+        Map<String, Attribute> vanillaTargets = new HashMap<>();
+        Map<Attribute, Double> attributeDefaults = new HashMap<>();
+        registerVanillaBaselines(config, vanillaTargets, attributeDefaults);
+
+        TaskScheduler scheduler = new BukkitTaskScheduler(server.plugin());
+        this.entityAttributeHandler = new ProfiledEntityHandler(attributeFacade, server.plugin(), vanillaTargets, scheduler,
+                profiler);
+        ProfiledItemHandler itemAttributeHandler = new ProfiledItemHandler(attributeFacade, server.plugin(),
+                entityAttributeHandler, profiler);
+        attributeFacade.setAttributeRefreshListener(new AttributeRefreshDispatcher(server.plugin(), scheduler, entityAttributeHandler,
+                attributeFacade.getMetrics()));
+        // Persistence is only used by join/quit handlers, which the simulation does not fire.
+        this.listener = new AttributeListener(scheduler, attributeFacade, null, itemAttributeHandler,
+                entityAttributeHandler, new AttributeChangeNotifier(server.plugin(), scheduler));
+
+        vanillaTargets.keySet().stream().sorted().forEach(itemAttributeIds::add);
+        SyntheticItems items = new SyntheticItems(server.plugin(), itemAttributeIds, options.items(), random);
+        Location eyeLocation = dryLocation();
+        for (int i = 0; i < options.players(); i++) {
+            SyntheticPlayer synthetic = new SyntheticPlayer(i, eyeLocation, attributeDefaults, mutations);
+            synthetic.equip(items, random, options.fill());
+            server.addPlayer(synthetic.player());
+            players.add(new SimulatedPlayer(synthetic, items));
+        }
+        this.eventTable = buildEventTable(options.mix());
+    }
+
+    /**
+     * Runs the simulation and prints the per-subsystem report to standard out.
+     *
+     * @param args options described in the class documentation
+     */
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        HeadlessTickSimulation simulation = new HeadlessTickSimulation(options);
+        simulation.run(System.out);
+    }
+
+    private void run(PrintStream out) {
+        // Joining applies every player's inventory once, as the join handler does after loading.
+        for (SimulatedPlayer simulated : players) {
+            listener.onItemHeld(simulated.heldEvent);
+        }
+
+        for (int tick = 0; tick < options.warmup(); tick++) {
+            runTick();
+        }
+
+        long mutationsBefore = mutations.count();
+        long suppressedBefore = entityAttributeHandler.getSuppressedMutationCount();
+        long start = System.nanoTime();
+        for (int tick = 0; tick < options.ticks(); tick++) {
+            profiler.beginTick();
+            runTick();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        printReport(out, profiler.report(), elapsed,
+                mutations.count() - mutationsBefore,
+                entityAttributeHandler.getSuppressedMutationCount() - suppressedBefore);
+    }
+
+    private void runTick() {
+        server.runScheduledTasks();
+        int events = eventsThisTick();
+        for (int i = 0; i < events; i++) {
+            SimulatedPlayer simulated = players.get(random.nextInt(players.size()));
+            fire(simulated, eventTable[random.nextInt(eventTable.length)]);
+        }
+        maxPendingTasks = Math.max(maxPendingTasks, server.pendingTaskCount());
+    }
+
+    /**
+     * Spreads the fractional part of the expected event count across ticks so low rates still produce events.
+     */
+    private int eventsThisTick() {
+        double expected = options.players() * options.eventRate();
+        int whole = (int) expected;
+        return whole + (random.nextDouble() < expected - whole ? 1 : 0);
+    }
+
+    private void fire(SimulatedPlayer simulated, EventKind kind) {
+        SyntheticPlayer synthetic = simulated.synthetic;
+        switch (kind) {
+            case HELD -> {
+                synthetic.selectHotbarSlot(random);
+                profiler.measure(Subsystem.LISTENER, () -> listener.onItemHeld(simulated.heldEvent));
+            }
+            case CLICK -> {
+                synthetic.moveItem(random);
+                profiler.measure(Subsystem.LISTENER, () -> listener.onInventoryClick(simulated.clickEvent));
+            }
+            case SWAP -> {
+                synthetic.swapHands();
+                profiler.measure(Subsystem.LISTENER, () -> listener.onSwapHands(simulated.swapEvent));
+            }
+            case DROP -> {
+                synthetic.dropItem(random);
+                profiler.measure(Subsystem.LISTENER, () -> listener.onPlayerDropItem(simulated.dropEvent));
+            }
+            case PICKUP -> {
+                synthetic.pickUp(simulated.items, random);
+                profiler.measure(Subsystem.LISTENER, () -> listener.onEntityPickupItem(simulated.pickupEvent));
+            }
+            case MODIFIER -> {
+                // Stands in for commands and other plugins calling the API directly.
+                String attributeId = itemAttributeIds.get(random.nextInt(itemAttributeIds.size()));
+                ModifierEntry entry = new ModifierEntry("simulation.buff_" + random.nextInt(MODIFIER_KEY_SPREAD),
+                        ModifierOperation.ADD, random.nextDouble(0.1d, 2.0d), true, false, true, false, Set.of());
+                attributeFacade.setPlayerModifier(synthetic.id(), attributeId, entry);
+            }
+        }
+    }
+
+    /**
+     * Mirrors the plugin's vanilla baseline registration for the {@code attribute} and {@code static} providers. The
+     * equipment-derived fallbacks used before attributes are hydrated are not needed here: every synthetic player has
+     * live attribute instances.
+     */
+    private void registerVanillaBaselines(YamlConfiguration config,
+                                          Map<String, Attribute> vanillaTargets,
+                                          Map<Attribute, Double> attributeDefaults) {
+        ConfigurationSection defaults = config.getConfigurationSection("vanilla-attribute-defaults");
+        if (defaults == null) {
+            throw new IllegalStateException("Bundled config.yml has no vanilla-attribute-defaults section");
+        }
+        for (String key : defaults.getKeys(false)) {
+            ConfigurationSection entry = defaults.getConfigurationSection(key);
+            if (entry == null || !entry.isSet("default-base")) {
+                continue;
+            }
+            double defaultBase = entry.getDouble("default-base");
+            String attributeId = key.toLowerCase(Locale.ROOT).replace('-', '_');
+            if ("static".equalsIgnoreCase(entry.getString("provider", "attribute"))) {
+                attributeFacade.registerVanillaBaseline(attributeId, player -> defaultBase);
+                continue;
+            }
+
+            Attribute attribute = resolveAttribute(entry.getStringList("bukkit-attributes"));
+            if (attribute == null) {
+                attributeFacade.registerVanillaBaseline(attributeId, player -> defaultBase);
+                continue;
+            }
+            vanillaTargets.put(attributeId, attribute);
+            attributeDefaults.put(attribute, defaultBase);
+            attributeFacade.registerVanillaBaseline(attributeId,
+                    player -> VanillaAttributeResolver.resolvePlayerAttribute(player, attribute, defaultBase, null));
+        }
+    }
+
+    private static Attribute resolveAttribute(List<String> candidates) {
+        for (String candidate : candidates) {
+            try {
+                return Attribute.valueOf(candidate);
+            } catch (IllegalArgumentException ignored) {
+                // try the next candidate
+            }
+        }
+        return null;
+    }
+
+    private static YamlConfiguration loadBundledConfig() throws IOException {
+        try (InputStream stream = HeadlessTickSimulation.class.getResourceAsStream("/config.yml")) {
+            if (stream == null) {
+                throw new IllegalStateException("config.yml is not on the classpath; run with the test classpath");
+            }
+            return YamlConfiguration.loadConfiguration(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * A location whose block is never liquid, so swim speed stays at its dry value.
+     */
+    private static Location dryLocation() {
+        Block block = HeadlessServer.stub(Block.class, invocation -> "isLiquid".equals(invocation.getMethod().getName())
+                ? Boolean.FALSE
+                : Answers.RETURNS_DEFAULTS.answer(invocation));
+        return HeadlessServer.stub(Location.class, invocation -> "getBlock".equals(invocation.getMethod().getName())
+                ? block
+                : Answers.RETURNS_DEFAULTS.answer(invocation));
+    }
+
+    private static EventKind[] buildEventTable(Map<EventKind, Integer> mix) {
+        List<EventKind> table = new ArrayList<>();
+        mix.forEach((kind, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(kind);
+            }
+        });
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("Event mix must contain at least one positive weight");
+        }
+        return table.toArray(EventKind[]::new);
+    }
+
+    private void printReport(PrintStream out, SubsystemProfiler.Report report, long elapsedNanos, long instanceMutations,
+                             long suppressedMutations) {
+        out.printf(Locale.ROOT, "Headless tick simulation: %d players, %d measured ticks (%d warm-up), %.3f events/player/tick%n",
+                options.players(), report.ticks(), options.warmup(), options.eventRate());
+        out.printf(Locale.ROOT, "Event mix: %s%n%n", options.mix());
+        out.printf(Locale.ROOT, "%-48s %9s | %9s %9s %9s %9s %9s | %10s %10s %10s%n",
+                "subsystem (exclusive)", "calls/t", "cpu us", "p50", "p95", "p99", "max", "alloc KB", "p95", "max");
+        for (Summary summary : report.subsystems()) {
+            printRow(out, summary);
+        }
+        printRow(out, report.total());
+        out.println();
+        double ticks = Math.max(1, report.ticks());
+        out.printf(Locale.ROOT, "Bukkit attribute mutations: %.2f/tick, suppressed by delta cache: %.2f/tick%n",
+                instanceMutations / ticks, suppressedMutations / ticks);
+        out.printf(Locale.ROOT, "Max scheduler queue depth: %d, wall time: %.1f ms (%.3f ms/tick)%n",
+                maxPendingTasks, elapsedNanos / 1_000_000.0d, elapsedNanos / 1_000_000.0d / ticks);
+    }
+
+    private static void printRow(PrintStream out, Summary summary) {
+        Distribution cpu = summary.cpuNanos();
+        Distribution allocated = summary.allocated();
+        String calls = Double.isNaN(summary.callsPerTick()) ? "" : String.format(Locale.ROOT, "%.2f", summary.callsPerTick());
+        out.printf(Locale.ROOT, "%-48s %9s | %9.1f %9.1f %9.1f %9.1f %9.1f | %10.1f %10.1f %10.1f%n",
+                summary.label(), calls,
+                cpu.mean() / 1_000.0d, cpu.p50() / 1_000.0d, cpu.p95() / 1_000.0d, cpu.p99() / 1_000.0d, cpu.max() / 1_000.0d,
+                allocated.mean() / 1_024.0d, allocated.p95() / 1_024.0d, allocated.max() / 1_024.0d);
+    }
+
+    /**
+     * A synthetic player with reusable event mocks for each event kind the listener handles.
+     */
+    private static final class SimulatedPlayer {
+        private final SyntheticPlayer synthetic;
+        private final SyntheticItems items;
+        private final PlayerItemHeldEvent heldEvent;
+        private final InventoryClickEvent clickEvent;
+        private final PlayerSwapHandItemsEvent swapEvent;
+        private final PlayerDropItemEvent dropEvent;
+        private final EntityPickupItemEvent pickupEvent;
+
+        private SimulatedPlayer(SyntheticPlayer synthetic, SyntheticItems items) {
+            this.synthetic = synthetic;
+            this.items = items;
+            Player player = synthetic.player();
+            this.heldEvent = event(PlayerItemHeldEvent.class, player);
+            this.clickEvent = event(InventoryClickEvent.class, player);
+            this.swapEvent = event(PlayerSwapHandItemsEvent.class, player);
+            this.dropEvent = event(PlayerDropItemEvent.class, player);
+            this.pickupEvent = event(EntityPickupItemEvent.class, player);
+        }
+
+        private static <T> T event(Class<T> type, Player player) {
+            return HeadlessServer.stub(type, invocation -> switch (invocation.getMethod().getName()) {
+                case "getPlayer", "getWhoClicked", "getEntity" -> player;
+                default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+            });
+        }
+    }
+
+    /**
+     * Parsed command-line options.
+     */
+    record Options(int players, int ticks, int warmup, double eventRate, Map<EventKind, Integer> mix, int items,
+                   double fill, long seed) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+                int equals = arg.indexOf('=');
+                if (equals > 0) {
+                    values.put(arg.substring(2, equals), arg.substring(equals + 1));
+                } else if (i + 1 < args.length) {
+                    values.put(arg.substring(2), args[++i]);
+                } else {
+                    throw new IllegalArgumentException("Missing value for " + arg);
+                }
+            }
+
+            Options options = new Options(
+                    Integer.parseInt(values.getOrDefault("players", "100")),
+                    Integer.parseInt(values.getOrDefault("ticks", "1200")),
+                    Integer.parseInt(values.getOrDefault("warmup", "400")),
+                    Double.parseDouble(values.getOrDefault("event-rate", "0.05")),
+                    parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                    Integer.parseInt(values.getOrDefault("items", "64")),
+                    Double.parseDouble(values.getOrDefault("fill", "0.5")),
+                    Long.decode(values.getOrDefault("seed", "0x5EED")));
+            if (options.players() <= 0 || options.ticks() <= 0 || options.warmup() < 0 || options.items() <= 0) {
+                throw new IllegalArgumentException("players, ticks and items must be positive; warmup must not be negative");
+            }
+            if (options.eventRate() < 0 || options.fill() < 0 || options.fill() > 1) {
+                throw new IllegalArgumentException("event-rate must not be negative and fill must be within [0, 1]");
+            }
+            return options;
+        }
+
+        private static Map<EventKind, Integer> parseMix(String spec) {
+            Map<EventKind, Integer> mix = new EnumMap<>(EventKind.class);
+            for (String part : spec.split(",")) {
+                String[] pair = part.trim().split("=", 2);
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid mix entry '" + part + "'; expected kind=weight");
+                }
+                EventKind kind = EventKind.valueOf(pair[0].trim().toUpperCase(Locale.ROOT));
+                int weight = Integer.parseInt(pair[1].trim());
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Mix weights must not be negative: " + part);
+                }
+                mix.put(kind, weight);
+            }
+            return mix;
+        }
+    }
+}
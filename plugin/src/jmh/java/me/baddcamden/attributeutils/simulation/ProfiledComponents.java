@@ -0,0 +1,159 @@
+package me.baddcamden.attributeutils.simulation;
+
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.compute.AttributeComputationEngine;
+import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
+import me.baddcamden.attributeutils.handler.item.ItemAttributeHandler;
+import me.baddcamden.attributeutils.metrics.TraceRecorder;
+import me.baddcamden.attributeutils.model.AttributeValueStages;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+import me.baddcamden.attributeutils.simulation.SubsystemProfiler.Subsystem;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Production components with their public entry points wrapped in {@link SubsystemProfiler} sections. Only the
+ * measurement is added; every override delegates straight to the real implementation.
+ */
+final class ProfiledComponents {
+
+    private ProfiledComponents() {
+    }
+
+    /**
+     * Facade charging modifier mutations and computations to their own subsystems.
+     */
+    static final class ProfiledFacade extends AttributeFacade {
+
+        private final SubsystemProfiler profiler;
+
+        ProfiledFacade(Plugin plugin, AttributeComputationEngine computationEngine, SubsystemProfiler profiler) {
+            super(plugin, computationEngine);
+            this.profiler = profiler;
+        }
+
+        @Override
+        public AttributeValueStages compute(String id, Player player) {
+            profiler.enter(Subsystem.COMPUTE);
+            try {
+                return super.compute(id, player);
+            } finally {
+                profiler.exit();
+            }
+        }
+
+        @Override
+        public AttributeValueStages compute(String id, UUID ownerId, Player player) {
+            profiler.enter(Subsystem.COMPUTE);
+            try {
+                return super.compute(id, ownerId, player);
+            } finally {
+                profiler.exit();
+            }
+        }
+
+        @Override
+        public void setPlayerModifier(UUID playerId, String attributeId, ModifierEntry entry) {
+            profiler.enter(Subsystem.FACADE_MUTATION);
+            try {
+                super.setPlayerModifier(playerId, attributeId, entry);
+            } finally {
+                profiler.exit();
+            }
+        }
+
+        @Override
+        public void removePlayerModifier(UUID playerId, String attributeId, String key) {
+            profiler.enter(Subsystem.FACADE_MUTATION);
+            try {
+                super.removePlayerModifier(playerId, attributeId, key);
+            } finally {
+                profiler.exit();
+            }
+        }
+    }
+
+    /**
+     * Entity handler charging vanilla attribute application and player caps. The periodic tick is charged by the
+     * simulated scheduler because it is scheduled from a private method.
+     */
+    static final class ProfiledEntityHandler extends EntityAttributeHandler {
+
+        private final SubsystemProfiler profiler;
+
+        ProfiledEntityHandler(AttributeFacade attributeFacade,
+                              Plugin plugin,
+                              Map<String, Attribute> vanillaAttributeTargets,
+                              TaskScheduler scheduler,
+                              SubsystemProfiler profiler) {
+            super(attributeFacade, plugin, vanillaAttributeTargets, new TraceRecorder(TraceRecorder.Settings.defaults(),
+                    Path.of("target", "simulation-traces"), Logger.getLogger(ProfiledEntityHandler.class.getName()), Runnable::run),
+                    scheduler);
+            this.profiler = profiler;
+        }
+
+        @Override
+        public void applyVanillaAttribute(LivingEntity entity, String attributeId) {
+            profiler.enter(Subsystem.VANILLA_APPLY);
+            try {
+                super.applyVanillaAttribute(entity, attributeId);
+            } finally {
+                profiler.exit();
+            }
+        }
+
+        @Override
+        public void applyVanillaAttribute(Player player, String attributeId) {
+            profiler.enter(Subsystem.VANILLA_APPLY);
+            try {
+                super.applyVanillaAttribute(player, attributeId);
+            } finally {
+                profiler.exit();
+            }
+        }
+
+        @Override
+        public void applyPlayerCaps(Player player) {
+            profiler.enter(Subsystem.PLAYER_CAPS);
+            try {
+                super.applyPlayerCaps(player);
+            } finally {
+                profiler.exit();
+            }
+        }
+    }
+
+    /**
+     * Item handler charging inventory scans.
+     */
+    static final class ProfiledItemHandler extends ItemAttributeHandler {
+
+        private final SubsystemProfiler profiler;
+
+        ProfiledItemHandler(AttributeFacade attributeFacade,
+                            Plugin plugin,
+                            EntityAttributeHandler entityAttributeHandler,
+                            SubsystemProfiler profiler) {
+            super(attributeFacade, plugin, entityAttributeHandler);
+            this.profiler = profiler;
+        }
+
+        @Override
+        public void applyPersistentAttributes(LivingEntity entity) {
+            profiler.enter(Subsystem.ITEM_SCAN);
+            try {
+                super.applyPersistentAttributes(entity);
+            } finally {
+                profiler.exit();
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package me.baddcamden.attributeutils.simulation;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Charges main-thread CPU time and allocated bytes to the subsystem currently on top of a nesting stack. Time spent in
+ * a nested subsystem is subtracted from its caller, so every value is exclusive and the per-subsystem totals add up to
+ * the measured tick cost.
+ *
+ * <p>The profiler reads {@link com.sun.management.ThreadMXBean} counters for the calling thread and must only be used
+ * from the simulated main thread.</p>
+ */
+final class SubsystemProfiler {
+
+    /**
+     * Stages of the refresh path that are measured separately.
+     */
+    enum Subsystem {
+        LISTENER("AttributeListener events"),
+        ITEM_SCAN("ItemAttributeHandler.applyPersistentAttributes"),
+        FACADE_MUTATION("AttributeFacade.set/removePlayerModifier"),
+        COMPUTE("AttributeFacade.compute"),
+        DISPATCHER_FLUSH("AttributeRefreshDispatcher.flushPending"),
+        VANILLA_APPLY("EntityAttributeHandler.applyVanillaAttribute"),
+        PLAYER_CAPS("EntityAttributeHandler.applyPlayerCaps"),
+        ENTITY_TICK("EntityAttributeHandler tick"),
+        OTHER_TASKS("other scheduled tasks");
+
+        private final String label;
+
+        Subsystem(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+
+    private static final int MAX_DEPTH = 64;
+    private static final Subsystem[] SUBSYSTEMS = Subsystem.values();
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final Subsystem[] stack = new Subsystem[MAX_DEPTH];
+    private final long[] cpuNanos;
+    private final long[] allocatedBytes;
+    private final long[] calls;
+    private final int ticks;
+    private int depth;
+    private int tick = -1;
+    private long markCpu;
+    private long markAllocated;
+
+    /**
+     * @param ticks number of ticks that will be recorded; samples beyond this count are ignored
+     */
+    SubsystemProfiler(int ticks) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)) {
+            throw new IllegalStateException("JVM does not expose com.sun.management.ThreadMXBean");
+        }
+        if (!bean.isCurrentThreadCpuTimeSupported() || !bean.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("JVM does not support per-thread CPU time or allocation counters");
+        }
+        bean.setThreadCpuTimeEnabled(true);
+        bean.setThreadAllocatedMemoryEnabled(true);
+        this.threads = bean;
+        this.ticks = ticks;
+        this.cpuNanos = new long[SUBSYSTEMS.length * ticks];
+        this.allocatedBytes = new long[SUBSYSTEMS.length * ticks];
+        this.calls = new long[SUBSYSTEMS.length * ticks];
+    }
+
+    /**
+     * Starts recording the next tick. Work done before the first call is not recorded.
+     */
+    void beginTick() {
+        tick++;
+    }
+
+    /**
+     * Enters a subsystem, pausing the one currently on top of the stack. Re-entering the subsystem that is already on
+     * top (for example an overload delegating to another) is not counted as a separate call.
+     */
+    void enter(Subsystem subsystem) {
+        long cpu = threads.getCurrentThreadCpuTime();
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        Subsystem current = depth == 0 ? null : stack[depth - 1];
+        if (current != null) {
+            charge(current, cpu, allocated);
+        }
+        if (current != subsystem && recording()) {
+            calls[index(subsystem)]++;
+        }
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("Subsystem nesting exceeds " + MAX_DEPTH);
+        }
+        stack[depth++] = subsystem;
+        markCpu = cpu;
+        markAllocated = allocated;
+    }
+
+    /**
+     * Leaves the subsystem on top of the stack and resumes its caller.
+     */
+    void exit() {
+        long cpu = threads.getCurrentThreadCpuTime();
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        charge(stack[--depth], cpu, allocated);
+        stack[depth] = null;
+        markCpu = cpu;
+        markAllocated = allocated;
+    }
+
+    /**
+     * Runs the task charged to the provided subsystem.
+     */
+    void measure(Subsystem subsystem, Runnable task) {
+        enter(subsystem);
+        try {
+            task.run();
+        } finally {
+            exit();
+        }
+    }
+
+    private void charge(Subsystem subsystem, long cpu, long allocated) {
+        if (!recording()) {
+            return;
+        }
+        int index = index(subsystem);
+        cpuNanos[index] += cpu - markCpu;
+        allocatedBytes[index] += allocated - markAllocated;
+    }
+
+    private boolean recording() {
+        return tick >= 0 && tick < ticks;
+    }
+
+    private int index(Subsystem subsystem) {
+        return tick * SUBSYSTEMS.length + subsystem.ordinal();
+    }
+
+    /**
+     * Summarizes the recorded ticks per subsystem and for the whole tick.
+     */
+    Report report() {
+        int recorded = Math.min(tick + 1, ticks);
+        Summary[] summaries = new Summary[SUBSYSTEMS.length];
+        long[] totalCpu = new long[recorded];
+        long[] totalAllocated = new long[recorded];
+        for (Subsystem subsystem : SUBSYSTEMS) {
+            long[] cpu = new long[recorded];
+            long[] allocated = new long[recorded];
+            long callCount = 0;
+            for (int t = 0; t < recorded; t++) {
+                int index = t * SUBSYSTEMS.length + subsystem.ordinal();
+                cpu[t] = cpuNanos[index];
+                allocated[t] = allocatedBytes[index];
+                callCount += calls[index];
+                totalCpu[t] += cpu[t];
+                totalAllocated[t] += allocated[t];
+            }
+            summaries[subsystem.ordinal()] = new Summary(subsystem.label(), Distribution.of(cpu), Distribution.of(allocated),
+                    recorded == 0 ? 0.0d : (double) callCount / recorded);
+        }
+        return new Report(recorded, summaries, new Summary("total", Distribution.of(totalCpu), Distribution.of(totalAllocated),
+                Double.NaN));
+    }
+
+    /**
+     * Per-tick statistics for one subsystem (or the whole tick).
+     *
+     * @param label        display name
+     * @param cpuNanos     CPU time per tick in nanoseconds
+     * @param allocated    allocated bytes per tick
+     * @param callsPerTick mean number of outermost entries per tick; {@code NaN} for the total row
+     */
+    record Summary(String label, Distribution cpuNanos, Distribution allocated, double callsPerTick) {
+    }
+
+    /**
+     * @param ticks     number of ticks the summaries cover
+     * @param subsystems one summary per {@link Subsystem}, in declaration order
+     * @param total     summary of the summed per-tick cost
+     */
+    record Report(int ticks, Summary[] subsystems, Summary total) {
+    }
+
+    /**
+     * Mean and percentiles of a per-tick series.
+     */
+    record Distribution(double mean, long p50, long p95, long p99, long max) {
+
+        static Distribution of(long[] samples) {
+            if (samples.length == 0) {
+                return new Distribution(0.0d, 0L, 0L, 0L, 0L);
+            }
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            double sum = 0.0d;
+            for (long sample : sorted) {
+                sum += sample;
+            }
+            return new Distribution(sum / sorted.length, percentile(sorted, 0.50d), percentile(sorted, 0.95d),
+                    percentile(sorted, 0.99d), sorted[sorted.length - 1]);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package me.baddcamden.attributeutils.simulation;
+
+import me.baddcamden.attributeutils.handler.item.TriggerCriterion;
+import me.baddcamden.attributeutils.model.ModifierOperation;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+import org.mockito.Answers;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Pool of mocked attribute items. Each item carries one to three attribute entries encoded with the same persistent
+ * data keys {@code ItemAttributeHandler} writes, with a mix of trigger criteria and operations.
+ */
+final class SyntheticItems {
+
+    private static final TriggerCriterion[] CRITERIA = {
+            TriggerCriterion.INVENTORY,
+            TriggerCriterion.HOTBAR,
+            TriggerCriterion.HELD,
+            TriggerCriterion.EQUIPPED,
+            TriggerCriterion.OFFHAND
+    };
+
+    private final List<ItemStack> pool;
+
+    /**
+     * @param plugin       plugin whose namespace the keys use
+     * @param attributeIds attribute ids items may carry
+     * @param size         number of distinct items in the pool
+     * @param random       source of item contents
+     */
+    SyntheticItems(Plugin plugin, List<String> attributeIds, int size, SplittableRandom random) {
+        if (attributeIds.isEmpty()) {
+            throw new IllegalArgumentException("No attribute ids available for synthetic items");
+        }
+        List<ItemStack> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<NamespacedKey, Object> data = new HashMap<>();
+            int entries = 1 + random.nextInt(3);
+            for (int entry = 0; entry < entries; entry++) {
+                String id = attributeIds.get(random.nextInt(attributeIds.size()));
+                String sanitized = "attr_" + id.toLowerCase(Locale.ROOT).replace('.', '_');
+                boolean multiply = random.nextInt(4) == 0;
+                data.put(new NamespacedKey(plugin, sanitized), multiply
+                        ? 1.0d + random.nextDouble(0.01d, 0.25d)
+                        : random.nextDouble(0.5d, 5.0d));
+                data.put(new NamespacedKey(plugin, sanitized + "_criteria"),
+                        CRITERIA[random.nextInt(CRITERIA.length)].key());
+                data.put(new NamespacedKey(plugin, sanitized + "_operation"),
+                        (multiply ? ModifierOperation.MULTIPLY : ModifierOperation.ADD).name());
+            }
+            items.add(item(container(data)));
+        }
+        this.pool = List.copyOf(items);
+    }
+
+    ItemStack pick(SplittableRandom random) {
+        return pool.get(random.nextInt(pool.size()));
+    }
+
+    /**
+     * Creates an empty persistent data container for entities that do not carry attribute data.
+     */
+    static PersistentDataContainer emptyContainer() {
+        return container(new HashMap<>());
+    }
+
+    private static ItemStack item(PersistentDataContainer container) {
+        ItemMeta meta = HeadlessServer.stub(ItemMeta.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getPersistentDataContainer" -> container;
+            default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+        });
+        return HeadlessServer.stub(ItemStack.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getItemMeta" -> meta;
+            case "hasItemMeta" -> true;
+            case "getAmount" -> 1;
+            default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+
+    /**
+     * Backs a mocked {@link PersistentDataContainer} with a map. Values are stored with the Java type their
+     * {@link PersistentDataType} would produce, so reads ignore the requested type.
+     */
+    private static PersistentDataContainer container(Map<NamespacedKey, Object> data) {
+        return HeadlessServer.stub(PersistentDataContainer.class, invocation -> answerContainer(invocation, data));
+    }
+
+    private static Object answerContainer(InvocationOnMock invocation, Map<NamespacedKey, Object> data) throws Throwable {
+        Object[] args = invocation.getArguments();
+        return switch (invocation.getMethod().getName()) {
+            case "getKeys" -> Collections.unmodifiableSet(data.keySet());
+            case "get" -> data.get(args[0]);
+            case "getOrDefault" -> data.getOrDefault(args[0], args[2]);
+            case "has" -> data.containsKey(args[0]);
+            case "set" -> {
+                data.put((NamespacedKey) args[0], args[2]);
+                yield null;
+            }
+            case "remove" -> {
+                data.remove(args[0]);
+                yield null;
+            }
+            case "isEmpty" -> data.isEmpty();
+            default -> Answers.RETURNS_DEFAULTS.answer(invocation);
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package me.baddcamden.attributeutils.simulation;
+
+import org.bukkit.Location;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.mockito.Answers;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * A mocked {@link Player} with a mutable inventory and lazily created attribute instances. Inventory operations mirror
+ * what the corresponding Bukkit events would have changed before the listener runs.
+ */
+final class SyntheticPlayer {
+
+    static final int STORAGE_SIZE = 36;
+    static final int HOTBAR_SIZE = 9;
+    static final int ARMOR_SIZE = 4;
+
+    private final UUID id;
+    private final String name;
+    private final Location eyeLocation;
+    private final Map<Attribute, Double> attributeDefaults;
+    private final FakeAttributeInstance.MutationCounter mutations;
+    private final Map<Attribute, AttributeInstance> attributes = new HashMap<>();
+    private final PersistentDataContainer dataContainer = SyntheticItems.emptyContainer();
+    private final ItemStack[] storage = new ItemStack[STORAGE_SIZE];
+    private final ItemStack[] armor = new ItemStack[ARMOR_SIZE];
+    private final Player player;
+    private final PlayerInventory inventory;
+    private ItemStack offHand;
+    private int heldSlot;
+    private float flySpeed = 0.1f;
+
+    SyntheticPlayer(int index,
+                    Location eyeLocation,
+                    Map<Attribute, Double> attributeDefaults,
+                    FakeAttributeInstance.MutationCounter mutations) {
+        this.id = new UUID(0x5EEDL, index);
+        this.name = "sim_" + index;
+        this.eyeLocation = eyeLocation;
+        this.attributeDefaults = attributeDefaults;
+        this.mutations = mutations;
+        this.inventory = HeadlessServer.stub(PlayerInventory.class, this::answerInventory);
+        this.player = HeadlessServer.stub(Player.class, this::answerPlayer);
+    }
+
+    Player player() {
+        return player;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    /**
+     * Fills storage, armor, and off-hand slots from the item pool so roughly {@code fillRatio} of slots hold an item.
+     */
+    void equip(SyntheticItems items, SplittableRandom random, double fillRatio) {
+        for (int slot = 0; slot < STORAGE_SIZE; slot++) {
+            storage[slot] = random.nextDouble() < fillRatio ? items.pick(random) : null;
+        }
+        for (int slot = 0; slot < ARMOR_SIZE; slot++) {
+            armor[slot] = random.nextDouble() < fillRatio ? items.pick(random) : null;
+        }
+        offHand = random.nextDouble() < fillRatio ? items.pick(random) : null;
+    }
+
+    /**
+     * Changes the selected hotbar slot, as a {@code PlayerItemHeldEvent} would.
+     */
+    void selectHotbarSlot(SplittableRandom random) {
+        heldSlot = random.nextInt(HOTBAR_SIZE);
+    }
+
+    /**
+     * Swaps a storage slot with another storage or armor slot, as an inventory click would.
+     */
+    void moveItem(SplittableRandom random) {
+        int from = random.nextInt(STORAGE_SIZE);
+        if (random.nextInt(4) == 0) {
+            int to = random.nextInt(ARMOR_SIZE);
+            ItemStack moved = storage[from];
+            storage[from] = armor[to];
+            armor[to] = moved;
+            return;
+        }
+        int to = random.nextInt(STORAGE_SIZE);
+        ItemStack moved = storage[from];
+        storage[from] = storage[to];
+        storage[to] = moved;
+    }
+
+    /**
+     * Swaps the held item with the off-hand item.
+     */
+    void swapHands() {
+        ItemStack held = storage[heldSlot];
+        storage[heldSlot] = offHand;
+        offHand = held;
+    }
+
+    /**
+     * Drops the item in a random storage slot.
+     */
+    void dropItem(SplittableRandom random) {
+        storage[random.nextInt(STORAGE_SIZE)] = null;
+    }
+
+    /**
+     * Picks up an item from the pool into the first empty storage slot, if any.
+     */
+    void pickUp(SyntheticItems items, SplittableRandom random) {
+        for (int slot = 0; slot < STORAGE_SIZE; slot++) {
+            if (storage[slot] == null) {
+                storage[slot] = items.pick(random);
+                return;
+            }
+        }
+    }
+
+    private Object answerPlayer(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "getUniqueId":
+                return id;
+            case "getName":
+            case "getDisplayName":
+                return name;
+            case "getInventory":
+                return inventory;
+            case "getAttribute":
+                return attribute((Attribute) args[0]);
+            case "getFlySpeed":
+                return flySpeed;
+            case "setFlySpeed":
+                flySpeed = (float) args[0];
+                return null;
+            case "getEyeLocation":
+            case "getLocation":
+                return eyeLocation;
+            case "getPersistentDataContainer":
+                return dataContainer;
+            case "isValid":
+            case "isOnline":
+                return true;
+            case "isSwimming":
+            case "isDead":
+                return false;
+            default:
+                return Answers.RETURNS_DEFAULTS.answer(invocation);
+        }
+    }
+
+    private Object answerInventory(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "getHeldItemSlot":
+                return heldSlot;
+            case "getStorageContents":
+                return storage.clone();
+            case "getArmorContents":
+                return armor.clone();
+            case "getItemInOffHand":
+                return offHand;
+            case "getItemInMainHand":
+                return storage[heldSlot];
+            case "getItem":
+                int slot = (int) args[0];
+                return slot < STORAGE_SIZE ? storage[slot] : null;
+            case "getSize":
+                return STORAGE_SIZE;
+            default:
+                return Answers.RETURNS_DEFAULTS.answer(invocation);
+        }
+    }
+
+    private AttributeInstance attribute(Attribute attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return attributes.computeIfAbsent(attribute, key -> FakeAttributeInstance.create(key,
+                attributeDefaults.getOrDefault(key, 0.0d), mutations));
+    }
+}
@@ -0,0 +1,925 @@
+package me.baddcamden.attributeutils;
+
+import me.baddcamden.attributeutils.api.AttributeChangeNotifier;
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.api.VanillaAttributeSupplier;
+import me.baddcamden.attributeutils.command.AttributeCommand;
+import me.baddcamden.attributeutils.command.EntityAttributeCommand;
+import me.baddcamden.attributeutils.command.GlobalAttributeCommand;
+import me.baddcamden.attributeutils.command.ItemAttributeCommand;
+import me.baddcamden.attributeutils.command.PlayerModifierCommand;
+import me.baddcamden.attributeutils.command.TestHordeCommand;
+import me.baddcamden.attributeutils.compute.AttributeComputationEngine;
+import me.baddcamden.attributeutils.handler.AttributeRefreshDispatcher;
+import me.baddcamden.attributeutils.handler.ParallelRefreshExecutor;
+import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
+import me.baddcamden.attributeutils.handler.item.ItemAttributeHandler;
+import me.baddcamden.attributeutils.listener.AttributeListener;
+import me.baddcamden.attributeutils.metrics.PrometheusExporter;
+import me.baddcamden.attributeutils.metrics.TraceRecorder;
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeDefinitionFactory;
+import me.baddcamden.attributeutils.model.CapConfig;
+import me.baddcamden.attributeutils.model.CustomAttributeLoader;
+import me.baddcamden.attributeutils.model.DefinitionChanges;
+import me.baddcamden.attributeutils.persistence.AttributePersistence;
+import me.baddcamden.attributeutils.persistence.ModifierJournal;
+import me.baddcamden.attributeutils.persistence.PersistenceIoExecutor;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+import me.baddcamden.attributeutils.command.CommandMessages;
+import me.baddcamden.attributeutils.VanillaAttributeResolver;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.Locale;
+
+/**
+ * Core plugin entry point that wires attribute definitions, handlers, and persistence.
+ * <p>
+ * The lifecycle mirrors Bukkit's {@link JavaPlugin} flow while coordinating configuration-driven
+ * vanilla baselines, custom attribute definitions, and runtime command/listener registration.
+ */
+public class AttributeUtilitiesPlugin extends JavaPlugin {
+
+    /** Facade that exposes attribute registration and lookup utilities to commands and handlers. */
+    private AttributeFacade attributeFacade;
+    /** Persistence layer responsible for loading and saving player/global attribute data. */
+    private AttributePersistence persistence;
+    /** Applies and recalculates item-based attributes for players. */
+    private ItemAttributeHandler itemAttributeHandler;
+    /** Manages entity attribute adjustments and caps for players and other entities. */
+    private EntityAttributeHandler entityAttributeHandler;
+    /** Batches facade refresh callbacks into per-tick vanilla attribute applications. */
+    private AttributeRefreshDispatcher refreshDispatcher;
+    /**
+     * Tracks Bukkit attribute targets keyed by attribute ids when vanilla baselines resolve directly
+     * to a Bukkit {@link Attribute}. This is reused when applying item modifiers.
+     */
+    private Map<String, Attribute> vanillaAttributeTargets;
+    /** Append-only journal of player mutations between saves; {@code null} when disabled in config. */
+    private ModifierJournal modifierJournal;
+    /** Local Prometheus endpoint; {@code null} when disabled in config or when binding failed. */
+    private PrometheusExporter metricsExporter;
+    /** Ring-buffer recorder of modifier applications, dumped to the traces folder on demand or on anomalies. */
+    private TraceRecorder traceRecorder;
+    /** Bukkit or Folia scheduler, chosen once at enable; every task the plugin schedules goes through it. */
+    private TaskScheduler taskScheduler;
+    /** Value change subscriptions; created once at enable so subscriptions survive full reloads. */
+    private AttributeChangeNotifier changeNotifier;
+    /** Definitions built from config.yml and the custom attribute folder at the last load, keyed by normalized id. */
+    private Map<String, AttributeDefinition> configuredDefinitions = Map.of();
+
+    /**
+     * Top-level config sections read only when components are built. A reload that changes any of them rebuilds the
+     * plugin instead of updating definitions in place.
+     */
+    private static final List<String> RUNTIME_SECTIONS = List.of("debug", "metrics", "refresh", "persistence");
+
+    /**
+     * Persists all online player attribute data and global settings before a shutdown or reload. State is snapshotted
+     * on the calling thread and written in parallel, waiting at most {@code persistence.flush-deadline-millis}.
+     * Players that failed or did not finish in time are logged, and the journal is kept so their changes are replayed
+     * on the next start; it is only truncated when everything was written.
+     * <p>
+     * This guard clauses when core collaborators have not been initialized yet (e.g., during early
+     * enable failures).
+     */
+    private void saveAllPlayersSync() {
+        if (persistence == null || attributeFacade == null || entityAttributeHandler == null) {
+            return;
+        }
+
+        List<UUID> playerIds = getServer().getOnlinePlayers().stream()
+                .map(Player::getUniqueId)
+                .toList();
+        AttributePersistence.FlushReport report = persistence.flushAll(attributeFacade, playerIds,
+                getConfig().getLong("persistence.flush-deadline-millis", 10_000L));
+        if (report.complete()) {
+            if (modifierJournal != null) {
+                modifierJournal.truncate();
+            }
+            return;
+        }
+
+        if (!report.failed().isEmpty()) {
+            getLogger().warning("Failed to save attributes for " + report.failed().size() + " player(s): "
+                    + describePlayers(report.failed()));
+        }
+        if (!report.timedOut().isEmpty()) {
+            getLogger().warning("Attribute saves for " + report.timedOut().size() + " player(s) did not finish within "
+                    + TimeUnit.NANOSECONDS.toMillis(report.elapsedNanos()) + "ms: " + describePlayers(report.timedOut()));
+        }
+        if (!report.globalsSaved()) {
+            getLogger().warning("Failed to save global attributes before the flush deadline.");
+        }
+        if (modifierJournal != null) {
+            getLogger().warning("Keeping the modifier journal so unsaved changes are replayed on the next start.");
+        }
+    }
+
+    /**
+     * Formats player ids with their names when the server still knows them.
+     */
+    private String describePlayers(List<UUID> playerIds) {
+        return playerIds.stream()
+                .map(playerId -> {
+                    Player player = getServer().getPlayer(playerId);
+                    return player == null ? playerId.toString() : player.getName() + " (" + playerId + ")";
+                })
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Stops the journal writer after flushing anything still queued.
+     */
+    private void closeJournal() {
+        if (modifierJournal != null) {
+            modifierJournal.close();
+            modifierJournal = null;
+        }
+    }
+
+    /**
+     * Builds the trace recorder from the {@code debug.trace} section. Dumps are written to the {@code traces} folder
+     * on the async scheduler.
+     */
+    private TraceRecorder createTraceRecorder() {
+        TraceRecorder.Settings settings = TraceRecorder.Settings.of(
+                getConfig().getInt("debug.trace.buffer-size", 4096),
+                getConfig().getInt("debug.trace.sample-rate", 1),
+                getConfig().getStringList("debug.trace.players"),
+                getConfig().getStringList("debug.trace.attributes"),
+                getConfig().getBoolean("debug.trace.dump-on-anomaly", true),
+                getConfig().getLong("debug.trace.anomaly-dump-cooldown-seconds", 60L) * 1000L);
+        return new TraceRecorder(settings, getDataFolder().toPath().resolve("traces"), getLogger(),
+                command -> taskScheduler.runAsync(command));
+    }
+
+    /**
+     * Builds the parallel refresh settings from the {@code refresh.parallel} section.
+     */
+    private ParallelRefreshExecutor.Settings parallelRefreshSettings() {
+        return ParallelRefreshExecutor.Settings.of(
+                getConfig().getBoolean("refresh.parallel.enabled", true),
+                getConfig().getInt("refresh.parallel.min-computations", 512),
+                getConfig().getInt("refresh.parallel.threads", 0),
+                getConfig().getLong("refresh.parallel.apply-budget-millis", 5L));
+    }
+
+    /**
+     * Builds the persistence IO settings from the {@code persistence.io} section.
+     */
+    private PersistenceIoExecutor.Settings persistenceIoSettings() {
+        return PersistenceIoExecutor.Settings.of(
+                getConfig().getBoolean("persistence.io.virtual-threads", true),
+                getConfig().getInt("persistence.io.max-concurrent-per-device", 4),
+                getConfig().getLong("persistence.io.close-timeout-millis", 5_000L));
+    }
+
+    /**
+     * Waits for queued persistence IO and stops its executor.
+     */
+    private void closePersistence() {
+        if (persistence != null) {
+            persistence.close();
+        }
+    }
+
+    /**
+     * Stops the refresh dispatcher's worker threads.
+     */
+    private void stopRefreshDispatcher() {
+        if (refreshDispatcher != null) {
+            refreshDispatcher.shutdown();
+        }
+    }
+
+    /**
+     * Starts the Prometheus endpoint when enabled in config. A bind failure is logged and leaves the plugin running
+     * without the endpoint.
+     */
+    private void startMetricsExporter() {
+        if (!getConfig().getBoolean("metrics.prometheus.enabled", false)) {
+            return;
+        }
+
+        String host = getConfig().getString("metrics.prometheus.bind-address", "127.0.0.1");
+        int port = getConfig().getInt("metrics.prometheus.port", 9465);
+        PrometheusExporter exporter = new PrometheusExporter(
+                taskScheduler,
+                attributeFacade,
+                refreshDispatcher,
+                new InetSocketAddress(host, port),
+                getConfig().getLong("metrics.prometheus.gauge-interval-ticks", 100L));
+        try {
+            exporter.start();
+        } catch (IOException | RuntimeException ex) {
+            exporter.stop();
+            getLogger().warning("Failed to start Prometheus metrics endpoint on " + host + ":" + port + ": " + ex.getMessage());
+            return;
+        }
+        metricsExporter = exporter;
+        getLogger().info("Serving Prometheus metrics on http://" + host + ":" + exporter.getAddress().getPort() + "/metrics");
+    }
+
+    /**
+     * Stops the Prometheus endpoint so its port is free for the next start.
+     */
+    private void stopMetricsExporter() {
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+            metricsExporter = null;
+        }
+    }
+
+    /**
+     * Standard Bukkit enable hook. Ensures the default config exists before building plugin
+     * collaborators.
+     */
+    @Override
+    public void onEnable() {
+        saveDefaultConfig();
+        taskScheduler = TaskScheduler.create(this);
+        if (taskScheduler.isRegionThreaded()) {
+            getLogger().info("Folia detected; scheduling attribute work on region threads.");
+        }
+        getLogger().info(EntityAttributeHandler.usesTransientModifiers()
+                ? "Applying vanilla attribute modifiers as transient modifiers."
+                : "Transient attribute modifiers are unavailable; applying persistent modifiers instead.");
+        changeNotifier = new AttributeChangeNotifier(this, taskScheduler);
+        initializePlugin();
+    }
+
+    /**
+     * Standard Bukkit disable hook that persists any outstanding player/global attribute changes.
+     */
+    @Override
+    public void onDisable() {
+        stopMetricsExporter();
+        stopRefreshDispatcher();
+        saveAllPlayersSync();
+        closePersistence();
+        closeJournal();
+    }
+
+    /**
+     * Reloads configuration and applies it in place: definitions from config.yml and the custom attribute folder
+     * are diffed against the ones loaded last time, and only added, changed, or removed definitions are swapped and
+     * refreshed. Player and global state stays in memory. When a {@link #RUNTIME_SECTIONS runtime section} changed,
+     * the plugin is saved and rebuilt from scratch instead.
+     */
+    public void reloadAttributes() {
+        FileConfiguration previous = getConfig();
+        reloadConfig();
+
+        List<String> changedSections = RUNTIME_SECTIONS.stream()
+                .filter(path -> !leafValues(previous.getConfigurationSection(path))
+                        .equals(leafValues(getConfig().getConfigurationSection(path))))
+                .toList();
+        if (attributeFacade == null || !changedSections.isEmpty()) {
+            if (!changedSections.isEmpty()) {
+                getLogger().info("Settings changed in " + String.join(", ", changedSections) + "; rebuilding the plugin.");
+            }
+            saveAllPlayersSync();
+            initializePlugin();
+            return;
+        }
+        reloadDefinitionsInPlace(previous);
+    }
+
+    /**
+     * Applies the difference between the definitions loaded last time and the ones in the reloaded configuration.
+     * Removed definitions are dropped first, vanilla baselines are re-registered, then added and changed definitions
+     * are swapped in and refreshed. Attributes whose vanilla baseline entry changed without changing the definition
+     * are refreshed as well.
+     *
+     * @param previous configuration that was active before the reload
+     */
+    private void reloadDefinitionsInPlace(FileConfiguration previous) {
+        Map<String, AttributeDefinition> next = collectConfiguredDefinitions();
+        DefinitionChanges changes = DefinitionChanges.between(configuredDefinitions, next);
+
+        changes.removed().forEach(attributeFacade::unregisterDefinition);
+        registerVanillaBaselines();
+        for (AttributeDefinition definition : changes.added()) {
+            if (!registerConfigured(attributeFacade::replaceDefinition, definition)) {
+                next.remove(definition.id().toLowerCase(Locale.ROOT));
+            }
+        }
+        for (AttributeDefinition definition : changes.changed()) {
+            String id = definition.id().toLowerCase(Locale.ROOT);
+            AttributeDefinition previousConfigured = configuredDefinitions.get(id);
+            if (!registerConfigured(attributeFacade::replaceDefinition, withRuntimeCapOverrides(definition, previousConfigured))) {
+                // The previous version stays registered, so keep diffing against it.
+                next.put(id, previousConfigured);
+            }
+        }
+
+        Set<String> replaced = new HashSet<>();
+        changes.added().forEach(definition -> replaced.add(definition.id().toLowerCase(Locale.ROOT)));
+        changes.changed().forEach(definition -> replaced.add(definition.id().toLowerCase(Locale.ROOT)));
+        int baselinesRefreshed = 0;
+        for (String id : changedVanillaBaselines(previous, getConfig())) {
+            if (!replaced.contains(id) && attributeFacade.getDefinition(id).isPresent()) {
+                attributeFacade.refreshAttribute(id);
+                baselinesRefreshed++;
+            }
+        }
+        configuredDefinitions = next;
+        warnUnresolvedFormulaInputs();
+
+        getLogger().info("Reloaded attributes in place: " + changes.added().size() + " added, "
+                + changes.changed().size() + " changed, " + changes.removed().size() + " removed, "
+                + baselinesRefreshed + " vanilla baselines refreshed.");
+    }
+
+    /**
+     * Carries cap overrides set at runtime (per-player caps) over to a reloaded definition. Overrides that came from
+     * the previous configuration are dropped so removed entries disappear, and the new configuration's overrides win.
+     *
+     * @param next               reloaded definition
+     * @param previousConfigured definition built from the previous configuration, or {@code null}
+     */
+    private AttributeDefinition withRuntimeCapOverrides(AttributeDefinition next, AttributeDefinition previousConfigured) {
+        AttributeDefinition live = attributeFacade.getDefinition(next.id()).orElse(null);
+        if (live == null || previousConfigured == null) {
+            return next;
+        }
+        Map<String, Double> overrides = new LinkedHashMap<>(live.capConfig().overrideMaxValues());
+        previousConfigured.capConfig().overrideMaxValues().keySet().forEach(overrides::remove);
+        overrides.putAll(next.capConfig().overrideMaxValues());
+        if (overrides.equals(next.capConfig().overrideMaxValues())) {
+            return next;
+        }
+        CapConfig caps = new CapConfig(next.capConfig().globalMin(), next.capConfig().globalMax(), overrides);
+        return new AttributeDefinition(next.id(), next.displayName(), next.dynamic(), next.defaultBaseValue(),
+                next.defaultCurrentValue(), caps, next.multiplierApplicability(), next.defaultOperation(), next.formula());
+    }
+
+    /**
+     * Registers one configured definition, logging and skipping it when its formula is malformed or would close a
+     * derived attribute cycle.
+     *
+     * @return whether the definition was registered
+     */
+    private boolean registerConfigured(Consumer<AttributeDefinition> registrar, AttributeDefinition definition) {
+        try {
+            registrar.accept(definition);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            getLogger().severe("Skipping attribute '" + definition.id() + "': " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Warns about derived attributes whose formulas read attributes that are not registered; those inputs read as
+     * zero until they are.
+     */
+    private void warnUnresolvedFormulaInputs() {
+        for (AttributeDefinition definition : attributeFacade.getDefinitions()) {
+            List<String> missing = attributeFacade.getFormulaInputs(definition.id()).stream()
+                    .filter(input -> attributeFacade.getDefinition(input).isEmpty())
+                    .toList();
+            if (!missing.isEmpty()) {
+                getLogger().warning("Derived attribute '" + definition.id() + "' reads unknown attributes " + missing
+                        + "; they count as 0.");
+            }
+        }
+    }
+
+    /**
+     * Returns the normalized ids of {@code vanilla-attribute-defaults} entries that were added, removed, or edited
+     * between two configurations.
+     */
+    private static Set<String> changedVanillaBaselines(FileConfiguration previous, FileConfiguration next) {
+        ConfigurationSection before = previous.getConfigurationSection("vanilla-attribute-defaults");
+        ConfigurationSection after = next.getConfigurationSection("vanilla-attribute-defaults");
+        Set<String> keys = new HashSet<>();
+        if (before != null) {
+            keys.addAll(before.getKeys(false));
+        }
+        if (after != null) {
+            keys.addAll(after.getKeys(false));
+        }
+        Set<String> changed = new HashSet<>();
+        for (String key : keys) {
+            Map<String, Object> oldValues = leafValues(before == null ? null : before.getConfigurationSection(key));
+            Map<String, Object> newValues = leafValues(after == null ? null : after.getConfigurationSection(key));
+            if (!oldValues.equals(newValues)) {
+                changed.add(key.toLowerCase(Locale.ROOT).replace('-', '_'));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Flattens a section into its leaf values keyed by relative path, so two sections compare by content; nested
+     * section objects themselves only compare by identity.
+     */
+    private static Map<String, Object> leafValues(ConfigurationSection section) {
+        if (section == null) {
+            return Map.of();
+        }
+        Map<String, Object> values = new HashMap<>();
+        section.getValues(true).forEach((path, value) -> {
+            if (!(value instanceof ConfigurationSection)) {
+                values.put(path, value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Reinitializes all plugin components and reconnects commands/listeners after configuration
+     * reloads or server start. Existing scheduled tasks and listeners are cleared before rebuilding
+     * dependencies.
+     */
+    private void initializePlugin() {
+        stopMetricsExporter();
+        stopRefreshDispatcher();
+        taskScheduler.cancelAll();
+        HandlerList.unregisterAll(this);
+        closePersistence();
+        closeJournal();
+
+        AttributeComputationEngine computationEngine = new AttributeComputationEngine();
+        AttributeFacade newAttributeFacade = new AttributeFacade(this, computationEngine);
+        AttributePersistence newPersistence = new AttributePersistence(getDataFolder().toPath(), this, taskScheduler,
+                newAttributeFacade.getMetrics(), persistenceIoSettings());
+        vanillaAttributeTargets = new HashMap<>();
+        TraceRecorder newTraceRecorder = createTraceRecorder();
+        EntityAttributeHandler newEntityAttributeHandler = new EntityAttributeHandler(newAttributeFacade, this, vanillaAttributeTargets, newTraceRecorder, taskScheduler);
+        ItemAttributeHandler newItemAttributeHandler = new ItemAttributeHandler(newAttributeFacade, this, newEntityAttributeHandler);
+        ParallelRefreshExecutor newParallelRefresh = new ParallelRefreshExecutor(this, taskScheduler, newAttributeFacade, newEntityAttributeHandler, parallelRefreshSettings());
+        AttributeRefreshDispatcher newRefreshDispatcher = new AttributeRefreshDispatcher(this, taskScheduler, newEntityAttributeHandler, newAttributeFacade.getMetrics(), newParallelRefresh);
+        newAttributeFacade.setAttributeRefreshListener(newRefreshDispatcher);
+        newRefreshDispatcher.setChangeNotifier(changeNotifier);
+        newEntityAttributeHandler.setChangeNotifier(changeNotifier);
+        changeNotifier.bind(newAttributeFacade);
+
+        this.attributeFacade = newAttributeFacade;
+        this.persistence = newPersistence;
+        this.itemAttributeHandler = newItemAttributeHandler;
+        this.entityAttributeHandler = newEntityAttributeHandler;
+        this.refreshDispatcher = newRefreshDispatcher;
+        this.traceRecorder = newTraceRecorder;
+
+        Map<String, AttributeDefinition> configured = collectConfiguredDefinitions();
+        configured.values().removeIf(definition -> !registerConfigured(newAttributeFacade::registerDefinition, definition));
+        configuredDefinitions = configured;
+        registerVanillaBaselines();
+        warnUnresolvedFormulaInputs();
+        if (getConfig().getBoolean("persistence.journal.enabled", true)) {
+            ModifierJournal newJournal = new ModifierJournal(
+                    getDataFolder().toPath().resolve("journal.log"),
+                    getLogger(),
+                    playerId -> getServer().getPlayer(playerId) != null,
+                    getConfig().getLong("persistence.journal.flush-interval-millis", 200L),
+                    getConfig().getLong("persistence.journal.compact-threshold-kb", 256L) * 1024L);
+            newPersistence.setModifierJournal(newJournal);
+            newPersistence.replayJournal(newAttributeFacade);
+            newAttributeFacade.setAttributeMutationListener(newJournal);
+            this.modifierJournal = newJournal;
+        }
+        newPersistence.loadGlobalsAsync(newAttributeFacade);
+        getServer().getOnlinePlayers().forEach(player -> newPersistence.loadPlayerAsync(newAttributeFacade, player.getUniqueId())
+                .thenRunAsync(() -> {
+                    newItemAttributeHandler.applyPersistentAttributes(player);
+                    newEntityAttributeHandler.applyPlayerCaps(player);
+                }, taskScheduler.entityExecutor(player)));
+        registerCommands();
+        registerListeners();
+        startMetricsExporter();
+    }
+
+    /**
+     * Builds every definition the configuration describes, in registration order and keyed by normalized id: the
+     * vanilla attributes and caps from the primary configuration file, then the custom attribute folder. Later
+     * entries replace earlier ones with the same id.
+     */
+    private Map<String, AttributeDefinition> collectConfiguredDefinitions() {
+        Map<String, AttributeDefinition> collected = new LinkedHashMap<>();
+        Consumer<AttributeDefinition> collector = definition -> collected.put(definition.id().toLowerCase(Locale.ROOT), definition);
+        Map<String, AttributeDefinition> vanillaAttributes = AttributeDefinitionFactory.vanillaAttributes(getConfig());
+        vanillaAttributes.values().forEach(collector);
+        AttributeDefinitionFactory.registerConfigCaps(
+                collector,
+                getConfig().getConfigurationSection("global-attribute-caps"),
+                vanillaAttributes.keySet());
+        loadCustomAttributes(collector);
+        return collected;
+    }
+
+    /**
+     * Loads custom attribute definitions from the configured folder through {@link CustomAttributeLoader}, which
+     * parses files in parallel and reuses cached definitions for unchanged files. Malformed entries are logged and
+     * skipped rather than failing the startup.
+     */
+    private void loadCustomAttributes(Consumer<AttributeDefinition> collector) {
+        if (getConfig().getBoolean("load-custom-attributes-from-folder", true)) {
+            Path customFolder = getDataFolder().toPath().resolve(getConfig().getString("custom-attributes-folder", "custom-attributes"));
+            try {
+                Files.createDirectories(customFolder);
+            } catch (Exception e) {
+                getLogger().warning("Failed to prepare custom attribute folder: " + e.getMessage());
+            }
+
+            Path cacheFile = getConfig().getBoolean("custom-attributes-cache", true)
+                    ? getDataFolder().toPath().resolve("cache").resolve("custom-attributes.bin")
+                    : null;
+            new CustomAttributeLoader(customFolder, cacheFile, getLogger()).load().forEach(collector);
+        }
+    }
+
+    /**
+     * Reads vanilla baseline definitions and wires suppliers that surface default Bukkit attribute
+     * values, food level, maximum air, or static values.
+     */
+    private void registerVanillaBaselines() {
+        ConfigurationSection defaults = getConfig().getConfigurationSection("vanilla-attribute-defaults");
+        if (defaults == null) {
+            getLogger().warning("No vanilla attribute defaults configured; skipping vanilla baselines.");
+            return;
+        }
+
+        vanillaAttributeTargets.clear();
+
+        defaults.getKeys(false).forEach(key -> {
+            ConfigurationSection entry = defaults.getConfigurationSection(key);
+            if (entry == null) {
+                getLogger().warning("Skipping vanilla baseline '" + key + "': value must be a configuration section.");
+                return;
+            }
+
+            if (!entry.isSet("default-base")) {
+                getLogger().warning("Skipping vanilla baseline '" + key + "': missing required 'default-base'.");
+                return;
+            }
+
+            double defaultBase = entry.getDouble("default-base");
+            String provider = entry.getString("provider", "attribute").toLowerCase(java.util.Locale.ROOT);
+
+            VanillaAttributeSupplier supplier;
+            Attribute attribute = null;
+            switch (provider) {
+                case "static":
+                    supplier = player -> defaultBase;
+                    break;
+                case "attribute":
+                    java.util.List<String> candidates = resolveAttributeCandidates(entry);
+                    if (candidates.isEmpty()) {
+                        getLogger().warning("Vanilla baseline '" + key + "' is missing 'bukkit-attributes'; using default value only.");
+                    }
+                    attribute = resolveAttribute(candidates);
+                    if (attribute == null) {
+                        getLogger().warning("Vanilla baseline '" + key + "' specifies unknown Bukkit attributes: " + candidates);
+                    }
+                    String attributeId = key.toLowerCase(java.util.Locale.ROOT).replace('-', '_');
+                    VanillaAttributeSupplier dynamicSupplier = createDynamicSupplier(attributeId, attribute, defaultBase);
+                    if (dynamicSupplier != null) {
+                        supplier = player -> dynamicSupplier.getVanillaValue(player);
+                        break;
+                    }
+                    Attribute finalAttribute = attribute;
+                    supplier = player -> getAttributeValue(player, finalAttribute, defaultBase);
+                    break;
+                default:
+                    getLogger().warning("Skipping vanilla baseline '" + key + "': unknown provider '" + provider + "'.");
+                    return;
+            }
+
+            String attributeId = key.toLowerCase(java.util.Locale.ROOT).replace('-', '_');
+            if (attribute != null) {
+                vanillaAttributeTargets.put(attributeId, attribute);
+            }
+            attributeFacade.registerVanillaBaseline(attributeId, supplier);
+        });
+    }
+
+    /**
+     * Exposes value change subscriptions so other plugins can react to computed attribute changes instead of polling
+     * {@link AttributeFacade#compute}.
+     */
+    public AttributeChangeNotifier getChangeNotifier() {
+        return changeNotifier;
+    }
+
+    /**
+     * Exposes the item attribute handler so commands and listeners can trigger reapplication of
+     * stored item modifiers for a player.
+     */
+    public ItemAttributeHandler getItemAttributeHandler() {
+        return itemAttributeHandler;
+    }
+
+    /**
+     * Exposes the entity attribute handler so callers can enforce caps or refresh entity-level
+     * modifiers as needed.
+     */
+    public EntityAttributeHandler getEntityAttributeHandler() {
+        return entityAttributeHandler;
+    }
+
+    /**
+     * Resolves the current attribute value for a player using Bukkit's API while allowing equipment
+     * modifiers to contribute when a raw attribute value is missing.
+     */
+    private double getAttributeValue(Player player, Attribute attribute, double fallback) {
+        return VanillaAttributeResolver.resolvePlayerAttribute(
+                player,
+                attribute,
+                fallback,
+                () -> computeEquipmentAttribute(player, attribute, fallback)
+        );
+    }
+
+    /**
+     * Creates specialized suppliers for attributes that need to account for equipment contributions
+     * to reflect vanilla mechanics (e.g., armor/attack values).
+     */
+    private VanillaAttributeSupplier createDynamicSupplier(String attributeId, Attribute attribute, double defaultBase) {
+        switch (attributeId) {
+            case "armor":
+                return player -> resolveArmorValue(player, attribute, defaultBase);
+            case "armor_toughness":
+                return player -> resolveArmorToughnessValue(player, attribute, defaultBase);
+            case "knockback_resistance":
+                return player -> resolveKnockbackResistanceValue(player, attribute, defaultBase);
+            case "attack_damage":
+                return player -> resolveAttackDamage(player, attribute, defaultBase);
+            case "attack_knockback":
+                return player -> resolveAttackKnockback(player, attribute, defaultBase);
+            case "attack_speed":
+                return player -> resolveAttackSpeed(player, attribute, defaultBase);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Resolve armor by reading the configured attribute or a best-effort fallback to the Bukkit
+     * attribute name.
+     */
+    private double resolveArmorValue(Player player, Attribute configuredAttribute, double fallback) {
+        Attribute target = configuredAttribute != null
+                ? configuredAttribute
+                : resolveAttributeByNames("ARMOR");
+        return getAttributeValue(player, target, fallback);
+    }
+
+    /**
+     * Resolve armor toughness by reading the configured attribute or a best-effort fallback to the
+     * Bukkit attribute name.
+     */
+    private double resolveArmorToughnessValue(Player player, Attribute configuredAttribute, double fallback) {
+        Attribute target = configuredAttribute != null
+                ? configuredAttribute
+                : resolveAttributeByNames("ARMOR_TOUGHNESS");
+        return getAttributeValue(player, target, fallback);
+    }
+
+    /**
+     * Resolve knockback resistance using the configured attribute when available.
+     */
+    private double resolveKnockbackResistanceValue(Player player, Attribute configuredAttribute, double fallback) {
+        Attribute target = configuredAttribute != null
+                ? configuredAttribute
+                : resolveAttributeByNames("KNOCKBACK_RESISTANCE");
+        return getAttributeValue(player, target, fallback);
+    }
+
+    /**
+     * Resolve attack damage using the configured attribute when available.
+     */
+    private double resolveAttackDamage(Player player, Attribute configuredAttribute, double fallback) {
+        Attribute target = configuredAttribute != null
+                ? configuredAttribute
+                : resolveAttributeByNames("ATTACK_DAMAGE");
+        return getAttributeValue(player, target, fallback);
+    }
+
+    /**
+     * Resolve attack knockback using the configured attribute when available.
+     */
+    private double resolveAttackKnockback(Player player, Attribute configuredAttribute, double fallback) {
+        Attribute target = configuredAttribute != null
+                ? configuredAttribute
+                : resolveAttributeByNames("ATTACK_KNOCKBACK");
+        return getAttributeValue(player, target, fallback);
+    }
+
+    /**
+     * Resolve attack speed using the configured attribute when available.
+     */
+    private double resolveAttackSpeed(Player player, Attribute configuredAttribute, double fallback) {
+        Attribute target = configuredAttribute != null
+                ? configuredAttribute
+                : resolveAttributeByNames("ATTACK_SPEED");
+        return getAttributeValue(player, target, fallback);
+    }
+
+    /**
+     * Attempts to resolve the first valid Bukkit {@link Attribute} by its enum name, trying each
+     * candidate in order.
+     */
+    private Attribute resolveAttributeByNames(String... names) {
+        for (String name : names) {
+            try {
+                return Attribute.valueOf(name);
+            } catch (IllegalArgumentException ignored) {
+                // try the next option
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Computes attribute values contributed exclusively by equipment modifiers, ignoring plugin
+     * modifiers to avoid double application.
+     */
+    private double computeEquipmentAttribute(Player player, Attribute attribute, double fallback) {
+        if (player == null || attribute == null) {
+            return fallback;
+        }
+
+        org.bukkit.inventory.EntityEquipment equipment = player.getEquipment();
+        if (equipment == null) {
+            return fallback;
+        }
+
+        Map<EquipmentSlot, ItemStack> slots = new HashMap<>();
+        slots.put(EquipmentSlot.HAND, equipment.getItemInMainHand());
+        slots.put(EquipmentSlot.OFF_HAND, equipment.getItemInOffHand());
+        slots.put(EquipmentSlot.HEAD, equipment.getHelmet());
+        slots.put(EquipmentSlot.CHEST, equipment.getChestplate());
+        slots.put(EquipmentSlot.LEGS, equipment.getLeggings());
+        slots.put(EquipmentSlot.FEET, equipment.getBoots());
+
+        double additive = 0d;
+        double multiplicative = 1d;
+
+        for (Map.Entry<EquipmentSlot, ItemStack> entry : slots.entrySet()) {
+            ItemStack item = entry.getValue();
+            if (item == null) {
+                continue;
+            }
+            ItemMeta meta = item.getItemMeta();
+            if (meta == null) {
+                continue;
+            }
+
+            Iterable<AttributeModifier> modifiers = meta.getAttributeModifiers(attribute);
+            if (modifiers == null) {
+                continue;
+            }
+
+            for (AttributeModifier modifier : modifiers) {
+                if (VanillaAttributeResolver.isPluginModifier(modifier)) {
+                    continue;
+                }
+                EquipmentSlot slot = modifier.getSlot();
+                if (slot != null && slot != entry.getKey()) {
+                    continue;
+                }
+                switch (modifier.getOperation()) {
+                    case ADD_NUMBER -> additive += modifier.getAmount();
+                    default -> multiplicative *= 1 + modifier.getAmount(); //VAGUE/IMPROVEMENT NEEDED Different scalar operations may require distinct handling.
+                }
+            }
+        }
+
+        return (fallback + additive) * multiplicative;
+    }
+
+    /**
+     * Attempts to resolve an {@link Attribute} from a list of candidate enum names, returning the
+     * first valid match or {@code null} if none succeed.
+     */
+    private Attribute resolveAttribute(java.util.List<String> candidates) {
+        for (String candidate : candidates) {
+            try {
+                return Attribute.valueOf(candidate);
+            } catch (IllegalArgumentException ignored) {
+                // try the next candidate
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Extracts candidate Bukkit attribute names from configuration, supporting string or list
+     * representations for convenience.
+     */
+    private java.util.List<String> resolveAttributeCandidates(ConfigurationSection entry) {
+        if (entry.isList("bukkit-attributes")) {
+            return entry.getStringList("bukkit-attributes");
+        }
+        if (entry.isString("bukkit-attributes")) {
+            return java.util.List.of(entry.getString("bukkit-attributes"));
+        }
+        return java.util.Collections.emptyList();
+    }
+
+    /**
+     * Registers plugin commands and their executors/tab completers when available in {@code plugin.yml}.
+     */
+    private void registerCommands() {
+        CommandMessages messages = new CommandMessages(this);
+
+        PluginCommand attributesCommand = getCommand("attributes");
+        if (attributesCommand != null) {
+            AttributeCommand attributeCommand = new AttributeCommand(attributeFacade, this);
+            attributesCommand.setExecutor(attributeCommand);
+            attributesCommand.setTabCompleter(attributeCommand);
+        }
+
+        PluginCommand globalsCommand = getCommand("attributeglobals");
+        if (globalsCommand != null) {
+            GlobalAttributeCommand globalAttributeCommand = new GlobalAttributeCommand(this, taskScheduler, attributeFacade, persistence, messages, getName(), entityAttributeHandler);
+            globalsCommand.setExecutor(globalAttributeCommand);
+            globalsCommand.setTabCompleter(globalAttributeCommand);
+        }
+
+        PluginCommand modifiersCommand = getCommand("attributemodifiers");
+        if (modifiersCommand != null) {
+            PlayerModifierCommand modifierCommand = new PlayerModifierCommand(this, taskScheduler, attributeFacade, entityAttributeHandler);
+            modifiersCommand.setExecutor(modifierCommand);
+            modifiersCommand.setTabCompleter(modifierCommand);
+        }
+
+        PluginCommand itemsCommand = getCommand("attributeitems");
+        if (itemsCommand != null) {
+            ItemAttributeCommand itemAttributeCommand = new ItemAttributeCommand(this, itemAttributeHandler, attributeFacade);
+            itemsCommand.setExecutor(itemAttributeCommand);
+            itemsCommand.setTabCompleter(itemAttributeCommand);
+        }
+
+        PluginCommand entitiesCommand = getCommand("attributeentities");
+        if (entitiesCommand != null) {
+            EntityAttributeCommand entityAttributeCommand = new EntityAttributeCommand(this, entityAttributeHandler, attributeFacade);
+            entitiesCommand.setExecutor(entityAttributeCommand);
+            entitiesCommand.setTabCompleter(entityAttributeCommand);
+        }
+
+        PluginCommand hordeCommand = getCommand("testhorde");
+        if (hordeCommand != null) {
+            TestHordeCommand testHordeCommand = new TestHordeCommand(this, attributeFacade, itemAttributeHandler, entityAttributeHandler,
+                    refreshDispatcher);
+            hordeCommand.setExecutor(testHordeCommand);
+        }
+    }
+
+    /**
+     * Hooks listener instances into the Bukkit event system.
+     */
+    private void registerListeners() {
+        getServer().getPluginManager().registerEvents(
+                new AttributeListener(taskScheduler, attributeFacade, persistence, itemAttributeHandler, entityAttributeHandler, changeNotifier),
+                this);
+    }
+
+    /**
+     * Exposes the initialized {@link AttributeFacade} for other components.
+     */
+    public AttributeFacade getAttributeFacade() {
+        return attributeFacade;
+    }
+
+    /**
+     * Exposes the current {@link TraceRecorder} so commands can dump it.
+     */
+    public TraceRecorder getTraceRecorder() {
+        return traceRecorder;
+    }
+
+    /**
+     * Exposes the scheduler so commands can run follow-up work on the thread that owns it.
+     */
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+}
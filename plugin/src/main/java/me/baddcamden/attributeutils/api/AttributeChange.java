@@ -0,0 +1,17 @@
+package me.baddcamden.attributeutils.api;
+
+import me.baddcamden.attributeutils.model.AttributeValueStages;
+
+import java.util.UUID;
+
+/**
+ * One computed value change delivered by {@link AttributeChangeNotifier}.
+ *
+ * @param ownerId     entity whose value changed.
+ * @param attributeId normalized attribute id.
+ * @param previous    value last observed for the owner, or {@code null} when this is the first observation since the
+ *                    owner was subscribed, joined, or the plugin was enabled.
+ * @param current     newly computed value.
+ */
+public record AttributeChange(UUID ownerId, String attributeId, AttributeValueStages previous, AttributeValueStages current) {
+}
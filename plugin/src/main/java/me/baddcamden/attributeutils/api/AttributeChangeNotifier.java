@@ -0,0 +1,316 @@
+package me.baddcamden.attributeutils.api;
+
+import me.baddcamden.attributeutils.model.AttributeValueStages;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Push-based replacement for polling {@link AttributeFacade#compute}: callers subscribe to one owner's attribute or to
+ * an attribute for every owner and are called back when its computed {@link AttributeValueStages} change.
+ * <p>
+ * Change detection runs inside the refresh pipeline. Whenever the
+ * {@link me.baddcamden.attributeutils.handler.AttributeRefreshDispatcher} flushes a refresh that a subscription
+ * covers, the value is recomputed on the owner's thread and compared with the last value observed; attributes and
+ * owners nobody subscribed to cost nothing. Changes are batched per subscriber and delivered on the global thread, so
+ * a subscriber gets at most one callback per tick. Several changes to the same owner and attribute within that window
+ * collapse into one carrying the oldest previous and the newest current value.
+ * <p>
+ * Dynamic attributes also follow vanilla state (level, equipment, potion effects) that changes without any refresh.
+ * Watched dynamic attributes are therefore checked every tick by the
+ * {@link me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler} player pass through
+ * {@link #checkDynamic()}; only the watched ones are recomputed.
+ * <p>
+ * "Every owner" means online players for attribute-wide refreshes and any entity refreshed individually. Callbacks run
+ * on the global thread, which on Folia does not own any entity.
+ */
+public final class AttributeChangeNotifier {
+
+    private final Plugin plugin;
+    private final TaskScheduler scheduler;
+    /** Façade values are computed through; replaced when the plugin is rebuilt. */
+    private volatile AttributeFacade attributeFacade;
+    /** Subscribers to one owner's attribute. */
+    private final Map<OwnerAttribute, Set<Subscriber>> ownerSubscribers = new ConcurrentHashMap<>();
+    /** Subscribers to an attribute for every owner, keyed by normalized attribute id. */
+    private final Map<String, Set<Subscriber>> attributeSubscribers = new ConcurrentHashMap<>();
+    /** Last value observed for each watched owner and attribute. */
+    private final Map<OwnerAttribute, AttributeValueStages> lastValues = new ConcurrentHashMap<>();
+    /** Changes waiting for the next delivery; guarded by this notifier's monitor. */
+    private final Map<Subscriber, Map<OwnerAttribute, AttributeChange>> pending = new LinkedHashMap<>();
+    private boolean deliveryScheduled;
+
+    /**
+     * @param plugin    plugin used for entity lookups and to log failing subscribers
+     * @param scheduler scheduler running value checks on owner threads and deliveries on the global thread
+     */
+    public AttributeChangeNotifier(Plugin plugin, TaskScheduler scheduler) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+    }
+
+    /**
+     * Points the notifier at a rebuilt façade. Subscriptions and last values are kept, and a delivery whose task was
+     * cancelled by the rebuild is scheduled again.
+     */
+    public void bind(AttributeFacade attributeFacade) {
+        this.attributeFacade = attributeFacade;
+        synchronized (this) {
+            deliveryScheduled = false;
+            scheduleDelivery();
+        }
+    }
+
+    /**
+     * Subscribes to one owner's attribute.
+     *
+     * @param ownerId     entity to watch.
+     * @param attributeId attribute to watch; case-insensitive.
+     * @param callback    receives every change batched since the previous delivery.
+     * @return handle that stops delivery when cancelled.
+     */
+    public AttributeSubscription subscribe(UUID ownerId, String attributeId, Consumer<List<AttributeChange>> callback) {
+        Objects.requireNonNull(ownerId, "ownerId");
+        OwnerAttribute key = new OwnerAttribute(ownerId, normalize(attributeId));
+        Subscriber subscriber = new Subscriber(Objects.requireNonNull(callback, "callback"));
+        ownerSubscribers.computeIfAbsent(key, ignored -> new CopyOnWriteArraySet<>()).add(subscriber);
+        return () -> {
+            subscriber.cancelled = true;
+            ownerSubscribers.computeIfPresent(key, (ignored, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            if (!attributeSubscribers.containsKey(key.attributeId()) && !ownerSubscribers.containsKey(key)) {
+                lastValues.remove(key);
+            }
+        };
+    }
+
+    /**
+     * Subscribes to an attribute for every owner.
+     *
+     * @param attributeId attribute to watch; case-insensitive.
+     * @param callback    receives every change batched since the previous delivery.
+     * @return handle that stops delivery when cancelled.
+     */
+    public AttributeSubscription subscribeAll(String attributeId, Consumer<List<AttributeChange>> callback) {
+        String normalizedId = normalize(attributeId);
+        Subscriber subscriber = new Subscriber(Objects.requireNonNull(callback, "callback"));
+        attributeSubscribers.computeIfAbsent(normalizedId, ignored -> new CopyOnWriteArraySet<>()).add(subscriber);
+        return () -> {
+            subscriber.cancelled = true;
+            attributeSubscribers.computeIfPresent(normalizedId, (ignored, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            if (!attributeSubscribers.containsKey(normalizedId)) {
+                lastValues.keySet().removeIf(key -> key.attributeId().equals(normalizedId) && !ownerSubscribers.containsKey(key));
+            }
+        };
+    }
+
+    /**
+     * Returns whether any subscription covers {@code attributeId}.
+     */
+    public boolean isWatching(String attributeId) {
+        String normalizedId = normalize(attributeId);
+        if (attributeSubscribers.containsKey(normalizedId)) {
+            return true;
+        }
+        for (OwnerAttribute key : ownerSubscribers.keySet()) {
+            if (key.attributeId().equals(normalizedId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recomputes the watched attributes among {@code attributeIds} for one owner and queues any change. Must run on
+     * the thread that owns {@code entity}.
+     */
+    public void check(LivingEntity entity, Collection<String> attributeIds) {
+        AttributeFacade facade = this.attributeFacade;
+        if (facade == null || (ownerSubscribers.isEmpty() && attributeSubscribers.isEmpty())) {
+            return;
+        }
+        UUID ownerId = entity.getUniqueId();
+        Player player = entity instanceof Player onlinePlayer ? onlinePlayer : null;
+        for (String attributeId : attributeIds) {
+            OwnerAttribute key = new OwnerAttribute(ownerId, normalize(attributeId));
+            List<Subscriber> subscribers = subscribersFor(key);
+            if (subscribers.isEmpty()) {
+                continue;
+            }
+            AttributeValueStages current = facade.compute(key.attributeId(), ownerId, player);
+            AttributeValueStages previous = lastValues.put(key, current);
+            if (!current.equals(previous)) {
+                enqueue(subscribers, new AttributeChange(ownerId, key.attributeId(), previous, current));
+            }
+        }
+    }
+
+    /**
+     * Checks attribute-wide refreshes: every owner subscribed to one of {@code attributeIds}, plus every online player
+     * when an attribute has subscribers for all owners. Each owner is checked on its own thread.
+     */
+    public void checkAll(Collection<String> attributeIds) {
+        if (ownerSubscribers.isEmpty() && attributeSubscribers.isEmpty()) {
+            return;
+        }
+        Map<UUID, Set<String>> owners = new HashMap<>();
+        for (String attributeId : attributeIds) {
+            String normalizedId = normalize(attributeId);
+            if (attributeSubscribers.containsKey(normalizedId)) {
+                for (Player player : plugin.getServer().getOnlinePlayers()) {
+                    owners.computeIfAbsent(player.getUniqueId(), ignored -> new LinkedHashSet<>()).add(normalizedId);
+                }
+            }
+            for (OwnerAttribute key : ownerSubscribers.keySet()) {
+                if (key.attributeId().equals(normalizedId)) {
+                    owners.computeIfAbsent(key.ownerId(), ignored -> new LinkedHashSet<>()).add(normalizedId);
+                }
+            }
+        }
+        owners.forEach((ownerId, ownerAttributes) -> {
+            Entity entity = plugin.getServer().getEntity(ownerId);
+            if (entity instanceof LivingEntity livingEntity) {
+                scheduler.executeForEntity(livingEntity, () -> check(livingEntity, ownerAttributes));
+            }
+        });
+    }
+
+    /**
+     * Checks every watched dynamic attribute as an attribute-wide refresh would, see {@link #checkAll(Collection)}.
+     * Called once per tick on the global thread so changes of the vanilla values behind dynamic attributes are
+     * reported even though no refresh is issued for them.
+     */
+    public void checkDynamic() {
+        AttributeFacade facade = this.attributeFacade;
+        if (facade == null || (ownerSubscribers.isEmpty() && attributeSubscribers.isEmpty())) {
+            return;
+        }
+        Set<String> watched = new LinkedHashSet<>(attributeSubscribers.keySet());
+        for (OwnerAttribute key : ownerSubscribers.keySet()) {
+            watched.add(key.attributeId());
+        }
+        watched.removeIf(attributeId -> facade.getDefinition(attributeId)
+                .map(definition -> !definition.dynamic())
+                .orElse(true));
+        if (!watched.isEmpty()) {
+            checkAll(watched);
+        }
+    }
+
+    /**
+     * Drops the last values of an owner that left, so its next observation is reported with no previous value.
+     */
+    public void forgetOwner(UUID ownerId) {
+        if (ownerId != null) {
+            lastValues.keySet().removeIf(key -> key.ownerId().equals(ownerId));
+        }
+    }
+
+    private List<Subscriber> subscribersFor(OwnerAttribute key) {
+        Set<Subscriber> owner = ownerSubscribers.get(key);
+        Set<Subscriber> all = attributeSubscribers.get(key.attributeId());
+        if (owner == null && all == null) {
+            return List.of();
+        }
+        List<Subscriber> subscribers = new ArrayList<>();
+        if (owner != null) {
+            subscribers.addAll(owner);
+        }
+        if (all != null) {
+            subscribers.addAll(all);
+        }
+        return subscribers;
+    }
+
+    private synchronized void enqueue(List<Subscriber> subscribers, AttributeChange change) {
+        OwnerAttribute key = new OwnerAttribute(change.ownerId(), change.attributeId());
+        for (Subscriber subscriber : subscribers) {
+            Map<OwnerAttribute, AttributeChange> changes = pending.computeIfAbsent(subscriber, ignored -> new LinkedHashMap<>());
+            AttributeChange earlier = changes.get(key);
+            AttributeChange merged = earlier == null
+                    ? change
+                    : new AttributeChange(change.ownerId(), change.attributeId(), earlier.previous(), change.current());
+            if (merged.current().equals(merged.previous())) {
+                changes.remove(key);
+            } else {
+                changes.put(key, merged);
+            }
+        }
+        scheduleDelivery();
+    }
+
+    /**
+     * Schedules a delivery unless one is already waiting. Callers hold this notifier's monitor.
+     */
+    private void scheduleDelivery() {
+        if (deliveryScheduled || pending.isEmpty()) {
+            return;
+        }
+        deliveryScheduled = true;
+        scheduler.runGlobal(this::deliver);
+    }
+
+    private void deliver() {
+        Map<Subscriber, Map<OwnerAttribute, AttributeChange>> batch;
+        synchronized (this) {
+            deliveryScheduled = false;
+            batch = new LinkedHashMap<>(pending);
+            pending.clear();
+        }
+        batch.forEach((subscriber, changes) -> {
+            if (subscriber.cancelled || changes.isEmpty()) {
+                return;
+            }
+            try {
+                subscriber.callback.accept(List.copyOf(changes.values()));
+            } catch (RuntimeException ex) {
+                plugin.getLogger().log(Level.WARNING, "Attribute change subscriber failed", ex);
+            }
+        });
+    }
+
+    private static String normalize(String attributeId) {
+        return Objects.requireNonNull(attributeId, "attributeId").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Owner and normalized attribute id.
+     */
+    private record OwnerAttribute(UUID ownerId, String attributeId) {
+    }
+
+    /**
+     * One registered callback. Compared by identity, so the same callback subscribed twice is called twice.
+     */
+    private static final class Subscriber {
+        private final Consumer<List<AttributeChange>> callback;
+        private volatile boolean cancelled;
+
+        private Subscriber(Consumer<List<AttributeChange>> callback) {
+            this.callback = callback;
+        }
+    }
+}
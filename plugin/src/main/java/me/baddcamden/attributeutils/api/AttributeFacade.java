@@ -0,0 +1,1179 @@
+package me.baddcamden.attributeutils.api;
+
+import me.baddcamden.attributeutils.compute.AttributeComputationEngine;
+import me.baddcamden.attributeutils.compute.BaselineSupplier;
+import me.baddcamden.attributeutils.compute.DerivedAttributeGraph;
+import me.baddcamden.attributeutils.compute.DerivedFormula;
+import me.baddcamden.attributeutils.metrics.AttributeMetrics;
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeInstance;
+import me.baddcamden.attributeutils.model.AttributeValueStages;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.model.ModifierKeyIndex;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Public façade that keeps attribute definitions, player instances, and vanilla providers in a single entrypoint
+ * for the {@link AttributeComputationEngine}. All attribute calculations executed by the plugin should flow through
+ * this class so that global values, per-player overrides, and computed caps stay consistent.
+ * <p>
+ * The façade differentiates three stages for each attribute:
+ * <ul>
+ *     <li><strong>Default baseline</strong>: populated from the definition and stored in the global {@link AttributeInstance}.
+ *     These values apply to every player unless overridden.</li>
+ *     <li><strong>Current baseline</strong>: player-specific overrides created via {@link #getOrCreatePlayerInstance(UUID, String)}
+ *     which start from {@link me.baddcamden.attributeutils.model.AttributeDefinition#defaultCurrentValue()} and replace the
+ *     default baseline for that player.</li>
+ *     <li><strong>Modifiers</strong>: global and player modifier buckets, each of which includes temporary and permanent
+ *     entries. These modifiers are aggregated by the computation engine before any cap overrides.</li>
+ * </ul>
+ * Cap overrides are set per-player via {@link me.baddcamden.attributeutils.model.AttributeInstance#setCapOverrideKey(String)}
+ * and are honored by the computation engine when calculating the final stage values returned by
+ * {@link me.baddcamden.attributeutils.model.AttributeValueStages}.
+ * <p>
+ * On Folia the façade is used from region threads, the global thread, and the metrics exporter at once. Every map it
+ * holds is concurrent, and {@link AttributeInstance} publishes immutable bucket snapshots, so computations and
+ * footprint walks never observe a half-applied mutation.
+ */
+public class AttributeFacade {
+
+    /**
+     * Expected format for modifier source keys, ensuring each entry is namespaced as
+     * {@code plugin.key} to avoid collisions between plugins.
+     */
+    private static final Pattern SOURCE_KEY_PATTERN = Pattern.compile("[a-z0-9_-]+\\.[a-z0-9_.-]+", Pattern.CASE_INSENSITIVE);
+
+    /** Approximate bytes retained per player entry: map node, UUID key, and the per-player map. */
+    private static final long ESTIMATED_OWNER_BYTES = 160L;
+    /** Approximate bytes per attribute instance: the instance, its nine modifier maps, and its map entry and keys. */
+    private static final long ESTIMATED_INSTANCE_BYTES = 740L;
+    /** Approximate bytes per modifier excluding the key characters: the entry record, its key, and two map nodes. */
+    private static final long ESTIMATED_MODIFIER_BYTES = 200L;
+    /** Baseline supplier for prepared computations, whose vanilla value was already read on the main thread. */
+    private static final BaselineSupplier<Double> PRECOMPUTED_BASELINE = Double::doubleValue;
+
+    /** Owning plugin used solely for logging warnings about invalid calls. */
+    private final Plugin plugin;
+    /** Engine that combines baselines, modifiers, caps, and vanilla suppliers into staged values. */
+    private final AttributeComputationEngine computationEngine;
+    /** Registered attribute definitions keyed by normalized id. */
+    private final Map<String, AttributeDefinition> definitions = new ConcurrentHashMap<>();
+    /** Optional vanilla value suppliers keyed by normalized attribute id. */
+    private final Map<String, VanillaAttributeSupplier> vanillaSuppliers = new ConcurrentHashMap<>();
+    /** Global attribute instances that store shared baselines and modifier buckets. */
+    private final Map<String, AttributeInstance> globalInstances = new ConcurrentHashMap<>();
+    /** Per-player attribute instances keyed by player id then normalized attribute id; both levels are concurrent. */
+    private final Map<UUID, Map<String, AttributeInstance>> playerInstances = new ConcurrentHashMap<>();
+    /** Formulas of derived attributes and which attributes read which. */
+    private final DerivedAttributeGraph derivedGraph = new DerivedAttributeGraph();
+    /**
+     * Current final values computed during the calling thread's compute pass, keyed by owner and attribute, so a
+     * derived formula reads each input once per pass. Absent outside a pass.
+     */
+    private final ThreadLocal<Map<PassKey, Double>> computePass = new ThreadLocal<>();
+    /** Namespace index of the modifier keys held by every global and player instance. */
+    private final ModifierKeyIndex modifierKeys = new ModifierKeyIndex();
+    /** Counters and histograms for this façade and the handlers built around it. */
+    private final AttributeMetrics metrics = new AttributeMetrics();
+    /** Listener that translates modifier removals into live refresh operations. */
+    private AttributeRefreshListener attributeRefreshListener;
+    /** Listener notified of player state mutations so they can be journaled between saves. */
+    private AttributeMutationListener attributeMutationListener;
+
+    /**
+     * Creates a façade bound to the plugin instance and computation engine. The plugin is only used for logging
+     * warnings when callers attempt to access unknown attributes.
+     *
+     * @param plugin             owning plugin used for logging warnings.
+     * @param computationEngine  engine that aggregates baselines, modifiers, and caps into final values.
+     */
+    public AttributeFacade(Plugin plugin, AttributeComputationEngine computationEngine) {
+        this.plugin = plugin;
+        this.computationEngine = computationEngine;
+    }
+
+    /**
+     * Registers a new attribute definition and ensures there is a global {@link AttributeInstance} ready to hold
+     * baselines and modifiers for that attribute.
+     *
+     * @param definition attribute definition to add; ids are normalized before being stored.
+     * @throws IllegalArgumentException when a derived definition's formula is malformed or would close a cycle; the
+     *                                  façade is left unchanged.
+     */
+    public void registerDefinition(AttributeDefinition definition) {
+        String normalizedId = normalize(definition.id());
+        bindFormula(normalizedId, definition);
+        definitions.put(normalizedId, definition);
+        globalInstances.putIfAbsent(normalizedId, track(null, normalizedId, new AttributeInstance(definition)));
+    }
+
+    /**
+     * Registers a supplier for vanilla baseline values that will be included when computing an attribute. The key
+     * is normalized to align with registered definitions and should typically match the attribute id.
+     *
+     * @param key      attribute identifier, typically the same id used for the definition.
+     * @param supplier provider that returns the vanilla baseline value for a player.
+     */
+    public void registerVanillaBaseline(String key, VanillaAttributeSupplier supplier) {
+        vanillaSuppliers.put(normalize(key), supplier);
+    }
+
+    /**
+     * Swaps a reloaded definition in place. The global instance and every player instance of the attribute are
+     * rebound to it, keeping their modifiers and customized baselines, and the attribute is refreshed for every
+     * entity. Unknown ids are registered as new definitions.
+     *
+     * @param definition reloaded definition; its id selects the definition to replace.
+     * @throws IllegalArgumentException when a derived definition's formula is malformed or would close a cycle; the
+     *                                  façade is left unchanged.
+     */
+    public void replaceDefinition(AttributeDefinition definition) {
+        String normalizedId = normalize(definition.id());
+        bindFormula(normalizedId, definition);
+        AttributeDefinition previous = definitions.put(normalizedId, definition);
+        if (previous == null) {
+            globalInstances.putIfAbsent(normalizedId, track(null, normalizedId, new AttributeInstance(definition)));
+        } else {
+            AttributeInstance global = globalInstances.get(normalizedId);
+            if (global == null) {
+                globalInstances.put(normalizedId, track(null, normalizedId, new AttributeInstance(definition)));
+            } else {
+                global.rebind(definition);
+            }
+            for (Map<String, AttributeInstance> ownerInstances : playerInstances.values()) {
+                AttributeInstance instance = ownerInstances.get(normalizedId);
+                if (instance != null) {
+                    instance.rebind(definition);
+                }
+            }
+        }
+        refreshAll(normalizedId);
+    }
+
+    /**
+     * Removes a definition together with its vanilla baseline supplier, its global instance, and every player
+     * instance. The refresh listener is told the attribute is gone, so whatever was applied to live entities for it
+     * can be dropped, and every derived attribute that read it is refreshed with the input reading as zero.
+     *
+     * @param id attribute id to remove.
+     * @return {@code true} when a definition was registered under the id.
+     */
+    public boolean unregisterDefinition(String id) {
+        String normalizedId = normalize(id);
+        List<String> dependents = derivedGraph.dependents(normalizedId);
+        boolean removed = definitions.remove(normalizedId) != null;
+        derivedGraph.remove(normalizedId);
+        vanillaSuppliers.remove(normalizedId);
+        untrack(null, normalizedId, globalInstances.remove(normalizedId));
+        playerInstances.forEach((ownerId, ownerInstances) -> untrack(ownerId, normalizedId, ownerInstances.remove(normalizedId)));
+        AttributeRefreshListener listener = this.attributeRefreshListener;
+        if (removed && listener != null) {
+            listener.attributeRemoved(normalizedId);
+            dependents.forEach(listener::refreshAttributeForAll);
+        }
+        return removed;
+    }
+
+    /**
+     * Requests a refresh of one attribute across all tracked entities, for changes made outside the façade such as
+     * a replaced vanilla baseline supplier.
+     *
+     * @param attributeId attribute id to refresh.
+     */
+    public void refreshAttribute(String attributeId) {
+        refreshAll(normalize(attributeId));
+    }
+
+    /**
+     * Returns an immutable view of every definition currently registered with the façade.
+     * Caller should treat the returned collection as read-only and instead use {@link #registerDefinition(AttributeDefinition)}
+     * to add additional entries.
+     */
+    public Collection<AttributeDefinition> getDefinitions() {
+        return Collections.unmodifiableCollection(definitions.values());
+    }
+
+    /**
+     * Attempts to retrieve a definition by id. The lookup is case-insensitive and returns an empty optional when
+     * the provided id is null or unrecognized.
+     *
+     * @param id raw attribute identifier.
+     * @return optional containing the matching definition when present.
+     */
+    public Optional<AttributeDefinition> getDefinition(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(definitions.get(normalize(id)));
+    }
+
+    /**
+     * Provides a normalized view of all registered attribute identifiers so that command
+     * completers can suggest every available key, including custom attributes loaded at
+     * runtime.
+     *
+     * @return collection of normalized attribute ids
+     */
+    public Collection<String> getDefinitionIds() {
+        return Collections.unmodifiableCollection(definitions.keySet());
+    }
+
+    /**
+     * Returns the metrics registry shared by this façade, its handlers, and persistence. Use
+     * {@link AttributeMetrics#snapshot()} to read counters and {@link AttributeMetrics#reset()} to start a new window.
+     */
+    public AttributeMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Computes the staged attribute values for the provided player using the player's UUID extracted from
+     * the {@link Player} object. When {@code player} is {@code null}, the computation is performed without
+     * player-specific overrides.
+     *
+     * @param id     attribute id to compute.
+     * @param player player whose modifiers and overrides should be applied; may be null for global computations.
+     * @return staged values containing baseline, modifiers, and capped totals.
+     */
+    public AttributeValueStages compute(String id, Player player) {
+        UUID playerId = player == null ? null : player.getUniqueId();
+        return compute(id, playerId, player);
+    }
+
+    /**
+     * Computes the staged attribute values for the provided attribute id and player. When the id is unknown a zeroed
+     * {@link AttributeValueStages} is returned and a warning is logged.
+     *
+     * @param id       attribute id to compute.
+     * @param ownerId  player UUID used to look up player-specific instances; may be null for global-only computation.
+     * @param player   player reference used by vanilla suppliers; may be null when ownerId is null.
+     * @return staged values containing baseline, modifiers, and capped totals.
+     */
+    public AttributeValueStages compute(String id, UUID ownerId, Player player) {
+        AttributeDefinition definition = definitions.get(normalize(id));
+        if (definition == null) {
+            plugin.getLogger().warning("Attempted to compute unknown attribute: " + id);
+            return new AttributeValueStages(0, 0, 0, 0, 0, 0);
+        }
+
+        String normalizedId = normalize(definition.id());
+        metrics.recordCompute(normalizedId);
+        AttributeInstance global = globalInstances.get(normalizedId);
+        AttributeInstance playerInstance = ownerId == null ? null : getOrCreatePlayerInstance(ownerId, definition);
+        AttributeValueStages stages;
+        if (definition.derived()) {
+            BaselineSupplier<UUID> formulaBaseline = owner -> evaluateFormula(normalizedId, owner, player);
+            stages = computeInPass(() -> computationEngine.compute(definition, global, playerInstance, formulaBaseline, ownerId));
+        } else {
+            VanillaAttributeSupplier vanillaSupplier = vanillaSuppliers.get(normalizedId);
+            stages = computationEngine.compute(definition, global, playerInstance, vanillaSupplier, player);
+        }
+        Map<PassKey, Double> pass = computePass.get();
+        if (pass != null) {
+            pass.put(new PassKey(ownerId, normalizedId), stages.currentFinal());
+        }
+        return stages;
+    }
+
+    /**
+     * Runs {@code work} as one compute pass: while it runs, every value computed on this thread is remembered and
+     * derived formulas read their inputs from it instead of computing them again. Refresh a batch in
+     * {@link #orderForRefresh(Collection)} order inside one pass so each dependent reuses the value its inputs were
+     * just refreshed to. The façade must not be mutated from within the pass. Nested calls join the outer pass.
+     *
+     * @param work computations and applications making up the pass.
+     */
+    public void runComputePass(Runnable work) {
+        computeInPass(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Orders a batch of attribute ids so that every derived attribute comes after the ids of the batch it reads.
+     * Ids are normalized and duplicates dropped.
+     *
+     * @param attributeIds ids to refresh together.
+     */
+    public List<String> orderForRefresh(Collection<String> attributeIds) {
+        List<String> normalized = new ArrayList<>(attributeIds.size());
+        for (String attributeId : attributeIds) {
+            normalized.add(normalize(attributeId));
+        }
+        return derivedGraph.order(normalized);
+    }
+
+    /**
+     * Returns the dynamic attributes at least one derived attribute reads. Their values follow the vanilla state of
+     * the owner, so changes have to be detected by polling them; see {@link #refreshDependents(UUID, String)}.
+     */
+    public Set<String> getDynamicFormulaInputs() {
+        Set<String> inputs = new LinkedHashSet<>();
+        definitions.forEach((attributeId, definition) -> {
+            if (definition.dynamic() && !derivedGraph.dependents(attributeId).isEmpty()) {
+                inputs.add(attributeId);
+            }
+        });
+        return inputs;
+    }
+
+    /**
+     * Requests a refresh of every derived attribute reading {@code attributeId} for one player, without refreshing
+     * the attribute itself. Used when an input changed outside the façade, such as a vanilla value behind a dynamic
+     * attribute.
+     *
+     * @param playerId    player whose dependents should be refreshed.
+     * @param attributeId attribute whose value changed.
+     */
+    public void refreshDependents(UUID playerId, String attributeId) {
+        AttributeRefreshListener listener = this.attributeRefreshListener;
+        if (listener == null || playerId == null || attributeId == null) {
+            return;
+        }
+        for (String dependent : derivedGraph.dependents(normalize(attributeId))) {
+            listener.refreshAttributeForPlayer(playerId, dependent);
+        }
+    }
+
+    /**
+     * Runs {@code work} inside the calling thread's compute pass, opening one for its duration when none is open.
+     */
+    private <T> T computeInPass(Supplier<T> work) {
+        if (computePass.get() != null) {
+            return work.get();
+        }
+        computePass.set(new HashMap<>());
+        try {
+            return work.get();
+        } finally {
+            computePass.remove();
+        }
+    }
+
+    /**
+     * Returns the ids a derived attribute's formula reads, or an empty list when the attribute is not derived.
+     *
+     * @param id attribute id to inspect.
+     */
+    public List<String> getFormulaInputs(String id) {
+        DerivedFormula formula = id == null ? null : derivedGraph.formula(normalize(id));
+        return formula == null ? List.of() : formula.inputs();
+    }
+
+    /**
+     * Returns every derived attribute that reads {@code id} directly or through other derived attributes, in the
+     * order they should be recomputed.
+     *
+     * @param id attribute id whose dependents should be listed.
+     */
+    public List<String> getDerivedDependents(String id) {
+        return id == null ? List.of() : derivedGraph.dependents(normalize(id));
+    }
+
+    /**
+     * Evaluates a derived attribute's formula for one owner from each input's current final value, reusing values
+     * already computed in the current compute pass. Inputs that are not registered read as zero.
+     */
+    private double evaluateFormula(String normalizedId, UUID ownerId, Player player) {
+        DerivedFormula formula = derivedGraph.formula(normalizedId);
+        if (formula == null) {
+            return 0.0d;
+        }
+        Map<PassKey, Double> pass = computePass.get();
+        List<String> inputs = formula.inputs();
+        double[] values = new double[inputs.size()];
+        for (int i = 0; i < values.length; i++) {
+            String input = inputs.get(i);
+            Double known = pass == null ? null : pass.get(new PassKey(ownerId, input));
+            if (known != null) {
+                values[i] = known;
+            } else {
+                values[i] = definitions.containsKey(input) ? compute(input, ownerId, player).currentFinal() : 0.0d;
+            }
+        }
+        return formula.evaluate(values);
+    }
+
+    /**
+     * Compiles the formula of a derived definition into the dependency graph, or drops the formula of an id that is
+     * no longer derived. Runs before the definition is stored so a rejected formula leaves the façade unchanged.
+     */
+    private void bindFormula(String normalizedId, AttributeDefinition definition) {
+        if (definition.derived()) {
+            derivedGraph.define(normalizedId, DerivedFormula.compile(definition.formula()));
+        } else {
+            derivedGraph.remove(normalizedId);
+        }
+    }
+
+    /**
+     * Captures everything {@link #compute(String, UUID, Player)} would read for each owner so the computation can run
+     * off the main thread through {@link #computePrepared(PreparedCompute)}. Instances are copied and vanilla
+     * suppliers are evaluated here, on the calling thread, because both read state that is only safe to touch from
+     * the main thread. Owner instances are created when missing, exactly as a direct compute would.
+     *
+     * @param id     attribute id to compute.
+     * @param owners entities to compute for; players are passed to the vanilla supplier, other entities are not.
+     * @return one prepared computation per owner in the same order, or an empty list when the id is unknown.
+     */
+    public List<PreparedCompute> prepareCompute(String id, List<? extends LivingEntity> owners) {
+        AttributeDefinition definition = definitions.get(normalize(id));
+        if (definition == null) {
+            return List.of();
+        }
+
+        String normalizedId = normalize(definition.id());
+        AttributeInstance liveGlobal = globalInstances.get(normalizedId);
+        AttributeInstance global = liveGlobal == null ? null : liveGlobal.copy();
+        VanillaAttributeSupplier vanillaSupplier = definition.dynamic() ? vanillaSuppliers.get(normalizedId) : null;
+        List<PreparedCompute> prepared = new ArrayList<>(owners.size());
+        for (LivingEntity owner : owners) {
+            metrics.recordCompute(normalizedId);
+            AttributeInstance liveOwner = getOrCreatePlayerInstance(owner.getUniqueId(), definition);
+            Double vanillaBaseline;
+            if (definition.derived()) {
+                Player player = owner instanceof Player ownerPlayer ? ownerPlayer : null;
+                vanillaBaseline = computeInPass(() -> evaluateFormula(normalizedId, owner.getUniqueId(), player));
+            } else {
+                vanillaBaseline = vanillaSupplier != null && owner instanceof Player player
+                        ? vanillaSupplier.getVanillaValue(player)
+                        : null;
+            }
+            prepared.add(new PreparedCompute(definition, global, liveOwner.copy(), liveOwner, vanillaBaseline));
+        }
+        return prepared;
+    }
+
+    /**
+     * Computes a prepared snapshot. Safe to call from any thread; it only reads the copies captured by
+     * {@link #prepareCompute(String, List)}. The result is the one a direct compute would have returned at
+     * preparation time.
+     */
+    public AttributeValueStages computePrepared(PreparedCompute prepared) {
+        return computationEngine.compute(prepared.definition(), prepared.global(), prepared.owner(),
+                PRECOMPUTED_BASELINE, prepared.vanillaBaseline());
+    }
+
+    /**
+     * Writes back the baseline side effect of a prepared computation. Static attributes move the owner's current
+     * baseline along with the computed default (see {@link AttributeInstance#synchronizeCurrentBaseWithDefault}); a
+     * direct compute does that on the live instance, so it is replayed here. Must be called on the main thread.
+     */
+    public void commitPrepared(PreparedCompute prepared, AttributeValueStages stages) {
+        AttributeDefinition definition = prepared.definition();
+        if (!definition.dynamic()) {
+            prepared.liveOwner().synchronizeCurrentBaseWithDefault(stages.defaultFinal(), definition.capConfig());
+        }
+    }
+
+    /**
+     * Adds or updates a global modifier for the specified attribute. The modifier key is validated before being
+     * stored and will throw when the attribute is unknown.
+     *
+     * @param attributeId attribute id whose global modifiers should be updated.
+     * @param entry       modifier entry to attach to the global instance.
+     */
+    public void setGlobalModifier(String attributeId, ModifierEntry entry) {
+        String normalizedId = normalize(attributeId);
+        AttributeDefinition definition = definitions.get(normalizedId);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown attribute: " + attributeId);
+        }
+
+        AttributeInstance instance = getOrCreateGlobalInstance(attributeId);
+        ModifierEntry validated = validate(entry);
+        String normalizedKey = validated.key().toLowerCase(Locale.ROOT);
+        ModifierEntry existing = instance.getModifier(normalizedKey);
+        if (validated.equals(existing)) {
+            return;
+        }
+
+        instance.addModifier(validated);
+        refreshAll(normalizedId);
+    }
+
+    /**
+     * Adds or updates a player-specific modifier for the specified attribute. The modifier key is validated before
+     * being stored and will throw when the attribute is unknown.
+     *
+     * @param playerId    player owning the modifier.
+     * @param attributeId attribute id to associate with the modifier.
+     * @param entry       modifier entry describing the adjustment.
+     */
+    public void setPlayerModifier(UUID playerId, String attributeId, ModifierEntry entry) {
+        String normalizedId = normalize(attributeId);
+        AttributeDefinition definition = definitions.get(normalizedId);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown attribute: " + attributeId);
+        }
+
+        AttributeInstance instance = getOrCreatePlayerInstance(playerId, definition);
+        ModifierEntry validated = validate(entry);
+        String normalizedKey = validated.key().toLowerCase(Locale.ROOT);
+        ModifierEntry existing = instance.getModifier(normalizedKey);
+        if (validated.equals(existing)) {
+            return;
+        }
+
+        instance.addModifier(validated);
+        notifyMutation(listener -> listener.modifierSet(playerId, normalizedId, validated));
+        refreshPlayer(playerId, normalizedId);
+    }
+
+    /**
+     * Assigns a cap override for the provided player and attribute. The cap value is clamped to the
+     * attribute's global minimum to avoid invalid overrides and stored using the instance's
+     * {@code capOverrideKey} so subsequent computations honor the persisted cap. No refresh is triggered here because
+     * callers are expected to recompute manually after persisting overrides.
+     */
+    public void setPlayerCapOverride(UUID playerId, String attributeId, double capValue) {
+        AttributeDefinition definition = definitions.get(normalize(attributeId));
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown attribute: " + attributeId);
+        }
+
+        AttributeInstance instance = getOrCreatePlayerInstance(playerId, definition);
+        String overrideKey = instance.getCapOverrideKey();
+        if (overrideKey == null || overrideKey.isBlank()) {
+            overrideKey = playerId == null ? null : playerId.toString();
+            instance.setCapOverrideKey(overrideKey);
+        }
+
+        if (overrideKey == null || overrideKey.isBlank()) {
+            return;
+        }
+
+        double boundedCap = Math.max(definition.capConfig().globalMin(), capValue);
+        String normalizedOverrideKey = overrideKey.toLowerCase(Locale.ROOT);
+        definition.capConfig().overrideMaxValues().put(normalizedOverrideKey, boundedCap);
+        notifyMutation(listener -> listener.capOverrideChanged(playerId, normalize(definition.id()), normalizedOverrideKey, boundedCap));
+    }
+
+    /**
+     * Sets a player's current baseline for an attribute while leaving the default baseline untouched. No refresh is
+     * triggered; callers apply the live value themselves.
+     *
+     * @param playerId    player owning the instance.
+     * @param attributeId attribute id to update.
+     * @param value       new current baseline.
+     */
+    public void setPlayerCurrentBaseValue(UUID playerId, String attributeId, double value) {
+        AttributeInstance instance = getOrCreatePlayerInstance(playerId, attributeId);
+        instance.setCurrentBaseValue(value);
+        notifyMutation(listener -> listener.baselineChanged(playerId, normalize(attributeId), instance));
+    }
+
+    /**
+     * Resets every baseline layer of a player's instance to the supplied value, discarding any per-player delta. Used
+     * when a global default change is pushed to online players. No refresh is triggered.
+     *
+     * @param playerId    player owning the instance.
+     * @param attributeId attribute id to update.
+     * @param value       new default, current, and default final baseline.
+     */
+    public void setPlayerBaseline(UUID playerId, String attributeId, double value) {
+        AttributeInstance instance = getOrCreatePlayerInstance(playerId, attributeId);
+        instance.setDefaultBaseValue(value);
+        instance.setCurrentBaseValue(value);
+        instance.setDefaultFinalBaseline(value);
+        notifyMutation(listener -> listener.baselineChanged(playerId, normalize(attributeId), instance));
+    }
+
+    /**
+     * Removes a global modifier when present. Unknown attributes are ignored to allow callers to safely clean up.
+     *
+     * @param attributeId attribute id whose modifier should be removed.
+     * @param key         modifier key to remove.
+     */
+    public void removeGlobalModifier(String attributeId, String key) {
+        String normalizedId = normalize(attributeId);
+        AttributeInstance instance = globalInstances.get(normalizedId);
+        if (instance != null) {
+            String normalizedKey = key == null ? null : key.toLowerCase(Locale.ROOT);
+            boolean removed = normalizedKey != null && instance.hasModifier(normalizedKey);
+            instance.removeModifier(normalizedKey);
+            if (removed) {
+                refreshAll(normalizedId);
+            }
+        }
+    }
+
+    /**
+     * Removes a player modifier when present. If the player or attribute is not tracked, the call is a no-op.
+     *
+     * @param playerId    player owning the modifier.
+     * @param attributeId attribute id whose modifier should be removed.
+     * @param key         modifier key to remove.
+     */
+    public void removePlayerModifier(UUID playerId, String attributeId, String key) {
+        Map<String, AttributeInstance> store = playerInstances.get(playerId);
+        if (store == null) {
+            return;
+        }
+        String normalizedId = normalize(attributeId);
+        AttributeInstance instance = store.get(normalizedId);
+        if (instance != null) {
+            String normalizedKey = key == null ? null : key.toLowerCase(Locale.ROOT);
+            boolean removed = normalizedKey != null && instance.hasModifier(normalizedKey);
+            instance.removeModifier(normalizedKey);
+            if (removed) {
+                notifyMutation(listener -> listener.modifierRemoved(playerId, normalizedId, normalizedKey));
+                refreshPlayer(playerId, normalizedId);
+            }
+        }
+    }
+
+    /**
+     * Lists every modifier whose key equals {@code prefix} or lies below it, across the global layer and every owner.
+     * {@code lifesteal} (or {@code lifesteal.*}) matches {@code lifesteal.pvp} and {@code lifesteal.potion.regen} but
+     * not {@code lifestealer.pvp}. Runs in time proportional to the keys in that namespace.
+     *
+     * @param prefix namespace or full key; case-insensitive.
+     * @return matching entries; global entries have a {@code null} owner.
+     * @throws IllegalArgumentException when the prefix is blank.
+     */
+    public List<ModifierKeyIndex.Entry> listModifiersByPrefix(String prefix) {
+        return modifierKeys.match(prefix);
+    }
+
+    /**
+     * Lists one owner's modifiers whose key equals {@code prefix} or lies below it.
+     *
+     * @param ownerId owning player or entity, or {@code null} for the global layer only.
+     * @param prefix  namespace or full key; case-insensitive.
+     * @return matching entries across every attribute of the owner.
+     * @throws IllegalArgumentException when the prefix is blank.
+     */
+    public List<ModifierKeyIndex.Entry> listModifiersByPrefix(UUID ownerId, String prefix) {
+        return modifierKeys.match(ownerId, prefix);
+    }
+
+    /**
+     * Removes every modifier whose key equals {@code prefix} or lies below it, across the global layer and every
+     * owner. Each affected attribute is refreshed once, however many of its modifiers were removed.
+     *
+     * @param prefix namespace or full key; case-insensitive.
+     * @return number of modifiers removed.
+     * @throws IllegalArgumentException when the prefix is blank.
+     */
+    public int removeModifiersByPrefix(String prefix) {
+        return removeMatches(modifierKeys.match(prefix));
+    }
+
+    /**
+     * Removes one owner's modifiers whose key equals {@code prefix} or lies below it. Each affected attribute is
+     * refreshed once, however many of its modifiers were removed.
+     *
+     * @param ownerId owning player or entity, or {@code null} for the global layer only.
+     * @param prefix  namespace or full key; case-insensitive.
+     * @return number of modifiers removed.
+     * @throws IllegalArgumentException when the prefix is blank.
+     */
+    public int removeModifiersByPrefix(UUID ownerId, String prefix) {
+        return removeMatches(modifierKeys.match(ownerId, prefix));
+    }
+
+    /**
+     * Removes indexed modifiers, journals player removals, then issues one refresh per affected attribute: for every
+     * entity when a global modifier went, otherwise for each owner that lost one.
+     */
+    private int removeMatches(List<ModifierKeyIndex.Entry> matches) {
+        Map<UUID, Set<String>> touched = new LinkedHashMap<>();
+        int removed = 0;
+        for (ModifierKeyIndex.Entry match : matches) {
+            UUID ownerId = match.ownerId();
+            AttributeInstance instance = ownerId == null
+                    ? globalInstances.get(match.attributeId())
+                    : playerInstances.getOrDefault(ownerId, Map.of()).get(match.attributeId());
+            if (instance == null || !instance.hasModifier(match.key())) {
+                continue;
+            }
+            instance.removeModifier(match.key());
+            removed++;
+            if (ownerId != null) {
+                notifyMutation(listener -> listener.modifierRemoved(ownerId, match.attributeId(), match.key()));
+            }
+            touched.computeIfAbsent(ownerId, ignored -> new LinkedHashSet<>()).add(match.attributeId());
+        }
+        refreshTouched(touched);
+        return removed;
+    }
+
+    /**
+     * Starts a batch of modifier sets and removals that is validated as a whole and refreshes each touched owner and
+     * attribute once when committed. Prefer it over repeated {@link #setPlayerModifier} calls when applying many
+     * modifiers at once, for example on a class change.
+     *
+     * @return an empty, single-use batch bound to this façade.
+     */
+    public ModifierBatch batch() {
+        return new ModifierBatch(this);
+    }
+
+    /**
+     * Applies a committed {@link ModifierBatch}: validates every operation before touching any instance, applies them
+     * in order with journaling for player modifiers, then refreshes the touched attributes.
+     */
+    int applyBatch(List<ModifierBatch.Operation> operations) {
+        List<ModifierBatch.Operation> normalized = new ArrayList<>(operations.size());
+        for (ModifierBatch.Operation operation : operations) {
+            String normalizedId = normalize(operation.attributeId());
+            if (operation.entry() != null) {
+                if (!definitions.containsKey(normalizedId)) {
+                    throw new IllegalArgumentException("Unknown attribute: " + operation.attributeId());
+                }
+                validate(operation.entry());
+            }
+            normalized.add(new ModifierBatch.Operation(operation.ownerId(), normalizedId, operation.entry(),
+                    operation.key().toLowerCase(Locale.ROOT)));
+        }
+
+        Map<UUID, Set<String>> touched = new LinkedHashMap<>();
+        int applied = 0;
+        for (ModifierBatch.Operation operation : normalized) {
+            boolean changed = operation.entry() == null ? applyRemoval(operation) : applySet(operation);
+            if (changed) {
+                applied++;
+                touched.computeIfAbsent(operation.ownerId(), ignored -> new LinkedHashSet<>()).add(operation.attributeId());
+            }
+        }
+        refreshTouched(touched);
+        return applied;
+    }
+
+    private boolean applySet(ModifierBatch.Operation operation) {
+        UUID ownerId = operation.ownerId();
+        AttributeInstance instance = ownerId == null
+                ? getOrCreateGlobalInstance(operation.attributeId())
+                : getOrCreatePlayerInstance(ownerId, operation.attributeId());
+        if (operation.entry().equals(instance.getModifier(operation.key()))) {
+            return false;
+        }
+        instance.addModifier(operation.entry());
+        if (ownerId != null) {
+            notifyMutation(listener -> listener.modifierSet(ownerId, operation.attributeId(), operation.entry()));
+        }
+        return true;
+    }
+
+    private boolean applyRemoval(ModifierBatch.Operation operation) {
+        UUID ownerId = operation.ownerId();
+        AttributeInstance instance = ownerId == null
+                ? globalInstances.get(operation.attributeId())
+                : playerInstances.getOrDefault(ownerId, Map.of()).get(operation.attributeId());
+        if (instance == null || !instance.hasModifier(operation.key())) {
+            return false;
+        }
+        instance.removeModifier(operation.key());
+        if (ownerId != null) {
+            notifyMutation(listener -> listener.modifierRemoved(ownerId, operation.attributeId(), operation.key()));
+        }
+        return true;
+    }
+
+    /**
+     * Provides an immutable view of the global attribute instances keyed by normalized id.
+     *
+     * @return unmodifiable map of global attribute instances.
+     */
+    public Map<String, AttributeInstance> getGlobalInstances() {
+        return Collections.unmodifiableMap(globalInstances);
+    }
+
+    /**
+     * Provides an immutable view of the player-specific attribute instances for the given player id. When the player
+     * has no tracked instances an empty map is returned.
+     *
+     * @param playerId player whose instances should be fetched.
+     * @return unmodifiable map keyed by normalized attribute id.
+     */
+    public Map<String, AttributeInstance> getPlayerInstances(UUID playerId) {
+        return Collections.unmodifiableMap(playerInstances.getOrDefault(playerId, Map.of()));
+    }
+
+    /**
+     * Requests a refresh of every registered attribute for a specific player, ensuring both static and dynamic
+     * attributes are re-applied after equipment or vanilla attribute changes.
+     *
+     * @param playerId player whose attributes should be refreshed.
+     */
+    public void refreshAllAttributesForPlayer(UUID playerId) {
+        AttributeRefreshListener listener = this.attributeRefreshListener;
+        if (listener == null || playerId == null) {
+            return;
+        }
+
+        definitions.keySet().forEach(attributeId -> listener.refreshAttributeForPlayer(playerId, attributeId));
+    }
+
+    /**
+     * Requests a refresh for every registered attribute across all tracked entities.
+     */
+    public void refreshAllAttributes() {
+        AttributeRefreshListener listener = this.attributeRefreshListener;
+        if (listener == null) {
+            return;
+        }
+
+        definitions.keySet().forEach(listener::refreshAttributeForAll);
+    }
+
+    /**
+     * Retrieves the global instance for an attribute or creates one using the registered definition. Unknown
+     * attributes trigger an {@link IllegalArgumentException}.
+     *
+     * @param attributeId attribute id to fetch.
+     * @return the existing or newly created instance.
+     */
+    public AttributeInstance getOrCreateGlobalInstance(String attributeId) {
+        String normalizedId = normalize(attributeId);
+        AttributeDefinition definition = definitions.get(normalizedId);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown attribute: " + attributeId);
+        }
+        return globalInstances.computeIfAbsent(normalizedId, key -> track(null, key, new AttributeInstance(definition)));
+    }
+
+    /**
+     * Retrieves the player-specific instance for an attribute or creates one seeded with the default base and current
+     * values from the definition. Unknown attributes trigger an {@link IllegalArgumentException}.
+     *
+     * @param playerId    player whose instance should be fetched.
+     * @param attributeId attribute id to fetch.
+     * @return player-specific attribute instance.
+     */
+    public AttributeInstance getOrCreatePlayerInstance(UUID playerId, String attributeId) {
+        AttributeDefinition definition = definitions.get(normalize(attributeId));
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown attribute: " + attributeId);
+        }
+        return getOrCreatePlayerInstance(playerId, definition);
+    }
+
+    /**
+     * Shared implementation for creating player instances that seeds defaults and assigns the cap override key.
+     */
+    private AttributeInstance getOrCreatePlayerInstance(UUID playerId, AttributeDefinition definition) {
+        Map<String, AttributeInstance> map = playerInstances.computeIfAbsent(playerId, ignored -> new ConcurrentHashMap<>());
+        String normalizedId = normalize(definition.id());
+        return map.computeIfAbsent(normalizedId, ignored -> {
+            //VAGUE/IMPROVEMENT NEEDED Clarify whether the cap override key should differ from the player id or support multi-identity scenarios.
+            AttributeInstance instance = new AttributeInstance(definition, definition.defaultBaseValue(), definition.defaultCurrentValue(), playerId.toString());
+            instance.setCapOverrideKey(playerId.toString());
+            return track(playerId, normalizedId, instance);
+        });
+    }
+
+    /**
+     * Removes all temporary modifiers for a player across every tracked attribute instance. Used when a player
+     * disconnects to avoid session-scoped effects persisting between logins.
+     *
+     * @param playerId player whose temporary modifiers should be cleared.
+     */
+    public void purgeTemporary(UUID playerId) {
+        Map<String, AttributeInstance> map = playerInstances.get(playerId);
+        if (map != null) {
+            map.values().forEach(AttributeInstance::purgeTemporaryModifiers);
+        }
+    }
+
+    /**
+     * Drops every tracked instance for a player. Used once an offline player's state has been written to disk and no
+     * longer needs to stay in memory.
+     *
+     * @param playerId player whose instances should be forgotten.
+     */
+    public void clearPlayerInstances(UUID playerId) {
+        if (playerId == null) {
+            return;
+        }
+        Map<String, AttributeInstance> removed = playerInstances.remove(playerId);
+        if (removed != null) {
+            removed.forEach((attributeId, instance) -> untrack(playerId, attributeId, instance));
+        }
+    }
+
+    /**
+     * Summarizes the per-player instance store: how many owners, instances, and modifiers it holds and a rough
+     * estimate of the heap they retain. The estimate assumes a 64-bit JVM with compressed references and counts the
+     * owner maps, each instance with its modifier buckets, and each modifier with its key; shared objects such as
+     * definitions are excluded. Iterates every instance, so avoid calling it on a hot path.
+     *
+     * @return snapshot of the current player instance footprint.
+     */
+    public PlayerInstanceFootprint getPlayerInstanceFootprint() {
+        int owners = 0;
+        int instances = 0;
+        int modifiers = 0;
+        long estimatedBytes = 0L;
+        for (Map<String, AttributeInstance> ownerInstances : playerInstances.values()) {
+            owners++;
+            estimatedBytes += ESTIMATED_OWNER_BYTES;
+            for (AttributeInstance instance : ownerInstances.values()) {
+                instances++;
+                estimatedBytes += ESTIMATED_INSTANCE_BYTES;
+                for (String key : instance.getModifiers().keySet()) {
+                    modifiers++;
+                    estimatedBytes += ESTIMATED_MODIFIER_BYTES + key.length();
+                }
+            }
+        }
+        return new PlayerInstanceFootprint(owners, instances, modifiers, estimatedBytes);
+    }
+
+    /**
+     * Clears temporary modifiers from every global attribute instance. Intended for cleanup when refreshing global state.
+     */
+    public void purgeGlobalTemporary() {
+        globalInstances.values().forEach(AttributeInstance::purgeTemporaryModifiers);
+    }
+
+    /**
+     * Keeps {@link #modifierKeys} in step with an instance's modifiers, whichever path mutates them.
+     *
+     * @param ownerId owning entity, or {@code null} for a global instance.
+     */
+    private AttributeInstance track(UUID ownerId, String attributeId, AttributeInstance instance) {
+        instance.setKeyListener(new AttributeInstance.KeyListener() {
+            @Override
+            public void keyAdded(String key) {
+                modifierKeys.add(ownerId, attributeId, key);
+            }
+
+            @Override
+            public void keyRemoved(String key) {
+                modifierKeys.remove(ownerId, attributeId, key);
+            }
+        });
+        return instance;
+    }
+
+    /**
+     * Detaches a dropped instance from {@link #modifierKeys} and forgets the keys it held. Ignores {@code null}.
+     */
+    private void untrack(UUID ownerId, String attributeId, AttributeInstance instance) {
+        if (instance == null) {
+            return;
+        }
+        instance.setKeyListener(null);
+        for (String key : instance.getModifiers().keySet()) {
+            modifierKeys.remove(ownerId, attributeId, key);
+        }
+    }
+
+    /**
+     * Validates modifier keys to ensure they follow the expected plugin-scoped format and prevents collisions between
+     * unrelated plugins when multiple systems contribute modifiers.
+     */
+    private ModifierEntry validate(ModifierEntry entry) {
+        if (!SOURCE_KEY_PATTERN.matcher(entry.key()).matches()) {
+            throw new IllegalArgumentException("Modifier keys must follow [plugin].[key] format");
+        }
+        return entry;
+    }
+
+    /**
+     * Normalizes attribute identifiers to a lower-case format for consistent lookups. Callers must ensure {@code id}
+     * is non-null before invoking this helper.
+     */
+    private String normalize(String id) {
+        return id.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Registers a listener that will be notified when modifiers are removed so live entities can refresh their values.
+     * Only one listener is supported because dispatch logic is centralized in {@link me.baddcamden.attributeutils.handler.AttributeRefreshDispatcher}.
+     *
+     * @param listener refresh listener to notify.
+     */
+    public void setAttributeRefreshListener(AttributeRefreshListener listener) {
+        this.attributeRefreshListener = listener;
+    }
+
+    /**
+     * Registers a listener notified whenever player modifiers, cap overrides, or baselines change through the façade.
+     * Only one listener is supported; the journal is the sole consumer.
+     *
+     * @param listener mutation listener to notify, or {@code null} to stop notifications.
+     */
+    public void setAttributeMutationListener(AttributeMutationListener listener) {
+        this.attributeMutationListener = listener;
+    }
+
+    /**
+     * Forwards a mutation to the registered listener, if any.
+     */
+    private void notifyMutation(Consumer<AttributeMutationListener> notification) {
+        AttributeMutationListener listener = this.attributeMutationListener;
+        if (listener != null) {
+            notification.accept(listener);
+        }
+    }
+
+    /**
+     * Notifies the refresh listener to update a single player's computed attribute, followed by every derived
+     * attribute reading it. No-ops when no listener is registered to avoid forcing callers to null-check.
+     */
+    private void refreshPlayer(UUID playerId, String attributeId) {
+        AttributeRefreshListener listener = this.attributeRefreshListener;
+        if (listener == null) {
+            return;
+        }
+        listener.refreshAttributeForPlayer(playerId, attributeId);
+        for (String dependent : derivedGraph.dependents(attributeId)) {
+            listener.refreshAttributeForPlayer(playerId, dependent);
+        }
+    }
+
+    /**
+     * Notifies the refresh listener to update all players for a given attribute, followed by every derived attribute
+     * reading it. This is primarily used when a global modifier is removed and all live entities need to be updated.
+     */
+    private void refreshAll(String attributeId) {
+        AttributeRefreshListener listener = this.attributeRefreshListener;
+        if (listener == null) {
+            return;
+        }
+        listener.refreshAttributeForAll(attributeId);
+        for (String dependent : derivedGraph.dependents(attributeId)) {
+            listener.refreshAttributeForAll(dependent);
+        }
+    }
+
+    /**
+     * Issues one refresh per touched attribute and its derived dependents: for every entity when the global layer
+     * ({@code null} owner) changed, otherwise for each owner that changed and is not already covered.
+     */
+    private void refreshTouched(Map<UUID, Set<String>> touched) {
+        AttributeRefreshListener listener = this.attributeRefreshListener;
+        if (listener == null || touched.isEmpty()) {
+            return;
+        }
+        Set<String> global = withDependents(touched.getOrDefault(null, Set.of()));
+        global.forEach(listener::refreshAttributeForAll);
+        touched.forEach((ownerId, attributeIds) -> {
+            if (ownerId == null) {
+                return;
+            }
+            for (String attributeId : withDependents(attributeIds)) {
+                if (!global.contains(attributeId)) {
+                    listener.refreshAttributeForPlayer(ownerId, attributeId);
+                }
+            }
+        });
+    }
+
+    private Set<String> withDependents(Collection<String> attributeIds) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String attributeId : attributeIds) {
+            result.add(attributeId);
+            result.addAll(derivedGraph.dependents(attributeId));
+        }
+        return result;
+    }
+
+    /**
+     * Size of the per-player instance store reported by {@link #getPlayerInstanceFootprint()}.
+     *
+     * @param owners         number of players or entities with tracked instances.
+     * @param instances      number of attribute instances across all owners.
+     * @param modifiers      number of modifiers across all instances.
+     * @param estimatedBytes approximate heap retained by the store.
+     */
+    public record PlayerInstanceFootprint(int owners, int instances, int modifiers, long estimatedBytes) {
+    }
+
+    /**
+     * Key of a value remembered by a compute pass.
+     *
+     * @param ownerId     owner the value was computed for; null for a global-only computation.
+     * @param attributeId normalized attribute id.
+     */
+    private record PassKey(UUID ownerId, String attributeId) {
+    }
+
+    /**
+     * Inputs for one owner's computation captured by {@link #prepareCompute(String, List)}.
+     *
+     * @param definition      definition of the attribute being computed.
+     * @param global          copy of the global instance, shared by every owner prepared in the same call; may be null.
+     * @param owner           copy of the owner's instance, mutated by the computation.
+     * @param liveOwner       the owner's live instance, updated by {@link #commitPrepared}.
+     * @param vanillaBaseline vanilla value read for dynamic attributes, or null to use the definition default.
+     */
+    public record PreparedCompute(AttributeDefinition definition,
+                                  AttributeInstance global,
+                                  AttributeInstance owner,
+                                  AttributeInstance liveOwner,
+                                  Double vanillaBaseline) {
+    }
+
+    /**
+     * Listener invoked when modifier removals occur so implementations can re-apply live entity attributes.
+     */
+    public interface AttributeRefreshListener {
+        /**
+         * Refreshes the computed attribute values for a single player. Implementations typically recalculate and
+         * reapply values to the live entity represented by {@code playerId}.
+         */
+        void refreshAttributeForPlayer(UUID playerId, String attributeId);
+
+        /**
+         * Refreshes the computed attribute values for all entities that use the supplied attribute id.
+         */
+        void refreshAttributeForAll(String attributeId);
+
+        /**
+         * Called after the definition of {@code attributeId} was unregistered. Implementations drop pending refreshes
+         * of the attribute and remove whatever they applied to live entities for it. Does nothing by default.
+         */
+        default void attributeRemoved(String attributeId) {
+        }
+    }
+
+    /**
+     * Listener invoked after player state changes through the façade. Implementations must be cheap because calls
+     * happen on the thread performing the mutation, usually the main server thread.
+     */
+    public interface AttributeMutationListener {
+        /**
+         * Called after a player modifier was added or replaced.
+         */
+        void modifierSet(UUID playerId, String attributeId, ModifierEntry entry);
+
+        /**
+         * Called after a player modifier was removed.
+         */
+        void modifierRemoved(UUID playerId, String attributeId, String key);
+
+        /**
+         * Called after a player cap override was stored under {@code overrideKey}.
+         */
+        void capOverrideChanged(UUID playerId, String attributeId, String overrideKey, double value);
+
+        /**
+         * Called after any baseline layer of a player instance changed; the instance reflects the new values.
+         */
+        void baselineChanged(UUID playerId, String attributeId, AttributeInstance instance);
+    }
+}
@@ -0,0 +1,13 @@
+package me.baddcamden.attributeutils.api;
+
+/**
+ * Registration returned by {@link AttributeChangeNotifier}; cancel it to stop receiving changes.
+ */
+@FunctionalInterface
+public interface AttributeSubscription {
+
+    /**
+     * Stops delivery, including changes already batched for the next delivery. Safe to call more than once.
+     */
+    void cancel();
+}
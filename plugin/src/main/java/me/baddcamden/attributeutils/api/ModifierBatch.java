@@ -0,0 +1,100 @@
+package me.baddcamden.attributeutils.api;
+
+import me.baddcamden.attributeutils.model.ModifierEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Collects modifier sets and removals across owners and attributes and applies them together through
+ * {@link AttributeFacade#batch()}. Nothing touches the façade until {@link #commit()}, which validates every queued
+ * operation first, so an unknown attribute or malformed key rejects the whole batch with nothing applied. Operations
+ * then run in the order they were queued, and each touched owner and attribute is refreshed exactly once afterwards,
+ * instead of once or more per modifier.
+ * <p>
+ * An owner of {@code null} addresses the global layer. A batch is single-use and not thread-safe; build and commit it
+ * on the thread that would otherwise call the façade directly.
+ *
+ * <pre>{@code
+ * facade.batch()
+ *         .remove(playerId, "max_health", "skills.warrior.vitality")
+ *         .set(playerId, "max_health", new ModifierEntry("skills.mage.focus", ...))
+ *         .commit();
+ * }</pre>
+ */
+public final class ModifierBatch {
+
+    private final AttributeFacade attributeFacade;
+    private final List<Operation> operations = new ArrayList<>();
+    private boolean committed;
+
+    ModifierBatch(AttributeFacade attributeFacade) {
+        this.attributeFacade = attributeFacade;
+    }
+
+    /**
+     * Queues adding or replacing a modifier.
+     *
+     * @param ownerId     owning player or entity, or {@code null} for a global modifier.
+     * @param attributeId attribute the modifier applies to.
+     * @param entry       modifier to store under its key.
+     * @return this batch, for chaining.
+     */
+    public ModifierBatch set(UUID ownerId, String attributeId, ModifierEntry entry) {
+        return queue(new Operation(ownerId, Objects.requireNonNull(attributeId, "attributeId"),
+                Objects.requireNonNull(entry, "entry"), entry.key()));
+    }
+
+    /**
+     * Queues removing a modifier. Removing a key that is absent when the batch commits is a no-op.
+     *
+     * @param ownerId     owning player or entity, or {@code null} for a global modifier.
+     * @param attributeId attribute holding the modifier.
+     * @param key         modifier key to remove.
+     * @return this batch, for chaining.
+     */
+    public ModifierBatch remove(UUID ownerId, String attributeId, String key) {
+        return queue(new Operation(ownerId, Objects.requireNonNull(attributeId, "attributeId"), null,
+                Objects.requireNonNull(key, "key")));
+    }
+
+    /**
+     * Returns how many operations are queued.
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Validates and applies every queued operation, then refreshes each touched owner and attribute once.
+     *
+     * @return number of operations that changed a modifier; sets matching the stored modifier and removals of absent
+     * keys are not counted.
+     * @throws IllegalArgumentException when a set targets an unknown attribute or uses a malformed key; nothing is
+     *                                  applied.
+     * @throws IllegalStateException    when the batch was already committed.
+     */
+    public int commit() {
+        if (committed) {
+            throw new IllegalStateException("Modifier batch already committed");
+        }
+        committed = true;
+        return attributeFacade.applyBatch(List.copyOf(operations));
+    }
+
+    private ModifierBatch queue(Operation operation) {
+        if (committed) {
+            throw new IllegalStateException("Modifier batch already committed");
+        }
+        operations.add(operation);
+        return this;
+    }
+
+    /**
+     * One queued operation; {@code entry} is {@code null} for removals.
+     */
+    record Operation(UUID ownerId, String attributeId, ModifierEntry entry, String key) {
+    }
+}
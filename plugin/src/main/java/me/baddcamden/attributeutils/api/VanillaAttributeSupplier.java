@@ -1,5 +1,6 @@
 package me.baddcamden.attributeutils.api;
 
+import me.baddcamden.attributeutils.compute.BaselineSupplier;
 import org.bukkit.entity.Player;
 
 /**
@@ -11,9 +12,11 @@ import org.bukkit.entity.Player;
  * is injected as the current baseline and is subsequently adjusted by player/global base overrides and all
  * registered modifiers. Callers should avoid returning capped values because capping is handled later by the
  * computation engine.
+ * <p>
+ * This is the {@link BaselineSupplier} of the core engine bound to Bukkit players.
  */
 @FunctionalInterface
-public interface VanillaAttributeSupplier {
+public interface VanillaAttributeSupplier extends BaselineSupplier<Player> {
     /**
      * Returns the live vanilla value for the provided player prior to any plugin adjustments. The player instance is
      * guaranteed to be non-null when invoked for dynamic attributes; static attributes skip the supplier entirely.
@@ -21,5 +24,6 @@ public interface VanillaAttributeSupplier {
      * @param player player whose current vanilla state should be converted into a baseline value.
      * @return raw vanilla value to use as the current baseline for computation.
      */
+    @Override
     double getVanillaValue(Player player);
 }
@@ -0,0 +1,323 @@
+package me.baddcamden.attributeutils.command;
+
+import me.baddcamden.attributeutils.AttributeUtilitiesPlugin;
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.metrics.AttributeMetrics;
+import me.baddcamden.attributeutils.metrics.TraceRecorder;
+import me.baddcamden.attributeutils.model.AttributeValueStages;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Command entrypoint for the plugin's {@code /attribute} command.
+ * <p>
+ * <ul>
+ *     <li>If executed by a player without arguments, it lists every registered attribute and
+ *     the player's computed values using {@link AttributeFacade#compute(String, Player)}.</li>
+ *     <li>If executed with {@code reload}, it reloads plugin configuration when the sender has
+ *     the {@code attributeutils.reload} permission.</li>
+ *     <li>If executed with {@code stats}, it prints the façade's {@link AttributeMetrics} when the
+ *     sender has the {@code attributeutils.stats} permission; {@code stats reset} starts a new window.</li>
+ *     <li>If executed with {@code trace dump}, it writes the {@link TraceRecorder} buffers to a file when the
+ *     sender has the {@code attributeutils.trace} permission.</li>
+ *     <li>Console senders are only able to reload, view stats, or dump traces; they are shown an informational message when
+ *     attempting to view player-focused attribute details.</li>
+ * </ul>
+ */
+public class AttributeCommand implements CommandExecutor, TabCompleter {
+
+    /** Number of most-computed attributes listed by {@code stats}. */
+    private static final int STATS_TOP_ATTRIBUTES = 5;
+
+    private final AttributeFacade attributeFacade;
+    private final AttributeUtilitiesPlugin plugin;
+    private final CommandMessages messages;
+
+    /**
+     * Creates a new command handler wired to the attribute facade and plugin instance.
+     *
+     * @param attributeFacade facade used to access definitions and compute values.
+     * @param plugin          owning plugin used for configuration reloads and message formatting.
+     */
+    public AttributeCommand(AttributeFacade attributeFacade, AttributeUtilitiesPlugin plugin) {
+        this.attributeFacade = attributeFacade;
+        this.plugin = plugin;
+        this.messages = new CommandMessages(plugin);
+    }
+
+    /**
+     * Executes the {@code /attribute} command.
+     *
+     * @param sender  command executor; reload is available to any sender with permission, but
+     *                attribute listings require an in-game {@link Player}.
+     * @param command command instance provided by Bukkit.
+     * @param label   label used to invoke the command.
+     * @param args    command arguments; if the first argument is {@code reload}, the plugin
+     *                configuration is refreshed, {@code stats} prints or resets metrics, and
+     *                {@code trace dump} writes the trace buffers to a file.
+     * @return {@code true} to indicate the command was handled for both player and console
+     *         contexts.
+     */
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        // Handle reload explicitly first to avoid evaluating sender type when unnecessary.
+        if (args.length > 0 && args[0].equalsIgnoreCase("reload")) {
+            if (!sender.hasPermission("attributeutils.reload")) {
+                sender.sendMessage(messages.format(
+                        "messages.attribute-command.reload-no-permission",
+                        "§cYou do not have permission to reload attributes."));
+                return true;
+            }
+
+            plugin.reloadAttributes();
+            sender.sendMessage(messages.format(
+                    "messages.attribute-command.reload-success",
+                    "§aAttribute configuration reloaded."));
+            return true;
+        }
+
+        if (args.length > 0 && args[0].equalsIgnoreCase("stats")) {
+            handleStats(sender, args);
+            return true;
+        }
+
+        if (args.length > 0 && args[0].equalsIgnoreCase("trace")) {
+            handleTrace(sender, label, args);
+            return true;
+        }
+
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(messages.format(
+                    "messages.attribute-command.invalid-sender",
+                    "§eAttributes are player-focused; use in-game for details."));
+            return true;
+        }
+
+        Player player = (Player) sender;
+        sender.sendMessage(messages.format(
+                "messages.attribute-command.header",
+                "§bRegistered attributes:"));
+        attributeFacade.getDefinitions().forEach(definition -> {
+            AttributeValueStages stages = attributeFacade.compute(definition.id(), player);
+            sender.sendMessage(buildPlayerLine(definition.displayName(), stages));
+        });
+        return true;
+    }
+
+    /**
+     * Prints the current metrics window, or resets it when the second argument is {@code reset}.
+     *
+     * @param sender command executor; requires the {@code attributeutils.stats} permission.
+     * @param args   full command arguments, starting with {@code stats}.
+     */
+    private void handleStats(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("attributeutils.stats")) {
+            sender.sendMessage(messages.format(
+                    "messages.attribute-command.stats-no-permission",
+                    "§cYou do not have permission to view attribute stats."));
+            return;
+        }
+
+        AttributeMetrics metrics = attributeFacade.getMetrics();
+        if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sender.sendMessage(messages.format(
+                    "messages.attribute-command.stats-reset",
+                    "§aAttribute stats reset."));
+            return;
+        }
+
+        AttributeMetrics.Snapshot snapshot = metrics.snapshot();
+        double ticks = Math.max(1.0d, snapshot.windowTicks());
+        sender.sendMessage(messages.format(
+                "messages.attribute-command.stats-header",
+                Map.of("seconds", formatDecimal(snapshot.windowNanos() / 1_000_000_000.0d),
+                        "ticks", Long.toString((long) snapshot.windowTicks())),
+                "§bAttribute stats over {seconds}s ({ticks} ticks):"));
+        sender.sendMessage(messages.format(
+                "messages.attribute-command.stats-computes",
+                Map.of("computes", Long.toString(snapshot.computes()),
+                        "per-tick", formatDecimal(snapshot.computes() / ticks),
+                        "top", formatTopAttributes(snapshot.computesByAttribute())),
+                "§7 Computes: §f{computes} §7({per-tick}/tick) top: §f{top}"));
+        sender.sendMessage(messages.format(
+                "messages.attribute-command.stats-cache",
+                Map.of("hits", Long.toString(snapshot.deltaCacheHits()),
+                        "misses", Long.toString(snapshot.deltaCacheMisses()),
+                        "hit-rate", formatDecimal(snapshot.deltaCacheHitRatio() * 100.0d),
+                        "coalesced", Long.toString(snapshot.coalescedMutations()),
+                        "staged-hits", Long.toString(snapshot.stagedPlayerHits()),
+                        "staged-misses", Long.toString(snapshot.stagedPlayerMisses())),
+                "§7 Delta cache: §f{hits} §7hits / §f{misses} §7misses ({hit-rate}%), §f{coalesced} §7coalesced; "
+                        + "pre-login cache: §f{staged-hits} §7hits / §f{staged-misses} §7misses"));
+        AttributeMetrics.HistogramSnapshot entities = snapshot.entitiesPerFlush();
+        sender.sendMessage(messages.format(
+                "messages.attribute-command.stats-refresh",
+                Map.of("requests", Long.toString(snapshot.refreshRequests()),
+                        "flushes", Long.toString(snapshot.refreshFlushes()),
+                        "applications", Long.toString(snapshot.vanillaApplications()),
+                        "entities-mean", formatDecimal(entities.mean()),
+                        "entities-p95", Long.toString(entities.percentile(95.0d)),
+                        "entities-max", Long.toString(entities.max()),
+                        "queue-p95", Long.toString(snapshot.refreshQueueDepth().percentile(95.0d)),
+                        "queue-max", Long.toString(snapshot.refreshQueueDepth().max()),
+                        "flush-p95", formatMillis(snapshot.refreshFlushNanos().percentile(95.0d))),
+                "§7 Refresh: §f{requests} §7requests, §f{flushes} §7flushes, §f{applications} §7applications; "
+                        + "entities/flush mean §f{entities-mean} §7p95 §f{entities-p95} §7max §f{entities-max}; "
+                        + "queue p95 §f{queue-p95} §7max §f{queue-max}; flush p95 §f{flush-p95}ms"));
+        sender.sendMessage(messages.format(
+                "messages.attribute-command.stats-items",
+                Map.of("scans", Long.toString(snapshot.itemScans()),
+                        "per-tick", formatDecimal(snapshot.itemScans() / ticks),
+                        "slots", Long.toString(snapshot.slotsDecoded()),
+                        "scan-mean", formatMillis(snapshot.itemScanNanos().mean()),
+                        "scan-p95", formatMillis(snapshot.itemScanNanos().percentile(95.0d))),
+                "§7 Item scans: §f{scans} §7({per-tick}/tick), §f{slots} §7slots decoded, "
+                        + "mean §f{scan-mean}ms §7p95 §f{scan-p95}ms"));
+        AttributeMetrics.HistogramSnapshot loads = snapshot.persistenceLoadNanos();
+        AttributeMetrics.HistogramSnapshot saves = snapshot.persistenceSaveNanos();
+        sender.sendMessage(messages.format(
+                "messages.attribute-command.stats-persistence",
+                Map.of("loads", Long.toString(loads.count()),
+                        "load-mean", formatMillis(loads.mean()),
+                        "load-p95", formatMillis(loads.percentile(95.0d)),
+                        "saves", Long.toString(saves.count()),
+                        "save-mean", formatMillis(saves.mean()),
+                        "save-p95", formatMillis(saves.percentile(95.0d)),
+                        "queue", Integer.toString(snapshot.persistenceQueueDepth()),
+                        "queue-peak", Long.toString(snapshot.peakPersistenceQueueDepth()),
+                        "io-wait-p95", formatMillis(snapshot.persistenceIoWaitNanos().percentile(95.0d))),
+                "§7 Persistence: §f{loads} §7loads (mean §f{load-mean}ms §7p95 §f{load-p95}ms), §f{saves} §7saves "
+                        + "(mean §f{save-mean}ms §7p95 §f{save-p95}ms), queue §f{queue} §7peak §f{queue-peak}, "
+                        + "io wait p95 §f{io-wait-p95}ms"));
+    }
+
+    /**
+     * Dumps the trace buffers to a file and reports the path once the write finishes.
+     *
+     * @param sender command executor; requires the {@code attributeutils.trace} permission.
+     * @param label  label used to invoke the command, for the usage message.
+     * @param args   full command arguments, starting with {@code trace}.
+     */
+    private void handleTrace(CommandSender sender, String label, String[] args) {
+        if (!sender.hasPermission("attributeutils.trace")) {
+            sender.sendMessage(messages.format(
+                    "messages.attribute-command.trace-no-permission",
+                    "§cYou do not have permission to dump attribute traces."));
+            return;
+        }
+        TraceRecorder recorder = plugin.getTraceRecorder();
+        if (args.length < 2 || !args[1].equalsIgnoreCase("dump") || recorder == null) {
+            sender.sendMessage(messages.format(
+                    "messages.attribute-command.trace-usage",
+                    Map.of("label", label),
+                    "§eUsage: /{label} trace dump"));
+            return;
+        }
+
+        recorder.dump("requested by " + sender.getName()).whenComplete((file, error) ->
+                plugin.getTaskScheduler().runGlobal(() -> {
+                    if (error != null) {
+                        sender.sendMessage(messages.format(
+                                "messages.attribute-command.trace-failed",
+                                Map.of("error", String.valueOf(error.getMessage())),
+                                "§cFailed to write attribute trace: {error}"));
+                        return;
+                    }
+                    sender.sendMessage(messages.format(
+                            "messages.attribute-command.trace-dumped",
+                            Map.of("file", plugin.getDataFolder().toPath().relativize(file).toString()),
+                            "§aAttribute trace written to {file}."));
+                }));
+    }
+
+    private static String formatTopAttributes(Map<String, Long> computesByAttribute) {
+        if (computesByAttribute.isEmpty()) {
+            return "-";
+        }
+        return computesByAttribute.entrySet().stream()
+                .limit(STATS_TOP_ATTRIBUTES)
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String formatDecimal(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String formatMillis(double nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0d);
+    }
+
+    /**
+     * Builds the formatted output line for a player's attribute values.
+     *
+     * @param displayName human-friendly attribute display name.
+     * @param stages      computed stages for the player. The record contains intermediate values
+     *                    for raw/default/current states, but only the raw and final values are
+     *                    surfaced to keep chat output concise.
+     * @return formatted line containing the raw default, final default, raw current, and final
+     * current values for the attribute.
+     */
+    private String buildPlayerLine(String displayName, AttributeValueStages stages) {
+        return ChatColor.GRAY + " - " + displayName + ChatColor.WHITE +
+                " rawDefault=" + stages.rawDefault() +
+                " default=" + stages.defaultFinal() +
+                " rawCurrent=" + stages.rawCurrent() +
+                " final=" + stages.currentFinal();
+    }
+
+    /**
+     * Provides tab completion suggestions for the command.
+     *
+     * @param sender  command executor; {@code reload}, {@code stats}, and {@code trace} are only suggested to
+     *                senders holding the matching permission.
+     * @param command command instance provided by Bukkit.
+     * @param alias   alias used to invoke the command.
+     * @param args    current arguments; the first argument completes to {@code reload} or
+     *                {@code stats} or {@code trace}; {@code stats} completes to {@code reset} and
+     *                {@code trace} to {@code dump}.
+     * @return matching suggestions, or an empty list when none apply.
+     */
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length == 1) {
+            String partial = args[0].toLowerCase(Locale.ROOT);
+            List<String> suggestions = new ArrayList<>();
+            if (sender.hasPermission("attributeutils.reload") && "reload".startsWith(partial)) {
+                suggestions.add("reload");
+            }
+            if (sender.hasPermission("attributeutils.stats") && "stats".startsWith(partial)) {
+                suggestions.add("stats");
+            }
+            if (sender.hasPermission("attributeutils.trace") && "trace".startsWith(partial)) {
+                suggestions.add("trace");
+            }
+            return suggestions;
+        }
+        if (args.length == 2
+                && args[0].equalsIgnoreCase("trace")
+                && sender.hasPermission("attributeutils.trace")
+                && "dump".startsWith(args[1].toLowerCase(Locale.ROOT))) {
+            return Collections.singletonList("dump");
+        }
+        if (args.length == 2
+                && args[0].equalsIgnoreCase("stats")
+                && sender.hasPermission("attributeutils.stats")
+                && "reset".startsWith(args[1].toLowerCase(Locale.ROOT))) {
+            return Collections.singletonList("reset");
+        }
+        return Collections.emptyList();
+    }
+}
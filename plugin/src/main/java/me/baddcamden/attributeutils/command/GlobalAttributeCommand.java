@@ -7,6 +7,7 @@ import me.baddcamden.attributeutils.model.AttributeInstance;
 import me.baddcamden.attributeutils.model.ModifierEntry;
 import me.baddcamden.attributeutils.model.ModifierOperation;
 import me.baddcamden.attributeutils.persistence.AttributePersistence;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
@@ -44,6 +45,8 @@ public class GlobalAttributeCommand implements CommandExecutor, TabCompleter {
 
     /** Owning plugin used for scheduling, config access, and online player enumeration. */
     private final Plugin plugin;
+    /** Scheduler that expires timed global modifiers. */
+    private final TaskScheduler scheduler;
     /** Facade for attribute definitions and mutation APIs backing the command logic. */
     private final AttributeFacade attributeFacade;
     /** Persistence gateway that writes player and global changes to disk asynchronously. */
@@ -58,7 +61,8 @@ public class GlobalAttributeCommand implements CommandExecutor, TabCompleter {
     /**
      * Creates a new command router for global attribute state mutations.
      *
-     * @param plugin                 entry point used for scheduling tasks and accessing configuration
+     * @param plugin                 entry point used for accessing configuration and online players
+     * @param scheduler              scheduler used to expire timed modifiers
      * @param attributeFacade        attribute facade providing definitions and mutation helpers
      * @param persistence            persistence layer used to save global and player state
      * @param messages               command message formatter for consistent user-facing output
@@ -66,12 +70,14 @@ public class GlobalAttributeCommand implements CommandExecutor, TabCompleter {
      * @param entityAttributeHandler bridge for syncing vanilla attributes and caps after updates
      */
     public GlobalAttributeCommand(Plugin plugin,
+                                  TaskScheduler scheduler,
                                   AttributeFacade attributeFacade,
                                   AttributePersistence persistence,
                                   CommandMessages messages,
                                   String defaultNamespace,
                                   EntityAttributeHandler entityAttributeHandler) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
         this.attributeFacade = attributeFacade;
         this.persistence = persistence;
         this.messages = messages;
@@ -376,7 +382,7 @@ public class GlobalAttributeCommand implements CommandExecutor, TabCompleter {
                 scope.appliesToDefault(), scope.appliesToCurrent(), useMultiplierKeys, multiplierKeys, durationSeconds.orElse(null));
         attributeFacade.setGlobalModifier(attributeKey.get().key(), entry);
 
-        durationSeconds.ifPresent(seconds -> plugin.getServer().getScheduler().runTaskLater(plugin,
+        durationSeconds.ifPresent(seconds -> scheduler.runGlobalLater(
                 () -> attributeFacade.removeGlobalModifier(attributeKey.get().key(), entry.key()),
                 (long) (seconds * 20)));
 
@@ -427,7 +433,7 @@ public class GlobalAttributeCommand implements CommandExecutor, TabCompleter {
 
         AttributeInstance instance = findGlobalInstance(attributeKey.get().plugin(), attributeKey.get().key());
         String normalizedModifierKey = modifierKey.get().asString().toLowerCase(Locale.ROOT);
-        if (instance == null || !instance.getModifiers().containsKey(normalizedModifierKey)) {
+        if (instance == null || !instance.hasModifier(normalizedModifierKey)) {
             sender.sendMessage(messages.format(
                     "messages.global-command.modifier.missing-modifier",
                     Map.of("attribute", attributeKey.get().asString(), "modifier", modifierKey.get().asString()),
@@ -518,10 +524,7 @@ public class GlobalAttributeCommand implements CommandExecutor, TabCompleter {
         for (Player player : plugin.getServer().getOnlinePlayers()) {
             UUID playerId = player.getUniqueId();
             onlinePlayerIds.add(playerId);
-            AttributeInstance instance = attributeFacade.getOrCreatePlayerInstance(playerId, definition.id());
-            instance.setDefaultBaseValue(clamped);
-            instance.setCurrentBaseValue(clamped);
-            instance.setDefaultFinalBaseline(clamped);
+            attributeFacade.setPlayerBaseline(playerId, definition.id(), clamped);
             persistence.savePlayerAsync(attributeFacade, playerId);
             entityAttributeHandler.applyVanillaAttribute(player, definition.id());
             entityAttributeHandler.applyPlayerCaps(player);
@@ -4,6 +4,7 @@ import me.baddcamden.attributeutils.api.AttributeFacade;
 import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
 import me.baddcamden.attributeutils.model.ModifierEntry;
 import me.baddcamden.attributeutils.model.ModifierOperation;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -31,6 +32,8 @@ import java.util.Set;
 public class PlayerModifierCommand implements CommandExecutor, TabCompleter {
 
     private final Plugin plugin;
+    /** Scheduler that expires timed modifiers and re-applies them on the target's own thread. */
+    private final TaskScheduler scheduler;
     private final AttributeFacade attributeFacade;
     private final EntityAttributeHandler entityAttributeHandler;
     private final CommandMessages messages;
@@ -38,14 +41,17 @@ public class PlayerModifierCommand implements CommandExecutor, TabCompleter {
     /**
      * Creates a new player modifier command handler.
      *
-     * @param plugin                 owning plugin for scheduling and configuration.
+     * @param plugin                 owning plugin for configuration and player lookups.
+     * @param scheduler              scheduler used to expire timed modifiers.
      * @param attributeFacade        facade used to read and mutate player attribute state.
      * @param entityAttributeHandler utility for updating vanilla attributes after modifier changes.
      */
     public PlayerModifierCommand(Plugin plugin,
+                                 TaskScheduler scheduler,
                                  AttributeFacade attributeFacade,
                                  EntityAttributeHandler entityAttributeHandler) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
         this.attributeFacade = attributeFacade;
         this.entityAttributeHandler = entityAttributeHandler;
         this.messages = new CommandMessages(plugin);
@@ -225,11 +231,12 @@ public class PlayerModifierCommand implements CommandExecutor, TabCompleter {
         entityAttributeHandler.applyVanillaAttribute(target, attributeKey.get().key());
 
         // The scheduler expects ticks (20 per second), so multiply seconds to align with Minecraft timing.
-        durationSeconds.ifPresent(seconds -> plugin.getServer().getScheduler().runTaskLater(plugin,
+        durationSeconds.ifPresent(seconds -> scheduler.runGlobalLater(
                 () -> {
                     attributeFacade.removePlayerModifier(target.getUniqueId(), attributeKey.get().key(), entry.key());
                     if (target.isOnline()) {
-                        entityAttributeHandler.applyVanillaAttribute(target, attributeKey.get().key());
+                        scheduler.executeForEntity(target,
+                                () -> entityAttributeHandler.applyVanillaAttribute(target, attributeKey.get().key()));
                     }
                 },
                 (long) (seconds * 20)));
@@ -0,0 +1,786 @@
+package me.baddcamden.attributeutils.command;
+
+import me.baddcamden.attributeutils.AttributeUtilitiesPlugin;
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.handler.AttributeRefreshDispatcher;
+import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
+import me.baddcamden.attributeutils.handler.item.ItemAttributeHandler;
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.model.ModifierOperation;
+import me.baddcamden.attributeutils.scheduler.TaskHandle;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Zombie;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Command that spawns an attribute-heavy zombie horde for sandbox and load testing. Each equipped item is decorated
+ * with randomized attribute definitions, and matching modifier entries are applied directly to the spawned entities so
+ * the attribute computation pipeline mirrors real gameplay interactions for gear and direct entity modifiers alike.
+ *
+ * <p>Runs are seeded so a load can be reproduced, spawn in batches across ticks, and finish with a report of tick
+ * intervals before, during, and after spawning, the number of vanilla attribute applications, the refresh queue depth,
+ * and the size of the facade's per-entity state. {@code /testhorde clear} removes every horde entity and its
+ * attribute state.</p>
+ */
+public class TestHordeCommand implements CommandExecutor {
+
+    private static final int MIN_ZOMBIES = 10;
+    private static final int MAX_ZOMBIES = 20;
+    private static final int MAX_HORDE_SIZE = 5000;
+    private static final int MIN_ITEM_ATTRIBUTES = 1;
+    private static final int DEFAULT_MAX_ITEM_ATTRIBUTES = 3;
+    private static final int MAX_ITEM_ATTRIBUTES = 16;
+    private static final int MAX_DIRECT_MODIFIERS = 64;
+    private static final int DEFAULT_SPAWNS_PER_TICK = 20;
+    private static final int MAX_SPAWNS_PER_TICK = 500;
+    private static final int BASELINE_TICKS = 20;
+    private static final int SETTLE_TICKS = 100;
+    private static final double MIN_ADDITIVE = 0.01d;
+    private static final double MAX_ADDITIVE = 1.5d;
+    private static final double MIN_MULTIPLIER = 1.01d;
+    private static final double MAX_MULTIPLIER = 1.5d;
+    private static final double NANOS_PER_MILLI = 1_000_000.0d;
+    /**
+     * Scoreboard tag marking horde entities so {@code clear} finds them even after the tracking set was lost.
+     */
+    private static final String HORDE_TAG = "attributeutils_testhorde";
+    /**
+     * Delay before reporting a clear on Folia, where horde entities are removed later on their own region threads.
+     */
+    private static final long CLEAR_REPORT_DELAY_TICKS = 20L;
+
+    private final AttributeUtilitiesPlugin plugin;
+    private final AttributeFacade attributeFacade;
+    private final ItemAttributeHandler itemAttributeHandler;
+    private final EntityAttributeHandler entityAttributeHandler;
+    private final AttributeRefreshDispatcher refreshDispatcher;
+    private final CommandMessages messages;
+    /**
+     * Horde entities spawned through this command instance, used for cleanup. Filled on the spawning region's thread
+     * and drained by {@code clear} on the command thread.
+     */
+    private final Set<UUID> hordeEntities = ConcurrentHashMap.newKeySet();
+    /**
+     * Run currently spawning or measuring; only one run is allowed at a time.
+     */
+    private volatile HordeRun activeRun;
+
+    /**
+     * Creates a new sandbox horde command used for validating and load testing the attribute pipeline end-to-end.
+     *
+     * @param plugin                 owning plugin for scheduling and logging.
+     * @param attributeFacade        facade for attribute definitions and modifier management.
+     * @param itemAttributeHandler   builder that decorates items with attribute data.
+     * @param entityAttributeHandler handler used to apply vanilla attributes after modifiers are set.
+     * @param refreshDispatcher      dispatcher whose queue depth is reported.
+     */
+    public TestHordeCommand(AttributeUtilitiesPlugin plugin,
+                            AttributeFacade attributeFacade,
+                            ItemAttributeHandler itemAttributeHandler,
+                            EntityAttributeHandler entityAttributeHandler,
+                            AttributeRefreshDispatcher refreshDispatcher) {
+        this.plugin = plugin;
+        this.attributeFacade = attributeFacade;
+        this.itemAttributeHandler = itemAttributeHandler;
+        this.entityAttributeHandler = entityAttributeHandler;
+        this.refreshDispatcher = refreshDispatcher;
+        this.messages = new CommandMessages(plugin);
+    }
+
+    /**
+     * Starts a horde run around the invoking player, previews it in dry-run mode, or clears previous hordes.
+     * Accepted arguments: an optional zombie count, {@code seed=<n>}, {@code attributes=<n>} (maximum attribute rolls
+     * per item), {@code modifiers=<n>} (extra direct modifiers per zombie), {@code rate=<n>} (spawns per tick), and
+     * {@code dryrun}; or {@code clear} on its own.
+     */
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(messages.format(
+                    "messages.test-horde-command.invalid-sender",
+                    ChatColor.RED + "Only players can run this sandbox horde test."));
+            return true;
+        }
+
+        if (!player.isOp() && !player.hasPermission("attributeutils.command.testhorde")) {
+            sender.sendMessage(messages.format(
+                    "messages.test-horde-command.no-permission",
+                    ChatColor.RED + "You do not have permission to spawn a test horde."));
+            return true;
+        }
+
+        if (args.length == 1 && "clear".equalsIgnoreCase(args[0])) {
+            clearHordes(sender);
+            return true;
+        }
+
+        List<AttributeDefinition> definitions = attributeFacade.getDefinitions().stream().toList();
+        if (definitions.isEmpty()) {
+            sender.sendMessage(messages.format(
+                    "messages.test-horde-command.no-attributes",
+                    ChatColor.RED + "No attributes are registered; cannot build randomized gear."));
+            return true;
+        }
+
+        HordeOptions options;
+        try {
+            options = HordeOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            sender.sendMessage(messages.format(
+                    "messages.test-horde-command.usage",
+                    Map.of("label", label, "error", String.valueOf(ex.getMessage())),
+                    ChatColor.RED + "Usage: /{label} [count] [seed=<n>] [attributes=<n>] [modifiers=<n>] [rate=<n>] [dryrun] | /{label} clear ({error})"));
+            return true;
+        }
+
+        Random random = new Random(options.seed());
+        int zombieCount = options.count() > 0 ? options.count() : MIN_ZOMBIES + random.nextInt(MAX_ZOMBIES - MIN_ZOMBIES + 1);
+        if (options.dryRun()) {
+            sender.sendMessage(messages.format(
+                    "messages.test-horde-command.dry-run",
+                    buildPreviewPlaceholders(zombieCount, options),
+                    ChatColor.YELLOW + "Dry run: would spawn {count} zombies with randomized gear (seed {seed})."));
+            return true;
+        }
+
+        if (activeRun != null) {
+            sender.sendMessage(messages.format(
+                    "messages.test-horde-command.already-running",
+                    ChatColor.RED + "A test horde is already running; wait for its report or use /testhorde clear."));
+            return true;
+        }
+
+        Location origin = player.getLocation();
+        if (origin == null || origin.getWorld() == null) {
+            sender.sendMessage(messages.format(
+                    "messages.test-horde-command.spawn-failed",
+                    Map.of("count", Integer.toString(zombieCount)),
+                    ChatColor.RED + "{count} zombies failed to spawn or equip attributes; see the console."));
+            return true;
+        }
+
+        HordeRun run = new HordeRun(player.getUniqueId(), origin.clone(), random, zombieCount, options, definitions);
+        activeRun = run;
+        // Anchored to the spawn origin rather than the requester: spawns run on the thread owning that region on Folia,
+        // and the run still finishes (clearing activeRun) if the requester logs out, which would retire an entity task.
+        run.task = plugin.getTaskScheduler().runAtLocationTimer(origin, run, 1L, 1L);
+        sender.sendMessage(messages.format(
+                "messages.test-horde-command.started",
+                Map.of(
+                        "count", Integer.toString(zombieCount),
+                        "rate", Integer.toString(options.spawnsPerTick()),
+                        "seed", Long.toString(options.seed()),
+                        "baseline", Integer.toString(BASELINE_TICKS),
+                        "settle", Integer.toString(SETTLE_TICKS)),
+                ChatColor.YELLOW + "Spawning {count} zombies at {rate}/tick (seed {seed}); measuring {baseline} baseline and {settle} settle ticks."));
+        return true;
+    }
+
+    /**
+     * Cancels any active run, removes every horde entity, and drops the attribute state held for them by the facade
+     * and both handlers. Entities are visited through {@link TaskScheduler#forEachLivingEntity}, so each is removed on
+     * the thread that owns it; on Folia that happens after this method returns and the report is sent a second later.
+     */
+    private void clearHordes(CommandSender sender) {
+        HordeRun run = activeRun;
+        if (run != null) {
+            run.cancel();
+        }
+
+        long bytesBefore = attributeFacade.getPlayerInstanceFootprint().estimatedBytes();
+        Set<UUID> tracked = new HashSet<>(hordeEntities);
+        hordeEntities.clear();
+        AtomicInteger removed = new AtomicInteger();
+        TaskScheduler scheduler = plugin.getTaskScheduler();
+        scheduler.forEachLivingEntity(entity -> {
+            if (entity.getScoreboardTags().contains(HORDE_TAG)) {
+                entity.remove();
+                releaseAttributeState(entity.getUniqueId());
+                removed.incrementAndGet();
+            }
+        });
+        tracked.forEach(this::releaseAttributeState);
+
+        Runnable report = () -> {
+            long released = Math.max(0L, bytesBefore - attributeFacade.getPlayerInstanceFootprint().estimatedBytes());
+            sender.sendMessage(messages.format(
+                    "messages.test-horde-command.cleared",
+                    Map.of(
+                            "count", Integer.toString(removed.get()),
+                            "memory_kb", formatKilobytes(released)),
+                    ChatColor.GREEN + "Removed {count} horde entities and released ~{memory_kb} KB of attribute state."));
+        };
+        if (scheduler.isRegionThreaded()) {
+            scheduler.runGlobalLater(report, CLEAR_REPORT_DELAY_TICKS);
+        } else {
+            report.run();
+        }
+    }
+
+    /**
+     * Drops the attribute state the facade and both handlers hold for one horde entity.
+     */
+    private void releaseAttributeState(UUID entityId) {
+        entityAttributeHandler.invalidateAppliedModifiers(entityId);
+        itemAttributeHandler.clearAppliedModifiers(entityId);
+        attributeFacade.clearPlayerInstances(entityId);
+    }
+
+    /**
+     * Offsets a location randomly on the X/Z plane to spread spawned zombies around the origin. The radius grows with
+     * the horde size so large hordes do not stack into a single block.
+     */
+    private Location adjustedLocation(Location origin, Random random, int hordeSize) {
+        double radius = Math.max(4.0d, Math.sqrt(hordeSize));
+        double offsetX = (random.nextDouble() * 2.0d - 1.0d) * radius;
+        double offsetZ = (random.nextDouble() * 2.0d - 1.0d) * radius;
+        return origin.clone().add(offsetX, 0, offsetZ);
+    }
+
+    /**
+     * Builds gear and modifiers for a single zombie, wiring attributes into armor, weapon, and direct modifiers while
+     * tracking which attributes were touched for later vanilla synchronization.
+     */
+    private HordeLoadout decorateZombie(Zombie zombie, List<AttributeDefinition> definitions, Random random, HordeOptions options) {
+        List<AttributedItem> attributedItems = new ArrayList<>();
+        attributedItems.add(buildAttributedItem(Material.LEATHER_HELMET, definitions, random, options));
+        attributedItems.add(buildAttributedItem(Material.LEATHER_CHESTPLATE, definitions, random, options));
+        attributedItems.add(buildAttributedItem(Material.LEATHER_LEGGINGS, definitions, random, options));
+        attributedItems.add(buildAttributedItem(Material.LEATHER_BOOTS, definitions, random, options));
+        attributedItems.add(buildAttributedItem(Material.WOODEN_SWORD, definitions, random, options));
+
+        EntityEquipment equipment = zombie.getEquipment();
+        if (equipment == null) {
+            throw new IllegalStateException("Zombie has no equipment holder");
+        }
+
+        applyEquipment(equipment, attributedItems);
+
+        Set<String> touchedAttributes = new HashSet<>();
+        int modifierCount = 0;
+        for (AttributedItem attributedItem : attributedItems) {
+            // Apply modifiers directly to the entity so behavior mirrors equipped items in combat calculations.
+            modifierCount += applyModifiers(zombie, attributedItem, touchedAttributes);
+        }
+        modifierCount += applyDirectModifiers(zombie, definitions, random, options.directModifiers(), touchedAttributes);
+
+        return new HordeLoadout(touchedAttributes, modifierCount);
+    }
+
+    /**
+     * Equips the provided attributed items onto the zombie and removes drop chances to keep the sandbox clean.
+     */
+    private void applyEquipment(EntityEquipment equipment, List<AttributedItem> attributedItems) {
+        for (AttributedItem attributedItem : attributedItems) {
+            ItemStack itemStack = attributedItem.item();
+            if (itemStack == null) {
+                continue;
+            }
+
+            switch (itemStack.getType()) {
+                case LEATHER_HELMET -> equipment.setHelmet(itemStack);
+                case LEATHER_CHESTPLATE -> equipment.setChestplate(itemStack);
+                case LEATHER_LEGGINGS -> equipment.setLeggings(itemStack);
+                case LEATHER_BOOTS -> equipment.setBoots(itemStack);
+                case WOODEN_SWORD -> equipment.setItemInMainHand(itemStack);
+                default -> {
+                }
+            }
+        }
+
+        equipment.setHelmetDropChance(0.0f);
+        equipment.setChestplateDropChance(0.0f);
+        equipment.setLeggingsDropChance(0.0f);
+        equipment.setBootsDropChance(0.0f);
+        equipment.setItemInMainHandDropChance(0.0f);
+    }
+
+    /**
+     * Writes modifier entries from an attributed item directly to the entity and records touched attribute ids.
+     *
+     * @return number of modifiers written.
+     */
+    private int applyModifiers(LivingEntity entity, AttributedItem attributedItem, Set<String> touchedAttributes) {
+        String materialKey = attributedItem.item().getType().name().toLowerCase(Locale.ROOT);
+        for (AttributeRoll roll : attributedItem.rolls()) {
+            setEntityModifier(entity, "attributeutils.testhorde." + entity.getUniqueId() + "." + materialKey + "." + roll.attributeId(),
+                    roll, touchedAttributes);
+        }
+        return attributedItem.rolls().size();
+    }
+
+    /**
+     * Writes the requested number of extra modifiers that are not tied to any item, raising modifier density per
+     * attribute instance.
+     *
+     * @return number of modifiers written.
+     */
+    private int applyDirectModifiers(LivingEntity entity,
+                                     List<AttributeDefinition> definitions,
+                                     Random random,
+                                     int count,
+                                     Set<String> touchedAttributes) {
+        for (int index = 0; index < count; index++) {
+            AttributeRoll roll = randomRoll(definitions, random);
+            setEntityModifier(entity, "attributeutils.testhorde." + entity.getUniqueId() + ".direct_" + index + "." + roll.attributeId(),
+                    roll, touchedAttributes);
+        }
+        return count;
+    }
+
+    private void setEntityModifier(LivingEntity entity, String key, AttributeRoll roll, Set<String> touchedAttributes) {
+        ModifierEntry entry = new ModifierEntry(
+                key,
+                roll.operation(),
+                roll.amount(),
+                true,
+                false,
+                true,
+                false,
+                Set.of());
+
+        //VAGUE/IMPROVEMENT NEEDED Using player-scoped modifier storage for mobs may not be intentional; confirm API expectations.
+        attributeFacade.setPlayerModifier(entity.getUniqueId(), roll.attributeId(), entry);
+        touchedAttributes.add(roll.attributeId());
+    }
+
+    /**
+     * Invokes vanilla attribute application for every attribute mutated during horde generation.
+     */
+    private void applyVanillaTouches(LivingEntity entity, Set<String> touchedAttributes) {
+        if (touchedAttributes.isEmpty()) {
+            return;
+        }
+
+        for (String attributeId : touchedAttributes) {
+            entityAttributeHandler.applyVanillaAttribute(entity, attributeId);
+        }
+    }
+
+    /**
+     * Builds an attributed item with randomized rolls, throwing when the material cannot hold attribute data so callers
+     * can surface useful error messages.
+     */
+    private AttributedItem buildAttributedItem(Material material, List<AttributeDefinition> definitions, Random random, HordeOptions options) {
+        List<AttributeRoll> rolls = randomRolls(definitions, random, options.maxItemAttributes());
+        List<CommandParsingUtils.AttributeDefinition> commandDefinitions = rolls.stream()
+                .map(roll -> new CommandParsingUtils.AttributeDefinition(
+                        roll.key(),
+                        roll.amount(),
+                        null,
+                        null,
+                        roll.operation()))
+                .toList();
+
+        try {
+            ItemAttributeHandler.ItemBuildResult result = itemAttributeHandler.buildAttributeItem(material, commandDefinitions);
+            return new AttributedItem(result.itemStack(), rolls);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("Failed to build attribute item for " + material + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Generates a random set of attribute rolls for an item, between one and {@code maxRolls} entries.
+     */
+    private List<AttributeRoll> randomRolls(List<AttributeDefinition> definitions, Random random, int maxRolls) {
+        int rollCount = MIN_ITEM_ATTRIBUTES + random.nextInt(maxRolls - MIN_ITEM_ATTRIBUTES + 1);
+        List<AttributeRoll> rolls = new ArrayList<>();
+        for (int index = 0; index < rollCount; index++) {
+            rolls.add(randomRoll(definitions, random));
+        }
+        return rolls;
+    }
+
+    /**
+     * Generates a single roll, choosing an additive or multiplicative operation and an amount within predefined ranges.
+     */
+    private AttributeRoll randomRoll(List<AttributeDefinition> definitions, Random random) {
+        AttributeDefinition definition = definitions.get(random.nextInt(definitions.size()));
+        ModifierOperation operation = random.nextBoolean() ? ModifierOperation.ADD : ModifierOperation.MULTIPLY;
+        double amount = operation == ModifierOperation.ADD
+                ? MIN_ADDITIVE + random.nextDouble() * (MAX_ADDITIVE - MIN_ADDITIVE)
+                : MIN_MULTIPLIER + random.nextDouble() * (MAX_MULTIPLIER - MIN_MULTIPLIER);
+        return new AttributeRoll(definition.id(), resolveKey(definition.id()), operation, amount);
+    }
+
+    /**
+     * Resolves a namespaced attribute key from an attribute id, using the plugin namespace when one is missing.
+     */
+    private CommandParsingUtils.NamespacedAttributeKey resolveKey(String attributeId) {
+        String normalized = Objects.requireNonNull(attributeId, "attributeId").toLowerCase(Locale.ROOT);
+        if (normalized.contains(".")) {
+            String[] segments = normalized.split("\\.", 2);
+            return new CommandParsingUtils.NamespacedAttributeKey(segments[0], segments[1]);
+        }
+        return new CommandParsingUtils.NamespacedAttributeKey(plugin.getName().toLowerCase(Locale.ROOT), normalized);
+    }
+
+    /**
+     * Builds placeholder map for a dry-run preview message.
+     */
+    private Map<String, String> buildPreviewPlaceholders(int zombieCount, HordeOptions options) {
+        return Map.of(
+                "count", Integer.toString(zombieCount),
+                "seed", Long.toString(options.seed()));
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format(Locale.ROOT, "%.2f", millis);
+    }
+
+    private static String formatKilobytes(long bytes) {
+        return String.format(Locale.ROOT, "%.1f", bytes / 1024.0d);
+    }
+
+    /**
+     * Phases of a horde run, in order.
+     */
+    private enum Phase {
+        BASELINE,
+        SPAWNING,
+        SETTLING
+    }
+
+    /**
+     * Tick interval and refresh queue statistics collected for one phase of a run.
+     */
+    private static final class TickWindow {
+        private int ticks;
+        private long totalNanos;
+        private long maxNanos;
+        private int peakQueueDepth;
+
+        private void record(long intervalNanos, int queueDepth) {
+            ticks++;
+            totalNanos += intervalNanos;
+            maxNanos = Math.max(maxNanos, intervalNanos);
+            peakQueueDepth = Math.max(peakQueueDepth, queueDepth);
+        }
+
+        private String meanMillis() {
+            return formatMillis(ticks == 0 ? 0.0d : totalNanos / (double) ticks / NANOS_PER_MILLI);
+        }
+
+        private String maxMillis() {
+            return formatMillis(maxNanos / NANOS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Repeating task driving one horde run: it measures a baseline, spawns the horde in batches, measures the settled
+     * server, and then reports. Tick intervals are measured between consecutive runs of this task and charged to the
+     * phase that was active during the elapsed tick.
+     */
+    private final class HordeRun implements Runnable {
+        private final UUID requesterId;
+        private final Location origin;
+        private final Random random;
+        private final int total;
+        private final HordeOptions options;
+        private final List<AttributeDefinition> definitions;
+        private final Map<Phase, TickWindow> windows = new HashMap<>();
+        private TaskHandle task;
+        private Phase phase = Phase.BASELINE;
+        private int remainingPhaseTicks = BASELINE_TICKS;
+        private long lastTickNanos;
+        private int spawned;
+        private int failed;
+        private int modifiers;
+        private long spawnWorkNanos;
+        private long maxSpawnWorkNanos;
+        private long vanillaApplicationsBefore;
+        private AttributeFacade.PlayerInstanceFootprint footprintBefore;
+
+        private HordeRun(UUID requesterId,
+                         Location origin,
+                         Random random,
+                         int total,
+                         HordeOptions options,
+                         List<AttributeDefinition> definitions) {
+            this.requesterId = requesterId;
+            this.origin = origin;
+            this.random = random;
+            this.total = total;
+            this.options = options;
+            this.definitions = definitions;
+            for (Phase value : Phase.values()) {
+                windows.put(value, new TickWindow());
+            }
+        }
+
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            if (lastTickNanos != 0L) {
+                windows.get(phase).record(now - lastTickNanos, refreshDispatcher.drainPeakPendingRefreshCount());
+            } else {
+                refreshDispatcher.drainPeakPendingRefreshCount();
+            }
+            lastTickNanos = now;
+
+            switch (phase) {
+                case BASELINE -> {
+                    if (--remainingPhaseTicks <= 0) {
+                        phase = Phase.SPAWNING;
+                        vanillaApplicationsBefore = entityAttributeHandler.getVanillaApplicationCount();
+                        footprintBefore = attributeFacade.getPlayerInstanceFootprint();
+                        spawnBatch();
+                    }
+                }
+                case SPAWNING -> spawnBatch();
+                case SETTLING -> {
+                    if (--remainingPhaseTicks <= 0) {
+                        finish();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Spawns up to the configured number of zombies for this tick and moves to the settling phase once the horde
+         * is complete.
+         */
+        private void spawnBatch() {
+            long start = System.nanoTime();
+            World world = origin.getWorld();
+            int batch = Math.min(options.spawnsPerTick(), total - spawned - failed);
+            for (int index = 0; index < batch; index++) {
+                try {
+                    Zombie zombie = world.spawn(adjustedLocation(origin, random, total), Zombie.class);
+                    zombie.addScoreboardTag(HORDE_TAG);
+                    hordeEntities.add(zombie.getUniqueId());
+                    HordeLoadout loadout = decorateZombie(zombie, definitions, random, options);
+                    applyVanillaTouches(zombie, loadout.touchedAttributes());
+                    modifiers += loadout.modifierCount();
+                    spawned++;
+                } catch (Exception ex) {
+                    failed++;
+                    plugin.getLogger().warning("Failed to spawn test horde zombie: " + ex.getMessage());
+                }
+            }
+            long work = System.nanoTime() - start;
+            spawnWorkNanos += work;
+            maxSpawnWorkNanos = Math.max(maxSpawnWorkNanos, work);
+
+            if (spawned + failed >= total) {
+                phase = Phase.SETTLING;
+                remainingPhaseTicks = SETTLE_TICKS;
+            }
+        }
+
+        private void cancel() {
+            if (task != null) {
+                task.cancel();
+            }
+            activeRun = null;
+        }
+
+        /**
+         * Stops the task and sends the report to the requester (when online) and the console.
+         */
+        private void finish() {
+            cancel();
+
+            AttributeFacade.PlayerInstanceFootprint footprintAfter = attributeFacade.getPlayerInstanceFootprint();
+            long vanillaCalls = entityAttributeHandler.getVanillaApplicationCount() - vanillaApplicationsBefore;
+            TickWindow baseline = windows.get(Phase.BASELINE);
+            TickWindow spawning = windows.get(Phase.SPAWNING);
+            TickWindow settling = windows.get(Phase.SETTLING);
+
+            List<String> report = new ArrayList<>();
+            Map<String, String> spawnedPlaceholders = new HashMap<>();
+            spawnedPlaceholders.put("count", Integer.toString(spawned));
+            spawnedPlaceholders.put("failed", Integer.toString(failed));
+            spawnedPlaceholders.put("modifiers", Integer.toString(modifiers));
+            spawnedPlaceholders.put("seed", Long.toString(options.seed()));
+            spawnedPlaceholders.put("summary", spawned + " zombies, " + modifiers + " modifiers, " + failed + " failed");
+            report.add(messages.format(
+                    "messages.test-horde-command.spawned",
+                    spawnedPlaceholders,
+                    ChatColor.GREEN + "Spawned {count} zombies with randomized attribute gear."));
+            if (failed > 0) {
+                report.add(messages.format(
+                        "messages.test-horde-command.spawn-failed",
+                        Map.of("count", Integer.toString(failed)),
+                        ChatColor.RED + "{count} zombies failed to spawn or equip attributes; see the console."));
+            }
+
+            Map<String, String> tickPlaceholders = new HashMap<>();
+            tickPlaceholders.put("baseline_mean", baseline.meanMillis());
+            tickPlaceholders.put("baseline_max", baseline.maxMillis());
+            tickPlaceholders.put("spawn_mean", spawning.meanMillis());
+            tickPlaceholders.put("spawn_max", spawning.maxMillis());
+            tickPlaceholders.put("settle_mean", settling.meanMillis());
+            tickPlaceholders.put("settle_max", settling.maxMillis());
+            report.add(messages.format(
+                    "messages.test-horde-command.report-ticks",
+                    tickPlaceholders,
+                    ChatColor.GRAY + "Tick interval ms (mean/max): baseline {baseline_mean}/{baseline_max}, spawning {spawn_mean}/{spawn_max}, settled {settle_mean}/{settle_max}"));
+
+            report.add(messages.format(
+                    "messages.test-horde-command.report-work",
+                    Map.of(
+                            "spawn_work_ms", formatMillis(spawnWorkNanos / NANOS_PER_MILLI),
+                            "spawn_work_max_ms", formatMillis(maxSpawnWorkNanos / NANOS_PER_MILLI),
+                            "vanilla_calls", Long.toString(vanillaCalls)),
+                    ChatColor.GRAY + "Spawn work: {spawn_work_ms} ms total, {spawn_work_max_ms} ms worst tick; applyVanillaAttribute calls: {vanilla_calls}"));
+
+            report.add(messages.format(
+                    "messages.test-horde-command.report-queue",
+                    Map.of(
+                            "spawn_queue", Integer.toString(spawning.peakQueueDepth),
+                            "settle_queue", Integer.toString(settling.peakQueueDepth)),
+                    ChatColor.GRAY + "Refresh queue peak depth: spawning {spawn_queue}, settled {settle_queue}"));
+
+            long memoryDelta = footprintAfter.estimatedBytes() - (footprintBefore == null ? 0L : footprintBefore.estimatedBytes());
+            Map<String, String> memoryPlaceholders = new HashMap<>();
+            memoryPlaceholders.put("owners", Integer.toString(footprintAfter.owners()));
+            memoryPlaceholders.put("instances", Integer.toString(footprintAfter.instances()));
+            memoryPlaceholders.put("modifiers", Integer.toString(footprintAfter.modifiers()));
+            memoryPlaceholders.put("memory_kb", formatKilobytes(footprintAfter.estimatedBytes()));
+            memoryPlaceholders.put("memory_delta_kb", formatKilobytes(memoryDelta));
+            report.add(messages.format(
+                    "messages.test-horde-command.report-memory",
+                    memoryPlaceholders,
+                    ChatColor.GRAY + "Player instance store: {owners} owners, {instances} instances, {modifiers} modifiers, ~{memory_kb} KB ({memory_delta_kb} KB from this horde)"));
+
+            Player requester = plugin.getServer().getPlayer(requesterId);
+            for (String line : report) {
+                if (requester != null) {
+                    requester.sendMessage(line);
+                }
+                plugin.getLogger().info(ChatColor.stripColor(line));
+            }
+        }
+    }
+
+    /**
+     * Parsed command arguments.
+     *
+     * @param count             requested zombie count, or {@code 0} to pick a small random horde.
+     * @param seed              seed for every random choice in the run.
+     * @param maxItemAttributes maximum attribute rolls per item.
+     * @param directModifiers   extra modifiers per zombie that are not tied to an item.
+     * @param spawnsPerTick     zombies spawned per tick.
+     * @param dryRun            whether to preview without spawning.
+     */
+    private record HordeOptions(int count,
+                                long seed,
+                                int maxItemAttributes,
+                                int directModifiers,
+                                int spawnsPerTick,
+                                boolean dryRun) {
+
+        private static HordeOptions parse(String[] args) {
+            int count = 0;
+            long seed = ThreadLocalRandom.current().nextLong();
+            int maxItemAttributes = DEFAULT_MAX_ITEM_ATTRIBUTES;
+            int directModifiers = 0;
+            int spawnsPerTick = DEFAULT_SPAWNS_PER_TICK;
+            boolean dryRun = false;
+
+            for (String arg : args) {
+                String lowered = arg.toLowerCase(Locale.ROOT);
+                if ("dryrun".equals(lowered)) {
+                    dryRun = true;
+                    continue;
+                }
+                int separator = lowered.indexOf('=');
+                if (separator < 0) {
+                    count = parseBounded("count", lowered, 1, MAX_HORDE_SIZE);
+                    continue;
+                }
+                String key = lowered.substring(0, separator);
+                String value = lowered.substring(separator + 1);
+                switch (key) {
+                    case "seed" -> seed = parseSeed(value);
+                    case "attributes" -> maxItemAttributes = parseBounded(key, value, MIN_ITEM_ATTRIBUTES, MAX_ITEM_ATTRIBUTES);
+                    case "modifiers" -> directModifiers = parseBounded(key, value, 0, MAX_DIRECT_MODIFIERS);
+                    case "rate" -> spawnsPerTick = parseBounded(key, value, 1, MAX_SPAWNS_PER_TICK);
+                    default -> throw new IllegalArgumentException("unknown option '" + key + "'");
+                }
+            }
+            return new HordeOptions(count, seed, maxItemAttributes, directModifiers, spawnsPerTick, dryRun);
+        }
+
+        private static int parseBounded(String name, String value, int min, int max) {
+            int parsed;
+            try {
+                parsed = Integer.parseInt(value);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(name + " must be a whole number");
+            }
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+            }
+            return parsed;
+        }
+
+        private static long parseSeed(String value) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException ex) {
+                // Non-numeric seeds are accepted so runs can be labelled, e.g. seed=raid.
+                return value.hashCode();
+            }
+        }
+    }
+
+    /**
+     * Immutable value object describing a randomized attribute roll applied to an item and its owning entity.
+     *
+     * @param attributeId identifier of the attribute whose modifier is being applied.
+     * @param key         namespaced key derived from the id for item serialization.
+     * @param operation   additive or multiplicative operation selected for the roll.
+     * @param amount      magnitude of the modifier according to the chosen operation.
+     */
+    private record AttributeRoll(String attributeId,
+                                 CommandParsingUtils.NamespacedAttributeKey key,
+                                 ModifierOperation operation,
+                                 double amount) {
+    }
+
+    /**
+     * Captures an item generated for the horde along with the attribute rolls used to decorate it.
+     *
+     * @param item  fully built item stack equipped onto the zombie.
+     * @param rolls collection of rolls written both to the item and to the entity modifiers.
+     */
+    private record AttributedItem(ItemStack item, List<AttributeRoll> rolls) {
+    }
+
+    /**
+     * Represents the result of generating gear and modifiers for a single zombie for later reporting.
+     *
+     * @param touchedAttributes attribute ids that were modified on the entity.
+     * @param modifierCount     number of modifiers written to the entity.
+     */
+    private record HordeLoadout(Set<String> touchedAttributes, int modifierCount) {
+    }
+}
@@ -0,0 +1,312 @@
+package me.baddcamden.attributeutils.handler;
+
+import me.baddcamden.attributeutils.api.AttributeChangeNotifier;
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
+import me.baddcamden.attributeutils.metrics.AttributeMetrics;
+import me.baddcamden.attributeutils.metrics.RefreshFlushEvent;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.Locale;
+
+/**
+ * Bridges {@link AttributeFacade} refresh events to live Bukkit entities so computed values are re-applied immediately.
+ *
+ * <p>The dispatcher listens for attribute refresh callbacks and re-applies the vanilla attribute values for the
+ * relevant entities. It relies on the provided {@link Plugin} to resolve entities and {@link EntityAttributeHandler}
+ * to perform the actual attribute update.</p>
+ *
+ * <p>Global refreshes that cover enough entities are handed to a {@link ParallelRefreshExecutor}. While such a batch
+ * is in flight, later refreshes of the attributes it covers wait for it, so an older batch value can never overwrite
+ * a newer one; every other refresh is flushed as usual, serially.</p>
+ *
+ * <p>Each entity's refreshes are applied in one façade compute pass, inputs before the derived attributes reading
+ * them, so a derived attribute reuses the values its inputs were just refreshed to.</p>
+ *
+ * <p>When an {@link AttributeChangeNotifier} is attached, every flushed refresh is also checked for subscribed value
+ * changes after it was applied: on the same thread for serial refreshes, and once the batch is applied for parallel
+ * ones.</p>
+ *
+ * <p>Refresh requests may arrive from any region thread on Folia, so the pending state is guarded by the dispatcher's
+ * monitor. Flushes run on the global thread and hand each entity's application to the thread that owns it.</p>
+ */
+public class AttributeRefreshDispatcher implements AttributeFacade.AttributeRefreshListener {
+
+    private final Plugin plugin;
+    private final TaskScheduler scheduler;
+    private final EntityAttributeHandler entityAttributeHandler;
+    private final AttributeMetrics metrics;
+    private final ParallelRefreshExecutor parallelRefresh;
+    private volatile AttributeChangeNotifier changeNotifier;
+    private final Map<UUID, Set<String>> pendingPlayerAttributes = new HashMap<>();
+    private final Set<String> pendingGlobalAttributes = new HashSet<>();
+    /** Attributes of the parallel batch in flight; empty when none is. Guarded by this dispatcher's monitor. */
+    private Set<String> inFlightAttributes = Set.of();
+    private boolean flushScheduled;
+    private int pendingRefreshes;
+    private int peakPendingRefreshes;
+
+    /**
+     * Creates a dispatcher that can resolve entities from the server and apply refreshed attributes.
+     *
+     * @param plugin the owning plugin used to access the server for entity lookups
+     * @param scheduler the scheduler running flushes and per-entity applications
+     * @param entityAttributeHandler the handler responsible for applying vanilla attribute updates
+     * @param metrics the registry receiving refresh request and flush measurements
+     */
+    public AttributeRefreshDispatcher(Plugin plugin,
+                                      TaskScheduler scheduler,
+                                      EntityAttributeHandler entityAttributeHandler,
+                                      AttributeMetrics metrics) {
+        this(plugin, scheduler, entityAttributeHandler, metrics, null);
+    }
+
+    /**
+     * Creates a dispatcher that hands large global refreshes to {@code parallelRefresh}.
+     *
+     * @param plugin the owning plugin used to access the server for entity lookups
+     * @param scheduler the scheduler running flushes and per-entity applications
+     * @param entityAttributeHandler the handler responsible for applying vanilla attribute updates
+     * @param metrics the registry receiving refresh request and flush measurements
+     * @param parallelRefresh executor for large global refreshes, or {@code null} to always refresh serially
+     */
+    public AttributeRefreshDispatcher(Plugin plugin,
+                                      TaskScheduler scheduler,
+                                      EntityAttributeHandler entityAttributeHandler,
+                                      AttributeMetrics metrics,
+                                      ParallelRefreshExecutor parallelRefresh) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.entityAttributeHandler = entityAttributeHandler;
+        this.metrics = metrics;
+        this.parallelRefresh = parallelRefresh;
+    }
+
+    /**
+     * Attaches the notifier checked after every flushed refresh, or detaches it with {@code null}.
+     */
+    public void setChangeNotifier(AttributeChangeNotifier changeNotifier) {
+        this.changeNotifier = changeNotifier;
+    }
+
+    @Override
+    public synchronized void refreshAttributeForPlayer(UUID playerId, String attributeId) {
+        // VAGUE/IMPROVEMENT NEEDED Clarify whether this should target only player entities or any entity resolvable by UUID.
+        String normalizedId = normalizeAttributeId(attributeId);
+        if (playerId == null || normalizedId == null) {
+            return;
+        }
+        metrics.recordRefreshRequest();
+
+        if (pendingPlayerAttributes.computeIfAbsent(playerId, ignored -> new HashSet<>()).add(normalizedId)) {
+            pendingRefreshes++;
+            peakPendingRefreshes = Math.max(peakPendingRefreshes, pendingRefreshes + pendingGlobalAttributes.size());
+        }
+        scheduleFlush();
+    }
+
+    @Override
+    public synchronized void refreshAttributeForAll(String attributeId) {
+        String normalizedId = normalizeAttributeId(attributeId);
+        if (normalizedId == null) {
+            return;
+        }
+        metrics.recordRefreshRequest();
+
+        if (pendingGlobalAttributes.add(normalizedId)) {
+            peakPendingRefreshes = Math.max(peakPendingRefreshes, pendingRefreshes + pendingGlobalAttributes.size());
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * Drops pending refreshes of a removed attribute, then strips its vanilla modifier from every loaded living
+     * entity on the thread that owns it.
+     */
+    @Override
+    public void attributeRemoved(String attributeId) {
+        String normalizedId = normalizeAttributeId(attributeId);
+        if (normalizedId == null) {
+            return;
+        }
+        synchronized (this) {
+            pendingGlobalAttributes.remove(normalizedId);
+            pendingPlayerAttributes.values().removeIf(attributeIds -> {
+                if (attributeIds.remove(normalizedId)) {
+                    pendingRefreshes--;
+                }
+                return attributeIds.isEmpty();
+            });
+        }
+        scheduler.runGlobal(() -> scheduler.forEachLivingEntity(livingEntity ->
+                entityAttributeHandler.removeVanillaAttribute(livingEntity, normalizedId)));
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        scheduler.runGlobal(this::flushPending);
+    }
+
+    private void flushPending() {
+        RefreshFlushEvent event = new RefreshFlushEvent();
+        event.begin();
+        long start = System.nanoTime();
+        int drained;
+        Map<UUID, Set<String>> playerSnapshot;
+        Set<String> globalSnapshot;
+        synchronized (this) {
+            flushScheduled = false;
+            drained = getPendingRefreshCount();
+            playerSnapshot = new HashMap<>(pendingPlayerAttributes);
+            globalSnapshot = new HashSet<>(pendingGlobalAttributes);
+            pendingPlayerAttributes.clear();
+            pendingGlobalAttributes.clear();
+            pendingRefreshes = 0;
+            if (!inFlightAttributes.isEmpty()) {
+                // Requeued and flushed by onParallelRefreshComplete once the batch in flight has been applied.
+                holdInFlight(playerSnapshot, globalSnapshot);
+                drained -= getPendingRefreshCount();
+            }
+        }
+        if (playerSnapshot.isEmpty() && globalSnapshot.isEmpty()) {
+            return;
+        }
+        int entitiesVisited = 0;
+        boolean parallel = false;
+        AttributeChangeNotifier notifier = this.changeNotifier;
+
+        for (Map.Entry<UUID, Set<String>> entry : playerSnapshot.entrySet()) {
+            Entity entity = plugin.getServer().getEntity(entry.getKey());
+            if (!(entity instanceof LivingEntity livingEntity)) {
+                continue;
+            }
+            entitiesVisited++;
+            Set<String> attributeIds = entry.getValue();
+            scheduler.executeForEntity(livingEntity, () -> {
+                entityAttributeHandler.applyVanillaAttributes(livingEntity, attributeIds);
+                if (notifier != null) {
+                    notifier.check(livingEntity, attributeIds);
+                }
+            });
+        }
+
+        if (!globalSnapshot.isEmpty() && scheduler.isRegionThreaded()) {
+            // Region threads own their entities; each region applies the refresh to its own chunks. The visit count
+            // is not known here, so it is left out of the flush metrics.
+            scheduler.forEachLivingEntity(livingEntity ->
+                    entityAttributeHandler.applyVanillaAttributes(livingEntity, globalSnapshot));
+        } else if (!globalSnapshot.isEmpty()) {
+            List<LivingEntity> livingEntities = new ArrayList<>();
+            for (World world : plugin.getServer().getWorlds()) {
+                livingEntities.addAll(world.getLivingEntities());
+            }
+            entitiesVisited += livingEntities.size() * globalSnapshot.size();
+            if (parallelRefresh != null && !parallelRefresh.isBusy()
+                    && parallelRefresh.shouldHandle((long) livingEntities.size() * globalSnapshot.size())) {
+                synchronized (this) {
+                    inFlightAttributes = Set.copyOf(globalSnapshot);
+                }
+                parallel = true;
+                parallelRefresh.refresh(globalSnapshot, livingEntities, () -> onParallelRefreshComplete(globalSnapshot));
+            } else {
+                for (LivingEntity livingEntity : livingEntities) {
+                    entityAttributeHandler.applyVanillaAttributes(livingEntity, globalSnapshot);
+                }
+            }
+        }
+        if (notifier != null && !parallel && !globalSnapshot.isEmpty()) {
+            notifier.checkAll(globalSnapshot);
+        }
+        metrics.recordRefreshFlush(drained, entitiesVisited, System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            event.entities = entitiesVisited;
+            event.attributes = drained;
+            event.commit();
+        }
+    }
+
+    /**
+     * Moves the refreshes of attributes covered by the batch in flight from the snapshots back to the pending state.
+     * Caller holds this dispatcher's monitor.
+     */
+    private void holdInFlight(Map<UUID, Set<String>> playerSnapshot, Set<String> globalSnapshot) {
+        for (String attributeId : inFlightAttributes) {
+            if (globalSnapshot.remove(attributeId)) {
+                pendingGlobalAttributes.add(attributeId);
+            }
+        }
+        playerSnapshot.entrySet().removeIf(entry -> {
+            Set<String> held = new HashSet<>();
+            Set<String> flushed = new HashSet<>();
+            for (String attributeId : entry.getValue()) {
+                (inFlightAttributes.contains(attributeId) ? held : flushed).add(attributeId);
+            }
+            if (!held.isEmpty()) {
+                pendingPlayerAttributes.put(entry.getKey(), held);
+                pendingRefreshes += held.size();
+            }
+            entry.setValue(flushed);
+            return flushed.isEmpty();
+        });
+    }
+
+    /**
+     * Checks the applied batch for subscribed value changes and flushes refreshes held while it was in flight.
+     */
+    private void onParallelRefreshComplete(Set<String> attributeIds) {
+        AttributeChangeNotifier notifier = this.changeNotifier;
+        if (notifier != null) {
+            notifier.checkAll(attributeIds);
+        }
+        synchronized (this) {
+            inFlightAttributes = Set.of();
+            if (getPendingRefreshCount() > 0) {
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Stops the parallel refresh executor, if any. Call when the dispatcher is being discarded.
+     */
+    public void shutdown() {
+        if (parallelRefresh != null) {
+            parallelRefresh.shutdown();
+        }
+    }
+
+    /**
+     * Returns the number of entity/attribute refreshes (plus global attribute refreshes) waiting for the next flush.
+     */
+    public synchronized int getPendingRefreshCount() {
+        return pendingRefreshes + pendingGlobalAttributes.size();
+    }
+
+    /**
+     * Returns the largest pending refresh count observed since the last call and starts a new observation window at
+     * the current depth.
+     */
+    public synchronized int drainPeakPendingRefreshCount() {
+        int peak = peakPendingRefreshes;
+        peakPendingRefreshes = getPendingRefreshCount();
+        return peak;
+    }
+
+    private String normalizeAttributeId(String attributeId) {
+        return attributeId == null ? null : attributeId.toLowerCase(Locale.ROOT);
+    }
+}
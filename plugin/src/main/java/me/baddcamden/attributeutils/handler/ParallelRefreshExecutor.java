@@ -0,0 +1,296 @@
+package me.baddcamden.attributeutils.handler;
+
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
+import me.baddcamden.attributeutils.model.AttributeValueStages;
+import me.baddcamden.attributeutils.scheduler.TaskHandle;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Runs large "refresh this attribute for every entity" requests in three phases so the engine math leaves the main
+ * thread:
+ * <ol>
+ *     <li><strong>Snapshot</strong> (main thread): {@link AttributeFacade#prepareCompute} copies the global and owner
+ *     instances and reads vanilla suppliers for every entity that has the attribute.</li>
+ *     <li><strong>Compute</strong> ({@link ForkJoinPool}): the copies are evaluated in parallel.</li>
+ *     <li><strong>Apply</strong> (main thread): baseline side effects are committed and Bukkit modifier deltas are
+ *     applied in batches capped at {@link Settings#applyBudgetNanos()} per tick.</li>
+ * </ol>
+ * Each entity's computation only reads its own instance copy and a shared read-only global copy, and entities are
+ * applied in the same order as the serial loop, so the values applied are the ones the serial path would produce for
+ * the state at snapshot time. Only one batch runs at a time; the dispatcher holds later refreshes of the batch's
+ * attributes until it completes so they cannot be overwritten by an older batch.
+ * <p>
+ * The snapshot and apply phases assume one thread owns every entity, so the executor declines all work on
+ * region-threaded servers and the dispatcher refreshes region by region instead.
+ */
+public class ParallelRefreshExecutor {
+
+    /** Computations handled by one fork-join leaf before it stops splitting. */
+    private static final int LEAF_SIZE = 64;
+
+    private final Plugin plugin;
+    private final TaskScheduler scheduler;
+    private final AttributeFacade attributeFacade;
+    private final EntityAttributeHandler entityAttributeHandler;
+    private final Settings settings;
+    /** Created on first use so servers that never hit the threshold start no worker threads. */
+    private ForkJoinPool pool;
+    private TaskHandle applyTask;
+    private boolean busy;
+    private boolean closed;
+
+    /**
+     * @param plugin                 owning plugin used for logging
+     * @param scheduler              scheduler running the apply phase
+     * @param attributeFacade        façade that prepares, computes, and commits snapshots
+     * @param entityAttributeHandler handler that applies computed values to entities
+     * @param settings               thresholds, pool size, and per-tick apply budget
+     */
+    public ParallelRefreshExecutor(Plugin plugin,
+                                   TaskScheduler scheduler,
+                                   AttributeFacade attributeFacade,
+                                   EntityAttributeHandler entityAttributeHandler,
+                                   Settings settings) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.attributeFacade = attributeFacade;
+        this.entityAttributeHandler = entityAttributeHandler;
+        this.settings = settings;
+    }
+
+    /**
+     * Returns whether a refresh of {@code computations} entity/attribute pairs should take the parallel path.
+     */
+    public boolean shouldHandle(long computations) {
+        return settings.enabled() && !closed && !scheduler.isRegionThreaded()
+                && computations >= settings.minComputations();
+    }
+
+    /**
+     * Returns whether a batch is being computed or applied.
+     */
+    public boolean isBusy() {
+        return busy;
+    }
+
+    /**
+     * Refreshes every attribute in {@code attributeIds} for every entity in {@code entities}. Must be called on the
+     * main thread while {@link #isBusy()} is false. {@code onComplete} runs on the main thread after the last
+     * application, or immediately when nothing needs computing.
+     *
+     * @return number of entity/attribute pairs scheduled for computation
+     */
+    public int refresh(Collection<String> attributeIds, List<LivingEntity> entities, Runnable onComplete) {
+        List<Job> jobs = new ArrayList<>();
+        attributeFacade.runComputePass(() -> prepare(attributeFacade.orderForRefresh(attributeIds), entities, jobs));
+        if (jobs.isEmpty()) {
+            onComplete.run();
+            return 0;
+        }
+
+        busy = true;
+        Job[] batch = jobs.toArray(new Job[0]);
+        CompletableFuture.runAsync(() -> new ComputeSlice(batch, 0, batch.length).invoke(), pool())
+                .whenComplete((ignored, failure) -> {
+                    if (closed) {
+                        return;
+                    }
+                    scheduler.runGlobal(() -> startApply(batch, failure, onComplete));
+                });
+        return batch.length;
+    }
+
+    /**
+     * Snapshot phase: prepares one job per entity able to take each attribute, in refresh order and inside the
+     * caller's compute pass so derived attributes read each input once per entity.
+     */
+    private void prepare(List<String> attributeIds, List<LivingEntity> entities, List<Job> jobs) {
+        for (String attributeId : attributeIds) {
+            List<LivingEntity> owners = new ArrayList<>(entities.size());
+            for (LivingEntity entity : entities) {
+                if (entityAttributeHandler.canApplyVanillaAttribute(entity, attributeId)) {
+                    owners.add(entity);
+                }
+            }
+            List<AttributeFacade.PreparedCompute> prepared = attributeFacade.prepareCompute(attributeId, owners);
+            if (prepared.size() != owners.size()) {
+                // Unknown ids take the serial path, which reports them.
+                owners.forEach(owner -> entityAttributeHandler.applyVanillaAttribute(owner, attributeId));
+                continue;
+            }
+            for (int i = 0; i < owners.size(); i++) {
+                jobs.add(new Job(owners.get(i), attributeId, prepared.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Cancels any batch in flight and stops the worker threads. Values already applied stay applied; the rest of the
+     * batch is dropped.
+     */
+    public void shutdown() {
+        closed = true;
+        busy = false;
+        if (applyTask != null) {
+            applyTask.cancel();
+            applyTask = null;
+        }
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    private ForkJoinPool pool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(settings.parallelism(), forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("AttributeUtils-refresh-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    /**
+     * Starts applying a computed batch. When computation failed the batch is discarded and refreshed through the
+     * serial path instead, so a bug in one computation never leaves entities stale.
+     */
+    private void startApply(Job[] batch, Throwable failure, Runnable onComplete) {
+        if (closed) {
+            return;
+        }
+        if (failure != null) {
+            plugin.getLogger().log(Level.WARNING, "Parallel attribute refresh failed; refreshing serially instead.", failure);
+            for (Job job : batch) {
+                if (job.entity().isValid()) {
+                    entityAttributeHandler.applyVanillaAttribute(job.entity(), job.attributeId());
+                }
+            }
+            finish(onComplete);
+            return;
+        }
+
+        int[] cursor = {0};
+        applyTask = scheduler.runGlobalTimer(() -> {
+            long deadline = System.nanoTime() + settings.applyBudgetNanos();
+            do {
+                Job job = batch[cursor[0]++];
+                attributeFacade.commitPrepared(job.prepared(), job.stages);
+                if (job.entity().isValid()) {
+                    entityAttributeHandler.applyComputedAttribute(job.entity(), job.attributeId(), job.stages);
+                }
+            } while (cursor[0] < batch.length && System.nanoTime() < deadline);
+
+            if (cursor[0] >= batch.length) {
+                applyTask.cancel();
+                applyTask = null;
+                finish(onComplete);
+            }
+        }, 0L, 1L);
+    }
+
+    private void finish(Runnable onComplete) {
+        busy = false;
+        onComplete.run();
+    }
+
+    /**
+     * One entity/attribute computation. {@code stages} is written by a pool thread and read on the main thread after
+     * the pool's completion is handed over through the scheduler, which orders the two.
+     */
+    private static final class Job {
+        private final LivingEntity entity;
+        private final String attributeId;
+        private final AttributeFacade.PreparedCompute prepared;
+        private AttributeValueStages stages;
+
+        private Job(LivingEntity entity, String attributeId, AttributeFacade.PreparedCompute prepared) {
+            this.entity = entity;
+            this.attributeId = attributeId;
+            this.prepared = prepared;
+        }
+
+        private LivingEntity entity() {
+            return entity;
+        }
+
+        private String attributeId() {
+            return attributeId;
+        }
+
+        private AttributeFacade.PreparedCompute prepared() {
+            return prepared;
+        }
+    }
+
+    /**
+     * Splits a range of jobs until it is small enough to compute directly.
+     */
+    private final class ComputeSlice extends RecursiveAction {
+        private final Job[] jobs;
+        private final int from;
+        private final int to;
+
+        private ComputeSlice(Job[] jobs, int from, int to) {
+            this.jobs = jobs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    jobs[i].stages = attributeFacade.computePrepared(jobs[i].prepared());
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ComputeSlice(jobs, from, middle), new ComputeSlice(jobs, middle, to));
+        }
+    }
+
+    /**
+     * Tuning for the parallel refresh path.
+     *
+     * @param enabled          whether large refreshes use the parallel path at all
+     * @param minComputations  smallest entity/attribute pair count worth the snapshot and hand-off overhead
+     * @param parallelism      worker threads in the compute pool
+     * @param applyBudgetNanos main-thread time spent applying results per tick; at least one result is applied
+     */
+    public record Settings(boolean enabled, int minComputations, int parallelism, long applyBudgetNanos) {
+
+        /**
+         * Builds settings from config values. A {@code threads} value of zero or less sizes the pool to the cores left
+         * after the main and network threads, and never below one.
+         */
+        public static Settings of(boolean enabled, int minComputations, int threads, long applyBudgetMillis) {
+            int parallelism = threads > 0
+                    ? threads
+                    : Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+            return new Settings(enabled, Math.max(1, minComputations), parallelism,
+                    TimeUnit.MILLISECONDS.toNanos(Math.max(1L, applyBudgetMillis)));
+        }
+
+        /**
+         * Serial-only settings for callers that do not configure the parallel path.
+         */
+        public static Settings disabled() {
+            return new Settings(false, Integer.MAX_VALUE, 1, TimeUnit.MILLISECONDS.toNanos(1L));
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package me.baddcamden.attributeutils.handler.entity;
 
+import me.baddcamden.attributeutils.api.AttributeChangeNotifier;
 import me.baddcamden.attributeutils.api.AttributeFacade;
 import me.baddcamden.attributeutils.command.CommandParsingUtils;
+import me.baddcamden.attributeutils.metrics.AttributeMetrics;
+import me.baddcamden.attributeutils.metrics.TraceRecorder;
+import me.baddcamden.attributeutils.scheduler.TaskHandle;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
 import me.baddcamden.attributeutils.model.AttributeDefinition;
 import me.baddcamden.attributeutils.model.AttributeValueStages;
 import me.baddcamden.attributeutils.VanillaAttributeResolver;
@@ -18,11 +23,12 @@ import org.bukkit.entity.Player;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -30,7 +36,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Integrates entity interactions with the attribute computation pipeline. Responsibilities include applying computed
@@ -60,6 +65,11 @@ public class EntityAttributeHandler {
      */
     private static final java.util.UUID SWIM_SPEED_MODIFIER_ID = java.util.UUID.nameUUIDFromBytes(
             (VanillaAttributeResolver.ATTRIBUTEUTILS_PREFIX + "swim_speed").getBytes(StandardCharsets.UTF_8));
+    /**
+     * Key of the swim speed multiplier in {@link #appliedModifiers}; cannot collide with attribute ids, which never
+     * contain {@code #}.
+     */
+    private static final String SWIM_SPEED_STATE_KEY = "#swim_speed";
     /**
      * Entry point into the attribute computation pipeline.
      */
@@ -73,27 +83,53 @@ public class EntityAttributeHandler {
      */
     private final Map<String, Attribute> vanillaAttributeTargets;
     /**
-     * Reflection handle for the transient modifier API; resolved lazily to remain compatible with older Bukkit versions.
+     * Tracks modifier ids applied via the transient API so replacements can remove them even when getModifiers()
+     * does not expose transient entries.
      */
-    private Method transientModifierMethod;
+    private final Set<UUID> transientModifierIds = ConcurrentHashMap.newKeySet();
     /**
-     * Indicates whether the transient modifier lookup was attempted to avoid repeated reflection work.
+     * Last delta written to Bukkit per entity and attribute id, plus the tick it was written. A cached entry means the
+     * entity's live modifier is known to match that delta (a zero delta means no modifier is applied), so unchanged
+     * refreshes can skip the Bukkit instance entirely. Entries are dropped through
+     * {@link #invalidateAppliedModifiers(UUID)} whenever the live instance may have been rebuilt.
      */
-    private boolean transientMethodResolved;
+    private final Map<UUID, Map<String, AppliedModifierState>> appliedModifiers = new ConcurrentHashMap<>();
     /**
-     * Tracks modifier ids applied via the transient API so replacements can remove them even when getModifiers()
-     * does not expose transient entries.
+     * Changes requested after the entity/attribute pair was already mutated this tick. Only the latest request per pair
+     * is kept and applied at the start of the next tick. Synchronized because region threads add to it on Folia.
      */
-    private final Set<UUID> transientModifierIds = ConcurrentHashMap.newKeySet();
+    private final Map<ModifierTarget, PendingModifier> pendingModifiers = Collections.synchronizedMap(new LinkedHashMap<>());
+    /**
+     * Metrics registry of the façade; receives delta cache hits and misses, coalesced mutations, and applications.
+     */
+    private final AttributeMetrics metrics;
+    /**
+     * Tick counter advanced by {@link #tickPlayers()}; used to limit mutations to one per entity/attribute per tick.
+     */
+    private volatile long currentTick;
+    /**
+     * Last observed value of each dynamic attribute read by a derived formula, per player. Dynamic values follow the
+     * vanilla state of the player, so the tick polls them and refreshes the derived dependents of those that moved.
+     * Dropped with the applied deltas in {@link #invalidateAppliedModifiers(UUID)}.
+     */
+    private final Map<UUID, Map<String, Double>> observedFormulaInputs = new ConcurrentHashMap<>();
+    /**
+     * Notifier whose watched dynamic attributes are checked every tick; null when none is attached.
+     */
+    private volatile AttributeChangeNotifier changeNotifier;
     /**
      * Periodic task that re-applies movement-related attributes to online players.
      */
-    private BukkitTask ticker;
+    private TaskHandle ticker;
+    /**
+     * Routes the player tick and coalesced changes to the threads that own each entity.
+     */
+    private final TaskScheduler scheduler;
 
     /**
-     * When enabled, emit detailed modifier application logs to help diagnose drift/stacking issues.
+     * Records every modifier application outcome so drift and stacking issues can be diagnosed after the fact.
      */
-    private final boolean debugModifierLogging;
+    private final TraceRecorder traceRecorder;
 
     /**
      * Creates a handler that synchronizes computed attribute values with Bukkit entities and begins the periodic
@@ -102,15 +138,32 @@ public class EntityAttributeHandler {
     public EntityAttributeHandler(AttributeFacade attributeFacade,
                                   Plugin plugin,
                                   Map<String, Attribute> vanillaAttributeTargets,
-                                  boolean debugModifierLogging) {
+                                  TraceRecorder traceRecorder,
+                                  TaskScheduler scheduler) {
         this.attributeFacade = attributeFacade;
+        this.metrics = attributeFacade.getMetrics();
         this.plugin = plugin;
+        this.scheduler = scheduler;
         this.vanillaAttributeTargets = vanillaAttributeTargets;
-        this.debugModifierLogging = debugModifierLogging;
-        resolveTransientModifierMethod();
+        this.traceRecorder = traceRecorder;
         startTicker();
     }
 
+    /**
+     * Attaches the notifier whose watched dynamic attributes the player tick checks, or detaches it with {@code null}.
+     */
+    public void setChangeNotifier(AttributeChangeNotifier changeNotifier) {
+        this.changeNotifier = changeNotifier;
+    }
+
+    /**
+     * Returns whether vanilla modifiers are applied as transient modifiers on this server; otherwise the persistent
+     * modifier API is used and the modifiers are saved with the entity.
+     */
+    public static boolean usesTransientModifiers() {
+        return TransientModifierSupport.isSupported();
+    }
+
     /**
      * Syncs player movement-related attributes by recalculating flight and swim speeds from the attribute pipeline.
      *
@@ -211,8 +264,7 @@ public class EntityAttributeHandler {
             }
 
             applyVanillaAttribute(entity, attr.id(), clampedValue);
-            attributeFacade.getOrCreatePlayerInstance(entity.getUniqueId(), attr.id())
-                    .setCurrentBaseValue(clampedValue);
+            attributeFacade.setPlayerCurrentBaseValue(entity.getUniqueId(), attr.id(), clampedValue);
         });
     }
 
@@ -304,6 +356,15 @@ public class EntityAttributeHandler {
         return target != null ? target : resolveAttribute(attributeId);
     }
 
+    /**
+     * Returns whether the façade still has a definition for the id. Refreshes queued or computed before the
+     * definition was unregistered are skipped, so they cannot re-apply a modifier {@link #removeVanillaAttribute}
+     * already stripped.
+     */
+    private boolean isRegistered(String attributeId) {
+        return attributeFacade.getDefinition(attributeId).isPresent();
+    }
+
     /**
      * Checks whether a persistent data key belongs to this plugin and follows the attribute key pattern.
      *
@@ -386,7 +447,7 @@ public class EntityAttributeHandler {
         }
 
         Attribute target = resolveVanillaTarget(normalizedId);
-        if (target == null) {
+        if (target == null || !isRegistered(normalizedId)) {
             return;
         }
 
@@ -395,8 +456,7 @@ public class EntityAttributeHandler {
             return;
         }
 
-        purgeAttributeUtilsModifiers(instance, attributeModifierId(normalizedId), normalizedId);
-
+        metrics.recordVanillaApplication();
         AttributeValueStages computed = attributeFacade.compute(normalizedId, entity.getUniqueId(), null);
         applyComputedModifier(entity, target, normalizedId, computed);
     }
@@ -414,7 +474,7 @@ public class EntityAttributeHandler {
             return;
         }
         Attribute target = resolveVanillaTarget(normalizedId);
-        if (target == null) {
+        if (target == null || !isRegistered(normalizedId)) {
             return;
         }
 
@@ -423,12 +483,95 @@ public class EntityAttributeHandler {
             return;
         }
 
-        purgeAttributeUtilsModifiers(instance, attributeModifierId(normalizedId), normalizedId);
-
+        metrics.recordVanillaApplication();
         AttributeValueStages computed = attributeFacade.compute(normalizedId, player);
         applyComputedModifier(player, target, normalizedId, computed);
     }
 
+    /**
+     * Computes and applies several attributes to one entity in a single façade compute pass, ordered so that derived
+     * attributes are applied after the inputs they read and reuse the values those inputs were just computed to.
+     * Must run on the thread owning the entity.
+     *
+     * @param entity       living entity whose computed attributes should be applied
+     * @param attributeIds identifiers of the attributes to compute
+     */
+    public void applyVanillaAttributes(LivingEntity entity, Collection<String> attributeIds) {
+        if (entity == null || attributeIds.isEmpty()) {
+            return;
+        }
+        List<String> ordered = attributeFacade.orderForRefresh(attributeIds);
+        attributeFacade.runComputePass(() -> {
+            for (String attributeId : ordered) {
+                applyVanillaAttribute(entity, attributeId);
+            }
+        });
+    }
+
+    /**
+     * Removes the AttributeUtils modifier applied for {@code attributeId} from the entity and forgets its cached
+     * delta, for an attribute whose definition was unregistered. Entities in unloaded chunks keep a persistent
+     * modifier until the attribute is applied to them again. Must run on the thread owning the entity.
+     *
+     * @param entity      living entity to clean up
+     * @param attributeId identifier of the removed attribute
+     */
+    public void removeVanillaAttribute(LivingEntity entity, String attributeId) {
+        String normalizedId = normalizeAttributeId(attributeId);
+        if (entity == null || isBlank(normalizedId)) {
+            return;
+        }
+        UUID entityId = entity.getUniqueId();
+        pendingModifiers.remove(new ModifierTarget(entityId, normalizedId));
+        Map<String, AppliedModifierState> entityStates = appliedModifiers.get(entityId);
+        AppliedModifierState state = entityStates == null ? null : entityStates.remove(normalizedId);
+        Attribute target = resolveVanillaTarget(normalizedId);
+        org.bukkit.attribute.AttributeInstance instance = target == null ? null : entity.getAttribute(target);
+        if (instance == null || (state != null && Math.abs(state.delta) < ATTRIBUTE_DELTA_EPSILON)) {
+            return;
+        }
+        purgeAttributeUtilsModifiers(instance, attributeModifierId(normalizedId), normalizedId);
+    }
+
+    /**
+     * Returns whether {@link #applyVanillaAttribute(LivingEntity, String)} would compute and apply the attribute for
+     * this entity, meaning the id maps to a vanilla attribute the entity has an instance of.
+     *
+     * @param entity      living entity to check
+     * @param attributeId identifier of the attribute
+     */
+    public boolean canApplyVanillaAttribute(LivingEntity entity, String attributeId) {
+        String normalizedId = normalizeAttributeId(attributeId);
+        if (entity == null || isBlank(normalizedId)) {
+            return false;
+        }
+        Attribute target = resolveVanillaTarget(normalizedId);
+        return target != null && entity.getAttribute(target) != null;
+    }
+
+    /**
+     * Applies values computed ahead of time for an entity that passed
+     * {@link #canApplyVanillaAttribute(LivingEntity, String)}. The outcome is the same as
+     * {@link #applyVanillaAttribute(LivingEntity, String)} returning {@code computed} from the façade.
+     *
+     * @param entity      living entity whose attribute should be updated
+     * @param attributeId identifier of the computed attribute
+     * @param computed    values computed for this entity and attribute
+     */
+    public void applyComputedAttribute(LivingEntity entity, String attributeId, AttributeValueStages computed) {
+        String normalizedId = normalizeAttributeId(attributeId);
+        if (entity == null || isBlank(normalizedId)) {
+            return;
+        }
+        Attribute target = resolveVanillaTarget(normalizedId);
+        if (target == null || !isRegistered(normalizedId) || entity.getAttribute(target) == null) {
+            return;
+        }
+
+        metrics.recordVanillaApplication();
+        applyComputedModifier(entity, target, normalizedId, computed);
+    }
+
     /**
      * Attempts to resolve a Bukkit {@link Attribute} enum constant from the provided id.
      *
@@ -445,8 +588,13 @@ public class EntityAttributeHandler {
     }
 
     /**
-     * Applies a computed delta to the target attribute using a deterministic modifier id, skipping zero-delta
-     * updates to avoid unnecessary churn.
+     * Applies a computed delta to the target attribute using a deterministic modifier id. The vanilla value is resolved
+     * without AttributeUtils modifiers, so the delta can be compared against the last one applied to this entity; when
+     * it is unchanged within {@link #ATTRIBUTE_DELTA_EPSILON} the Bukkit instance is left untouched and no attribute
+     * update is sent to clients. Each entity/attribute pair is mutated at most once per tick: further changes in the
+     * same tick are coalesced and the latest one is applied on the next tick. The first application per entity purges
+     * any stale AttributeUtils modifiers, while later changes only replace the modifier by id. Every outcome is
+     * recorded by the {@link TraceRecorder}; modifiers that survive a purge are reported to it as an anomaly.
      *
      * @param attributable entity or player with the target attribute instance
      * @param target       vanilla attribute resolved for the provided id
@@ -462,27 +610,49 @@ public class EntityAttributeHandler {
             return;
         }
 
-
-        UUID modifierId = attributeModifierId(attributeId);
-        List<AttributeModifier> prePurgeModifiers = debugModifierLogging
-                ? collectPluginModifiers(instance, attributeId)
-                : List.of();
-
-        purgeAttributeUtilsModifiers(instance, modifierId, attributeId);
-
-        List<AttributeModifier> postPurgeModifiers = debugModifierLogging
-                ? collectPluginModifiers(instance, attributeId)
-                : List.of();
-
         double vanillaValue = VanillaAttributeResolver.resolveVanillaValue(instance, instance.getBaseValue());
-
         double staged = computed.currentFinal();
         double delta = staged - vanillaValue;
-        if (debugModifierLogging) {
-            logModifierDebug(attributable, instance, target, attributeId, computed, vanillaValue, delta,
-                    prePurgeModifiers, postPurgeModifiers);
+
+        UUID entityId = attributable instanceof Entity entity ? entity.getUniqueId() : null;
+        Map<String, AppliedModifierState> entityStates = entityId == null
+                ? null
+                : appliedModifiers.computeIfAbsent(entityId, ignored -> new ConcurrentHashMap<>());
+        AppliedModifierState state = entityStates == null ? null : entityStates.get(attributeId);
+        if (state != null) {
+            ModifierTarget key = new ModifierTarget(entityId, attributeId);
+            if (Math.abs(state.delta - delta) < ATTRIBUTE_DELTA_EPSILON) {
+                pendingModifiers.remove(key);
+                metrics.recordDeltaCacheHit();
+                trace(attributable, entityId, attributeId, vanillaValue, staged, delta, TraceRecorder.FLAG_CACHE_HIT);
+                return;
+            }
+            if (state.mutationTick == currentTick || mutatedThisTick(entityStates, target)) {
+                if (pendingModifiers.put(key, new PendingModifier(attributable, target, attributeId, computed)) != null) {
+                    metrics.recordCoalescedMutation();
+                }
+                trace(attributable, entityId, attributeId, vanillaValue, staged, delta, TraceRecorder.FLAG_COALESCED);
+                return;
+            }
+            pendingModifiers.remove(key);
         }
+        metrics.recordDeltaCacheMiss();
+
+        UUID modifierId = attributeModifierId(attributeId);
+        int traceFlags = 0;
+        if (state == null) {
+            purgeAttributeUtilsModifiers(instance, modifierId, attributeId);
+            traceFlags = TraceRecorder.FLAG_PURGED;
+            if (hasResidualModifiers(instance, modifierId, attributeId)) {
+                traceFlags |= TraceRecorder.FLAG_RESIDUAL;
+            }
+        } else if (Math.abs(state.delta) >= ATTRIBUTE_DELTA_EPSILON) {
+            removeAppliedModifier(instance, modifierId);
+        }
+
         if (Math.abs(delta) < ATTRIBUTE_DELTA_EPSILON) {
+            recordApplied(entityStates, attributeId, 0.0d);
+            trace(attributable, entityId, attributeId, vanillaValue, staged, delta, traceFlags | TraceRecorder.FLAG_CLEARED);
             return;
         }
 
@@ -492,11 +662,129 @@ public class EntityAttributeHandler {
                 delta,
                 AttributeModifier.Operation.ADD_NUMBER
         );
-        if (hasModifierById(instance, modifierId)) {
+        if (state == null && hasModifierById(instance, modifierId)) {
+            trace(attributable, entityId, attributeId, vanillaValue, staged, delta, traceFlags);
             return;
         }
 
         addModifier(instance, modifier);
+        recordApplied(entityStates, attributeId, delta);
+        trace(attributable, entityId, attributeId, vanillaValue, staged, delta, traceFlags | TraceRecorder.FLAG_APPLIED);
+    }
+
+    /**
+     * Hands one application outcome to the trace recorder.
+     */
+    private void trace(Attributable attributable, UUID entityId, String attributeId, double vanillaValue,
+                       double computedValue, double delta, int flags) {
+        traceRecorder.record(entityId, attributable instanceof Player player ? player.getName() : null, attributeId,
+                vanillaValue, computedValue, delta, flags);
+    }
+
+    /**
+     * Returns whether any AttributeUtils modifier on {@code target} was written for this entity during the current
+     * tick: the modifier of an attribute mapped to it or, for movement speed, the swim speed multiplier.
+     */
+    private boolean mutatedThisTick(Map<String, AppliedModifierState> entityStates, Attribute target) {
+        for (Map.Entry<String, AppliedModifierState> entry : entityStates.entrySet()) {
+            if (entry.getValue().mutationTick != currentTick) {
+                continue;
+            }
+            Attribute stateTarget = SWIM_SPEED_STATE_KEY.equals(entry.getKey())
+                    ? Attribute.MOVEMENT_SPEED
+                    : vanillaAttributeTargets.get(entry.getKey());
+            if (target.equals(stateTarget)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stores the delta now live on the entity and stamps it with the current tick.
+     */
+    private void recordApplied(Map<String, AppliedModifierState> entityStates, String attributeId, double delta) {
+        if (entityStates == null) {
+            return;
+        }
+        AppliedModifierState state = entityStates.computeIfAbsent(attributeId, ignored -> new AppliedModifierState());
+        state.delta = delta;
+        state.mutationTick = currentTick;
+    }
+
+    /**
+     * Applies changes coalesced during the previous tick on the thread owning each entity, skipping entities that are
+     * no longer valid.
+     */
+    private void flushPendingModifiers() {
+        if (pendingModifiers.isEmpty()) {
+            return;
+        }
+
+        List<PendingModifier> pending;
+        synchronized (pendingModifiers) {
+            pending = new ArrayList<>(pendingModifiers.values());
+            pendingModifiers.clear();
+        }
+        for (PendingModifier modifier : pending) {
+            if (!(modifier.attributable() instanceof Entity entity)) {
+                applyComputedModifier(modifier.attributable(), modifier.target(), modifier.attributeId(), modifier.computed());
+                continue;
+            }
+            scheduler.executeForEntity(entity, () -> {
+                if (entity.isValid()) {
+                    applyComputedModifier(modifier.attributable(), modifier.target(), modifier.attributeId(), modifier.computed());
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns how many Bukkit modifier mutations were avoided because the applied delta was unchanged or because a
+     * same-tick change was superseded before it was applied.
+     */
+    public long getSuppressedMutationCount() {
+        return metrics.suppressedMutations();
+    }
+
+    /**
+     * Returns how many times a computed attribute was applied to an entity through
+     * {@link #applyVanillaAttribute(LivingEntity, String)} or {@link #applyVanillaAttribute(Player, String)}, counting
+     * only calls that resolved a vanilla target and a live attribute instance.
+     */
+    public long getVanillaApplicationCount() {
+        return metrics.vanillaApplications();
+    }
+
+    /**
+     * Forgets every cached applied delta for an entity so the next refresh performs a full purge and re-apply. Call
+     * whenever the entity's live attribute instances may have been rebuilt or lost transient modifiers (quit, respawn,
+     * death, entity unload or removal).
+     *
+     * @param entityId entity whose cached deltas should be dropped
+     */
+    public void invalidateAppliedModifiers(UUID entityId) {
+        if (entityId != null) {
+            appliedModifiers.remove(entityId);
+            observedFormulaInputs.remove(entityId);
+            synchronized (pendingModifiers) {
+                pendingModifiers.keySet().removeIf(key -> key.entityId().equals(entityId));
+            }
+        }
+    }
+
+    /**
+     * Removes the AttributeUtils modifier for an attribute by its deterministic id without scanning the instance's
+     * modifier collection.
+     */
+    private void removeAppliedModifier(AttributeInstance instance, UUID modifierId) {
+        transientModifierIds.remove(modifierId);
+        instance.removeModifier(new AttributeModifier(
+                modifierId,
+                VanillaAttributeResolver.ATTRIBUTEUTILS_PREFIX + "cleanup",
+                0.0d,
+                AttributeModifier.Operation.ADD_NUMBER
+        ));
     }
 
     private boolean hasModifierById(AttributeInstance instance, UUID modifierId) {
@@ -571,20 +859,6 @@ public class EntityAttributeHandler {
         instance.removeModifier(cleanup);
     }
 
-    /**
-     * Determines whether the running Bukkit version supports transient attribute modifiers.
-     */
-    private void resolveTransientModifierMethod() {
-        try {
-            transientModifierMethod = org.bukkit.attribute.AttributeInstance.class
-                    .getMethod("addTransientModifier", org.bukkit.attribute.AttributeModifier.class);
-        } catch (ReflectiveOperationException ignored) {
-            transientModifierMethod = null;
-        } finally {
-            transientMethodResolved = true;
-        }
-    }
-
     /**
      * Applies an attribute modifier, preferring Bukkit's transient API when available.
      *
@@ -593,77 +867,26 @@ public class EntityAttributeHandler {
      */
     private void addModifier(org.bukkit.attribute.AttributeInstance instance,
                              org.bukkit.attribute.AttributeModifier modifier) {
-        if (!transientMethodResolved) {
-            resolveTransientModifierMethod();
-        }
-
-        if (transientModifierMethod != null) {
-            try {
-                transientModifierMethod.invoke(instance, modifier);
-                transientModifierIds.add(modifier.getUniqueId());
-                return;
-            } catch (ReflectiveOperationException ignored) {
-                transientModifierMethod = null;
-                transientModifierIds.remove(modifier.getUniqueId());
-            }
+        if (TransientModifierSupport.addTransientModifier(instance, modifier)) {
+            transientModifierIds.add(modifier.getUniqueId());
+            return;
         }
 
+        transientModifierIds.remove(modifier.getUniqueId());
         instance.addModifier(modifier);
     }
 
-    private void logModifierDebug(Attributable attributable,
-                                   AttributeInstance instance,
-                                   Attribute target,
-                                   String attributeId,
-                                   AttributeValueStages computed,
-                                   double vanillaValue,
-                                   double delta,
-                                   List<AttributeModifier> prePurgeModifiers,
-                                   List<AttributeModifier> postPurgeModifiers) {
-        String owner = describeAttributable(attributable);
-        String message = String.format(
-                "[modifier-debug] %s attr=%s target=%s base=%.4f vanilla=%.4f rawCurrent=%.4f currentFinal=%.4f delta=%.4f pre=%s post=%s",
-                owner,
-                attributeId,
-                target,
-                instance.getBaseValue(),
-                vanillaValue,
-                computed.rawCurrent(),
-                computed.currentFinal(),
-                delta,
-                formatModifiers(prePurgeModifiers),
-                formatModifiers(postPurgeModifiers)
-        );
-        plugin.getLogger().info(message);
-
-        if (!postPurgeModifiers.isEmpty()) {
-            plugin.getLogger().warning("[modifier-debug] residual AttributeUtils modifiers remained after purge for "
-                    + attributeId + " on " + owner);
-        }
-    }
-
-    private List<AttributeModifier> collectPluginModifiers(AttributeInstance instance, String attributeId) {
-        return instance.getModifiers().stream()
-                .filter(modifier -> isAttributeUtilsModifier(modifier, attributeId))
-                .collect(Collectors.toList());
-    }
-
-    private String describeAttributable(Attributable attributable) {
-        if (attributable instanceof Entity entity) {
-            String label = (entity instanceof Player player) ? player.getName() : entity.getType().name();
-            return label + "(" + entity.getUniqueId() + ")";
-        }
-        return attributable.getClass().getSimpleName();
-    }
-
-    private String formatModifiers(List<AttributeModifier> modifiers) {
-        if (modifiers == null || modifiers.isEmpty()) {
-            return "[]";
+    /**
+     * Checks whether AttributeUtils modifiers for the attribute survived a purge, which means another code path or
+     * plugin re-added them and the entity's value is no longer what the cache assumes.
+     */
+    private boolean hasResidualModifiers(AttributeInstance instance, UUID modifierId, String attributeId) {
+        for (AttributeModifier modifier : instance.getModifiers()) {
+            if (modifier.getUniqueId().equals(modifierId) || isAttributeUtilsModifier(modifier, attributeId)) {
+                return true;
+            }
         }
-        return modifiers.stream()
-                .map(modifier -> modifier.getUniqueId() + "|" + modifier.getName() + "|" + modifier.getOperation()
-                        + "|" + modifier.getAmount())
-                .collect(Collectors.joining(", ", "[", "]"));
+        return false;
     }
 
     /**
@@ -673,16 +896,52 @@ public class EntityAttributeHandler {
         if (ticker != null) {
             ticker.cancel();
         }
-        ticker = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tickPlayers, 1L, 1L);
+        ticker = scheduler.runGlobalTimer(this::tickPlayers, 1L, 1L);
     }
 
     /**
-     * Repeatedly applies speed updates to tracked players.
+     * Advances the mutation tick, applies changes coalesced during the previous tick, repeatedly applies speed
+     * updates to tracked players, polls the dynamic inputs of derived attributes, and checks watched dynamic
+     * attributes for change notifications. Runs on the global thread; per-player work runs on each player's own
+     * thread, which on Bukkit is the same thread.
      */
     private void tickPlayers() {
+        currentTick++;
+        flushPendingModifiers();
+        Set<String> formulaInputs = attributeFacade.getDynamicFormulaInputs();
         for (Player player : plugin.getServer().getOnlinePlayers()) {
-            applyFlySpeed(player);
-            applySwimSpeed(player);
+            scheduler.executeForEntity(player, () -> {
+                applyFlySpeed(player);
+                applySwimSpeed(player);
+                pollFormulaInputs(player, formulaInputs);
+            });
+        }
+        AttributeChangeNotifier notifier = this.changeNotifier;
+        if (notifier != null) {
+            notifier.checkDynamic();
+        }
+    }
+
+    /**
+     * Computes each dynamic formula input for the player and, when one moved since the previous tick, requests a
+     * refresh of the derived attributes reading it. The first observation after joining or an invalidation only
+     * records the value, since the player's attributes are refreshed in full at those points.
+     *
+     * @param player        player whose inputs should be polled
+     * @param formulaInputs dynamic attributes read by at least one derived attribute
+     */
+    private void pollFormulaInputs(Player player, Set<String> formulaInputs) {
+        if (formulaInputs.isEmpty()) {
+            return;
+        }
+        Map<String, Double> observed = observedFormulaInputs.computeIfAbsent(player.getUniqueId(),
+                ignored -> new ConcurrentHashMap<>());
+        for (String attributeId : formulaInputs) {
+            double value = attributeFacade.compute(attributeId, player).currentFinal();
+            Double previous = observed.put(attributeId, value);
+            if (previous != null && Math.abs(previous - value) >= ATTRIBUTE_DELTA_EPSILON) {
+                attributeFacade.refreshDependents(player.getUniqueId(), attributeId);
+            }
         }
     }
 
@@ -700,7 +959,10 @@ public class EntityAttributeHandler {
     }
 
     /**
-     * Applies swim speed modifier while the player is swimming or submerged.
+     * Applies swim speed modifier while the player is swimming or submerged. The multiplier goes through the same
+     * delta cache as computed modifiers: the movement speed instance is only touched when swimming starts or stops or
+     * the multiplier changes, and never more than once per tick alongside a movement speed modifier. A deferred change
+     * is picked up by the next tick's call.
      *
      * @param player player whose swim speed attribute should be refreshed
      */
@@ -710,34 +972,74 @@ public class EntityAttributeHandler {
             return;
         }
 
-
-        instance.getModifiers().stream()
-                .filter(modifier -> modifier.getUniqueId().equals(SWIM_SPEED_MODIFIER_ID))
-                .findFirst()
-                .ifPresent(instance::removeModifier);
-
+        double multiplier = 0.0d;
         boolean swimming = player.isSwimming() || player.getEyeLocation().getBlock().isLiquid();
-        if (!swimming) {
-            return;
+        if (swimming) {
+            double swimSpeed = attributeFacade.compute("swim_speed", player).currentFinal();
+            if (swimSpeed > 0 && Math.abs(swimSpeed - 1.0d) >= ATTRIBUTE_DELTA_EPSILON) {
+                multiplier = swimSpeed - 1.0d;
+            }
         }
 
-        double swimSpeed = attributeFacade.compute("swim_speed", player).currentFinal();
-        if (swimSpeed <= 0) {
+        Map<String, AppliedModifierState> entityStates = appliedModifiers.computeIfAbsent(player.getUniqueId(),
+                ignored -> new ConcurrentHashMap<>());
+        AppliedModifierState state = entityStates.get(SWIM_SPEED_STATE_KEY);
+        if (state != null && Math.abs(state.delta - multiplier) < ATTRIBUTE_DELTA_EPSILON) {
+            metrics.recordDeltaCacheHit();
             return;
         }
-
-        double multiplier = swimSpeed - 1.0d;
-        if (Math.abs(multiplier) < ATTRIBUTE_DELTA_EPSILON) {
+        if (mutatedThisTick(entityStates, Attribute.MOVEMENT_SPEED)) {
+            metrics.recordCoalescedMutation();
             return;
         }
+        metrics.recordDeltaCacheMiss();
+
+        if (state == null) {
+            instance.getModifiers().stream()
+                    .filter(modifier -> modifier.getUniqueId().equals(SWIM_SPEED_MODIFIER_ID))
+                    .findFirst()
+                    .ifPresent(instance::removeModifier);
+        } else if (Math.abs(state.delta) >= ATTRIBUTE_DELTA_EPSILON) {
+            removeAppliedModifier(instance, SWIM_SPEED_MODIFIER_ID);
+        }
 
-        AttributeModifier modifier = new AttributeModifier(
-                SWIM_SPEED_MODIFIER_ID,
-                VanillaAttributeResolver.ATTRIBUTEUTILS_PREFIX + "swim_speed",
-                multiplier,
-                AttributeModifier.Operation.MULTIPLY_SCALAR_1
-        );
-        addModifier(instance, modifier);
+        if (multiplier != 0.0d) {
+            addModifier(instance, new AttributeModifier(
+                    SWIM_SPEED_MODIFIER_ID,
+                    VanillaAttributeResolver.ATTRIBUTEUTILS_PREFIX + "swim_speed",
+                    multiplier,
+                    AttributeModifier.Operation.MULTIPLY_SCALAR_1
+            ));
+        }
+        recordApplied(entityStates, SWIM_SPEED_STATE_KEY, multiplier);
     }
 
+    /**
+     * Last delta applied to a single entity attribute and the tick it was written.
+     */
+    private static final class AppliedModifierState {
+        private double delta;
+        private long mutationTick;
+    }
+
+    /**
+     * Entity/attribute pair used to coalesce same-tick mutations.
+     *
+     * @param entityId    entity owning the attribute
+     * @param attributeId normalized attribute id
+     */
+    private record ModifierTarget(UUID entityId, String attributeId) {
+    }
+
+    /**
+     * Change deferred to the next tick because the pair was already mutated this tick.
+     *
+     * @param attributable live entity to update
+     * @param target       vanilla attribute to update
+     * @param attributeId  normalized attribute id
+     * @param computed     latest computed values; the vanilla value is re-resolved when applied
+     */
+    private record PendingModifier(Attributable attributable, Attribute target, String attributeId,
+                                   AttributeValueStages computed) {
+    }
 }
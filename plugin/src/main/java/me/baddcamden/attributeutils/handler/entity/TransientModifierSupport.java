@@ -0,0 +1,68 @@
+package me.baddcamden.attributeutils.handler.entity;
+
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Capability probe for Bukkit's {@code AttributeInstance#addTransientModifier} API, resolved once per JVM. The handle
+ * lives in a {@code static final} field so the JIT can treat it as a constant and inline the call, and it survives
+ * plugin reloads that rebuild {@link EntityAttributeHandler}. Servers without the API get a {@code null} handle and
+ * callers fall back to the regular persistent modifier API.
+ */
+final class TransientModifierSupport {
+
+    /**
+     * Bound {@code addTransientModifier(AttributeModifier)} handle, or {@code null} when the running API lacks it.
+     */
+    private static final MethodHandle ADD_TRANSIENT_MODIFIER = probe();
+
+    private TransientModifierSupport() {
+    }
+
+    /**
+     * Returns whether the running server exposes transient attribute modifiers.
+     */
+    static boolean isSupported() {
+        return ADD_TRANSIENT_MODIFIER != null;
+    }
+
+    /**
+     * Adds the modifier as a transient modifier when supported.
+     *
+     * @param instance attribute instance to mutate
+     * @param modifier modifier to add
+     * @return {@code true} when the transient API accepted the modifier; {@code false} when callers must fall back
+     */
+    static boolean addTransientModifier(AttributeInstance instance, AttributeModifier modifier) {
+        if (ADD_TRANSIENT_MODIFIER == null) {
+            return false;
+        }
+
+        try {
+            ADD_TRANSIENT_MODIFIER.invokeExact(instance, modifier);
+            return true;
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable ignored) {
+            // implementations may reject the modifier (for example, a duplicate id); the persistent API decides instead
+            return false;
+        }
+    }
+
+    /**
+     * Looks up the transient modifier method through the public lookup; absence is the expected outcome on older APIs.
+     */
+    private static MethodHandle probe() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(AttributeInstance.class, "addTransientModifier",
+                            MethodType.methodType(void.class, AttributeModifier.class));
+        } catch (NoSuchMethodException | IllegalAccessException ignored) {
+            return null;
+        }
+    }
+}
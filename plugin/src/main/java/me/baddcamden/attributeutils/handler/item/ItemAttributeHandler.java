@@ -3,6 +3,7 @@ package me.baddcamden.attributeutils.handler.item;
 import me.baddcamden.attributeutils.api.AttributeFacade;
 import me.baddcamden.attributeutils.command.CommandParsingUtils;
 import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
+import me.baddcamden.attributeutils.metrics.ItemScanEvent;
 import me.baddcamden.attributeutils.model.AttributeDefinition;
 import me.baddcamden.attributeutils.model.ModifierEntry;
 import me.baddcamden.attributeutils.model.ModifierOperation;
@@ -172,6 +173,9 @@ public class ItemAttributeHandler {
             return;
         }
 
+        ItemScanEvent scan = new ItemScanEvent();
+        scan.begin();
+        long start = System.nanoTime();
         UUID ownerId = entity.getUniqueId();
         Map<String, AppliedItemModifier> previousModifiers = appliedItemModifiers.getOrDefault(ownerId, Map.of());
         Map<String, AppliedItemModifier> currentModifiers = new HashMap<>();
@@ -180,34 +184,41 @@ public class ItemAttributeHandler {
 
         if (entity instanceof Player player) {
             // Use storage contents to avoid double-counting armor/off-hand slots that Bukkit includes in getContents.
-            scanItems(player.getInventory().getStorageContents(), TriggerCriterion.ItemSlotContext.Bucket.INVENTORY, player, heldSlot, currentModifiers, touchedAttributes);
-            scanItems(player.getInventory().getArmorContents(), TriggerCriterion.ItemSlotContext.Bucket.ARMOR, player, heldSlot, currentModifiers, touchedAttributes);
-            scanItems(new ItemStack[]{player.getInventory().getItemInOffHand()}, TriggerCriterion.ItemSlotContext.Bucket.OFFHAND, player, heldSlot, currentModifiers, touchedAttributes);
+            scanItems(player.getInventory().getStorageContents(), TriggerCriterion.ItemSlotContext.Bucket.INVENTORY, player, heldSlot, currentModifiers, touchedAttributes, scan);
+            scanItems(player.getInventory().getArmorContents(), TriggerCriterion.ItemSlotContext.Bucket.ARMOR, player, heldSlot, currentModifiers, touchedAttributes, scan);
+            scanItems(new ItemStack[]{player.getInventory().getItemInOffHand()}, TriggerCriterion.ItemSlotContext.Bucket.OFFHAND, player, heldSlot, currentModifiers, touchedAttributes, scan);
         } else {
             EntityEquipment equipment = entity.getEquipment();
             if (equipment != null) {
-                scanItems(new ItemStack[]{equipment.getItemInMainHand()}, TriggerCriterion.ItemSlotContext.Bucket.INVENTORY, entity, heldSlot, currentModifiers, touchedAttributes);
-                scanItems(equipment.getArmorContents(), TriggerCriterion.ItemSlotContext.Bucket.ARMOR, entity, heldSlot, currentModifiers, touchedAttributes);
-                scanItems(new ItemStack[]{equipment.getItemInOffHand()}, TriggerCriterion.ItemSlotContext.Bucket.OFFHAND, entity, heldSlot, currentModifiers, touchedAttributes);
+                scanItems(new ItemStack[]{equipment.getItemInMainHand()}, TriggerCriterion.ItemSlotContext.Bucket.INVENTORY, entity, heldSlot, currentModifiers, touchedAttributes, scan);
+                scanItems(equipment.getArmorContents(), TriggerCriterion.ItemSlotContext.Bucket.ARMOR, entity, heldSlot, currentModifiers, touchedAttributes, scan);
+                scanItems(new ItemStack[]{equipment.getItemInOffHand()}, TriggerCriterion.ItemSlotContext.Bucket.OFFHAND, entity, heldSlot, currentModifiers, touchedAttributes, scan);
             }
         }
 
         reconcileModifiers(ownerId, previousModifiers, currentModifiers, touchedAttributes);
         appliedItemModifiers.put(ownerId, currentModifiers);
+        attributeFacade.getMetrics().recordItemScan(scan.slotsDecoded, System.nanoTime() - start);
+        if (scan.shouldCommit()) {
+            scan.entityId = ownerId.toString();
+            scan.commit();
+        }
 
         applyVanillaAttributes(entity, touchedAttributes);
     }
 
     /**
      * Scans the provided items for attribute metadata, applying modifiers that satisfy trigger criteria while tracking
-     * active modifier keys for subsequent cleanup.
+     * active modifier keys for subsequent cleanup. Decoded slot and key counts are accumulated on {@code scan},
+     * which doubles as the Flight Recorder event for the whole equipment scan.
      */
     private void scanItems(ItemStack[] items,
                            TriggerCriterion.ItemSlotContext.Bucket bucket,
                            LivingEntity entity,
                            int heldSlot,
                            Map<String, AppliedItemModifier> currentModifiers,
-                           Set<String> touchedAttributes) {
+                           Set<String> touchedAttributes,
+                           ItemScanEvent scan) {
         if (items == null) {
             return;
         }
@@ -222,6 +233,7 @@ public class ItemAttributeHandler {
                 continue;
             }
 
+            scan.slotsDecoded++;
             PersistentDataContainer container = meta.getPersistentDataContainer();
             for (NamespacedKey key : container.getKeys()) {
                 String keyName = key.getKey();
@@ -242,6 +254,7 @@ public class ItemAttributeHandler {
                 if (value == null) {
                     continue;
                 }
+                scan.keysDecoded++;
 
                 NamespacedKey capKey = new NamespacedKey(plugin, keyName + "_cap");
                 Double capOverride = container.get(capKey, PersistentDataType.DOUBLE);
@@ -1,30 +1,36 @@
 package me.baddcamden.attributeutils.listener;
 
+import me.baddcamden.attributeutils.api.AttributeChangeNotifier;
 import me.baddcamden.attributeutils.api.AttributeFacade;
 import me.baddcamden.attributeutils.handler.entity.EntityAttributeHandler;
 import me.baddcamden.attributeutils.handler.item.ItemAttributeHandler;
 import me.baddcamden.attributeutils.persistence.AttributePersistence;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
 import org.bukkit.event.entity.EntitySpawnEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryCreativeEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerPickupItemEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.world.ChunkLoadEvent;
-import org.bukkit.plugin.Plugin;
-
-import java.util.concurrent.Executor;
+import org.bukkit.event.world.EntitiesUnloadEvent;
 
 /**
  * Listens for player lifecycle and attribute-related events to keep persisted data in sync and enforce
@@ -42,60 +48,129 @@ public class AttributeListener implements Listener {
     private final ItemAttributeHandler itemAttributeHandler;
     /** Handles applying attribute caps and other entity-level constraints. */
     private final EntityAttributeHandler entityAttributeHandler;
-    /** Executes follow-up tasks synchronously on the main server thread. */
-    private final Executor syncExecutor;
+    /** Runs follow-up tasks on the thread that owns the affected player, or the global thread for shared state. */
+    private final TaskScheduler scheduler;
+    /** Forgets the last observed values of owners that leave. */
+    private final AttributeChangeNotifier changeNotifier;
 
     /**
      * Creates a new listener bound to the application's attribute components.
      *
-     * @param plugin owning plugin used to schedule synchronous tasks.
+     * @param scheduler scheduler used to run follow-up tasks on the owning thread.
      * @param attributeFacade facade for computing final attribute values for players; must be non-null.
      * @param persistence persistence service for loading and saving player attribute data.
      * @param itemAttributeHandler handler that applies default attribute data to player inventories.
      * @param entityAttributeHandler handler responsible for applying attribute caps to entities.
+     * @param changeNotifier notifier whose per-owner state is dropped on quit and death.
      */
-    public AttributeListener(Plugin plugin,
+    public AttributeListener(TaskScheduler scheduler,
                              AttributeFacade attributeFacade,
                              AttributePersistence persistence,
                              ItemAttributeHandler itemAttributeHandler,
-                             EntityAttributeHandler entityAttributeHandler) {
+                             EntityAttributeHandler entityAttributeHandler,
+                             AttributeChangeNotifier changeNotifier) {
+        this.changeNotifier = changeNotifier;
         this.attributeFacade = attributeFacade;
         this.persistence = persistence;
         this.itemAttributeHandler = itemAttributeHandler;
         this.entityAttributeHandler = entityAttributeHandler;
-        this.syncExecutor = command -> plugin.getServer().getScheduler().runTask(plugin, command);
+        this.scheduler = scheduler;
     }
 
     /**
-     * Loads persisted player attributes asynchronously, then reapplies attributes and caps on the main thread
-     * once loading completes. This ensures players immediately benefit from stored modifiers after joining.
+     * Reads the player's file while the login is still being processed off the main thread, staging the decoded data
+     * for {@link #onPlayerJoin(PlayerJoinEvent)}. Runs at {@link EventPriority#MONITOR} so logins denied by other
+     * plugins are seen and never staged.
+     *
+     * @param event asynchronous pre-login event for the connecting player.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            persistence.discardStagedPlayer(event.getUniqueId());
+            return;
+        }
+        persistence.prefetchPlayer(event.getUniqueId());
+    }
+
+    /**
+     * Discards staged player data when the synchronous login stage denies the connection (whitelist, full server,
+     * bans applied late, and so on).
+     *
+     * @param event login event containing the final login result.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            persistence.discardStagedPlayer(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Applies the player's staged attributes and caps synchronously so they spawn with their stored modifiers. When
+     * nothing was staged (for example, the pre-login prefetch expired), loading falls back to an asynchronous read
+     * followed by an apply on the player's own thread.
      *
      * @param event player join event containing the joining player.
      */
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        persistence.loadPlayerAsync(attributeFacade, event.getPlayer().getUniqueId())
+        Player player = event.getPlayer();
+        if (persistence.applyStagedPlayer(attributeFacade, player.getUniqueId())) {
+            itemAttributeHandler.applyPersistentAttributes(player);
+            entityAttributeHandler.applyPlayerCaps(player);
+            return;
+        }
+
+        persistence.loadPlayerAsync(attributeFacade, player.getUniqueId())
                 .thenRunAsync(() -> {
-                    itemAttributeHandler.applyPersistentAttributes(event.getPlayer());
-                    entityAttributeHandler.applyPlayerCaps(event.getPlayer());
-                }, syncExecutor);
+                    itemAttributeHandler.applyPersistentAttributes(player);
+                    entityAttributeHandler.applyPlayerCaps(player);
+                }, scheduler.entityExecutor(player));
     }
 
     /**
-     * Saves player attributes asynchronously when the player quits and then clears transient state on the main thread.
+     * Saves player attributes asynchronously when the player quits and then clears transient state on the global thread.
      * Temporary modifiers and cached caps are purged to avoid leaking session-specific data.
      *
      * @param event player quit event containing the quitting player.
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
+        entityAttributeHandler.invalidateAppliedModifiers(event.getPlayer().getUniqueId());
+        changeNotifier.forgetOwner(event.getPlayer().getUniqueId());
         persistence.savePlayerAsync(attributeFacade, event.getPlayer().getUniqueId())
-                .whenComplete((ignored, error) -> syncExecutor.execute(() -> {
+                .whenComplete((ignored, error) -> scheduler.runGlobal(() -> {
                     attributeFacade.purgeTemporary(event.getPlayer().getUniqueId());
                     itemAttributeHandler.clearAppliedModifiers(event.getPlayer().getUniqueId());
                 }));
     }
 
+    /**
+     * Drops cached applied modifiers for a respawning player, whose live attribute instances are rebuilt by the server,
+     * so the next refresh re-applies them in full.
+     *
+     * @param event player respawn event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        entityAttributeHandler.invalidateAppliedModifiers(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Drops cached applied modifiers for entities that die; players are rebuilt on respawn and other entities are
+     * removed.
+     *
+     * @param event entity death event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        entityAttributeHandler.invalidateAppliedModifiers(event.getEntity().getUniqueId());
+        if (!(event.getEntity() instanceof Player)) {
+            changeNotifier.forgetOwner(event.getEntity().getUniqueId());
+        }
+    }
+
     /**
      * Reapplies persistent item attributes and caps when players change their held item slot.
      *
@@ -103,7 +178,7 @@ public class AttributeListener implements Listener {
      */
     @EventHandler
     public void onItemHeld(PlayerItemHeldEvent event) {
-        syncExecutor.execute(() -> refreshPlayer(event.getPlayer()));
+        scheduleRefresh(event.getPlayer());
     }
 
     /**
@@ -115,7 +190,7 @@ public class AttributeListener implements Listener {
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
         if (event.getWhoClicked() instanceof Player player) {
-            syncExecutor.execute(() -> refreshPlayer(player));
+            scheduleRefresh(player);
         }
     }
 
@@ -127,7 +202,7 @@ public class AttributeListener implements Listener {
     @EventHandler
     public void onInventoryDrag(InventoryDragEvent event) {
         if (event.getWhoClicked() instanceof Player player) {
-            syncExecutor.execute(() -> refreshPlayer(player));
+            scheduleRefresh(player);
         }
     }
 
@@ -138,7 +213,7 @@ public class AttributeListener implements Listener {
      */
     @EventHandler
     public void onPlayerDropItem(PlayerDropItemEvent event) {
-        syncExecutor.execute(() -> refreshPlayer(event.getPlayer()));
+        scheduleRefresh(event.getPlayer());
     }
 
     /**
@@ -149,7 +224,7 @@ public class AttributeListener implements Listener {
      */
     @EventHandler
     public void onPlayerAttemptPickupItem(PlayerPickupItemEvent event) {
-        syncExecutor.execute(() -> refreshPlayer(event.getPlayer()));
+        scheduleRefresh(event.getPlayer());
     }
 
     /**
@@ -160,7 +235,7 @@ public class AttributeListener implements Listener {
     @EventHandler
     public void onEntityPickupItem(EntityPickupItemEvent event) {
         if (event.getEntity() instanceof Player player) {
-            syncExecutor.execute(() -> refreshPlayer(player));
+            scheduleRefresh(player);
         }
     }
 
@@ -173,7 +248,7 @@ public class AttributeListener implements Listener {
     @EventHandler
     public void onInventoryClose(InventoryCloseEvent event) {
         if (event.getPlayer() instanceof Player player) {
-            syncExecutor.execute(() -> refreshPlayer(player));
+            scheduleRefresh(player);
         }
     }
 
@@ -186,7 +261,7 @@ public class AttributeListener implements Listener {
     @EventHandler
     public void onCreativeInventory(InventoryCreativeEvent event) {
         if (event.getWhoClicked() instanceof Player player) {
-            syncExecutor.execute(() -> refreshPlayer(player));
+            scheduleRefresh(player);
         }
     }
 
@@ -198,7 +273,7 @@ public class AttributeListener implements Listener {
      */
     @EventHandler
     public void onSwapHands(PlayerSwapHandItemsEvent event) {
-        syncExecutor.execute(() -> refreshPlayer(event.getPlayer()));
+        scheduleRefresh(event.getPlayer());
     }
 
     /**
@@ -233,9 +308,38 @@ public class AttributeListener implements Listener {
         }
     }
 
+    /**
+     * Drops cached applied modifiers for entities leaving memory. Entities unload separately from their chunk, so this
+     * listens for the entity unload rather than the chunk unload. Transient modifiers are not saved with the entity,
+     * so they must be fully re-applied once it loads again.
+     *
+     * @param event entities unload event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            entityAttributeHandler.invalidateAppliedModifiers(entity.getUniqueId());
+        }
+    }
+
+    /**
+     * Drops cached applied modifiers for entities removed from the world for any reason, including despawns and
+     * plugin removals that never fire a death event, so their cache entries do not outlive them.
+     *
+     * @param event entity remove event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveEvent event) {
+        Entity entity = event.getEntity();
+        entityAttributeHandler.invalidateAppliedModifiers(entity.getUniqueId());
+        if (!(entity instanceof Player)) {
+            changeNotifier.forgetOwner(entity.getUniqueId());
+        }
+    }
+
     /**
      * Helper that reapplies persistent attributes and caps for a player in response to inventory changes. Intended to
-     * be invoked on the main thread.
+     * be invoked on the thread that owns the player.
      *
      * @param player player whose attributes should be refreshed.
      */
@@ -243,4 +347,12 @@ public class AttributeListener implements Listener {
         itemAttributeHandler.applyPersistentAttributes(player);
         entityAttributeHandler.applyPlayerCaps(player);
     }
+
+    /**
+     * Defers {@link #refreshPlayer(Player)} to the next tick of the player's own scheduler so inventory changes made by
+     * the triggering event are visible. Dropped when the player leaves first.
+     */
+    private void scheduleRefresh(Player player) {
+        scheduler.runForEntity(player, () -> refreshPlayer(player), null);
+    }
 }
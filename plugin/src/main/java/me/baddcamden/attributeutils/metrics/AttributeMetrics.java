@@ -0,0 +1,413 @@
+package me.baddcamden.attributeutils.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low-overhead counters for the attribute pipeline. Every hot-path counter is a striped {@link LongAdder}, so recording
+ * from the main thread and async IO threads never contends on a single cache line, and latency or size distributions
+ * use {@link Histogram}s with fixed bucket bounds so recording never allocates.
+ * <p>
+ * One instance is owned by each {@link me.baddcamden.attributeutils.api.AttributeFacade} and shared with the handlers
+ * and persistence layer built alongside it. Reads go through {@link #snapshot()}; values are summed at read time and
+ * are not an atomic cut across counters, which is fine for diagnostics.
+ */
+public final class AttributeMetrics {
+
+    /** Upper bounds (nanoseconds) for latency buckets, from 10µs to 5s. */
+    private static final long[] LATENCY_BOUNDS_NANOS = {
+            10_000L, 25_000L, 50_000L, 100_000L, 250_000L, 500_000L,
+            1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L,
+            100_000_000L, 250_000_000L, 500_000_000L, 1_000_000_000L, 2_500_000_000L, 5_000_000_000L
+    };
+    /** Upper bounds for per-flush size buckets (entities visited, refreshes drained). */
+    private static final long[] SIZE_BOUNDS = {0L, 1L, 2L, 5L, 10L, 25L, 50L, 100L, 250L, 500L, 1_000L, 2_500L, 5_000L};
+
+    private final LongAdder computes = new LongAdder();
+    private final Map<String, LongAdder> computesByAttribute = new ConcurrentHashMap<>();
+
+    private final LongAdder deltaCacheHits = new LongAdder();
+    private final LongAdder deltaCacheMisses = new LongAdder();
+    private final LongAdder coalescedMutations = new LongAdder();
+    private final LongAdder vanillaApplications = new LongAdder();
+    private final LongAdder stagedPlayerHits = new LongAdder();
+    private final LongAdder stagedPlayerMisses = new LongAdder();
+
+    private final LongAdder refreshRequests = new LongAdder();
+    private final LongAdder refreshFlushes = new LongAdder();
+    private final Histogram entitiesPerFlush = new Histogram(SIZE_BOUNDS);
+    private final Histogram refreshQueueDepth = new Histogram(SIZE_BOUNDS);
+    private final Histogram refreshFlushNanos = new Histogram(LATENCY_BOUNDS_NANOS);
+
+    private final LongAdder itemScans = new LongAdder();
+    private final LongAdder slotsDecoded = new LongAdder();
+    private final Histogram itemScanNanos = new Histogram(LATENCY_BOUNDS_NANOS);
+
+    private final Histogram persistenceLoadNanos = new Histogram(LATENCY_BOUNDS_NANOS);
+    private final Histogram persistenceSaveNanos = new Histogram(LATENCY_BOUNDS_NANOS);
+    private final Histogram persistenceIoWaitNanos = new Histogram(LATENCY_BOUNDS_NANOS);
+    private final AtomicInteger persistenceQueueDepth = new AtomicInteger();
+    private final LongAccumulator peakPersistenceQueueDepth = new LongAccumulator(Math::max, 0L);
+
+    private volatile long windowStartNanos = System.nanoTime();
+
+    /**
+     * Counts one computation of an attribute through the façade.
+     *
+     * @param attributeId normalized attribute id
+     */
+    public void recordCompute(String attributeId) {
+        computes.increment();
+        computesByAttribute.computeIfAbsent(attributeId, ignored -> new LongAdder()).increment();
+    }
+
+    /**
+     * Counts a refresh that found the applied modifier delta unchanged and left the Bukkit instance untouched.
+     */
+    public void recordDeltaCacheHit() {
+        deltaCacheHits.increment();
+    }
+
+    /**
+     * Counts a refresh that had no cached delta or a changed one and therefore had to touch the Bukkit instance.
+     */
+    public void recordDeltaCacheMiss() {
+        deltaCacheMisses.increment();
+    }
+
+    /**
+     * Counts a same-tick modifier change that replaced an earlier pending change instead of mutating again.
+     */
+    public void recordCoalescedMutation() {
+        coalescedMutations.increment();
+    }
+
+    /**
+     * Counts one computed attribute application to a live entity.
+     */
+    public void recordVanillaApplication() {
+        vanillaApplications.increment();
+    }
+
+    /**
+     * Counts a join that did or did not find player data staged during pre-login.
+     */
+    public void recordStagedPlayerLookup(boolean hit) {
+        (hit ? stagedPlayerHits : stagedPlayerMisses).increment();
+    }
+
+    /**
+     * Counts one refresh request received by the refresh dispatcher.
+     */
+    public void recordRefreshRequest() {
+        refreshRequests.increment();
+    }
+
+    /**
+     * Records one dispatcher flush.
+     *
+     * @param drainedRefreshes refresh entries drained from the queue by this flush
+     * @param entitiesVisited  entities the flush applied attributes to
+     * @param nanos            time the flush took
+     */
+    public void recordRefreshFlush(int drainedRefreshes, int entitiesVisited, long nanos) {
+        refreshFlushes.increment();
+        refreshQueueDepth.record(drainedRefreshes);
+        entitiesPerFlush.record(entitiesVisited);
+        refreshFlushNanos.record(nanos);
+    }
+
+    /**
+     * Records one item scan of an entity's equipment.
+     *
+     * @param decodedSlots slots whose item metadata was read during the scan
+     * @param nanos        time the scan took, including modifier reconciliation
+     */
+    public void recordItemScan(int decodedSlots, long nanos) {
+        itemScans.increment();
+        slotsDecoded.add(decodedSlots);
+        itemScanNanos.record(nanos);
+    }
+
+    /**
+     * Records how long reading and parsing one persistence file took.
+     */
+    public void recordPersistenceLoad(long nanos) {
+        persistenceLoadNanos.record(nanos);
+    }
+
+    /**
+     * Records how long writing one persistence file took.
+     */
+    public void recordPersistenceSave(long nanos) {
+        persistenceSaveNanos.record(nanos);
+    }
+
+    /**
+     * Records how long one persistence operation waited for its storage device's concurrency permit.
+     */
+    public void recordPersistenceIoWait(long nanos) {
+        persistenceIoWaitNanos.record(nanos);
+    }
+
+    /**
+     * Marks one asynchronous persistence operation as queued.
+     */
+    public void persistenceQueued() {
+        peakPersistenceQueueDepth.accumulate(persistenceQueueDepth.incrementAndGet());
+    }
+
+    /**
+     * Marks one queued asynchronous persistence operation as finished.
+     */
+    public void persistenceCompleted() {
+        persistenceQueueDepth.decrementAndGet();
+    }
+
+    /**
+     * Number of Bukkit modifier mutations avoided, either because the delta was unchanged or because a same-tick
+     * change was coalesced.
+     */
+    public long suppressedMutations() {
+        return deltaCacheHits.sum() + coalescedMutations.sum();
+    }
+
+    /**
+     * Number of computed attribute applications to live entities.
+     */
+    public long vanillaApplications() {
+        return vanillaApplications.sum();
+    }
+
+    /**
+     * Sums every counter into an immutable snapshot. Attributes in {@link Snapshot#computesByAttribute()} are ordered
+     * from most to least computed.
+     */
+    public Snapshot snapshot() {
+        Map<String, Long> perAttribute = new LinkedHashMap<>();
+        computesByAttribute.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEachOrdered(entry -> perAttribute.put(entry.getKey(), entry.getValue()));
+
+        return new Snapshot(
+                System.nanoTime() - windowStartNanos,
+                computes.sum(),
+                Collections.unmodifiableMap(perAttribute),
+                deltaCacheHits.sum(),
+                deltaCacheMisses.sum(),
+                coalescedMutations.sum(),
+                vanillaApplications.sum(),
+                stagedPlayerHits.sum(),
+                stagedPlayerMisses.sum(),
+                refreshRequests.sum(),
+                refreshFlushes.sum(),
+                entitiesPerFlush.snapshot(),
+                refreshQueueDepth.snapshot(),
+                refreshFlushNanos.snapshot(),
+                itemScans.sum(),
+                slotsDecoded.sum(),
+                itemScanNanos.snapshot(),
+                persistenceLoadNanos.snapshot(),
+                persistenceSaveNanos.snapshot(),
+                persistenceIoWaitNanos.snapshot(),
+                persistenceQueueDepth.get(),
+                peakPersistenceQueueDepth.get());
+    }
+
+    /**
+     * Zeroes every counter and histogram and starts a new observation window. The in-flight persistence queue depth
+     * is live state and is kept; its peak restarts from the current depth.
+     */
+    public void reset() {
+        computes.reset();
+        computesByAttribute.clear();
+        deltaCacheHits.reset();
+        deltaCacheMisses.reset();
+        coalescedMutations.reset();
+        vanillaApplications.reset();
+        stagedPlayerHits.reset();
+        stagedPlayerMisses.reset();
+        refreshRequests.reset();
+        refreshFlushes.reset();
+        entitiesPerFlush.reset();
+        refreshQueueDepth.reset();
+        refreshFlushNanos.reset();
+        itemScans.reset();
+        slotsDecoded.reset();
+        itemScanNanos.reset();
+        persistenceLoadNanos.reset();
+        persistenceSaveNanos.reset();
+        persistenceIoWaitNanos.reset();
+        peakPersistenceQueueDepth.reset();
+        peakPersistenceQueueDepth.accumulate(persistenceQueueDepth.get());
+        windowStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Point-in-time view of every metric.
+     *
+     * @param windowNanos               time since the metrics were created or last reset
+     * @param computes                  total façade computations
+     * @param computesByAttribute       computations per normalized attribute id, most computed first
+     * @param deltaCacheHits            refreshes that skipped Bukkit because the applied delta was unchanged
+     * @param deltaCacheMisses          refreshes that had to touch the Bukkit attribute instance
+     * @param coalescedMutations        same-tick changes folded into a pending change
+     * @param vanillaApplications       computed attribute applications to live entities
+     * @param stagedPlayerHits          joins served from data staged during pre-login
+     * @param stagedPlayerMisses        joins that fell back to an asynchronous load
+     * @param refreshRequests           refresh requests received by the dispatcher
+     * @param refreshFlushes            dispatcher flushes
+     * @param entitiesPerFlush          entities visited per flush
+     * @param refreshQueueDepth         refresh entries drained per flush
+     * @param refreshFlushNanos         flush duration
+     * @param itemScans                 equipment scans
+     * @param slotsDecoded              item slots whose metadata was decoded
+     * @param itemScanNanos             equipment scan duration
+     * @param persistenceLoadNanos      file read and parse latency
+     * @param persistenceSaveNanos      file write latency
+     * @param persistenceIoWaitNanos    time asynchronous operations waited for a per-device IO permit
+     * @param persistenceQueueDepth     asynchronous persistence operations currently in flight
+     * @param peakPersistenceQueueDepth largest in-flight count observed in this window
+     */
+    public record Snapshot(long windowNanos,
+                           long computes,
+                           Map<String, Long> computesByAttribute,
+                           long deltaCacheHits,
+                           long deltaCacheMisses,
+                           long coalescedMutations,
+                           long vanillaApplications,
+                           long stagedPlayerHits,
+                           long stagedPlayerMisses,
+                           long refreshRequests,
+                           long refreshFlushes,
+                           HistogramSnapshot entitiesPerFlush,
+                           HistogramSnapshot refreshQueueDepth,
+                           HistogramSnapshot refreshFlushNanos,
+                           long itemScans,
+                           long slotsDecoded,
+                           HistogramSnapshot itemScanNanos,
+                           HistogramSnapshot persistenceLoadNanos,
+                           HistogramSnapshot persistenceSaveNanos,
+                           HistogramSnapshot persistenceIoWaitNanos,
+                           int persistenceQueueDepth,
+                           long peakPersistenceQueueDepth) {
+
+        /**
+         * Length of the observation window in server ticks, assuming 20 ticks per second.
+         */
+        public double windowTicks() {
+            return windowNanos / (double) TimeUnit.MILLISECONDS.toNanos(50L);
+        }
+
+        /**
+         * Fraction of delta cache lookups that were hits, or {@code 0} when nothing was looked up.
+         */
+        public double deltaCacheHitRatio() {
+            long total = deltaCacheHits + deltaCacheMisses;
+            return total == 0L ? 0.0d : deltaCacheHits / (double) total;
+        }
+    }
+
+    /**
+     * Histogram with fixed, ascending upper bounds plus an overflow bucket. Each bucket is a {@link LongAdder}, so
+     * {@link #record(long)} is a binary search and an uncontended add.
+     */
+    public static final class Histogram {
+
+        private final long[] upperBounds;
+        private final LongAdder[] buckets;
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        /**
+         * @param upperBounds inclusive, strictly ascending bucket bounds; values above the last bound are counted
+         *                    in an overflow bucket
+         */
+        public Histogram(long[] upperBounds) {
+            this.upperBounds = upperBounds.clone();
+            this.buckets = new LongAdder[upperBounds.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Adds one observation.
+         */
+        public void record(long value) {
+            int index = Arrays.binarySearch(upperBounds, value);
+            buckets[index >= 0 ? index : -index - 1].increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        /**
+         * Copies the current bucket counts.
+         */
+        public HistogramSnapshot snapshot() {
+            long[] counts = new long[buckets.length];
+            long count = 0L;
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+                count += counts[i];
+            }
+            return new HistogramSnapshot(upperBounds, counts, count, sum.sum(), count == 0L ? 0L : max.get());
+        }
+
+        void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            sum.reset();
+            max.reset();
+        }
+    }
+
+    /**
+     * Immutable copy of a {@link Histogram}.
+     *
+     * @param upperBounds  inclusive bucket bounds, shared with the histogram and not to be modified
+     * @param bucketCounts observations per bucket; the last entry is the overflow bucket
+     * @param count        total observations
+     * @param sum          sum of every observed value
+     * @param max          largest observed value, or {@code 0} when empty
+     */
+    public record HistogramSnapshot(long[] upperBounds, long[] bucketCounts, long count, long sum, long max) {
+
+        /**
+         * Mean observed value, or {@code 0} when empty.
+         */
+        public double mean() {
+            return count == 0L ? 0.0d : sum / (double) count;
+        }
+
+        /**
+         * Estimates a percentile as the upper bound of the bucket containing it, capped at the observed maximum.
+         *
+         * @param percentile value between 0 and 100
+         * @return estimated value, or {@code 0} when empty
+         */
+        public long percentile(double percentile) {
+            if (count == 0L) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0d));
+            long seen = 0L;
+            for (int i = 0; i < upperBounds.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBounds[i], max);
+                }
+            }
+            return max;
+        }
+    }
+}
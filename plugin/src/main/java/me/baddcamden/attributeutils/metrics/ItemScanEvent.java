@@ -0,0 +1,33 @@
+package me.baddcamden.attributeutils.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event spanning one equipment scan for item-based attribute modifiers. Scans run on most inventory
+ * events, so only those slower than the default threshold are recorded.
+ */
+@Name("attributeutils.ItemScan")
+@Label("Attribute Item Scan")
+@Category({"AttributeUtils", "Items"})
+@Description("Scan of an entity's equipment for item attribute metadata")
+@StackTrace(false)
+@Threshold("100 us")
+public final class ItemScanEvent extends Event {
+
+    @Label("Entity")
+    public String entityId;
+
+    @Label("Slots Decoded")
+    @Description("Slots whose item metadata was read")
+    public int slotsDecoded;
+
+    @Label("Keys Decoded")
+    @Description("Attribute value keys decoded from item metadata")
+    public int keysDecoded;
+}
@@ -0,0 +1,34 @@
+package me.baddcamden.attributeutils.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning one persistence file read or write. Stack traces stay enabled because the same file
+ * operations are reached from joins, quits, reloads, and shutdown.
+ */
+@Name("attributeutils.Persistence")
+@Label("Attribute Persistence")
+@Category({"AttributeUtils", "Persistence"})
+@Description("Read or write of an attribute data file")
+public final class PersistenceEvent extends Event {
+
+    /** Operation name for file reads. */
+    public static final String LOAD = "load";
+    /** Operation name for file writes. */
+    public static final String SAVE = "save";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("File")
+    public String file;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,266 @@
+package me.baddcamden.attributeutils.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.handler.AttributeRefreshDispatcher;
+import me.baddcamden.attributeutils.scheduler.TaskHandle;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves {@link AttributeMetrics} in the Prometheus text exposition format from a JDK {@link HttpServer}.
+ * <p>
+ * Scrapes are answered on a dedicated daemon thread and never touch the main thread: counters and histograms come
+ * from {@link AttributeMetrics#snapshot()}, which only sums striped adders, while instance counts (which walk
+ * non-thread-safe modifier maps) are sampled on the global thread every {@code gaugeIntervalTicks} and published
+ * through a volatile field. Counters restart from zero when the plugin reloads or {@code /attributes stats reset} is
+ * used; Prometheus treats that as an ordinary counter reset.
+ */
+public class PrometheusExporter {
+
+    /** Content type for the text exposition format, version 0.0.4. */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    /** Path answered by the exporter; other paths return 404. */
+    private static final String METRICS_PATH = "/metrics";
+    /** Prefix shared by every exported metric name. */
+    private static final String PREFIX = "attributeutils_";
+
+    private final TaskScheduler scheduler;
+    private final AttributeFacade attributeFacade;
+    private final AttributeRefreshDispatcher refreshDispatcher;
+    private final InetSocketAddress address;
+    private final long gaugeIntervalTicks;
+    /** Latest global-thread sample of instance counts, read by the HTTP thread. */
+    private volatile InstanceGauges gauges = InstanceGauges.EMPTY;
+    private HttpServer server;
+    private ExecutorService executor;
+    private TaskHandle gaugeTask;
+
+    /**
+     * @param scheduler          scheduler running gauge sampling
+     * @param attributeFacade    façade whose metrics and instance counts are exported
+     * @param refreshDispatcher  dispatcher whose pending refresh count is exported
+     * @param address            address and port to bind
+     * @param gaugeIntervalTicks ticks between instance count samples
+     */
+    public PrometheusExporter(TaskScheduler scheduler,
+                              AttributeFacade attributeFacade,
+                              AttributeRefreshDispatcher refreshDispatcher,
+                              InetSocketAddress address,
+                              long gaugeIntervalTicks) {
+        this.scheduler = scheduler;
+        this.attributeFacade = attributeFacade;
+        this.refreshDispatcher = refreshDispatcher;
+        this.address = address;
+        this.gaugeIntervalTicks = Math.max(1L, gaugeIntervalTicks);
+    }
+
+    /**
+     * Binds the HTTP server and starts sampling instance counts. Must be called on the main thread.
+     *
+     * @throws IOException when the address cannot be bound
+     */
+    public void start() throws IOException {
+        HttpServer httpServer = HttpServer.create(address, 0);
+        ExecutorService httpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AttributeUtils-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.createContext("/", this::handle);
+        httpServer.setExecutor(httpExecutor);
+        httpServer.start();
+        this.server = httpServer;
+        this.executor = httpExecutor;
+        this.gaugeTask = scheduler.runGlobalTimer(this::sampleGauges, 0L, gaugeIntervalTicks);
+    }
+
+    /**
+     * Stops the HTTP server and gauge sampling. Safe to call when the exporter never started.
+     */
+    public void stop() {
+        if (gaugeTask != null) {
+            gaugeTask.cancel();
+            gaugeTask = null;
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Returns the bound address, which differs from the configured one when port 0 was requested.
+     */
+    public InetSocketAddress getAddress() {
+        return server == null ? address : server.getAddress();
+    }
+
+    /**
+     * Samples instance counts on the main thread.
+     */
+    private void sampleGauges() {
+        AttributeFacade.PlayerInstanceFootprint footprint = attributeFacade.getPlayerInstanceFootprint();
+        gauges = new InstanceGauges(
+                attributeFacade.getDefinitionIds().size(),
+                attributeFacade.getGlobalInstances().size(),
+                footprint.owners(),
+                footprint.instances(),
+                footprint.modifiers(),
+                footprint.estimatedBytes(),
+                refreshDispatcher.getPendingRefreshCount());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!METRICS_PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = render(attributeFacade.getMetrics().snapshot(), gauges).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * Renders a snapshot and gauge sample in the text exposition format.
+     */
+    static String render(AttributeMetrics.Snapshot snapshot, InstanceGauges gauges) {
+        StringBuilder out = new StringBuilder(4096);
+
+        counter(out, "computes_total", "Attribute computations through the facade.", snapshot.computes());
+        header(out, "attribute_computes_total", "counter", "Attribute computations by attribute id.");
+        for (Map.Entry<String, Long> entry : snapshot.computesByAttribute().entrySet()) {
+            out.append(PREFIX).append("attribute_computes_total{attribute=\"")
+                    .append(escapeLabel(entry.getKey())).append("\"} ").append(entry.getValue()).append('\n');
+        }
+
+        counter(out, "delta_cache_hits_total", "Refreshes skipped because the applied modifier delta was unchanged.",
+                snapshot.deltaCacheHits());
+        counter(out, "delta_cache_misses_total", "Refreshes that had to mutate the Bukkit attribute instance.",
+                snapshot.deltaCacheMisses());
+        counter(out, "coalesced_mutations_total", "Same-tick modifier changes folded into a pending change.",
+                snapshot.coalescedMutations());
+        counter(out, "vanilla_applications_total", "Computed attribute applications to live entities.",
+                snapshot.vanillaApplications());
+        counter(out, "staged_player_hits_total", "Joins served from data staged during pre-login.",
+                snapshot.stagedPlayerHits());
+        counter(out, "staged_player_misses_total", "Joins that fell back to an asynchronous load.",
+                snapshot.stagedPlayerMisses());
+
+        counter(out, "refresh_requests_total", "Refresh requests received by the dispatcher.", snapshot.refreshRequests());
+        histogram(out, "refresh_flush_seconds", "Refresh dispatcher flush duration.", snapshot.refreshFlushNanos(), true);
+        histogram(out, "refresh_flush_entities", "Entities visited per refresh flush.", snapshot.entitiesPerFlush(), false);
+        histogram(out, "refresh_flush_queue_depth", "Refresh entries drained per flush.", snapshot.refreshQueueDepth(), false);
+
+        counter(out, "item_slots_decoded_total", "Item slots whose metadata was decoded.", snapshot.slotsDecoded());
+        histogram(out, "item_scan_seconds", "Equipment scan duration.", snapshot.itemScanNanos(), true);
+
+        histogram(out, "persistence_load_seconds", "Persistence file read and parse duration.",
+                snapshot.persistenceLoadNanos(), true);
+        histogram(out, "persistence_save_seconds", "Persistence file write duration.",
+                snapshot.persistenceSaveNanos(), true);
+        histogram(out, "persistence_io_wait_seconds", "Time persistence IO waited for a per-device concurrency permit.",
+                snapshot.persistenceIoWaitNanos(), true);
+        gauge(out, "persistence_queue_depth", "Asynchronous persistence operations in flight.",
+                snapshot.persistenceQueueDepth());
+
+        gauge(out, "definitions", "Registered attribute definitions.", gauges.definitions());
+        gauge(out, "global_instances", "Global attribute instances.", gauges.globalInstances());
+        gauge(out, "instance_owners", "Players and entities with attribute instances.", gauges.owners());
+        gauge(out, "instances", "Per-owner attribute instances.", gauges.instances());
+        gauge(out, "instance_modifiers", "Modifiers across per-owner attribute instances.", gauges.modifiers());
+        gauge(out, "instance_estimated_bytes", "Approximate heap retained by per-owner instances.",
+                gauges.estimatedBytes());
+        gauge(out, "refresh_pending", "Refreshes waiting for the next dispatcher flush.", gauges.pendingRefreshes());
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        header(out, name, "counter", help);
+        out.append(PREFIX).append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, long value) {
+        header(out, name, "gauge", help);
+        out.append(PREFIX).append(name).append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Writes cumulative buckets, sum, and count. Nanosecond histograms are converted to seconds.
+     */
+    private static void histogram(StringBuilder out,
+                                  String name,
+                                  String help,
+                                  AttributeMetrics.HistogramSnapshot histogram,
+                                  boolean nanosToSeconds) {
+        header(out, name, "histogram", help);
+        long[] bounds = histogram.upperBounds();
+        long[] counts = histogram.bucketCounts();
+        long cumulative = 0L;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += counts[i];
+            out.append(PREFIX).append(name).append("_bucket{le=\"")
+                    .append(nanosToSeconds ? formatSeconds(bounds[i]) : Long.toString(bounds[i]))
+                    .append("\"} ").append(cumulative).append('\n');
+        }
+        out.append(PREFIX).append(name).append("_bucket{le=\"+Inf\"} ").append(histogram.count()).append('\n');
+        out.append(PREFIX).append(name).append("_sum ")
+                .append(nanosToSeconds ? formatSeconds(histogram.sum()) : Long.toString(histogram.sum())).append('\n');
+        out.append(PREFIX).append(name).append("_count ").append(histogram.count()).append('\n');
+    }
+
+    private static String formatSeconds(long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / 1_000_000_000.0d);
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Instance counts sampled on the main thread.
+     */
+    record InstanceGauges(int definitions,
+                          int globalInstances,
+                          int owners,
+                          int instances,
+                          int modifiers,
+                          long estimatedBytes,
+                          int pendingRefreshes) {
+        static final InstanceGauges EMPTY = new InstanceGauges(0, 0, 0, 0, 0, 0L, 0);
+    }
+}
@@ -0,0 +1,27 @@
+package me.baddcamden.attributeutils.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one refresh dispatcher flush.
+ */
+@Name("attributeutils.RefreshFlush")
+@Label("Attribute Refresh Flush")
+@Category({"AttributeUtils", "Refresh"})
+@Description("Batched re-application of refreshed attributes to live entities")
+@StackTrace(false)
+public final class RefreshFlushEvent extends Event {
+
+    @Label("Entities")
+    @Description("Entities the flush applied attributes to")
+    public int entities;
+
+    @Label("Attributes")
+    @Description("Entity/attribute and global attribute refreshes drained by the flush")
+    public int attributes;
+}
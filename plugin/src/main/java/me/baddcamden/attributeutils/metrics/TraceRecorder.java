@@ -0,0 +1,403 @@
+package me.baddcamden.attributeutils.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Always-on flight recorder for modifier applications. Each thread writes into its own preallocated ring of primitive
+ * columns (entity id, attribute ordinal, vanilla value, computed value, delta, flags, timestamp), so recording is a
+ * handful of array stores with no allocation, formatting, or logging. The oldest records are overwritten once a ring
+ * is full.
+ * <p>
+ * Routine records honour the configured sampling rate and player/attribute filters; records flagged as anomalies are
+ * always kept. Buffers are written to a text file on demand through {@link #dump(String)} or automatically when an
+ * anomaly is reported, at most once per cooldown. Dumps copy the rings on the calling thread and write the file on the
+ * IO executor.
+ */
+public final class TraceRecorder {
+
+    /** The cached delta was unchanged and Bukkit was left untouched. */
+    public static final int FLAG_CACHE_HIT = 1;
+    /** A same-tick change was deferred to the next tick. */
+    public static final int FLAG_COALESCED = 1 << 1;
+    /** Existing AttributeUtils modifiers were purged before applying. */
+    public static final int FLAG_PURGED = 1 << 2;
+    /** A modifier carrying the delta was added to the Bukkit instance. */
+    public static final int FLAG_APPLIED = 1 << 3;
+    /** The delta was zero, so no modifier remains on the instance. */
+    public static final int FLAG_CLEARED = 1 << 4;
+    /** AttributeUtils modifiers were still present after a purge. */
+    public static final int FLAG_RESIDUAL = 1 << 5;
+
+    /** Flags that mark a record as an anomaly; these bypass sampling and filters and may trigger a dump. */
+    private static final int ANOMALY_FLAGS = FLAG_RESIDUAL;
+    private static final String[] FLAG_NAMES = {"CACHE_HIT", "COALESCED", "PURGED", "APPLIED", "CLEARED", "RESIDUAL"};
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final Settings settings;
+    private final Path dumpFolder;
+    private final Logger logger;
+    private final Executor ioExecutor;
+    /** Every ring created so far, one per recording thread. */
+    private final List<Ring> rings = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Ring> localRing;
+    /** Attribute ids by ordinal; ordinals are assigned on first record. */
+    private final List<String> attributeNames = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> attributeOrdinals = new ConcurrentHashMap<>();
+    /** Wall clock and {@link System#nanoTime()} captured together to convert record timestamps. */
+    private final long epochMillisBase = System.currentTimeMillis();
+    private final long nanoTimeBase = System.nanoTime();
+    private final AtomicLong lastAnomalyDumpMillis = new AtomicLong(Long.MIN_VALUE / 2);
+
+    /**
+     * @param settings   buffer size, sampling, filters, and anomaly dump policy
+     * @param dumpFolder folder receiving dump files; created on first dump
+     * @param logger     logger receiving anomaly warnings and dump failures
+     * @param ioExecutor executor that writes dump files off the calling thread
+     */
+    public TraceRecorder(Settings settings, Path dumpFolder, Logger logger, Executor ioExecutor) {
+        this.settings = settings;
+        this.dumpFolder = dumpFolder;
+        this.logger = logger;
+        this.ioExecutor = ioExecutor;
+        int capacity = Integer.highestOneBit(Math.max(16, Math.min(settings.bufferSize(), 1 << 20)) * 2 - 1);
+        this.localRing = ThreadLocal.withInitial(() -> {
+            Ring ring = new Ring(Thread.currentThread().getName(), capacity);
+            rings.add(ring);
+            return ring;
+        });
+    }
+
+    /**
+     * Records one modifier application. Routine records are dropped when they fail the filters or sampling; anomaly
+     * records are always kept and may schedule a dump.
+     *
+     * @param entityId    entity the attribute belongs to
+     * @param ownerName   player name used by the player filter, or {@code null} for non-player entities
+     * @param attributeId normalized attribute id
+     * @param vanilla     vanilla value without AttributeUtils modifiers
+     * @param computed    computed value the modifier should produce
+     * @param delta       modifier amount applied or intended
+     * @param flags       combination of the {@code FLAG_*} constants
+     */
+    public void record(UUID entityId,
+                       String ownerName,
+                       String attributeId,
+                       double vanilla,
+                       double computed,
+                       double delta,
+                       int flags) {
+        if (entityId == null || attributeId == null) {
+            return;
+        }
+        boolean anomaly = (flags & ANOMALY_FLAGS) != 0;
+        Ring ring = localRing.get();
+        if (!anomaly && (!accepts(entityId, ownerName, attributeId) || !ring.sample(settings.sampleRate()))) {
+            return;
+        }
+
+        ring.write(entityId, ordinal(attributeId), vanilla, computed, delta, flags, System.nanoTime());
+        if (anomaly) {
+            onAnomaly(entityId, ownerName, attributeId, flags);
+        }
+    }
+
+    /**
+     * Writes every buffered record, oldest first, to a new file in the dump folder.
+     *
+     * @param reason short description written to the file header
+     * @return future completing with the written file, or exceptionally when writing failed
+     */
+    public CompletableFuture<Path> dump(String reason) {
+        List<TraceRecord> records = snapshot();
+        Path file = dumpFolder.resolve("trace-" + FILE_TIMESTAMP.format(Instant.now()) + ".log");
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                write(file, reason, records);
+                return file;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, ioExecutor);
+    }
+
+    /**
+     * Copies every ring into one list ordered by timestamp. Records overwritten while copying are left out.
+     */
+    public List<TraceRecord> snapshot() {
+        List<TraceRecord> records = new ArrayList<>();
+        for (Ring ring : rings) {
+            ring.copyInto(records, attributeNames);
+        }
+        records.sort((left, right) -> Long.compare(left.nanoTime(), right.nanoTime()));
+        return records;
+    }
+
+    private boolean accepts(UUID entityId, String ownerName, String attributeId) {
+        if (!settings.attributes().isEmpty() && !settings.attributes().contains(attributeId)) {
+            return false;
+        }
+        if (settings.players().isEmpty() && settings.playerNames().isEmpty()) {
+            return true;
+        }
+        return settings.players().contains(entityId)
+                || (ownerName != null && settings.playerNames().contains(ownerName.toLowerCase(Locale.ROOT)));
+    }
+
+    private int ordinal(String attributeId) {
+        Integer ordinal = attributeOrdinals.get(attributeId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        synchronized (attributeNames) {
+            return attributeOrdinals.computeIfAbsent(attributeId, id -> {
+                attributeNames.add(id);
+                return attributeNames.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Logs the anomaly and dumps the buffers unless a dump already ran within the cooldown.
+     */
+    private void onAnomaly(UUID entityId, String ownerName, String attributeId, int flags) {
+        if (!settings.dumpOnAnomaly()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastAnomalyDumpMillis.get();
+        if (now - last < settings.anomalyCooldownMillis() || !lastAnomalyDumpMillis.compareAndSet(last, now)) {
+            return;
+        }
+
+        String owner = ownerName == null ? entityId.toString() : ownerName + "(" + entityId + ")";
+        String reason = describeFlags(flags) + " on " + attributeId + " for " + owner;
+        dump(reason).whenComplete((file, error) -> {
+            if (error != null) {
+                logger.log(Level.WARNING, "Attribute trace anomaly (" + reason + "); failed to write trace dump", error);
+            } else {
+                logger.warning("Attribute trace anomaly (" + reason + "); trace written to " + file);
+            }
+        });
+    }
+
+    private void write(Path file, String reason, List<TraceRecord> records) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# AttributeUtils trace dump: " + reason + "\n");
+            writer.write("# records=" + records.size() + " sample-rate=" + settings.sampleRate() + "\n");
+            writer.write("# time thread entity attribute vanilla computed delta flags\n");
+            for (TraceRecord record : records) {
+                long epochMillis = epochMillisBase + TimeUnit.NANOSECONDS.toMillis(record.nanoTime() - nanoTimeBase);
+                writer.write(String.format(Locale.ROOT, "%s %s %s %s %.4f %.4f %.4f %s%n",
+                        Instant.ofEpochMilli(epochMillis),
+                        record.thread().replace(' ', '_'),
+                        record.entityId(),
+                        record.attributeId(),
+                        record.vanilla(),
+                        record.computed(),
+                        record.delta(),
+                        describeFlags(record.flags())));
+            }
+        }
+    }
+
+    private static String describeFlags(int flags) {
+        if (flags == 0) {
+            return "-";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int bit = 0; bit < FLAG_NAMES.length; bit++) {
+            if ((flags & (1 << bit)) != 0) {
+                if (builder.length() > 0) {
+                    builder.append(',');
+                }
+                builder.append(FLAG_NAMES[bit]);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * One decoded trace record.
+     */
+    public record TraceRecord(String thread,
+                              UUID entityId,
+                              String attributeId,
+                              double vanilla,
+                              double computed,
+                              double delta,
+                              int flags,
+                              long nanoTime) {
+    }
+
+    /**
+     * Recorder configuration.
+     *
+     * @param bufferSize            records kept per thread, rounded up to a power of two
+     * @param sampleRate            keep one in this many routine records per thread; {@code 1} keeps all
+     * @param players               entity ids to record; empty together with {@code playerNames} records everyone
+     * @param playerNames           lower-case player names to record
+     * @param attributes            normalized attribute ids to record; empty records every attribute
+     * @param dumpOnAnomaly         whether anomalies write a dump automatically
+     * @param anomalyCooldownMillis minimum time between automatic dumps
+     */
+    public record Settings(int bufferSize,
+                           int sampleRate,
+                           Set<UUID> players,
+                           Set<String> playerNames,
+                           Set<String> attributes,
+                           boolean dumpOnAnomaly,
+                           long anomalyCooldownMillis) {
+
+        public Settings {
+            sampleRate = Math.max(1, sampleRate);
+            players = Set.copyOf(players);
+            playerNames = Set.copyOf(playerNames);
+            attributes = Set.copyOf(attributes);
+        }
+
+        /**
+         * Default settings: 4096 records per thread, no sampling or filters, anomaly dumps at most once a minute.
+         */
+        public static Settings defaults() {
+            return new Settings(4096, 1, Set.of(), Set.of(), Set.of(), true, TimeUnit.MINUTES.toMillis(1));
+        }
+
+        /**
+         * Builds settings from raw config values. Player entries that parse as UUIDs filter by id; anything else is
+         * treated as a player name.
+         */
+        public static Settings of(int bufferSize,
+                                  int sampleRate,
+                                  Collection<String> players,
+                                  Collection<String> attributes,
+                                  boolean dumpOnAnomaly,
+                                  long anomalyCooldownMillis) {
+            Set<UUID> ids = new HashSet<>();
+            Set<String> names = new HashSet<>();
+            for (String player : players) {
+                if (player == null || player.isBlank()) {
+                    continue;
+                }
+                try {
+                    ids.add(UUID.fromString(player.trim()));
+                } catch (IllegalArgumentException ignored) {
+                    names.add(player.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+            Set<String> attributeIds = attributes.stream()
+                    .filter(attribute -> attribute != null && !attribute.isBlank())
+                    .map(attribute -> attribute.trim().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            return new Settings(bufferSize, sampleRate, ids, names, attributeIds, dumpOnAnomaly, anomalyCooldownMillis);
+        }
+    }
+
+    /**
+     * Single-writer ring of primitive columns. Only the owning thread writes; {@link #written} is published with
+     * release semantics after each record so readers can tell which slots may have been overwritten mid-copy.
+     */
+    private static final class Ring {
+        private final String thread;
+        private final int mask;
+        private final long[] entityMost;
+        private final long[] entityLeast;
+        private final int[] attribute;
+        private final double[] vanilla;
+        private final double[] computed;
+        private final double[] delta;
+        private final int[] flags;
+        private final long[] nanoTime;
+        private final AtomicLong written = new AtomicLong();
+        private int sampleCounter;
+
+        Ring(String thread, int capacity) {
+            this.thread = thread;
+            this.mask = capacity - 1;
+            this.entityMost = new long[capacity];
+            this.entityLeast = new long[capacity];
+            this.attribute = new int[capacity];
+            this.vanilla = new double[capacity];
+            this.computed = new double[capacity];
+            this.delta = new double[capacity];
+            this.flags = new int[capacity];
+            this.nanoTime = new long[capacity];
+        }
+
+        boolean sample(int rate) {
+            if (rate <= 1) {
+                return true;
+            }
+            if (++sampleCounter >= rate) {
+                sampleCounter = 0;
+                return true;
+            }
+            return false;
+        }
+
+        void write(UUID entityId, int attributeOrdinal, double vanillaValue, double computedValue, double deltaValue,
+                   int recordFlags, long timestamp) {
+            long sequence = written.get();
+            int slot = (int) (sequence & mask);
+            entityMost[slot] = entityId.getMostSignificantBits();
+            entityLeast[slot] = entityId.getLeastSignificantBits();
+            attribute[slot] = attributeOrdinal;
+            vanilla[slot] = vanillaValue;
+            computed[slot] = computedValue;
+            delta[slot] = deltaValue;
+            flags[slot] = recordFlags;
+            nanoTime[slot] = timestamp;
+            written.lazySet(sequence + 1);
+        }
+
+        void copyInto(List<TraceRecord> out, List<String> attributeNames) {
+            int capacity = mask + 1;
+            long end = written.get();
+            long start = Math.max(0L, end - capacity);
+            List<TraceRecord> copied = new ArrayList<>((int) (end - start));
+            for (long sequence = start; sequence < end; sequence++) {
+                int slot = (int) (sequence & mask);
+                int ordinal = attribute[slot];
+                copied.add(new TraceRecord(
+                        thread,
+                        new UUID(entityMost[slot], entityLeast[slot]),
+                        ordinal < attributeNames.size() ? attributeNames.get(ordinal) : "#" + ordinal,
+                        vanilla[slot],
+                        computed[slot],
+                        delta[slot],
+                        flags[slot],
+                        nanoTime[slot]));
+            }
+            // The writer may have lapped the copy; drop slots reused after the copy began, including one in progress.
+            long overwrittenBefore = written.get() - capacity + 1;
+            int skip = (int) Math.max(0L, Math.min(copied.size(), overwrittenBefore - start));
+            out.addAll(copied.subList(skip, copied.size()));
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package me.baddcamden.attributeutils.model;
+
+import me.baddcamden.attributeutils.compute.DerivedFormula;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Loads custom attribute definitions from a folder of YAML files.
+ * <p>
+ * Files are parsed in parallel on the common fork-join pool, but definitions are returned in file name order so
+ * registration is the same on every boot. Each parsed definition is stored in a binary cache together with the
+ * SHA-256 hash of the file's content. On the next load every file is read and hashed, and files whose content hashes
+ * the same are taken from the cache without being parsed. Modification time and size are deliberately not trusted:
+ * an edit within the file system's timestamp resolution that keeps the size, or a copy that preserves timestamps,
+ * would otherwise serve a stale definition. Reading and hashing a definition file is cheap next to parsing its YAML.
+ * Files that fail to parse are never cached, so their warnings repeat until they are fixed.
+ */
+public final class CustomAttributeLoader {
+
+    /** Bumped whenever the cache layout or the parsing rules change, which discards every existing cache. */
+    private static final int FORMAT_VERSION = 3;
+    private static final int MAGIC = 0x41554341; // "AUCA"
+
+    private final Path folder;
+    private final Path cacheFile;
+    private final Logger logger;
+
+    /**
+     * @param folder    folder holding the {@code .yml}/{@code .yaml} definition files
+     * @param cacheFile cache location, or {@code null} to always parse every file
+     * @param logger    destination for parse warnings and the load summary
+     */
+    public CustomAttributeLoader(Path folder, Path cacheFile, Logger logger) {
+        this.folder = Objects.requireNonNull(folder, "folder");
+        this.cacheFile = cacheFile;
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    /**
+     * Loads every definition in the folder, refreshing the cache when anything changed.
+     *
+     * @return definitions in file name order; malformed files are logged and skipped
+     */
+    public List<AttributeDefinition> load() {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(folder)) {
+            files = listing.filter(CustomAttributeLoader::isYaml)
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            logger.severe("Failed to scan custom attribute folder: " + e.getMessage());
+            return List.of();
+        }
+
+        Map<String, CacheEntry> cached = readCache();
+        List<Loaded> loaded = files.parallelStream()
+                .map(file -> load(file, cached.get(file.getFileName().toString())))
+                .toList();
+
+        Map<String, CacheEntry> entries = new LinkedHashMap<>();
+        int parsed = 0;
+        for (Loaded result : loaded) {
+            if (result.entry() != null) {
+                entries.put(result.fileName(), result.entry());
+            }
+            if (result.parsed()) {
+                parsed++;
+            }
+        }
+        if (!entries.equals(cached)) {
+            writeCache(entries);
+        }
+
+        List<AttributeDefinition> definitions = loaded.stream()
+                .filter(result -> result.entry() != null)
+                .map(result -> result.entry().definition())
+                .toList();
+        logger.info("Loaded " + definitions.size() + " custom attributes (" + parsed + " parsed, "
+                + (definitions.size() - parsed) + " from cache).");
+        return definitions;
+    }
+
+    private Loaded load(Path file, CacheEntry cached) {
+        String fileName = file.getFileName().toString();
+        try {
+            byte[] content = Files.readAllBytes(file);
+            byte[] hash = sha256(content);
+            if (cached != null && Arrays.equals(cached.hash(), hash)) {
+                return new Loaded(fileName, cached, false);
+            }
+
+            AttributeDefinition definition = parse(fileName, new String(content, StandardCharsets.UTF_8));
+            if (definition == null) {
+                return new Loaded(fileName, null, false);
+            }
+            return new Loaded(fileName, new CacheEntry(hash, definition), true);
+        } catch (Exception ex) {
+            logger.severe("Failed to load custom attribute from '" + fileName + "': " + ex.getMessage());
+            return new Loaded(fileName, null, false);
+        }
+    }
+
+    /**
+     * Parses a custom attribute definition from YAML text and returns a fully constructed
+     * {@link AttributeDefinition} or {@code null} when required fields are missing.
+     */
+    private AttributeDefinition parse(String fileName, String content) throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(content);
+
+        String id = config.getString("id");
+        if (id == null || id.isBlank()) {
+            logger.warning("Skipping custom attribute '" + fileName + "': missing 'id'.");
+            return null;
+        }
+
+        String displayName = config.getString("display-name");
+        if (displayName == null || displayName.isBlank()) {
+            logger.warning("Skipping custom attribute '" + fileName + "': missing 'display-name'.");
+            return null;
+        }
+
+        boolean dynamic = config.getBoolean("dynamic", false);
+        double defaultBase = config.getDouble("default-base", 0);
+        double defaultCurrent = config.isSet("default-current") ? config.getDouble("default-current") : defaultBase;
+
+        CapConfig capConfig = parseCapConfig(config.getConfigurationSection("cap"));
+        MultiplierApplicability multipliers = parseMultipliers(config.getConfigurationSection("multipliers"));
+        ModifierOperation defaultOperation = parseOperation(config.getString("operation"));
+        String formula = config.getString("formula");
+        if (formula != null && !formula.isBlank()) {
+            // Compiled here only to report a malformed formula against its file; the façade compiles its own copy.
+            DerivedFormula.compile(formula);
+        }
+
+        return new AttributeDefinition(
+                id.toLowerCase(Locale.ROOT),
+                displayName,
+                dynamic,
+                defaultBase,
+                defaultCurrent,
+                capConfig,
+                multipliers,
+                defaultOperation,
+                formula
+        );
+    }
+
+    /**
+     * Parses configuration values into a {@link CapConfig}, applying defaults when the section is
+     * absent.
+     */
+    private CapConfig parseCapConfig(ConfigurationSection section) {
+        if (section == null) {
+            return new CapConfig(0, Double.MAX_VALUE, Map.of());
+        }
+
+        double min = section.getDouble("min", 0);
+        double max = section.getDouble("max", Double.MAX_VALUE);
+        Map<String, Double> overrides = new LinkedHashMap<>();
+        ConfigurationSection overrideSection = section.getConfigurationSection("overrides");
+        if (overrideSection != null) {
+            for (String key : overrideSection.getKeys(false)) {
+                overrides.put(key.toLowerCase(Locale.ROOT), overrideSection.getDouble(key));
+            }
+        }
+
+        return new CapConfig(min, max, overrides);
+    }
+
+    private ModifierOperation parseOperation(String rawOperation) {
+        if (rawOperation == null || rawOperation.isBlank()) {
+            return ModifierOperation.ADD;
+        }
+
+        try {
+            return ModifierOperation.valueOf(rawOperation.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            logger.warning("Unknown operation '" + rawOperation + "' in attribute definition; defaulting to ADD.");
+            return ModifierOperation.ADD;
+        }
+    }
+
+    /**
+     * Builds multiplier applicability rules from configuration, defaulting to allow-all with optional
+     * opt-out lists when unspecified.
+     */
+    private MultiplierApplicability parseMultipliers(ConfigurationSection section) {
+        if (section == null) {
+            return MultiplierApplicability.allowAllMultipliers();
+        }
+
+        boolean applyAll = section.getBoolean("apply-all", true);
+        Set<String> allowed = Set.copyOf(section.getStringList("allowed"));
+        Set<String> ignored = Set.copyOf(section.getStringList("ignored"));
+
+        if (applyAll) {
+            if (!ignored.isEmpty()) {
+                return MultiplierApplicability.optOut(ignored);
+            }
+            return MultiplierApplicability.allowAllMultipliers();
+        }
+
+        return MultiplierApplicability.optIn(allowed);
+    }
+
+    /**
+     * Reads the cache, returning an empty map when it is missing, from another format version, or unreadable.
+     */
+    private Map<String, CacheEntry> readCache() {
+        if (cacheFile == null) {
+            return Map.of();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return Map.of();
+            }
+            int count = in.readInt();
+            Map<String, CacheEntry> entries = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String fileName = in.readUTF();
+                byte[] hash = in.readNBytes(in.readUnsignedByte());
+                entries.put(fileName, new CacheEntry(hash, readDefinition(in)));
+            }
+            return entries;
+        } catch (NoSuchFileException ex) {
+            return Map.of();
+        } catch (IOException | RuntimeException ex) {
+            logger.warning("Ignoring unreadable custom attribute cache: " + ex.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Replaces the cache atomically through a temporary file so an interrupted write never leaves a torn cache.
+     */
+    private void writeCache(Map<String, CacheEntry> entries) {
+        if (cacheFile == null) {
+            return;
+        }
+        Path temp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, CacheEntry> entry : entries.entrySet()) {
+                    CacheEntry cached = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeByte(cached.hash().length);
+                    out.write(cached.hash());
+                    writeDefinition(out, cached.definition());
+                }
+            }
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            logger.warning("Failed to write custom attribute cache: " + ex.getMessage());
+        }
+    }
+
+    private static void writeDefinition(DataOutputStream out, AttributeDefinition definition) throws IOException {
+        out.writeUTF(definition.id());
+        out.writeUTF(definition.displayName());
+        out.writeBoolean(definition.dynamic());
+        out.writeDouble(definition.defaultBaseValue());
+        out.writeDouble(definition.defaultCurrentValue());
+        CapConfig caps = definition.capConfig();
+        out.writeDouble(caps.globalMin());
+        out.writeDouble(caps.globalMax());
+        out.writeInt(caps.overrideMaxValues().size());
+        for (Map.Entry<String, Double> override : caps.overrideMaxValues().entrySet()) {
+            out.writeUTF(override.getKey());
+            out.writeDouble(override.getValue());
+        }
+        MultiplierApplicability multipliers = definition.multiplierApplicability();
+        out.writeBoolean(multipliers.applyAll());
+        writeKeys(out, multipliers.allowedKeys());
+        writeKeys(out, multipliers.ignoredKeys());
+        out.writeUTF(definition.defaultOperation().name());
+        out.writeBoolean(definition.derived());
+        if (definition.derived()) {
+            out.writeUTF(definition.formula());
+        }
+    }
+
+    private static AttributeDefinition readDefinition(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String displayName = in.readUTF();
+        boolean dynamic = in.readBoolean();
+        double defaultBase = in.readDouble();
+        double defaultCurrent = in.readDouble();
+        double min = in.readDouble();
+        double max = in.readDouble();
+        int overrideCount = in.readInt();
+        Map<String, Double> overrides = new LinkedHashMap<>();
+        for (int i = 0; i < overrideCount; i++) {
+            overrides.put(in.readUTF(), in.readDouble());
+        }
+        MultiplierApplicability multipliers = new MultiplierApplicability(in.readBoolean(), readKeys(in), readKeys(in));
+        ModifierOperation operation = ModifierOperation.valueOf(in.readUTF());
+        String formula = in.readBoolean() ? in.readUTF() : null;
+        return new AttributeDefinition(id, displayName, dynamic, defaultBase, defaultCurrent,
+                new CapConfig(min, max, overrides), multipliers, operation, formula);
+    }
+
+    private static void writeKeys(DataOutputStream out, Set<String> keys) throws IOException {
+        out.writeInt(keys.size());
+        for (String key : keys) {
+            out.writeUTF(key);
+        }
+    }
+
+    private static Set<String> readKeys(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            keys.add(in.readUTF());
+        }
+        return keys;
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static boolean isYaml(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    /**
+     * Cached definition of one file.
+     *
+     * @param hash SHA-256 of the file content
+     */
+    private record CacheEntry(byte[] hash, AttributeDefinition definition) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CacheEntry entry
+                    && Arrays.equals(hash, entry.hash)
+                    && definition.equals(entry.definition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(hash), definition);
+        }
+    }
+
+    /**
+     * Outcome of loading one file.
+     *
+     * @param entry  cache entry holding the definition, or {@code null} when the file was skipped
+     * @param parsed whether the file had to be parsed
+     */
+    private record Loaded(String fileName, CacheEntry entry, boolean parsed) {
+    }
+}
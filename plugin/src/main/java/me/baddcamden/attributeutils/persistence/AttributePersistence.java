@@ -0,0 +1,897 @@
+package me.baddcamden.attributeutils.persistence;
+
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.metrics.AttributeMetrics;
+import me.baddcamden.attributeutils.metrics.PersistenceEvent;
+import me.baddcamden.attributeutils.model.AttributeDefinition;
+import me.baddcamden.attributeutils.model.AttributeInstance;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.model.ModifierOperation;
+import me.baddcamden.attributeutils.scheduler.TaskScheduler;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Handles serialization of {@link AttributeInstance} state to YAML. Baselines for both default and
+ * current layers are stored alongside the last computed default final baseline so static
+ * attributes can keep their current deltas in sync. Modifier entries are written with their
+ * bucket flags so they can be restored into the correct stage buckets during reload. Caps are
+ * respected when loading to prevent persisted values from exceeding configured limits or override
+ * maxima.
+ */
+public class AttributePersistence {
+
+    /**
+     * How long player data decoded during pre-login stays staged before it is considered stale. Logins normally
+     * reach the join event well within this window; anything older is discarded and reloaded from disk.
+     */
+    private static final long STAGED_PLAYER_TTL_MILLIS = 60_000L;
+    /** Suffix of the temporary files a save writes before moving them over the target. */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** Owning plugin used for logging and player lookups. */
+    private final JavaPlugin plugin;
+    /** Root data directory for attribute persistence (global and per-player). */
+    private final Path dataFolder;
+    /** Registry receiving file read/write latency, async queue depth, and staged-player hit counts. */
+    private final AttributeMetrics metrics;
+    /** Dedicated executor for background file IO, bounded per storage device. */
+    private final PersistenceIoExecutor ioExecutor;
+    /** Executor proxying to the global scheduler for work that touches shared attribute state. */
+    private final Executor syncExecutor;
+    /**
+     * Player files decoded off the main thread during pre-login, keyed by player id, waiting to be applied when the
+     * player joins.
+     */
+    private final Map<UUID, StagedPlayerData> stagedPlayers = new ConcurrentHashMap<>();
+    /** Journal receiving snapshot markers after player saves; {@code null} when journaling is disabled. */
+    private ModifierJournal modifierJournal;
+
+    /**
+     * Creates a new persistence helper backed by the provided plugin scheduler and data folder.
+     *
+     * @param dataFolder base directory containing global.yml and players/
+     * @param plugin     plugin instance used for logging and player lookups
+     * @param scheduler  scheduler used to run global-thread work
+     * @param metrics    registry receiving persistence latency and queue depth
+     * @param ioSettings thread model and per-device concurrency of the IO executor
+     */
+    public AttributePersistence(Path dataFolder,
+                                JavaPlugin plugin,
+                                TaskScheduler scheduler,
+                                AttributeMetrics metrics,
+                                PersistenceIoExecutor.Settings ioSettings) {
+        this.plugin = plugin;
+        this.dataFolder = dataFolder;
+        this.metrics = metrics;
+        this.ioExecutor = new PersistenceIoExecutor(ioSettings, metrics);
+        this.syncExecutor = scheduler.globalExecutor();
+    }
+
+    /**
+     * Stops the IO executor after waiting for queued reads and writes, up to the configured timeout. Call when this
+     * instance is being discarded.
+     */
+    public void close() {
+        ioExecutor.close();
+    }
+
+    /**
+     * Attaches the journal that should be told whenever a player file is written, so replay can skip records the file
+     * already contains.
+     *
+     * @param modifierJournal journal to notify, or {@code null} to disable snapshot markers
+     */
+    public void setModifierJournal(ModifierJournal modifierJournal) {
+        this.modifierJournal = modifierJournal;
+    }
+
+    /**
+     * Loads global attribute instances and cap overrides synchronously if the global file exists.
+     * Missing files are treated as no-op to avoid creating defaults on disk prematurely.
+     */
+    public void loadGlobals(AttributeFacade facade) {
+        Path file = dataFolder.resolve("global.yml");
+        if (Files.notExists(file)) {
+            return;
+        }
+
+        FileConfiguration config = read(file);
+        loadCapOverrides(facade, config.getConfigurationSection("caps"));
+        loadInstances(facade, config.getConfigurationSection("attributes"), null);
+    }
+
+    /**
+     * Writes current global instances and cap overrides to disk on the calling thread. The journal's globals snapshot
+     * marker is only appended once the file was written, so journaled cap overrides stay replayable until then.
+     *
+     * @param facade attribute API exposing global instances and definitions
+     */
+    public void saveGlobals(AttributeFacade facade) {
+        long snapshotSequence = snapshotSequence();
+        FileConfiguration config = new YamlConfiguration();
+        ConfigurationSection attributes = config.createSection("attributes");
+        writeInstances(attributes, facade.getGlobalInstances());
+        ConfigurationSection caps = config.createSection("caps");
+        writeCapOverrides(caps, snapshotCapOverrides(facade));
+        Path target = dataFolder.resolve("global.yml");
+        try {
+            writeOrThrow(config, target);
+        } catch (UncheckedIOException ex) {
+            logSaveFailure(target, ex.getCause());
+            return;
+        }
+        markGlobalSnapshot(snapshotSequence);
+    }
+
+    /**
+     * Loads global state from disk asynchronously and applies it back on the main thread.
+     *
+     * @return future completing after main-thread load work has finished
+     */
+    public CompletableFuture<Void> loadGlobalsAsync(AttributeFacade facade) {
+        Path file = dataFolder.resolve("global.yml");
+        return supplyAsync(file, () -> Files.notExists(file) ? null : read(file))
+                .thenCompose(config -> config == null
+                        ? CompletableFuture.completedFuture(null)
+                        : runSync(() -> {
+                            loadCapOverrides(facade, config.getConfigurationSection("caps"));
+                            loadInstances(facade, config.getConfigurationSection("attributes"), null);
+                        }));
+    }
+
+    /**
+     * Persists global state asynchronously to avoid blocking the main thread. The returned future completes
+     * exceptionally when the write fails, in which case no globals snapshot marker is appended.
+     */
+    public CompletableFuture<Void> saveGlobalsAsync(AttributeFacade facade) {
+        return supplySync(() -> {
+                    long snapshotSequence = snapshotSequence();
+                    FileConfiguration config = new YamlConfiguration();
+                    ConfigurationSection attributes = config.createSection("attributes");
+                    writeInstances(attributes, facade.getGlobalInstances());
+                    ConfigurationSection caps = config.createSection("caps");
+                    writeCapOverrides(caps, snapshotCapOverrides(facade));
+                    return new FileSnapshot(new PersistedConfig(config, dataFolder.resolve("global.yml")), snapshotSequence);
+                })
+                .thenCompose(snapshot -> writeAsync(snapshot.config())
+                        .thenRun(() -> markGlobalSnapshot(snapshot.sequence())));
+    }
+
+    /**
+     * Loads an individual player's attribute instances if their file exists.
+     */
+    public void loadPlayer(AttributeFacade facade, UUID playerId) {
+        Path file = dataFolder.resolve("players").resolve(playerId.toString() + ".yml");
+        if (Files.notExists(file)) {
+            return;
+        }
+        FileConfiguration config = read(file);
+        loadInstances(facade, config.getConfigurationSection("attributes"), playerId);
+    }
+
+    /**
+     * Saves a player's attribute instances synchronously, creating the players directory if needed. The journal
+     * snapshot marker is only appended once the file was written, so a failed save keeps its records replayable.
+     */
+    public void savePlayer(AttributeFacade facade, UUID playerId) {
+        long snapshotSequence = snapshotSequence();
+        FileConfiguration config = new YamlConfiguration();
+        ConfigurationSection attributes = config.createSection("attributes");
+        writeInstances(attributes, facade.getPlayerInstances(playerId));
+        Path target = dataFolder.resolve("players").resolve(playerId.toString() + ".yml");
+        try {
+            writeOrThrow(config, target);
+        } catch (UncheckedIOException ex) {
+            logSaveFailure(target, ex.getCause());
+            return;
+        }
+        markSnapshot(playerId, snapshotSequence);
+    }
+
+    /**
+     * Loads a player's attribute instances asynchronously and applies them on the main thread.
+     */
+    public CompletableFuture<Void> loadPlayerAsync(AttributeFacade facade, UUID playerId) {
+        Path file = dataFolder.resolve("players").resolve(playerId.toString() + ".yml");
+        return supplyAsync(file, () -> Files.notExists(file) ? null : read(file))
+                .thenCompose(config -> config == null
+                        ? CompletableFuture.completedFuture(null)
+                        : runSync(() -> {
+                            loadInstances(facade, config.getConfigurationSection("attributes"), playerId);
+                        }));
+    }
+
+    /**
+     * Reads and decodes a player's file on the calling thread and stages the result for
+     * {@link #applyStagedPlayer(AttributeFacade, UUID)}. Intended for the pre-login event, which already runs off the
+     * main thread, so the join handler never waits on disk. Players without a file are staged as empty so the join
+     * handler still knows the lookup happened.
+     */
+    public void prefetchPlayer(UUID playerId) {
+        if (playerId == null) {
+            return;
+        }
+
+        purgeExpiredStaging();
+        Path file = dataFolder.resolve("players").resolve(playerId.toString() + ".yml");
+        FileConfiguration config = Files.notExists(file) ? null : read(file);
+        stagedPlayers.put(playerId, new StagedPlayerData(config, System.currentTimeMillis()));
+    }
+
+    /**
+     * Applies previously staged player data on the calling (main) thread.
+     *
+     * @return {@code true} when staged data was found and applied; {@code false} when callers must fall back to
+     * {@link #loadPlayerAsync(AttributeFacade, UUID)}
+     */
+    public boolean applyStagedPlayer(AttributeFacade facade, UUID playerId) {
+        if (playerId == null) {
+            return false;
+        }
+
+        StagedPlayerData staged = stagedPlayers.remove(playerId);
+        if (staged == null || staged.isExpired(System.currentTimeMillis())) {
+            metrics.recordStagedPlayerLookup(false);
+            return false;
+        }
+        metrics.recordStagedPlayerLookup(true);
+
+        if (staged.configuration() != null) {
+            loadInstances(facade, staged.configuration().getConfigurationSection("attributes"), playerId);
+        }
+        return true;
+    }
+
+    /**
+     * Drops any staged data for a player, typically because their login was denied after the prefetch.
+     */
+    public void discardStagedPlayer(UUID playerId) {
+        if (playerId != null) {
+            stagedPlayers.remove(playerId);
+        }
+    }
+
+    /**
+     * Removes staged entries whose login never reached the join event.
+     */
+    private void purgeExpiredStaging() {
+        long now = System.currentTimeMillis();
+        stagedPlayers.values().removeIf(staged -> staged.isExpired(now));
+    }
+
+    /**
+     * Saves a player's attribute instances asynchronously. The returned future completes exceptionally when the write
+     * fails, in which case no journal snapshot marker is appended.
+     */
+    public CompletableFuture<Void> savePlayerAsync(AttributeFacade facade, UUID playerId) {
+        return supplySync(() -> {
+                    long snapshotSequence = snapshotSequence();
+                    FileConfiguration config = new YamlConfiguration();
+                    ConfigurationSection attributes = config.createSection("attributes");
+                    writeInstances(attributes, facade.getPlayerInstances(playerId));
+                    Path folder = dataFolder.resolve("players");
+                    return new FileSnapshot(new PersistedConfig(config, folder.resolve(playerId.toString() + ".yml")), snapshotSequence);
+                })
+                .thenCompose(snapshot -> writeAsync(snapshot.config())
+                        .thenRun(() -> markSnapshot(playerId, snapshot.sequence())));
+    }
+
+    /**
+     * Saves the given players and the globals in parallel, waiting at most {@code deadlineMillis}. Intended for
+     * shutdown and reload, where saving hundreds of players one after another on the main thread can trip the
+     * watchdog.
+     * <p>
+     * Attribute state is copied on the calling thread, which must own it. Building the YAML and writing each file then
+     * happen on the IO executor, bounded per storage device. Writes still running at the deadline keep going in the
+     * background but are reported as timed out, as are writes that failed, so the caller can keep the journal for
+     * them. Every file is written to a temporary sibling and moved into place, so a write abandoned when the JVM
+     * exits leaves the previous file intact.
+     *
+     * @param facade         attribute API exposing player and global instances
+     * @param playerIds      players to save
+     * @param deadlineMillis how long to wait for every write to finish
+     * @return which players were saved, failed, or were still being written at the deadline
+     */
+    public FlushReport flushAll(AttributeFacade facade, Collection<UUID> playerIds, long deadlineMillis) {
+        long start = System.nanoTime();
+        long snapshotSequence = snapshotSequence();
+        Path folder = dataFolder.resolve("players");
+        Map<UUID, CompletableFuture<Void>> playerWrites = new LinkedHashMap<>();
+        for (UUID playerId : playerIds) {
+            Map<String, AttributeInstance> instances = copyInstances(facade.getPlayerInstances(playerId));
+            Path target = folder.resolve(playerId.toString() + ".yml");
+            playerWrites.put(playerId, runAsync(target, () -> {
+                FileConfiguration config = new YamlConfiguration();
+                writeInstances(config.createSection("attributes"), instances);
+                writeOrThrow(config, target);
+            }));
+        }
+        Map<String, AttributeInstance> globalInstances = copyInstances(facade.getGlobalInstances());
+        Map<String, Map<String, Double>> capOverrides = snapshotCapOverrides(facade);
+        Path globalTarget = dataFolder.resolve("global.yml");
+        CompletableFuture<Void> globalWrite = runAsync(globalTarget, () -> {
+            FileConfiguration config = new YamlConfiguration();
+            writeInstances(config.createSection("attributes"), globalInstances);
+            writeCapOverrides(config.createSection("caps"), capOverrides);
+            writeOrThrow(config, globalTarget);
+        });
+
+        List<CompletableFuture<Void>> all = new ArrayList<>(playerWrites.values());
+        all.add(globalWrite);
+        try {
+            CompletableFuture.allOf(all.toArray(new CompletableFuture[0])).get(Math.max(0L, deadlineMillis), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException ignored) {
+            // Inspected per write below.
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        int saved = 0;
+        List<UUID> failed = new ArrayList<>();
+        List<UUID> timedOut = new ArrayList<>();
+        for (Map.Entry<UUID, CompletableFuture<Void>> entry : playerWrites.entrySet()) {
+            CompletableFuture<Void> write = entry.getValue();
+            if (!write.isDone()) {
+                timedOut.add(entry.getKey());
+            } else if (write.isCompletedExceptionally()) {
+                failed.add(entry.getKey());
+            } else {
+                markSnapshot(entry.getKey(), snapshotSequence);
+                saved++;
+            }
+        }
+        boolean globalsSaved = globalWrite.isDone() && !globalWrite.isCompletedExceptionally();
+        if (globalsSaved) {
+            markGlobalSnapshot(snapshotSequence);
+        }
+        return new FlushReport(saved, failed, timedOut, globalsSaved, System.nanoTime() - start);
+    }
+
+    /**
+     * Deep-copies instances so they can be encoded off the thread that owns them.
+     */
+    private static Map<String, AttributeInstance> copyInstances(Map<String, AttributeInstance> instances) {
+        Map<String, AttributeInstance> copies = new LinkedHashMap<>();
+        instances.forEach((attributeId, instance) -> copies.put(attributeId, instance.copy()));
+        return copies;
+    }
+
+    /**
+     * Replays journaled player mutations recorded after each player's last snapshot, writes the affected player
+     * files (and global caps when cap overrides were journaled), then truncates the journal. Offline players are
+     * dropped from memory once their file is written. Runs synchronously and must be called after every definition
+     * is registered, before player data is loaded.
+     */
+    public void replayJournal(AttributeFacade facade) {
+        ModifierJournal journal = this.modifierJournal;
+        if (journal == null) {
+            return;
+        }
+
+        List<ModifierJournal.JournalRecord> records = journal.readRecords();
+        Map<UUID, Long> snapshots = ModifierJournal.snapshotSequences(records);
+
+        Map<UUID, List<ModifierJournal.JournalRecord>> pendingByOwner = new LinkedHashMap<>();
+        for (ModifierJournal.JournalRecord record : records) {
+            if (ModifierJournal.isPending(record, snapshots)) {
+                pendingByOwner.computeIfAbsent(record.ownerId(), ignored -> new ArrayList<>()).add(record);
+            }
+        }
+
+        if (pendingByOwner.isEmpty()) {
+            journal.truncate();
+            return;
+        }
+
+        boolean capsChanged = pendingByOwner.values().stream()
+                .flatMap(List::stream)
+                .anyMatch(record -> ModifierJournal.CAP_OVERRIDE.equals(record.type()));
+        if (capsChanged) {
+            loadGlobals(facade);
+        }
+
+        int replayed = 0;
+        for (Map.Entry<UUID, List<ModifierJournal.JournalRecord>> entry : pendingByOwner.entrySet()) {
+            UUID playerId = entry.getKey();
+            loadPlayer(facade, playerId);
+            for (ModifierJournal.JournalRecord record : entry.getValue()) {
+                if (applyJournalRecord(facade, record)) {
+                    replayed++;
+                }
+            }
+            savePlayer(facade, playerId);
+            if (plugin.getServer().getPlayer(playerId) == null) {
+                facade.clearPlayerInstances(playerId);
+            }
+        }
+
+        if (capsChanged) {
+            saveGlobals(facade);
+        }
+        journal.truncate();
+        plugin.getLogger().info("Replayed " + replayed + " journaled attribute change(s) for "
+                + pendingByOwner.size() + " player(s).");
+    }
+
+    /**
+     * Applies a single journal record directly to the player's instance without notifying listeners, mirroring how
+     * {@link #loadInstances(AttributeFacade, ConfigurationSection, UUID)} restores saved state.
+     *
+     * @return {@code true} when the record was applied
+     */
+    private boolean applyJournalRecord(AttributeFacade facade, ModifierJournal.JournalRecord record) {
+        String[] fields = record.fields();
+        try {
+            switch (record.type()) {
+                case ModifierJournal.SET_MODIFIER -> facade.getOrCreatePlayerInstance(record.ownerId(), fields[0])
+                        .addModifier(ModifierJournal.decodeModifier(record));
+                case ModifierJournal.REMOVE_MODIFIER -> facade.getOrCreatePlayerInstance(record.ownerId(), fields[0])
+                        .removeModifier(ModifierJournal.decode(fields[1]));
+                case ModifierJournal.CAP_OVERRIDE -> facade.getDefinition(fields[0])
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown attribute: " + fields[0]))
+                        .capConfig().overrideMaxValues()
+                        .put(ModifierJournal.decode(fields[1]), Double.parseDouble(fields[2]));
+                case ModifierJournal.BASELINE -> {
+                    AttributeInstance instance = facade.getOrCreatePlayerInstance(record.ownerId(), fields[0]);
+                    instance.setDefaultBaseValue(Double.parseDouble(fields[1]));
+                    instance.setCurrentBaseValue(Double.parseDouble(fields[2]));
+                    instance.setDefaultFinalBaseline(Double.parseDouble(fields[3]));
+                }
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            plugin.getLogger().warning("Skipping journaled change #" + record.sequence() + " for " + record.ownerId()
+                    + ": " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Sequence the journal has reached, captured before a snapshot is built.
+     */
+    private long snapshotSequence() {
+        ModifierJournal journal = this.modifierJournal;
+        return journal == null ? 0L : journal.currentSequence();
+    }
+
+    /**
+     * Tells the journal {@code global.yml} now contains every cap override up to {@code sequence}.
+     */
+    private void markGlobalSnapshot(long sequence) {
+        ModifierJournal journal = this.modifierJournal;
+        if (journal != null) {
+            journal.markGlobalSnapshot(sequence);
+        }
+    }
+
+    /**
+     * Tells the journal a player's file now contains everything up to {@code sequence}.
+     */
+    private void markSnapshot(UUID playerId, long sequence) {
+        ModifierJournal journal = this.modifierJournal;
+        if (journal != null) {
+            journal.markSnapshot(playerId, sequence);
+        }
+    }
+
+    /**
+     * Updates every persisted player file with the provided attribute default so that global edits
+     * immediately affect offline players. Online players can be excluded to avoid redundant writes
+     * while their in-memory instances are updated separately.
+     */
+    public void updateOfflinePlayerAttribute(String attributeId, double value, Set<UUID> excludePlayers) {
+        Path playersDir = dataFolder.resolve("players");
+        if (Files.notExists(playersDir)) {
+            return;
+        }
+
+        try (java.util.stream.Stream<Path> files = Files.list(playersDir)) {
+            files.filter(Files::isRegularFile).forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    return;
+                }
+                if (name.toLowerCase(Locale.ROOT).endsWith(".yml")) {
+                    String idPart = name.substring(0, name.length() - 4);
+                    try {
+                        UUID playerId = UUID.fromString(idPart);
+                        if (excludePlayers != null && excludePlayers.contains(playerId)) {
+                            return;
+                        }
+                    } catch (IllegalArgumentException ignored) {
+                        // not a player file; continue processing to be safe
+                    }
+                }
+
+                FileConfiguration config = read(path);
+                ConfigurationSection attributes = config.getConfigurationSection("attributes");
+                if (attributes == null) {
+                    attributes = config.createSection("attributes");
+                }
+                String normalizedId = attributeId.toLowerCase(Locale.ROOT);
+                ConfigurationSection attributeSection = attributes.getConfigurationSection(normalizedId);
+                if (attributeSection == null) {
+                    attributeSection = attributes.createSection(normalizedId);
+                }
+                attributeSection.set("default-base", value);
+                attributeSection.set("current-base", value);
+                attributeSection.set("base", value);
+                attributeSection.set("default-final-baseline", value);
+                save(config, path);
+            });
+        } catch (IOException ex) {
+            plugin.getLogger().warning("Failed to update offline player attributes: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Loads instances into the facade, clamping baselines to cap values for the associated override
+     * key (player ID) and reconstructing modifier buckets with their configured stage flags.
+     */
+    private void loadInstances(AttributeFacade facade, ConfigurationSection section, UUID playerId) {
+        if (section == null) {
+            return;
+        }
+
+        for (String key : section.getKeys(false)) {
+            facade.getDefinition(key).ifPresentOrElse(definition -> {
+                double defaultBase = section.getDouble(key + ".default-base",
+                        section.getDouble(key + ".base", definition.defaultBaseValue()));
+                double currentBase = section.getDouble(key + ".current-base",
+                        section.getDouble(key + ".base", definition.defaultCurrentValue()));
+                double defaultFinalBaseline = section.getDouble(
+                        key + ".default-final-baseline", definition.defaultCurrentValue());
+                AttributeInstance instance = playerId == null
+                        ? facade.getOrCreateGlobalInstance(definition.id())
+                        : facade.getOrCreatePlayerInstance(playerId, definition.id());
+                String capKey = playerId == null ? null : playerId.toString();
+                instance.setDefaultBaseValue(definition.capConfig().clamp(defaultBase, capKey));
+                instance.setCurrentBaseValue(definition.capConfig().clamp(currentBase, capKey));
+                instance.setDefaultFinalBaseline(definition.capConfig().clamp(defaultFinalBaseline, capKey));
+                ConfigurationSection modifiers = section.getConfigurationSection(key + ".modifiers");
+                if (modifiers != null) {
+                    for (String modKey : modifiers.getKeys(false)) {
+                        ModifierOperation operation = ModifierOperation.valueOf(modifiers.getString(modKey + ".operation", "ADD").toUpperCase(Locale.ROOT));
+                        double amount = modifiers.getDouble(modKey + ".amount", 0);
+                        boolean temporary = modifiers.getBoolean(modKey + ".temporary", false);
+                        boolean appliesToDefault = modifiers.getBoolean(modKey + ".default", false);
+                        boolean appliesToCurrent = modifiers.getBoolean(modKey + ".current", !appliesToDefault);
+                        boolean useMultiplierKeys = modifiers.getBoolean(modKey + ".use-multiplier-keys", false);
+                        Double durationSeconds = null;
+                        if (temporary && modifiers.contains(modKey + ".duration-seconds")) {
+                            double duration = modifiers.getDouble(modKey + ".duration-seconds", 0);
+                            if (duration > 0) {
+                                durationSeconds = duration;
+                            }
+                        }
+                        List<String> keyList = modifiers.getStringList(modKey + ".multiplier-keys");
+                        Set<String> normalizedKeys = new HashSet<>();
+                        keyList.stream().filter(entry -> entry != null && !entry.isBlank()).forEach(entry -> normalizedKeys.add(entry.toLowerCase(Locale.ROOT)));
+                        instance.addModifier(new ModifierEntry(modKey, operation, amount, temporary, appliesToDefault, appliesToCurrent, useMultiplierKeys, normalizedKeys, durationSeconds));
+                    }
+                }
+            }, () -> facade.compute(key, null));
+        }
+    }
+
+    /**
+     * Writes the full state of each instance: default/current baselines, the last default final
+     * baseline (used for resynchronizing static attributes), and all modifiers with their bucket
+     * metadata so they can be restored to the same computation stage.
+     */
+    private void writeInstances(ConfigurationSection section, Map<String, AttributeInstance> instances) {
+        for (Map.Entry<String, AttributeInstance> entry : instances.entrySet()) {
+            String attributeId = entry.getKey();
+            AttributeInstance instance = entry.getValue();
+            section.set(attributeId + ".default-base", instance.getDefaultBaseValue());
+            section.set(attributeId + ".current-base", instance.getCurrentBaseValue());
+            section.set(attributeId + ".base", instance.getDefaultBaseValue());
+            section.set(attributeId + ".default-final-baseline", instance.getDefaultFinalBaseline());
+            ConfigurationSection modifiers = section.createSection(attributeId + ".modifiers");
+            instance.getModifiers().forEach((key, modifier) -> {
+                modifiers.set(key + ".operation", modifier.operation().name());
+                modifiers.set(key + ".amount", modifier.amount());
+                modifiers.set(key + ".temporary", modifier.isTemporary());
+                modifiers.set(key + ".default", modifier.isDefaultModifier());
+                modifiers.set(key + ".current", modifier.appliesToCurrent());
+                modifiers.set(key + ".use-multiplier-keys", modifier.useMultiplierKeys());
+                modifiers.set(key + ".multiplier-keys", List.copyOf(modifier.multiplierKeys()));
+                if (modifier.isTemporary()) {
+                    modifier.durationSecondsOptional().ifPresent(duration -> modifiers.set(key + ".duration-seconds", duration));
+                }
+            });
+        }
+    }
+
+    private void loadCapOverrides(AttributeFacade facade, ConfigurationSection caps) {
+        if (caps == null) {
+            return;
+        }
+
+        loadCapOverrides(facade, caps, "");
+    }
+
+    /**
+     * Recursively walks cap override sections to populate per-target max values.
+     *
+     * @param facade attribute definitions for lookup
+     * @param section current configuration level being traversed
+     * @param prefix  accumulated attribute ID prefix for nested sections
+     */
+    private void loadCapOverrides(AttributeFacade facade, ConfigurationSection section, String prefix) {
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection child = section.getConfigurationSection(key);
+            if (child == null) {
+                continue;
+            }
+
+            String attributeId = prefix.isEmpty() ? key : prefix + "." + key;
+            boolean hasNestedSections = child.getKeys(false).stream().anyMatch(child::isConfigurationSection);
+            if (hasNestedSections) {
+                loadCapOverrides(facade, child, attributeId);
+                continue;
+            }
+
+            facade.getDefinition(attributeId).ifPresent(definition -> {
+                Map<String, Double> overrideTargets = definition.capConfig().overrideMaxValues();
+                child.getKeys(false).forEach(overrideKey -> overrideTargets.put(
+                        overrideKey.toLowerCase(Locale.ROOT),
+                        child.getDouble(overrideKey)));
+            });
+        }
+    }
+
+    /**
+     * Copies the cap overrides of every definition that has any, keyed by attribute id.
+     */
+    private Map<String, Map<String, Double>> snapshotCapOverrides(AttributeFacade facade) {
+        Map<String, Map<String, Double>> snapshot = new LinkedHashMap<>();
+        for (AttributeDefinition definition : facade.getDefinitions()) {
+            Map<String, Double> overrides = definition.capConfig().overrideMaxValues();
+            if (!overrides.isEmpty()) {
+                snapshot.put(definition.id(), new LinkedHashMap<>(overrides));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes cap overrides for each definition into the given section if any exist.
+     */
+    private void writeCapOverrides(ConfigurationSection section, Map<String, Map<String, Double>> capOverrides) {
+        if (section == null) {
+            return;
+        }
+
+        capOverrides.forEach((attributeId, overrides) -> {
+            ConfigurationSection attributeSection = section.createSection(attributeId);
+            overrides.forEach(attributeSection::set);
+        });
+    }
+
+    /**
+     * Saves the provided configuration to the target location, creating parent directories. Failures are logged.
+     */
+    private void save(FileConfiguration config, Path target) {
+        try {
+            write(config, target);
+        } catch (IOException ex) {
+            logSaveFailure(target, ex);
+        }
+    }
+
+    private void logSaveFailure(Path target, Throwable cause) {
+        plugin.getLogger().log(Level.WARNING, "Failed to save " + dataFolder.relativize(target), cause);
+    }
+
+    /**
+     * Saves like {@link #save(FileConfiguration, Path)} but rethrows failures unchecked, so the future running the
+     * write completes exceptionally.
+     */
+    private void writeOrThrow(FileConfiguration config, Path target) {
+        try {
+            write(config, target);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Writes the configuration to a sibling temporary file and moves it over the target, creating parent directories,
+     * and records how long it took. A write that fails or is abandoned at shutdown leaves the previous file intact
+     * instead of a truncated one.
+     */
+    private void write(FileConfiguration config, Path target) throws IOException {
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString() + ".", TEMP_SUFFIX);
+            try {
+                config.save(temp.toFile());
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } finally {
+            metrics.recordPersistenceSave(System.nanoTime() - start);
+            commit(event, PersistenceEvent.SAVE, target);
+        }
+    }
+
+    /**
+     * Reads and parses a YAML file, recording how long it took.
+     */
+    private FileConfiguration read(Path file) {
+        PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        long start = System.nanoTime();
+        FileConfiguration config = YamlConfiguration.loadConfiguration(file.toFile());
+        metrics.recordPersistenceLoad(System.nanoTime() - start);
+        commit(event, PersistenceEvent.LOAD, file);
+        return config;
+    }
+
+    /**
+     * Ends a persistence event when a recording wants it. The file size is only looked up in that case.
+     */
+    private void commit(PersistenceEvent event, String operation, Path file) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.file = String.valueOf(file.getFileName());
+        try {
+            event.bytes = Files.size(file);
+        } catch (IOException ignored) {
+            event.bytes = -1L;
+        }
+        event.commit();
+    }
+
+    /**
+     * Hands a task touching {@code target} to the IO executor, counting it as queued until it finishes or is rejected.
+     */
+    private void submitAsync(Path target, Runnable runnable) {
+        metrics.persistenceQueued();
+        try {
+            ioExecutor.execute(target, () -> {
+                try {
+                    runnable.run();
+                } finally {
+                    metrics.persistenceCompleted();
+                }
+            });
+        } catch (RuntimeException exception) {
+            metrics.persistenceCompleted();
+            throw exception;
+        }
+    }
+
+    /**
+     * Asynchronously writes a configuration to disk using the IO executor.
+     */
+    private CompletableFuture<Void> writeAsync(PersistedConfig config) {
+        return runAsync(config.target(), () -> writeOrThrow(config.configuration(), config.target()))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        logSaveFailure(config.target(), error instanceof CompletionException ? error.getCause() : error);
+                    }
+                });
+    }
+
+    /**
+     * Runs a task touching {@code target} on the IO executor.
+     */
+    private CompletableFuture<Void> runAsync(Path target, Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, task -> submitAsync(target, task));
+    }
+
+    /**
+     * Runs a task on the sync executor.
+     */
+    private CompletableFuture<Void> runSync(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, syncExecutor);
+    }
+
+    /**
+     * Supplies a value read from {@code target} using the IO executor.
+     */
+    private <T> CompletableFuture<T> supplyAsync(Path target, Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, task -> submitAsync(target, task));
+    }
+
+    /**
+     * Supplies a value using the sync executor.
+     */
+    private <T> CompletableFuture<T> supplySync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, syncExecutor);
+    }
+
+    /**
+     * Pairing of a configuration to be written and its destination on disk.
+     *
+     * @param configuration configuration ready to be serialized to YAML
+     * @param target        target file path for persistence
+     */
+    private record PersistedConfig(FileConfiguration configuration, Path target) {
+    }
+
+    /**
+     * Player or globals file ready to be written together with the journal sequence it covers.
+     *
+     * @param config   configuration and destination to write
+     * @param sequence journal sequence captured while the configuration was built
+     */
+    private record FileSnapshot(PersistedConfig config, long sequence) {
+    }
+
+    /**
+     * Outcome of {@link #flushAll(AttributeFacade, Collection, long)}.
+     *
+     * @param saved        players whose files were written
+     * @param failed       players whose write threw
+     * @param timedOut     players whose write was still running at the deadline
+     * @param globalsSaved whether global.yml was written before the deadline
+     * @param elapsedNanos time spent in the flush, including the wait
+     */
+    public record FlushReport(int saved, List<UUID> failed, List<UUID> timedOut, boolean globalsSaved, long elapsedNanos) {
+
+        /**
+         * Returns whether every player and the globals were written.
+         */
+        public boolean complete() {
+            return failed.isEmpty() && timedOut.isEmpty() && globalsSaved;
+        }
+    }
+
+    /**
+     * Player file decoded during pre-login and the time it was staged.
+     *
+     * @param configuration decoded player file, or {@code null} when the player has no saved data
+     * @param stagedAt      wall-clock millis when the data was staged
+     */
+    private record StagedPlayerData(FileConfiguration configuration, long stagedAt) {
+
+        private boolean isExpired(long now) {
+            return now - stagedAt > STAGED_PLAYER_TTL_MILLIS;
+        }
+    }
+}
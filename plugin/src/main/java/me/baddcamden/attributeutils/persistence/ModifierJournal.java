@@ -0,0 +1,469 @@
+package me.baddcamden.attributeutils.persistence;
+
+import me.baddcamden.attributeutils.api.AttributeFacade;
+import me.baddcamden.attributeutils.model.AttributeInstance;
+import me.baddcamden.attributeutils.model.ModifierEntry;
+import me.baddcamden.attributeutils.model.ModifierOperation;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of player attribute mutations recorded between full saves. Player files are only rewritten on
+ * quit, reload, and shutdown, so a crash would otherwise lose every modifier change made since the last snapshot.
+ * <p>
+ * Mutations are queued on the calling (main) thread and appended in batches by a background writer that forces the
+ * file to disk after each batch. Every record carries a sequence number; when a player file is written, a
+ * {@code SNAPSHOT} marker with the sequence captured at snapshot time is appended so replay can skip records the file
+ * already contains. Cap overrides live in {@code global.yml} rather than the player file, so {@code CAP} records are
+ * only covered by a {@code SNAPSHOT} marker for {@link #GLOBAL_OWNER}, appended once the globals were written. The
+ * journal is truncated after every full snapshot of all online players and after a successful
+ * replay on startup. Between those, per-player snapshots only append markers, so once the file grows past the
+ * compaction threshold it is rewritten without the records those markers cover.
+ * <p>
+ * Each line is tab separated and ends with a CRC32 of the payload so torn writes from a crash are detected and skipped.
+ */
+public class ModifierJournal implements AttributeFacade.AttributeMutationListener {
+
+    /** Record type for modifier additions and replacements. */
+    static final String SET_MODIFIER = "SET";
+    /** Record type for modifier removals. */
+    static final String REMOVE_MODIFIER = "REMOVE";
+    /** Record type for per-player cap overrides. */
+    static final String CAP_OVERRIDE = "CAP";
+    /** Record type for baseline changes. */
+    static final String BASELINE = "BASE";
+    /** Record type marking that a player's file was written with every record up to the recorded sequence. */
+    static final String SNAPSHOT = "SNAPSHOT";
+    /** Owner of the snapshot markers written after {@code global.yml}, which covers {@link #CAP_OVERRIDE} records. */
+    static final UUID GLOBAL_OWNER = new UUID(0L, 0L);
+
+    /** Location of the journal file on disk. */
+    private final Path file;
+    /** Logger used to report write and parse failures. */
+    private final Logger logger;
+    /** Filter deciding which owners are journaled, typically limited to online players. */
+    private final Predicate<UUID> ownerFilter;
+    /** Interval between batched appends, in milliseconds. */
+    private final long flushIntervalMillis;
+    /** File size above which a batch containing a snapshot marker triggers compaction. */
+    private final long compactThresholdBytes;
+    /** Encoded lines waiting to be appended by the writer thread. */
+    private final BlockingQueue<String> pending = new LinkedBlockingQueue<>();
+    /** Sequence assigned to the most recent record. */
+    private final AtomicLong sequence = new AtomicLong();
+    /** Guards the file channel so batches and truncation never interleave. */
+    private final Object fileLock = new Object();
+    /** Background thread draining {@link #pending}. */
+    private final Thread writer;
+    /** Open channel for appending; {@code null} once closed. */
+    private FileChannel channel;
+    /** Size the file must exceed before the next compaction; raised when compaction cannot shrink the file enough. */
+    private long nextCompactionBytes;
+    /** Highest sequence covered by the last truncation; older lines still held by the writer are dropped. */
+    private volatile long truncatedThrough;
+    /** Whether the writer should keep draining the queue. */
+    private volatile boolean running = true;
+
+    /**
+     * Opens (or creates) the journal file and starts the background writer.
+     *
+     * @param file                journal location, typically {@code journal.log} in the data folder
+     * @param logger              logger used for write and parse failures
+     * @param ownerFilter         predicate selecting which owners should be journaled
+     * @param flushIntervalMillis   delay between batched appends
+     * @param compactThresholdBytes file size above which records covered by snapshots are compacted away
+     */
+    public ModifierJournal(Path file, Logger logger, Predicate<UUID> ownerFilter, long flushIntervalMillis,
+                           long compactThresholdBytes) {
+        this.file = file;
+        this.logger = logger;
+        this.ownerFilter = ownerFilter;
+        this.flushIntervalMillis = Math.max(10L, flushIntervalMillis);
+        this.compactThresholdBytes = Math.max(1024L, compactThresholdBytes);
+        this.nextCompactionBytes = this.compactThresholdBytes;
+        this.sequence.set(lastSequence());
+        try {
+            Files.createDirectories(file.getParent());
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            logger.log(Level.SEVERE, "Failed to open modifier journal; changes will only be saved on quit", ex);
+            this.channel = null;
+        }
+        this.writer = new Thread(this::drainLoop, "AttributeUtils-Journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Returns the sequence of the most recently queued record. Snapshots capture this value on the main thread while
+     * building the data they write.
+     */
+    public long currentSequence() {
+        return sequence.get();
+    }
+
+    @Override
+    public void modifierSet(UUID ownerId, String attributeId, ModifierEntry entry) {
+        if (!accepts(ownerId)) {
+            return;
+        }
+        String multiplierKeys = String.join(",", entry.multiplierKeys().stream().map(ModifierJournal::encode).toList());
+        append(SET_MODIFIER, ownerId.toString(), attributeId, encode(entry.key()), entry.operation().name(),
+                Double.toString(entry.amount()), Boolean.toString(entry.temporary()),
+                Boolean.toString(entry.appliesToDefault()), Boolean.toString(entry.appliesToCurrent()),
+                Boolean.toString(entry.useMultiplierKeys()), multiplierKeys,
+                entry.durationSeconds() == null ? "" : Double.toString(entry.durationSeconds()));
+    }
+
+    @Override
+    public void modifierRemoved(UUID ownerId, String attributeId, String key) {
+        if (accepts(ownerId)) {
+            append(REMOVE_MODIFIER, ownerId.toString(), attributeId, encode(key));
+        }
+    }
+
+    @Override
+    public void capOverrideChanged(UUID ownerId, String attributeId, String overrideKey, double value) {
+        if (accepts(ownerId)) {
+            append(CAP_OVERRIDE, ownerId.toString(), attributeId, encode(overrideKey), Double.toString(value));
+        }
+    }
+
+    @Override
+    public void baselineChanged(UUID ownerId, String attributeId, AttributeInstance instance) {
+        if (accepts(ownerId)) {
+            append(BASELINE, ownerId.toString(), attributeId, Double.toString(instance.getDefaultBaseValue()),
+                    Double.toString(instance.getCurrentBaseValue()), Double.toString(instance.getDefaultFinalBaseline()));
+        }
+    }
+
+    /**
+     * Records that a player's file now contains every record up to {@code snapshotSequence}.
+     */
+    public void markSnapshot(UUID ownerId, long snapshotSequence) {
+        if (ownerId == null) {
+            return;
+        }
+        long seq = sequence.incrementAndGet();
+        pending.add(encodeLine(seq, SNAPSHOT, ownerId.toString(), Long.toString(snapshotSequence)));
+    }
+
+    /**
+     * Records that {@code global.yml} now contains every cap override journaled up to {@code snapshotSequence}.
+     */
+    public void markGlobalSnapshot(long snapshotSequence) {
+        markSnapshot(GLOBAL_OWNER, snapshotSequence);
+    }
+
+    /**
+     * Collects the highest snapshot sequence per owner, including {@link #GLOBAL_OWNER}.
+     */
+    static Map<UUID, Long> snapshotSequences(List<JournalRecord> records) {
+        Map<UUID, Long> snapshots = new HashMap<>();
+        records.stream()
+                .filter(record -> SNAPSHOT.equals(record.type()))
+                .forEach(record -> snapshots.merge(record.ownerId(), Long.parseLong(record.fields()[0]), Math::max));
+        return snapshots;
+    }
+
+    /**
+     * Returns whether {@code record} still has to be replayed: it is not a marker and no file written since contains
+     * it. Cap overrides are checked against the globals snapshot, everything else against its owner's.
+     */
+    static boolean isPending(JournalRecord record, Map<UUID, Long> snapshots) {
+        if (SNAPSHOT.equals(record.type())) {
+            return false;
+        }
+        UUID coveringOwner = CAP_OVERRIDE.equals(record.type()) ? GLOBAL_OWNER : record.ownerId();
+        return record.sequence() > snapshots.getOrDefault(coveringOwner, 0L);
+    }
+
+    /**
+     * Discards queued records and empties the journal. Callers must have just written a full snapshot of every
+     * journaled owner on the main thread, so anything queued is already on disk in the player files.
+     */
+    public void truncate() {
+        synchronized (fileLock) {
+            truncatedThrough = sequence.get();
+            pending.clear();
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.truncate(0);
+                channel.force(true);
+                nextCompactionBytes = compactThresholdBytes;
+            } catch (IOException ex) {
+                logger.log(Level.WARNING, "Failed to truncate modifier journal", ex);
+            }
+        }
+    }
+
+    /**
+     * Stops the writer thread, appends anything still queued, and closes the file.
+     */
+    public void close() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (fileLock) {
+            writeBatch();
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // closing a journal that already failed to write has nothing further to report
+                }
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Reads every intact record from the journal, skipping lines whose checksum does not match (for example, a line
+     * torn by a crash mid-write).
+     */
+    List<JournalRecord> readRecords() {
+        List<JournalRecord> records = new ArrayList<>();
+        if (Files.notExists(file)) {
+            return records;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            logger.log(Level.SEVERE, "Failed to read modifier journal", ex);
+            return records;
+        }
+
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JournalRecord record = decodeLine(line);
+            if (record == null) {
+                logger.warning("Skipping corrupt modifier journal entry: " + line);
+                continue;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Rebuilds a modifier entry from the fields of a {@link #SET_MODIFIER} record.
+     */
+    static ModifierEntry decodeModifier(JournalRecord record) {
+        String[] fields = record.fields();
+        Set<String> multiplierKeys = new LinkedHashSet<>();
+        if (!fields[8].isEmpty()) {
+            Arrays.stream(fields[8].split(",")).map(ModifierJournal::decode).forEach(multiplierKeys::add);
+        }
+        Double durationSeconds = fields[9].isEmpty() ? null : Double.parseDouble(fields[9]);
+        return new ModifierEntry(decode(fields[1]),
+                ModifierOperation.valueOf(fields[2].toUpperCase(Locale.ROOT)),
+                Double.parseDouble(fields[3]),
+                Boolean.parseBoolean(fields[4]),
+                Boolean.parseBoolean(fields[5]),
+                Boolean.parseBoolean(fields[6]),
+                Boolean.parseBoolean(fields[7]),
+                multiplierKeys,
+                durationSeconds);
+    }
+
+    /**
+     * Decodes a string field written by {@link #encode(String)}.
+     */
+    static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private boolean accepts(UUID ownerId) {
+        return running && ownerId != null && ownerFilter.test(ownerId);
+    }
+
+    private void append(String type, String owner, String... fields) {
+        long seq = sequence.incrementAndGet();
+        String[] payload = new String[fields.length + 1];
+        payload[0] = owner;
+        System.arraycopy(fields, 0, payload, 1, fields.length);
+        pending.add(encodeLine(seq, type, payload));
+    }
+
+    /**
+     * Writer loop: waits for the first queued line, lets the batch window fill, then appends and forces everything
+     * queued in one write.
+     */
+    private void drainLoop() {
+        while (running) {
+            String first = null;
+            try {
+                first = pending.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                Thread.sleep(flushIntervalMillis);
+            } catch (InterruptedException ignored) {
+                // close() interrupts the wait; whatever was already taken is still written below
+            }
+            if (first != null) {
+                synchronized (fileLock) {
+                    writeBatch(first);
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends everything currently queued. Must be called while holding {@link #fileLock}.
+     */
+    private void writeBatch(String... leading) {
+        List<String> batch = new ArrayList<>(Arrays.asList(leading));
+        pending.drainTo(batch);
+        batch.removeIf(line -> Long.parseLong(line.substring(0, line.indexOf('\t'))) <= truncatedThrough);
+        if (batch.isEmpty() || channel == null) {
+            return;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        boolean snapshotWritten = false;
+        for (String line : batch) {
+            builder.append(line).append('\n');
+            snapshotWritten |= line.contains("\t" + SNAPSHOT + "\t");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            if (snapshotWritten && channel.size() > nextCompactionBytes) {
+                compact();
+            }
+        } catch (IOException ex) {
+            logger.log(Level.WARNING, "Failed to append " + batch.size() + " modifier journal entries", ex);
+        }
+    }
+
+    /**
+     * Rewrites the journal without snapshot markers and the records they cover, keeping only mutations not yet in a
+     * player file or, for cap overrides, in {@code global.yml}. The rewrite goes to a temporary sibling that replaces the journal atomically, so a crash mid-way
+     * leaves the old journal. Must be called while holding {@link #fileLock}.
+     */
+    private void compact() throws IOException {
+        List<JournalRecord> records = readRecords();
+        Map<UUID, Long> snapshots = snapshotSequences(records);
+
+        StringBuilder builder = new StringBuilder();
+        int kept = 0;
+        for (JournalRecord record : records) {
+            if (isPending(record, snapshots)) {
+                String[] payload = new String[record.fields().length + 1];
+                payload[0] = record.ownerId().toString();
+                System.arraycopy(record.fields(), 0, payload, 1, record.fields().length);
+                builder.append(encodeLine(record.sequence(), record.type(), payload)).append('\n');
+                kept++;
+            }
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, builder, StandardCharsets.UTF_8);
+        try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            tempChannel.force(true);
+        }
+        channel.close();
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        nextCompactionBytes = Math.max(compactThresholdBytes, channel.size() * 2);
+        logger.fine("Compacted modifier journal from " + records.size() + " to " + kept + " entries");
+    }
+
+    /**
+     * Scans the existing journal so sequence numbers keep increasing across restarts when replay was skipped.
+     */
+    private long lastSequence() {
+        return readRecords().stream().mapToLong(JournalRecord::sequence).max().orElse(0L);
+    }
+
+    private static String encodeLine(long seq, String type, String... fields) {
+        String payload = seq + "\t" + type + "\t" + String.join("\t", fields);
+        return payload + "\t" + Long.toHexString(checksum(payload));
+    }
+
+    private static JournalRecord decodeLine(String line) {
+        int checksumSeparator = line.lastIndexOf('\t');
+        if (checksumSeparator < 0) {
+            return null;
+        }
+
+        String payload = line.substring(0, checksumSeparator);
+        try {
+            if (Long.parseLong(line.substring(checksumSeparator + 1), 16) != checksum(payload)) {
+                return null;
+            }
+            String[] parts = payload.split("\t", -1);
+            if (parts.length < 3) {
+                return null;
+            }
+            return new JournalRecord(Long.parseLong(parts[0]), parts[1], UUID.fromString(parts[2]),
+                    Arrays.copyOfRange(parts, 3, parts.length));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static long checksum(String payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value == null ? "" : value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Single decoded journal line.
+     *
+     * @param sequence monotonically increasing record number
+     * @param type     record type such as {@link #SET_MODIFIER}
+     * @param ownerId  player the record applies to
+     * @param fields   type-specific fields; the first is the attribute id for every type except {@link #SNAPSHOT}
+     */
+    record JournalRecord(long sequence, String type, UUID ownerId, String[] fields) {
+    }
+}
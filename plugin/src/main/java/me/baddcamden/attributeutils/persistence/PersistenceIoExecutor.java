@@ -0,0 +1,153 @@
+package me.baddcamden.attributeutils.persistence;
+
+import me.baddcamden.attributeutils.metrics.AttributeMetrics;
+
+import java.io.IOException;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated executor for persistence file IO, kept apart from the server's shared async pool so attribute saves and
+ * other plugins' tasks cannot starve each other.
+ * <p>
+ * Each task runs on its own virtual thread (or, with virtual threads disabled, on a small platform pool) and then
+ * waits for a permit from the {@link FileStore} holding its file, so at most
+ * {@link Settings#maxConcurrentPerStore()} reads and writes hit one device at a time no matter how many are queued.
+ * Waiting is cheap on a virtual thread, so a burst of thousands of saves costs queued threads rather than blocked
+ * pool workers. Time spent waiting for a permit is recorded through
+ * {@link AttributeMetrics#recordPersistenceIoWait(long)}.
+ */
+public final class PersistenceIoExecutor implements AutoCloseable {
+
+    /** Key used when the file store of a path cannot be determined. */
+    private static final Object UNKNOWN_STORE = new Object();
+
+    private final Settings settings;
+    private final AttributeMetrics metrics;
+    private final ExecutorService executor;
+    /** One permit pool per storage device. */
+    private final Map<Object, Semaphore> permitsByStore = new ConcurrentHashMap<>();
+    /** Store of each directory seen so far, so the store lookup is a syscall only the first time. */
+    private final Map<Path, Object> storeByDirectory = new ConcurrentHashMap<>();
+
+    /**
+     * @param settings thread model and per-device concurrency
+     * @param metrics  registry receiving permit wait times
+     */
+    public PersistenceIoExecutor(Settings settings, AttributeMetrics metrics) {
+        this.settings = settings;
+        this.metrics = metrics;
+        if (settings.virtualThreads()) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("AttributeUtils-io-", 0).factory());
+        } else {
+            AtomicInteger index = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(settings.maxConcurrentPerStore(), runnable -> {
+                Thread thread = new Thread(runnable, "AttributeUtils-io-" + index.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Runs {@code task}, which reads or writes {@code target}, once the device holding {@code target} has a free
+     * permit.
+     *
+     * @throws RejectedExecutionException when the executor has been closed
+     */
+    public void execute(Path target, Runnable task) {
+        Semaphore permits = permitsFor(target);
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            permits.acquireUninterruptibly();
+            metrics.recordPersistenceIoWait(System.nanoTime() - start);
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Stops accepting tasks and waits up to {@code timeout} for queued ones to finish.
+     *
+     * @return {@code true} when every task finished in time
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeout, unit);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting tasks and waits up to {@link Settings#closeTimeoutMillis()} for queued ones.
+     */
+    @Override
+    public void close() {
+        shutdown(settings.closeTimeoutMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private Semaphore permitsFor(Path target) {
+        Path directory = target.toAbsolutePath().getParent();
+        Object store = directory == null ? UNKNOWN_STORE : storeByDirectory.computeIfAbsent(directory, this::resolveStore);
+        return permitsByStore.computeIfAbsent(store, ignored -> new Semaphore(settings.maxConcurrentPerStore()));
+    }
+
+    /**
+     * Looks up the store of the nearest existing ancestor, since the directory itself may not have been created yet.
+     */
+    private Object resolveStore(Path directory) {
+        Path existing = directory;
+        while (existing != null && Files.notExists(existing)) {
+            existing = existing.getParent();
+        }
+        if (existing == null) {
+            return UNKNOWN_STORE;
+        }
+        try {
+            return Files.getFileStore(existing);
+        } catch (IOException | SecurityException ex) {
+            return UNKNOWN_STORE;
+        }
+    }
+
+    /**
+     * Tuning for the persistence IO executor.
+     *
+     * @param virtualThreads        whether each task gets its own virtual thread; otherwise a fixed platform pool of
+     *                              {@code maxConcurrentPerStore} threads is used
+     * @param maxConcurrentPerStore reads and writes allowed in flight per storage device
+     * @param closeTimeoutMillis    how long {@link #close()} waits for queued IO
+     */
+    public record Settings(boolean virtualThreads, int maxConcurrentPerStore, long closeTimeoutMillis) {
+
+        /**
+         * Builds settings from config values, raising the concurrency to at least one.
+         */
+        public static Settings of(boolean virtualThreads, int maxConcurrentPerStore, long closeTimeoutMillis) {
+            return new Settings(virtualThreads, Math.max(1, maxConcurrentPerStore), Math.max(0L, closeTimeoutMillis));
+        }
+
+        /**
+         * Defaults used when nothing is configured: virtual threads, four operations per device, five seconds to
+         * drain on close.
+         */
+        public static Settings defaults() {
+            return of(true, 4, 5_000L);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package me.baddcamden.attributeutils.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link TaskScheduler} for single-threaded servers. Global, entity and region tasks all run on the main thread through the
+ * {@link BukkitScheduler}.
+ */
+public final class BukkitTaskScheduler implements TaskScheduler {
+
+    private final Plugin plugin;
+
+    /**
+     * @param plugin plugin that owns the scheduled tasks
+     */
+    public BukkitTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public TaskHandle runGlobal(Runnable task) {
+        return scheduler().runTask(plugin, task)::cancel;
+    }
+
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delayTicks) {
+        return scheduler().runTaskLater(plugin, task, delayTicks)::cancel;
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return scheduler().runTaskTimer(plugin, task, delayTicks, periodTicks)::cancel;
+    }
+
+    @Override
+    public TaskHandle runForEntity(Entity entity, Runnable task, Runnable retired) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public TaskHandle runForEntityTimer(Entity entity, Runnable task, long delayTicks, long periodTicks) {
+        return runGlobalTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public TaskHandle runAtLocationTimer(Location location, Runnable task, long delayTicks, long periodTicks) {
+        return runGlobalTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public TaskHandle runAsync(Runnable task) {
+        return scheduler().runTaskAsynchronously(plugin, task)::cancel;
+    }
+
+    @Override
+    public void forEachLivingEntity(Consumer<LivingEntity> action) {
+        for (World world : plugin.getServer().getWorlds()) {
+            for (LivingEntity livingEntity : world.getLivingEntities()) {
+                action.accept(livingEntity);
+            }
+        }
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return plugin.getServer().isPrimaryThread();
+    }
+
+    @Override
+    public boolean isRegionThreaded() {
+        return false;
+    }
+
+    @Override
+    public void cancelAll() {
+        scheduler().cancelTasks(plugin);
+    }
+
+    private BukkitScheduler scheduler() {
+        return plugin.getServer().getScheduler();
+    }
+}
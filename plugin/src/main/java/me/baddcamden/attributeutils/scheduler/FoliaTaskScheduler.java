@@ -0,0 +1,227 @@
+package me.baddcamden.attributeutils.scheduler;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * {@link TaskScheduler} for Folia. Global tasks go to the global region scheduler, entity tasks to the entity's own
+ * scheduler, region timers and entity sweeps to the region scheduler, and async tasks to the async scheduler.
+ * <p>
+ * The plugin compiles against the Spigot API, which has none of these types, so the Folia schedulers are reached
+ * through reflection. Every method is resolved once in the constructor; a missing method fails plugin startup rather
+ * than the first scheduled task. Folia rejects delays below one tick, so shorter delays are raised to one.
+ */
+public final class FoliaTaskScheduler implements TaskScheduler {
+
+    private static final String REGIONIZED_SERVER = "io.papermc.paper.threadedregions.RegionizedServer";
+    private static final String SCHEDULER_PACKAGE = "io.papermc.paper.threadedregions.scheduler.";
+
+    private final Plugin plugin;
+    private final Object globalScheduler;
+    private final Object regionScheduler;
+    private final Object asyncScheduler;
+    private final Method globalRun;
+    private final Method globalRunDelayed;
+    private final Method globalRunAtFixedRate;
+    private final Method globalCancelTasks;
+    private final Method entityGetScheduler;
+    private final Method entityRun;
+    private final Method entityRunAtFixedRate;
+    private final Method regionExecute;
+    private final Method regionRunAtFixedRate;
+    private final Method asyncRunNow;
+    private final Method asyncCancelTasks;
+    private final Method taskCancel;
+    private final Method ownedByCurrentRegion;
+    /**
+     * Repeating entity and region tasks; Folia cannot cancel those per plugin, so {@link #cancelAll()} walks these.
+     */
+    private final Set<TaskHandle> timers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Returns whether the server runs Folia's region threading.
+     */
+    public static boolean isSupported() {
+        try {
+            Class.forName(REGIONIZED_SERVER);
+            return true;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * @param plugin plugin that owns the scheduled tasks
+     * @throws IllegalStateException when the server does not expose the expected Folia scheduler API
+     */
+    public FoliaTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        try {
+            Class<?> globalType = Class.forName(SCHEDULER_PACKAGE + "GlobalRegionScheduler");
+            Class<?> entityType = Class.forName(SCHEDULER_PACKAGE + "EntityScheduler");
+            Class<?> regionType = Class.forName(SCHEDULER_PACKAGE + "RegionScheduler");
+            Class<?> asyncType = Class.forName(SCHEDULER_PACKAGE + "AsyncScheduler");
+            Class<?> taskType = Class.forName(SCHEDULER_PACKAGE + "ScheduledTask");
+            Server server = plugin.getServer();
+
+            globalScheduler = Server.class.getMethod("getGlobalRegionScheduler").invoke(server);
+            regionScheduler = Server.class.getMethod("getRegionScheduler").invoke(server);
+            asyncScheduler = Server.class.getMethod("getAsyncScheduler").invoke(server);
+            globalRun = globalType.getMethod("run", Plugin.class, Consumer.class);
+            globalRunDelayed = globalType.getMethod("runDelayed", Plugin.class, Consumer.class, long.class);
+            globalRunAtFixedRate = globalType.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class);
+            globalCancelTasks = globalType.getMethod("cancelTasks", Plugin.class);
+            entityGetScheduler = Entity.class.getMethod("getScheduler");
+            entityRun = entityType.getMethod("run", Plugin.class, Consumer.class, Runnable.class);
+            entityRunAtFixedRate = entityType.getMethod("runAtFixedRate", Plugin.class, Consumer.class, Runnable.class,
+                    long.class, long.class);
+            regionExecute = regionType.getMethod("execute", Plugin.class, World.class, int.class, int.class, Runnable.class);
+            regionRunAtFixedRate = regionType.getMethod("runAtFixedRate", Plugin.class, Location.class, Consumer.class,
+                    long.class, long.class);
+            asyncRunNow = asyncType.getMethod("runNow", Plugin.class, Consumer.class);
+            asyncCancelTasks = asyncType.getMethod("cancelTasks", Plugin.class);
+            taskCancel = taskType.getMethod("cancel");
+            ownedByCurrentRegion = Server.class.getMethod("isOwnedByCurrentRegion", Entity.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Folia scheduler API not found", ex);
+        }
+    }
+
+    @Override
+    public TaskHandle runGlobal(Runnable task) {
+        return handle(invoke(globalRun, globalScheduler, plugin, consumer(task)));
+    }
+
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delayTicks) {
+        return handle(invoke(globalRunDelayed, globalScheduler, plugin, consumer(task), ticks(delayTicks)));
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return handle(invoke(globalRunAtFixedRate, globalScheduler, plugin, consumer(task), ticks(delayTicks),
+                ticks(periodTicks)));
+    }
+
+    @Override
+    public TaskHandle runForEntity(Entity entity, Runnable task, Runnable retired) {
+        Object entityScheduler = invoke(entityGetScheduler, entity);
+        return handle(invoke(entityRun, entityScheduler, plugin, consumer(task), retired));
+    }
+
+    @Override
+    public TaskHandle runForEntityTimer(Entity entity, Runnable task, long delayTicks, long periodTicks) {
+        Object entityScheduler = invoke(entityGetScheduler, entity);
+        TaskHandle[] self = new TaskHandle[1];
+        Runnable retired = () -> timers.remove(self[0]);
+        TaskHandle scheduled = handle(invoke(entityRunAtFixedRate, entityScheduler, plugin, consumer(task), retired,
+                ticks(delayTicks), ticks(periodTicks)));
+        if (scheduled == TaskHandle.NONE) {
+            return TaskHandle.NONE;
+        }
+        TaskHandle tracked = () -> {
+            timers.remove(self[0]);
+            scheduled.cancel();
+        };
+        self[0] = tracked;
+        timers.add(tracked);
+        return tracked;
+    }
+
+    @Override
+    public TaskHandle runAtLocationTimer(Location location, Runnable task, long delayTicks, long periodTicks) {
+        TaskHandle scheduled = handle(invoke(regionRunAtFixedRate, regionScheduler, plugin, location, consumer(task),
+                ticks(delayTicks), ticks(periodTicks)));
+        TaskHandle[] self = new TaskHandle[1];
+        TaskHandle tracked = () -> {
+            timers.remove(self[0]);
+            scheduled.cancel();
+        };
+        self[0] = tracked;
+        timers.add(tracked);
+        return tracked;
+    }
+
+    @Override
+    public TaskHandle runAsync(Runnable task) {
+        return handle(invoke(asyncRunNow, asyncScheduler, plugin, consumer(task)));
+    }
+
+    @Override
+    public void forEachLivingEntity(Consumer<LivingEntity> action) {
+        for (World world : plugin.getServer().getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                invoke(regionExecute, regionScheduler, plugin, world, chunk.getX(), chunk.getZ(), (Runnable) () -> {
+                    for (Entity entity : chunk.getEntities()) {
+                        if (entity instanceof LivingEntity livingEntity) {
+                            action.accept(livingEntity);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return (Boolean) invoke(ownedByCurrentRegion, plugin.getServer(), entity);
+    }
+
+    @Override
+    public boolean isRegionThreaded() {
+        return true;
+    }
+
+    @Override
+    public void cancelAll() {
+        invoke(globalCancelTasks, globalScheduler, plugin);
+        invoke(asyncCancelTasks, asyncScheduler, plugin);
+        for (TaskHandle timer : Set.copyOf(timers)) {
+            timer.cancel();
+        }
+    }
+
+    private TaskHandle handle(Object scheduledTask) {
+        if (scheduledTask == null) {
+            // Entity schedulers return null when the entity was already removed.
+            return TaskHandle.NONE;
+        }
+        return () -> invoke(taskCancel, scheduledTask);
+    }
+
+    private static Consumer<Object> consumer(Runnable task) {
+        return ignored -> task.run();
+    }
+
+    private static long ticks(long ticks) {
+        return Math.max(1L, ticks);
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
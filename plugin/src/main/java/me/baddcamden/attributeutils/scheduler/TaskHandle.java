@@ -0,0 +1,17 @@
+package me.baddcamden.attributeutils.scheduler;
+
+/**
+ * Cancellable reference to work handed to a {@link TaskScheduler}.
+ */
+@FunctionalInterface
+public interface TaskHandle {
+
+    /** Handle for work that was never scheduled, for example because its entity was already removed. */
+    TaskHandle NONE = () -> {
+    };
+
+    /**
+     * Cancels the task if it has not run yet, or stops a repeating task. Safe to call more than once.
+     */
+    void cancel();
+}
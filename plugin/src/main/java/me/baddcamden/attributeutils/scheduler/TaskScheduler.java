@@ -0,0 +1,116 @@
+package me.baddcamden.attributeutils.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Schedules plugin work on the thread that owns the state it touches. On Bukkit that is always the main thread. On
+ * Folia, entities belong to region threads, server-wide work runs on the global region thread, and there is no main
+ * thread at all.
+ * <ul>
+ *     <li><strong>Global</strong> tasks touch plugin-wide state (definitions, global modifiers, dispatcher queues).</li>
+ *     <li><strong>Entity</strong> tasks read or change one entity and follow it across regions.</li>
+ *     <li><strong>Region</strong> tasks touch the world around one location (spawning, block access).</li>
+ *     <li><strong>Async</strong> tasks never touch the server and run on a worker pool.</li>
+ * </ul>
+ * Delays and periods are in ticks.
+ */
+public interface TaskScheduler {
+
+    /**
+     * Creates the scheduler for the running server: {@link FoliaTaskScheduler} when Folia's region threading is
+     * present, {@link BukkitTaskScheduler} otherwise.
+     */
+    static TaskScheduler create(Plugin plugin) {
+        return FoliaTaskScheduler.isSupported() ? new FoliaTaskScheduler(plugin) : new BukkitTaskScheduler(plugin);
+    }
+
+    /**
+     * Runs {@code task} on the next tick of the global thread.
+     */
+    TaskHandle runGlobal(Runnable task);
+
+    /**
+     * Runs {@code task} on the global thread after {@code delayTicks}.
+     */
+    TaskHandle runGlobalLater(Runnable task, long delayTicks);
+
+    /**
+     * Runs {@code task} on the global thread every {@code periodTicks}, starting after {@code delayTicks}.
+     */
+    TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs {@code task} on the next tick of the thread that owns {@code entity}. When the entity is removed before the
+     * task runs, {@code retired} runs instead (if not null) on an unspecified thread. Bukkit never retires tasks.
+     */
+    TaskHandle runForEntity(Entity entity, Runnable task, Runnable retired);
+
+    /**
+     * Runs {@code task} every {@code periodTicks} on the thread that owns {@code entity}, starting after
+     * {@code delayTicks}. The task stops when the entity is removed.
+     */
+    TaskHandle runForEntityTimer(Entity entity, Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs {@code task} every {@code periodTicks} on the thread that owns the region around {@code location}, starting
+     * after {@code delayTicks}. Unlike entity timers it keeps running until cancelled.
+     */
+    TaskHandle runAtLocationTimer(Location location, Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs {@code task} off the server threads.
+     */
+    TaskHandle runAsync(Runnable task);
+
+    /**
+     * Visits every loaded living entity on the thread that owns it. Bukkit visits them all before returning; Folia
+     * queues one task per loaded chunk on the owning region, so visits happen later and in no particular order.
+     */
+    void forEachLivingEntity(Consumer<LivingEntity> action);
+
+    /**
+     * Returns whether the calling thread owns {@code entity} and may touch it directly.
+     */
+    boolean isOwnedByCurrentThread(Entity entity);
+
+    /**
+     * Returns whether entities are spread over several threads (Folia).
+     */
+    boolean isRegionThreaded();
+
+    /**
+     * Cancels every task this scheduler can still reach for the plugin, including repeating entity tasks.
+     */
+    void cancelAll();
+
+    /**
+     * Runs {@code task} immediately when the calling thread owns {@code entity}, otherwise on the entity's next tick.
+     */
+    default void executeForEntity(Entity entity, Runnable task) {
+        if (isOwnedByCurrentThread(entity)) {
+            task.run();
+        } else {
+            runForEntity(entity, task, null);
+        }
+    }
+
+    /**
+     * Executor that hands work to {@link #runGlobal(Runnable)}.
+     */
+    default Executor globalExecutor() {
+        return this::runGlobal;
+    }
+
+    /**
+     * Executor that hands work to {@link #runForEntity(Entity, Runnable, Runnable)} for {@code entity}.
+     */
+    default Executor entityExecutor(Entity entity) {
+        return task -> runForEntity(entity, task, null);
+    }
+}